@@ -143,7 +143,7 @@ public class Field101 extends Field implements Serializable {
      */
     public static Field101 newInstance(Field101 source) {
         Field101 cp = new Field101();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
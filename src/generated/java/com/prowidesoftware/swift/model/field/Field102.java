@@ -144,7 +144,7 @@ public class Field102 extends Field implements Serializable {
      */
     public static Field102 newInstance(Field102 source) {
         Field102 cp = new Field102();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field103 extends Field implements Serializable {
      */
     public static Field103 newInstance(Field103 source) {
         Field103 cp = new Field103();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field104 extends Field implements Serializable {
      */
     public static Field104 newInstance(Field104 source) {
         Field104 cp = new Field104();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -145,7 +145,7 @@ public class Field105 extends Field implements Serializable {
      */
     public static Field105 newInstance(Field105 source) {
         Field105 cp = new Field105();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field106 extends Field implements Serializable {
      */
     public static Field106 newInstance(Field106 source) {
         Field106 cp = new Field106();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field107 extends Field implements Serializable {
      */
     public static Field107 newInstance(Field107 source) {
         Field107 cp = new Field107();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field108 extends Field implements Serializable {
      */
     public static Field108 newInstance(Field108 source) {
         Field108 cp = new Field108();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -158,7 +158,7 @@ public class Field109 extends Field implements Serializable, DateContainer {
      */
     public static Field109 newInstance(Field109 source) {
         Field109 cp = new Field109();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -375,6 +375,16 @@ public class Field109 extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getDate4(getComponent(1));
     }
 
+    /**
+     * Get the component 1 as LocalDate
+     *
+     * @return the component 1 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getComponent1AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate4(getComponent(1));
+    }
+
     /**
      * Gets the Date (component 1).
      * @return the Date from component 1
@@ -391,6 +401,15 @@ public class Field109 extends Field implements Serializable, DateContainer {
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Date (component 1) as LocalDate
+     * @return the Date from component 1 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getDateAsLocalDate() {
+        return getComponent1AsLocalDate();
+    }
+
     /**
      * Gets the component 2 (Time).
      * @return the component 2
@@ -408,6 +427,16 @@ public class Field109 extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getTime2(getComponent(2));
     }
 
+    /**
+     * Get the component 2 as LocalTime
+     *
+     * @return the component 2 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent2AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime2(getComponent(2));
+    }
+
     /**
      * Gets the Time (component 2).
      * @return the Time from component 2
@@ -424,6 +453,15 @@ public class Field109 extends Field implements Serializable, DateContainer {
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Time (component 2) as LocalTime
+     * @return the Time from component 2 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getTimeAsLocalTime() {
+        return getComponent2AsLocalTime();
+    }
+
     /**
      * Gets the component 3 (MIR).
      * @return the component 3
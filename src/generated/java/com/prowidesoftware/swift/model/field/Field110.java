@@ -145,7 +145,7 @@ public class Field110 extends Field implements Serializable {
      */
     public static Field110 newInstance(Field110 source) {
         Field110 cp = new Field110();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
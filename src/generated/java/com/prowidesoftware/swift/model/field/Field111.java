@@ -145,7 +145,7 @@ public class Field111 extends Field implements Serializable {
      */
     public static Field111 newInstance(Field111 source) {
         Field111 cp = new Field111();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field113 extends Field implements Serializable {
      */
     public static Field113 newInstance(Field113 source) {
         Field113 cp = new Field113();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
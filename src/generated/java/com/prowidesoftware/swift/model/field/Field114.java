@@ -143,7 +143,7 @@ public class Field114 extends Field implements Serializable {
      */
     public static Field114 newInstance(Field114 source) {
         Field114 cp = new Field114();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field115 extends Field implements Serializable {
      */
     public static Field115 newInstance(Field115 source) {
         Field115 cp = new Field115();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
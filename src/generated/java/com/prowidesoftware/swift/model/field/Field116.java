@@ -143,7 +143,7 @@ public class Field116 extends Field implements Serializable {
      */
     public static Field116 newInstance(Field116 source) {
         Field116 cp = new Field116();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
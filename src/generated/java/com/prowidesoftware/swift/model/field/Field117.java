@@ -143,7 +143,7 @@ public class Field117 extends Field implements Serializable {
      */
     public static Field117 newInstance(Field117 source) {
         Field117 cp = new Field117();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
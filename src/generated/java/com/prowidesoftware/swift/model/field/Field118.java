@@ -143,7 +143,7 @@ public class Field118 extends Field implements Serializable {
      */
     public static Field118 newInstance(Field118 source) {
         Field118 cp = new Field118();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field119 extends Field implements Serializable {
      */
     public static Field119 newInstance(Field119 source) {
         Field119 cp = new Field119();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -161,7 +161,7 @@ public class Field11A extends Field implements Serializable, CurrencyContainer,
      */
     public static Field11A newInstance(Field11A source) {
         Field11A cp = new Field11A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -175,7 +175,7 @@ public class Field11S extends Field implements Serializable, DateContainer, Mult
      */
     public static Field11S newInstance(Field11S source) {
         Field11S cp = new Field11S();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -443,6 +443,16 @@ public class Field11S extends Field implements Serializable, DateContainer, Mult
         return SwiftFormatUtils.getDate2(getComponent(2));
     }
 
+    /**
+     * Get the component 2 as LocalDate
+     *
+     * @return the component 2 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getComponent2AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate2(getComponent(2));
+    }
+
     /**
      * Gets the Date (component 2).
      * @return the Date from component 2
@@ -459,6 +469,15 @@ public class Field11S extends Field implements Serializable, DateContainer, Mult
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Date (component 2) as LocalDate
+     * @return the Date from component 2 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getDateAsLocalDate() {
+        return getComponent2AsLocalDate();
+    }
+
     /**
      * Gets the component 3 (Session Number).
      * @return the component 3
@@ -161,7 +161,7 @@ public class Field11T extends Field implements Serializable, DateContainer, Mult
      */
     public static Field11T newInstance(Field11T source) {
         Field11T cp = new Field11T();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -450,6 +450,16 @@ public class Field11T extends Field implements Serializable, DateContainer, Mult
         return SwiftFormatUtils.getDate4(getComponent(2));
     }
 
+    /**
+     * Get the component 2 as LocalDate
+     *
+     * @return the component 2 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getComponent2AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate4(getComponent(2));
+    }
+
     /**
      * Gets the Date (component 2).
      * @return the Date from component 2
@@ -466,6 +476,15 @@ public class Field11T extends Field implements Serializable, DateContainer, Mult
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Date (component 2) as LocalDate
+     * @return the Date from component 2 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getDateAsLocalDate() {
+        return getComponent2AsLocalDate();
+    }
+
     /**
      * Gets the component 3 (Time).
      * @return the component 3
@@ -483,6 +502,16 @@ public class Field11T extends Field implements Serializable, DateContainer, Mult
         return SwiftFormatUtils.getTime3(getComponent(3));
     }
 
+    /**
+     * Get the component 3 as LocalTime
+     *
+     * @return the component 3 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent3AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime3(getComponent(3));
+    }
+
     /**
      * Gets the Time (component 3).
      * @return the Time from component 3
@@ -499,6 +528,15 @@ public class Field11T extends Field implements Serializable, DateContainer, Mult
         return getComponent3AsCalendar();
     }
 
+    /**
+     * Get the Time (component 3) as LocalTime
+     * @return the Time from component 3 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getTimeAsLocalTime() {
+        return getComponent3AsLocalTime();
+    }
+
     /**
      * Set the component 1 (Type).
      *
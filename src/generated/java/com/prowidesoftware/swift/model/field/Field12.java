@@ -145,7 +145,7 @@ public class Field12 extends Field implements Serializable {
      */
     public static Field12 newInstance(Field12 source) {
         Field12 cp = new Field12();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
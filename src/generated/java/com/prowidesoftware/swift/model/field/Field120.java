@@ -145,7 +145,7 @@ public class Field120 extends Field implements Serializable {
      */
     public static Field120 newInstance(Field120 source) {
         Field120 cp = new Field120();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field121 extends Field implements Serializable {
      */
     public static Field121 newInstance(Field121 source) {
         Field121 cp = new Field121();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -145,7 +145,7 @@ public class Field122 extends Field implements Serializable {
      */
     public static Field122 newInstance(Field122 source) {
         Field122 cp = new Field122();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
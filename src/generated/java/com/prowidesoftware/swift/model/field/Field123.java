@@ -143,7 +143,7 @@ public class Field123 extends Field implements Serializable {
      */
     public static Field123 newInstance(Field123 source) {
         Field123 cp = new Field123();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
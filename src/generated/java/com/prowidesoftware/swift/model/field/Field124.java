@@ -145,7 +145,7 @@ public class Field124 extends Field implements Serializable {
      */
     public static Field124 newInstance(Field124 source) {
         Field124 cp = new Field124();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
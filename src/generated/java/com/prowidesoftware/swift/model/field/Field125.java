@@ -145,7 +145,7 @@ public class Field125 extends Field implements Serializable {
      */
     public static Field125 newInstance(Field125 source) {
         Field125 cp = new Field125();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
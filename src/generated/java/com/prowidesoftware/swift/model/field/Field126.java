@@ -145,7 +145,7 @@ public class Field126 extends Field implements Serializable {
      */
     public static Field126 newInstance(Field126 source) {
         Field126 cp = new Field126();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
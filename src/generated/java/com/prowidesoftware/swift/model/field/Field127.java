@@ -143,7 +143,7 @@ public class Field127 extends Field implements Serializable {
      */
     public static Field127 newInstance(Field127 source) {
         Field127 cp = new Field127();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -152,7 +152,7 @@ public class Field128 extends Field implements Serializable, BICContainer {
      */
     public static Field128 newInstance(Field128 source) {
         Field128 cp = new Field128();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -151,7 +151,7 @@ public class Field129 extends Field implements Serializable {
      */
     public static Field129 newInstance(Field129 source) {
         Field129 cp = new Field129();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -164,7 +164,7 @@ public class Field12A extends Field implements Serializable, GenericField {
      */
     public static Field12A newInstance(Field12A source) {
         Field12A cp = new Field12A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -162,7 +162,7 @@ public class Field12B extends Field implements Serializable, GenericField {
      */
     public static Field12B newInstance(Field12B source) {
         Field12B cp = new Field12B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
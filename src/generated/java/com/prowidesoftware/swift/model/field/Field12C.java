@@ -150,7 +150,7 @@ public class Field12C extends Field implements Serializable, GenericField {
      */
     public static Field12C newInstance(Field12C source) {
         Field12C cp = new Field12C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field12D extends Field implements Serializable {
      */
     public static Field12D newInstance(Field12D source) {
         Field12D cp = new Field12D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
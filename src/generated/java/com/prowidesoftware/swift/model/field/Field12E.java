@@ -157,7 +157,7 @@ public class Field12E extends Field implements Serializable {
      */
     public static Field12E newInstance(Field12E source) {
         Field12E cp = new Field12E();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field12F extends Field implements Serializable {
      */
     public static Field12F newInstance(Field12F source) {
         Field12F cp = new Field12F();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
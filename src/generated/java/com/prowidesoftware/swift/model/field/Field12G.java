@@ -143,7 +143,7 @@ public class Field12G extends Field implements Serializable {
      */
     public static Field12G newInstance(Field12G source) {
         Field12G cp = new Field12G();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -149,7 +149,7 @@ public class Field12H extends Field implements Serializable {
      */
     public static Field12H newInstance(Field12H source) {
         Field12H cp = new Field12H();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -153,7 +153,7 @@ public class Field12K extends Field implements Serializable {
      */
     public static Field12K newInstance(Field12K source) {
         Field12K cp = new Field12K();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
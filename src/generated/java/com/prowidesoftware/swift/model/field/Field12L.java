@@ -143,7 +143,7 @@ public class Field12L extends Field implements Serializable {
      */
     public static Field12L newInstance(Field12L source) {
         Field12L cp = new Field12L();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
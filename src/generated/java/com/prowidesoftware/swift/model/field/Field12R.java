@@ -149,7 +149,7 @@ public class Field12R extends Field implements Serializable {
      */
     public static Field12R newInstance(Field12R source) {
         Field12R cp = new Field12R();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
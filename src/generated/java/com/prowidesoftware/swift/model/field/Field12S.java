@@ -143,7 +143,7 @@ public class Field12S extends Field implements Serializable {
      */
     public static Field12S newInstance(Field12S source) {
         Field12S cp = new Field12S();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
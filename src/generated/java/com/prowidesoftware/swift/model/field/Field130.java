@@ -164,7 +164,7 @@ public class Field130 extends Field implements Serializable, MultiLineField {
      */
     public static Field130 newInstance(Field130 source) {
         Field130 cp = new Field130();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
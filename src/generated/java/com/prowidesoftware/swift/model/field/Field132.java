@@ -151,7 +151,7 @@ public class Field132 extends Field implements Serializable {
      */
     public static Field132 newInstance(Field132 source) {
         Field132 cp = new Field132();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
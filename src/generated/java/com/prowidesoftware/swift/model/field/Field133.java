@@ -163,7 +163,7 @@ public class Field133 extends Field implements Serializable {
      */
     public static Field133 newInstance(Field133 source) {
         Field133 cp = new Field133();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
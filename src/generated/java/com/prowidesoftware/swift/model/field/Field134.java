@@ -159,7 +159,7 @@ public class Field134 extends Field implements Serializable, BICContainer, Multi
      */
     public static Field134 newInstance(Field134 source) {
         Field134 cp = new Field134();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field135 extends Field implements Serializable {
      */
     public static Field135 newInstance(Field135 source) {
         Field135 cp = new Field135();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -151,7 +151,7 @@ public class Field136 extends Field implements Serializable {
      */
     public static Field136 newInstance(Field136 source) {
         Field136 cp = new Field136();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -163,7 +163,7 @@ public class Field137 extends Field implements Serializable {
      */
     public static Field137 newInstance(Field137 source) {
         Field137 cp = new Field137();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -156,7 +156,7 @@ public class Field13A extends Field implements Serializable, GenericField {
      */
     public static Field13A newInstance(Field13A source) {
         Field13A cp = new Field13A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
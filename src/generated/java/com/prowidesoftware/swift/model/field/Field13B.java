@@ -156,7 +156,7 @@ public class Field13B extends Field implements Serializable, GenericField {
      */
     public static Field13B newInstance(Field13B source) {
         Field13B cp = new Field13B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
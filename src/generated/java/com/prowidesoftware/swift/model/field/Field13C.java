@@ -178,7 +178,7 @@ public class Field13C extends Field implements Serializable {
      */
     public static Field13C newInstance(Field13C source) {
         Field13C cp = new Field13C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -420,6 +420,16 @@ public class Field13C extends Field implements Serializable {
         return SwiftFormatUtils.getTime3(getComponent(2));
     }
 
+    /**
+     * Get the component 2 as LocalTime
+     *
+     * @return the component 2 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent2AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime3(getComponent(2));
+    }
+
     /**
      * Gets the Time Indication (component 2).
      * @return the Time Indication from component 2
@@ -447,6 +457,15 @@ public class Field13C extends Field implements Serializable {
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Time Indication (component 2) as LocalTime
+     * @return the Time Indication from component 2 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getTimeIndicationAsLocalTime() {
+        return getComponent2AsLocalTime();
+    }
+
     /**
      * Alternative <em>DEPRECATED</em> method getter for field's Time Indication as Calendar
      * @see #getTimeIndicationAsCalendar()
@@ -527,6 +546,26 @@ public class Field13C extends Field implements Serializable {
         return getTimeOffsetAsCalendar();
     }
 
+    /**
+     * Get the Sign and Time Offset (components 3 and 4) as ZoneOffset
+     * @return the signed UTC offset or null if the offset is not present or cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.ZoneOffset getOffsetAsZoneOffset() {
+        return SwiftFormatUtils.getZoneOffset(SwiftFormatUtils.getSign(getComponent3()), getComponent4());
+    }
+
+    /**
+     * Get the Time Indication, Sign and Time Offset (components 2 to 4) as OffsetTime
+     * @return the time at the indicated UTC offset, or null if the components cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.OffsetTime getTimeIndicationAsOffsetTime() {
+        final java.time.LocalTime time = getComponent2AsLocalTime();
+        final java.time.ZoneOffset offset = getOffsetAsZoneOffset();
+        return time != null && offset != null ? java.time.OffsetTime.of(time, offset) : null;
+    }
+
     /**
      * Set the component 1 (Code).
      *
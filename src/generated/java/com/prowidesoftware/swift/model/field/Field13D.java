@@ -164,7 +164,7 @@ public class Field13D extends Field implements Serializable, DateContainer {
      */
     public static Field13D newInstance(Field13D source) {
         Field13D cp = new Field13D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -390,6 +390,16 @@ public class Field13D extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getDate2(getComponent(1));
     }
 
+    /**
+     * Get the component 1 as LocalDate
+     *
+     * @return the component 1 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getComponent1AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate2(getComponent(1));
+    }
+
     /**
      * Gets the Date (component 1).
      * @return the Date from component 1
@@ -406,6 +416,15 @@ public class Field13D extends Field implements Serializable, DateContainer {
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Date (component 1) as LocalDate
+     * @return the Date from component 1 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getDateAsLocalDate() {
+        return getComponent1AsLocalDate();
+    }
+
     /**
      * Gets the component 2 (Time).
      * @return the component 2
@@ -423,6 +442,16 @@ public class Field13D extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getTime3(getComponent(2));
     }
 
+    /**
+     * Get the component 2 as LocalTime
+     *
+     * @return the component 2 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent2AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime3(getComponent(2));
+    }
+
     /**
      * Gets the Time (component 2).
      * @return the Time from component 2
@@ -439,6 +468,15 @@ public class Field13D extends Field implements Serializable, DateContainer {
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Time (component 2) as LocalTime
+     * @return the Time from component 2 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getTimeAsLocalTime() {
+        return getComponent2AsLocalTime();
+    }
+
     /**
      * Gets the component 3 (Sign).
      * @return the component 3
@@ -488,6 +526,40 @@ public class Field13D extends Field implements Serializable, DateContainer {
         return getComponent4AsCalendar();
     }
 
+    /**
+     * Get the Sign and Offset (components 3 and 4) as ZoneOffset
+     * @return the signed UTC offset or null if the offset is not present or cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.ZoneOffset getOffsetAsZoneOffset() {
+        return SwiftFormatUtils.getZoneOffset(SwiftFormatUtils.getSign(getComponent3()), getComponent4());
+    }
+
+    /**
+     * Get the Time, Sign and Offset (components 2 to 4) as OffsetTime
+     * @return the time at the indicated UTC offset, or null if the components cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.OffsetTime getTimeAsOffsetTime() {
+        final java.time.LocalTime time = getComponent2AsLocalTime();
+        final java.time.ZoneOffset offset = getOffsetAsZoneOffset();
+        return time != null && offset != null ? java.time.OffsetTime.of(time, offset) : null;
+    }
+
+    /**
+     * Get the Date, Time, Sign and Offset (components 1 to 4) as OffsetDateTime
+     * @return the date and time at the indicated UTC offset, or null if the components cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.OffsetDateTime getDateTimeAsOffsetDateTime() {
+        final java.time.LocalDate date = getComponent1AsLocalDate();
+        final java.time.LocalTime time = getComponent2AsLocalTime();
+        if (date == null || time == null) {
+            return null;
+        }
+        return SwiftFormatUtils.getOffsetDateTime(java.time.LocalDateTime.of(date, time), SwiftFormatUtils.getSign(getComponent3()), getComponent4());
+    }
+
     /**
      * Set the component 1 (Date).
      *
@@ -158,7 +158,7 @@ public class Field13J extends Field implements Serializable, GenericField {
      */
     public static Field13J newInstance(Field13J source) {
         Field13J cp = new Field13J();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -168,7 +168,7 @@ public class Field13K extends Field implements Serializable, AmountContainer, Ge
      */
     public static Field13K newInstance(Field13K source) {
         Field13K cp = new Field13K();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -145,7 +145,7 @@ public class Field140 extends Field implements Serializable {
      */
     public static Field140 newInstance(Field140 source) {
         Field140 cp = new Field140();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
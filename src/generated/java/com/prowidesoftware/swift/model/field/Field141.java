@@ -143,7 +143,7 @@ public class Field141 extends Field implements Serializable {
      */
     public static Field141 newInstance(Field141 source) {
         Field141 cp = new Field141();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -146,7 +146,7 @@ public class Field143 extends Field implements Serializable, DateContainer {
      */
     public static Field143 newInstance(Field143 source) {
         Field143 cp = new Field143();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -338,6 +338,16 @@ public class Field143 extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getDateTime(getComponent(1));
     }
 
+    /**
+     * Get the component 1 as LocalDateTime
+     *
+     * @return the component 1 converted to LocalDateTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDateTime getComponent1AsLocalDateTime() {
+        return SwiftFormatUtils.getLocalDateTime(getComponent(1));
+    }
+
     /**
      * Gets the End Date Time (component 1).
      * @return the End Date Time from component 1
@@ -354,6 +364,15 @@ public class Field143 extends Field implements Serializable, DateContainer {
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the End Date Time (component 1) as LocalDateTime
+     * @return the End Date Time from component 1 converted to LocalDateTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDateTime getEndDateTimeAsLocalDateTime() {
+        return getComponent1AsLocalDateTime();
+    }
+
     /**
      * Set the component 1 (End Date Time).
      *
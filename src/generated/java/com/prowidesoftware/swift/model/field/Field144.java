@@ -145,7 +145,7 @@ public class Field144 extends Field implements Serializable {
      */
     public static Field144 newInstance(Field144 source) {
         Field144 cp = new Field144();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
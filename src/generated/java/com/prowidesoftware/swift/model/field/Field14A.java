@@ -143,7 +143,7 @@ public class Field14A extends Field implements Serializable {
      */
     public static Field14A newInstance(Field14A source) {
         Field14A cp = new Field14A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
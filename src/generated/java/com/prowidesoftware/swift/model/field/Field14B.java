@@ -143,7 +143,7 @@ public class Field14B extends Field implements Serializable {
      */
     public static Field14B newInstance(Field14B source) {
         Field14B cp = new Field14B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -145,7 +145,7 @@ public class Field14C extends Field implements Serializable {
      */
     public static Field14C newInstance(Field14C source) {
         Field14C cp = new Field14C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field14D extends Field implements Serializable {
      */
     public static Field14D newInstance(Field14D source) {
         Field14D cp = new Field14D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field14E extends Field implements Serializable {
      */
     public static Field14E newInstance(Field14E source) {
         Field14E cp = new Field14E();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
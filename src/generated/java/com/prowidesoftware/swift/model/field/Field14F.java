@@ -143,7 +143,7 @@ public class Field14F extends Field implements Serializable {
      */
     public static Field14F newInstance(Field14F source) {
         Field14F cp = new Field14F();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -149,7 +149,7 @@ public class Field14G extends Field implements Serializable {
      */
     public static Field14G newInstance(Field14G source) {
         Field14G cp = new Field14G();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
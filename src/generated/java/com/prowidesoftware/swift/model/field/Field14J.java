@@ -143,7 +143,7 @@ public class Field14J extends Field implements Serializable {
      */
     public static Field14J newInstance(Field14J source) {
         Field14J cp = new Field14J();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
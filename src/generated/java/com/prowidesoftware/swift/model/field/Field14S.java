@@ -164,7 +164,7 @@ public class Field14S extends Field implements Serializable {
      */
     public static Field14S newInstance(Field14S source) {
         Field14S cp = new Field14S();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -484,6 +484,16 @@ public class Field14S extends Field implements Serializable {
         return SwiftFormatUtils.getTime3(getComponent(3));
     }
 
+    /**
+     * Get the component 3 as LocalTime
+     *
+     * @return the component 3 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent3AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime3(getComponent(3));
+    }
+
     /**
      * Gets the Time (component 3).
      * @return the Time from component 3
@@ -500,6 +510,15 @@ public class Field14S extends Field implements Serializable {
         return getComponent3AsCalendar();
     }
 
+    /**
+     * Get the Time (component 3) as LocalTime
+     * @return the Time from component 3 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getTimeAsLocalTime() {
+        return getComponent3AsLocalTime();
+    }
+
     /**
      * Gets the component 4 (Location).
      * @return the component 4
@@ -145,7 +145,7 @@ public class Field151 extends Field implements Serializable {
      */
     public static Field151 newInstance(Field151 source) {
         Field151 cp = new Field151();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -145,7 +145,7 @@ public class Field152 extends Field implements Serializable {
      */
     public static Field152 newInstance(Field152 source) {
         Field152 cp = new Field152();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
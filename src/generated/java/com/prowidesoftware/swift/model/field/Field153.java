@@ -145,7 +145,7 @@ public class Field153 extends Field implements Serializable {
      */
     public static Field153 newInstance(Field153 source) {
         Field153 cp = new Field153();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -138,7 +138,7 @@ public class Field15A extends Field implements Serializable {
      */
     public static Field15A newInstance(Field15A source) {
         Field15A cp = new Field15A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
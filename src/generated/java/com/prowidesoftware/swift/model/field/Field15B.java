@@ -138,7 +138,7 @@ public class Field15B extends Field implements Serializable {
      */
     public static Field15B newInstance(Field15B source) {
         Field15B cp = new Field15B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -138,7 +138,7 @@ public class Field15C extends Field implements Serializable {
      */
     public static Field15C newInstance(Field15C source) {
         Field15C cp = new Field15C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -138,7 +138,7 @@ public class Field15D extends Field implements Serializable {
      */
     public static Field15D newInstance(Field15D source) {
         Field15D cp = new Field15D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
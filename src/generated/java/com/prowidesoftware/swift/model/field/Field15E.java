@@ -138,7 +138,7 @@ public class Field15E extends Field implements Serializable {
      */
     public static Field15E newInstance(Field15E source) {
         Field15E cp = new Field15E();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
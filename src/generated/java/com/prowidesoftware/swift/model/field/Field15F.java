@@ -138,7 +138,7 @@ public class Field15F extends Field implements Serializable {
      */
     public static Field15F newInstance(Field15F source) {
         Field15F cp = new Field15F();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -138,7 +138,7 @@ public class Field15G extends Field implements Serializable {
      */
     public static Field15G newInstance(Field15G source) {
         Field15G cp = new Field15G();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
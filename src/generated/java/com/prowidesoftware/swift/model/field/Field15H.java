@@ -138,7 +138,7 @@ public class Field15H extends Field implements Serializable {
      */
     public static Field15H newInstance(Field15H source) {
         Field15H cp = new Field15H();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
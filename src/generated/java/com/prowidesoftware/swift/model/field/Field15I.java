@@ -138,7 +138,7 @@ public class Field15I extends Field implements Serializable {
      */
     public static Field15I newInstance(Field15I source) {
         Field15I cp = new Field15I();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -138,7 +138,7 @@ public class Field15J extends Field implements Serializable {
      */
     public static Field15J newInstance(Field15J source) {
         Field15J cp = new Field15J();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -138,7 +138,7 @@ public class Field15K extends Field implements Serializable {
      */
     public static Field15K newInstance(Field15K source) {
         Field15K cp = new Field15K();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -138,7 +138,7 @@ public class Field15L extends Field implements Serializable {
      */
     public static Field15L newInstance(Field15L source) {
         Field15L cp = new Field15L();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -138,7 +138,7 @@ public class Field15M extends Field implements Serializable {
      */
     public static Field15M newInstance(Field15M source) {
         Field15M cp = new Field15M();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -138,7 +138,7 @@ public class Field15N extends Field implements Serializable {
      */
     public static Field15N newInstance(Field15N source) {
         Field15N cp = new Field15N();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -138,7 +138,7 @@ public class Field15O extends Field implements Serializable {
      */
     public static Field15O newInstance(Field15O source) {
         Field15O cp = new Field15O();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
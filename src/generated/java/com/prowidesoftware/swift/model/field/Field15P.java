@@ -138,7 +138,7 @@ public class Field15P extends Field implements Serializable {
      */
     public static Field15P newInstance(Field15P source) {
         Field15P cp = new Field15P();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -149,7 +149,7 @@ public class Field165 extends Field implements Serializable {
      */
     public static Field165 newInstance(Field165 source) {
         Field165 cp = new Field165();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
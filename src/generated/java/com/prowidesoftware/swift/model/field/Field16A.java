@@ -145,7 +145,7 @@ public class Field16A extends Field implements Serializable {
      */
     public static Field16A newInstance(Field16A source) {
         Field16A cp = new Field16A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -145,7 +145,7 @@ public class Field16C extends Field implements Serializable {
      */
     public static Field16C newInstance(Field16C source) {
         Field16C cp = new Field16C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field16R extends Field implements Serializable {
      */
     public static Field16R newInstance(Field16R source) {
         Field16R cp = new Field16R();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
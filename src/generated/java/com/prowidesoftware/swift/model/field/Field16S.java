@@ -143,7 +143,7 @@ public class Field16S extends Field implements Serializable {
      */
     public static Field16S newInstance(Field16S source) {
         Field16S cp = new Field16S();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -146,7 +146,7 @@ public class Field171 extends Field implements Serializable, DateContainer {
      */
     public static Field171 newInstance(Field171 source) {
         Field171 cp = new Field171();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -337,6 +337,16 @@ public class Field171 extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getDate2(getComponent(1));
     }
 
+    /**
+     * Get the component 1 as LocalDate
+     *
+     * @return the component 1 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getComponent1AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate2(getComponent(1));
+    }
+
     /**
      * Gets the Date (component 1).
      * @return the Date from component 1
@@ -353,6 +363,15 @@ public class Field171 extends Field implements Serializable, DateContainer {
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Date (component 1) as LocalDate
+     * @return the Date from component 1 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getDateAsLocalDate() {
+        return getComponent1AsLocalDate();
+    }
+
     /**
      * Set the component 1 (Date).
      *
@@ -152,7 +152,7 @@ public class Field172 extends Field implements Serializable, DateContainer {
      */
     public static Field172 newInstance(Field172 source) {
         Field172 cp = new Field172();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -360,6 +360,16 @@ public class Field172 extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getMonthDay(getComponent(1));
     }
 
+    /**
+     * Get the component 1 as MonthDay
+     *
+     * @return the component 1 converted to MonthDay or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.MonthDay getComponent1AsMonthDay() {
+        return SwiftFormatUtils.getLocalMonthDay(getComponent(1));
+    }
+
     /**
      * Gets the Start Date (component 1).
      * @return the Start Date from component 1
@@ -376,6 +386,15 @@ public class Field172 extends Field implements Serializable, DateContainer {
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Start Date (component 1) as MonthDay
+     * @return the Start Date from component 1 converted to MonthDay or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.MonthDay getStartDateAsMonthDay() {
+        return getComponent1AsMonthDay();
+    }
+
     /**
      * Gets the component 2 (End Date).
      * @return the component 2
@@ -393,6 +412,16 @@ public class Field172 extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getMonthDay(getComponent(2));
     }
 
+    /**
+     * Get the component 2 as MonthDay
+     *
+     * @return the component 2 converted to MonthDay or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.MonthDay getComponent2AsMonthDay() {
+        return SwiftFormatUtils.getLocalMonthDay(getComponent(2));
+    }
+
     /**
      * Gets the End Date (component 2).
      * @return the End Date from component 2
@@ -409,6 +438,15 @@ public class Field172 extends Field implements Serializable, DateContainer {
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the End Date (component 2) as MonthDay
+     * @return the End Date from component 2 converted to MonthDay or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.MonthDay getEndDateAsMonthDay() {
+        return getComponent2AsMonthDay();
+    }
+
     /**
      * Set the component 1 (Start Date).
      *
@@ -146,7 +146,7 @@ public class Field173 extends Field implements Serializable, DateContainer {
      */
     public static Field173 newInstance(Field173 source) {
         Field173 cp = new Field173();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -144,7 +144,7 @@ public class Field174 extends Field implements Serializable {
      */
     public static Field174 newInstance(Field174 source) {
         Field174 cp = new Field174();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -331,6 +331,16 @@ public class Field174 extends Field implements Serializable {
         return SwiftFormatUtils.getHour(getComponent(1));
     }
 
+    /**
+     * Get the component 1 as LocalTime
+     *
+     * @return the component 1 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent1AsLocalTime() {
+        return SwiftFormatUtils.getLocalHour(getComponent(1));
+    }
+
     /**
      * Gets the Range (component 1).
      * @return the Range from component 1
@@ -347,6 +357,15 @@ public class Field174 extends Field implements Serializable {
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Range (component 1) as LocalTime
+     * @return the Range from component 1 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getRangeAsLocalTime() {
+        return getComponent1AsLocalTime();
+    }
+
     /**
      * Set the component 1 (Range).
      *
@@ -144,7 +144,7 @@ public class Field175 extends Field implements Serializable {
      */
     public static Field175 newInstance(Field175 source) {
         Field175 cp = new Field175();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -335,6 +335,16 @@ public class Field175 extends Field implements Serializable {
         return SwiftFormatUtils.getTime3(getComponent(1));
     }
 
+    /**
+     * Get the component 1 as LocalTime
+     *
+     * @return the component 1 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent1AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime3(getComponent(1));
+    }
+
     /**
      * Gets the Time (component 1).
      * @return the Time from component 1
@@ -351,6 +361,15 @@ public class Field175 extends Field implements Serializable {
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Time (component 1) as LocalTime
+     * @return the Time from component 1 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getTimeAsLocalTime() {
+        return getComponent1AsLocalTime();
+    }
+
     /**
      * Set the component 1 (Time).
      *
@@ -146,7 +146,7 @@ public class Field177 extends Field implements Serializable, DateContainer {
      */
     public static Field177 newInstance(Field177 source) {
         Field177 cp = new Field177();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -338,6 +338,16 @@ public class Field177 extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getDateTimeShortYear(getComponent(1));
     }
 
+    /**
+     * Get the component 1 as LocalDateTime
+     *
+     * @return the component 1 converted to LocalDateTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDateTime getComponent1AsLocalDateTime() {
+        return SwiftFormatUtils.getLocalDateTimeShortYear(getComponent(1));
+    }
+
     /**
      * Gets the Date Time (component 1).
      * @return the Date Time from component 1
@@ -354,6 +364,15 @@ public class Field177 extends Field implements Serializable, DateContainer {
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Date Time (component 1) as LocalDateTime
+     * @return the Date Time from component 1 converted to LocalDateTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDateTime getDateTimeAsLocalDateTime() {
+        return getComponent1AsLocalDateTime();
+    }
+
     /**
      * Set the component 1 (Date Time).
      *
@@ -139,7 +139,7 @@ public class Field179 extends Field implements Serializable {
      */
     public static Field179 newInstance(Field179 source) {
         Field179 cp = new Field179();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -329,6 +329,16 @@ public class Field179 extends Field implements Serializable {
         return SwiftFormatUtils.getTime2(getComponent(1));
     }
 
+    /**
+     * Get the component 1 as LocalTime
+     *
+     * @return the component 1 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent1AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime2(getComponent(1));
+    }
+
     /**
      * Set the component 1 ($label).
      *
@@ -143,7 +143,7 @@ public class Field17A extends Field implements Serializable {
      */
     public static Field17A newInstance(Field17A source) {
         Field17A cp = new Field17A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -150,7 +150,7 @@ public class Field17B extends Field implements Serializable, GenericField {
      */
     public static Field17B newInstance(Field17B source) {
         Field17B cp = new Field17B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field17E extends Field implements Serializable {
      */
     public static Field17E newInstance(Field17E source) {
         Field17E cp = new Field17E();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field17F extends Field implements Serializable {
      */
     public static Field17F newInstance(Field17F source) {
         Field17F cp = new Field17F();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field17G extends Field implements Serializable {
      */
     public static Field17G newInstance(Field17G source) {
         Field17G cp = new Field17G();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field17H extends Field implements Serializable {
      */
     public static Field17H newInstance(Field17H source) {
         Field17H cp = new Field17H();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
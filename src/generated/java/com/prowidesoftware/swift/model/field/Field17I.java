@@ -143,7 +143,7 @@ public class Field17I extends Field implements Serializable {
      */
     public static Field17I newInstance(Field17I source) {
         Field17I cp = new Field17I();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field17L extends Field implements Serializable {
      */
     public static Field17L newInstance(Field17L source) {
         Field17L cp = new Field17L();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field17M extends Field implements Serializable {
      */
     public static Field17M newInstance(Field17M source) {
         Field17M cp = new Field17M();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
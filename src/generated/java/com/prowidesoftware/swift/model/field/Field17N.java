@@ -143,7 +143,7 @@ public class Field17N extends Field implements Serializable {
      */
     public static Field17N newInstance(Field17N source) {
         Field17N cp = new Field17N();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field17O extends Field implements Serializable {
      */
     public static Field17O newInstance(Field17O source) {
         Field17O cp = new Field17O();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field17P extends Field implements Serializable {
      */
     public static Field17P newInstance(Field17P source) {
         Field17P cp = new Field17P();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
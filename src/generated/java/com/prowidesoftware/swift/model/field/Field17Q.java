@@ -143,7 +143,7 @@ public class Field17Q extends Field implements Serializable {
      */
     public static Field17Q newInstance(Field17Q source) {
         Field17Q cp = new Field17Q();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field17R extends Field implements Serializable {
      */
     public static Field17R newInstance(Field17R source) {
         Field17R cp = new Field17R();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field17S extends Field implements Serializable {
      */
     public static Field17S newInstance(Field17S source) {
         Field17S cp = new Field17S();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
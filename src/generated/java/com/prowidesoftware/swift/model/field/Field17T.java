@@ -143,7 +143,7 @@ public class Field17T extends Field implements Serializable {
      */
     public static Field17T newInstance(Field17T source) {
         Field17T cp = new Field17T();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
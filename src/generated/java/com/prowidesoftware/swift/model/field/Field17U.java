@@ -143,7 +143,7 @@ public class Field17U extends Field implements Serializable {
      */
     public static Field17U newInstance(Field17U source) {
         Field17U cp = new Field17U();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
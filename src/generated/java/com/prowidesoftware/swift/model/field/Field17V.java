@@ -143,7 +143,7 @@ public class Field17V extends Field implements Serializable {
      */
     public static Field17V newInstance(Field17V source) {
         Field17V cp = new Field17V();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
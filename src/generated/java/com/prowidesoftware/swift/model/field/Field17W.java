@@ -143,7 +143,7 @@ public class Field17W extends Field implements Serializable {
      */
     public static Field17W newInstance(Field17W source) {
         Field17W cp = new Field17W();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
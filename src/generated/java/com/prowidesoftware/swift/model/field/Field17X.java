@@ -143,7 +143,7 @@ public class Field17X extends Field implements Serializable {
      */
     public static Field17X newInstance(Field17X source) {
         Field17X cp = new Field17X();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field17Y extends Field implements Serializable {
      */
     public static Field17Y newInstance(Field17Y source) {
         Field17Y cp = new Field17Y();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
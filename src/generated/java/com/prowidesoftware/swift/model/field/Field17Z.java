@@ -143,7 +143,7 @@ public class Field17Z extends Field implements Serializable {
      */
     public static Field17Z newInstance(Field17Z source) {
         Field17Z cp = new Field17Z();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -145,7 +145,7 @@ public class Field18A extends Field implements Serializable {
      */
     public static Field18A newInstance(Field18A source) {
         Field18A cp = new Field18A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -145,7 +145,7 @@ public class Field18B extends Field implements Serializable {
      */
     public static Field18B newInstance(Field18B source) {
         Field18B cp = new Field18B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -145,7 +145,7 @@ public class Field18C extends Field implements Serializable {
      */
     public static Field18C newInstance(Field18C source) {
         Field18C cp = new Field18C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -145,7 +145,7 @@ public class Field18D extends Field implements Serializable {
      */
     public static Field18D newInstance(Field18D source) {
         Field18D cp = new Field18D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -147,7 +147,7 @@ public class Field19 extends Field implements Serializable, AmountContainer {
      */
     public static Field19 newInstance(Field19 source) {
         Field19 cp = new Field19();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
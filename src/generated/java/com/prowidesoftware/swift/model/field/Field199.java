@@ -138,7 +138,7 @@ public class Field199 extends Field implements Serializable {
      */
     public static Field199 newInstance(Field199 source) {
         Field199 cp = new Field199();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -175,7 +175,7 @@ public class Field19A extends Field implements Serializable, MonetaryAmountConta
      */
     public static Field19A newInstance(Field19A source) {
         Field19A cp = new Field19A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
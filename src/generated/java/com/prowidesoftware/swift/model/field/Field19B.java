@@ -169,7 +169,7 @@ public class Field19B extends Field implements Serializable, MonetaryAmountConta
      */
     public static Field19B newInstance(Field19B source) {
         Field19B cp = new Field19B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
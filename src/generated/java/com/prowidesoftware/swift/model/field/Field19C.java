@@ -161,7 +161,7 @@ public class Field19C extends Field implements Serializable, AmountContainer {
      */
     public static Field19C newInstance(Field19C source) {
         Field19C cp = new Field19C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -155,7 +155,7 @@ public class Field19Y extends Field implements Serializable, AmountContainer {
      */
     public static Field19Y newInstance(Field19Y source) {
         Field19Y cp = new Field19Y();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
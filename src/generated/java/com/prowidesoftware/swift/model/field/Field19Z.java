@@ -155,7 +155,7 @@ public class Field19Z extends Field implements Serializable, AmountContainer {
      */
     public static Field19Z newInstance(Field19Z source) {
         Field19Z cp = new Field19Z();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
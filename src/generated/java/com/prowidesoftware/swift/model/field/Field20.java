@@ -143,7 +143,7 @@ public class Field20 extends Field implements Serializable {
      */
     public static Field20 newInstance(Field20 source) {
         Field20 cp = new Field20();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
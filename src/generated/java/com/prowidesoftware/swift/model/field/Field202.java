@@ -145,7 +145,7 @@ public class Field202 extends Field implements Serializable {
      */
     public static Field202 newInstance(Field202 source) {
         Field202 cp = new Field202();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
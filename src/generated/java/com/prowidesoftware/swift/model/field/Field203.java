@@ -145,7 +145,7 @@ public class Field203 extends Field implements Serializable {
      */
     public static Field203 newInstance(Field203 source) {
         Field203 cp = new Field203();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
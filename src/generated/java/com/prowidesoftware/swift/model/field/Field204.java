@@ -143,7 +143,7 @@ public class Field204 extends Field implements Serializable {
      */
     public static Field204 newInstance(Field204 source) {
         Field204 cp = new Field204();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field206 extends Field implements Serializable {
      */
     public static Field206 newInstance(Field206 source) {
         Field206 cp = new Field206();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
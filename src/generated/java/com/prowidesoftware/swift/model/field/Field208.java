@@ -143,7 +143,7 @@ public class Field208 extends Field implements Serializable {
      */
     public static Field208 newInstance(Field208 source) {
         Field208 cp = new Field208();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
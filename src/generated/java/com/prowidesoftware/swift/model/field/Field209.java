@@ -145,7 +145,7 @@ public class Field209 extends Field implements Serializable {
      */
     public static Field209 newInstance(Field209 source) {
         Field209 cp = new Field209();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -150,7 +150,7 @@ public class Field20C extends Field implements Serializable, GenericField {
      */
     public static Field20C newInstance(Field20C source) {
         Field20C cp = new Field20C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
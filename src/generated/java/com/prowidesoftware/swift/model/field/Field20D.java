@@ -150,7 +150,7 @@ public class Field20D extends Field implements Serializable, GenericField {
      */
     public static Field20D newInstance(Field20D source) {
         Field20D cp = new Field20D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
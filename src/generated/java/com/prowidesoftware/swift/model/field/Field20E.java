@@ -149,7 +149,7 @@ public class Field20E extends Field implements Serializable {
      */
     public static Field20E newInstance(Field20E source) {
         Field20E cp = new Field20E();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -150,7 +150,7 @@ public class Field20U extends Field implements Serializable, GenericField {
      */
     public static Field20U newInstance(Field20U source) {
         Field20U cp = new Field20U();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
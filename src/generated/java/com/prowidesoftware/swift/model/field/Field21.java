@@ -143,7 +143,7 @@ public class Field21 extends Field implements Serializable {
      */
     public static Field21 newInstance(Field21 source) {
         Field21 cp = new Field21();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field21A extends Field implements Serializable {
      */
     public static Field21A newInstance(Field21A source) {
         Field21A cp = new Field21A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
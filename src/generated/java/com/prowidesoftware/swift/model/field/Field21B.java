@@ -155,7 +155,7 @@ public class Field21B extends Field implements Serializable {
      */
     public static Field21B newInstance(Field21B source) {
         Field21B cp = new Field21B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
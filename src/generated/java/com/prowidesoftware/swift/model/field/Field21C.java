@@ -143,7 +143,7 @@ public class Field21C extends Field implements Serializable {
      */
     public static Field21C newInstance(Field21C source) {
         Field21C cp = new Field21C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
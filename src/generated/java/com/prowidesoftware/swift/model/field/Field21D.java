@@ -143,7 +143,7 @@ public class Field21D extends Field implements Serializable {
      */
     public static Field21D newInstance(Field21D source) {
         Field21D cp = new Field21D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field21E extends Field implements Serializable {
      */
     public static Field21E newInstance(Field21E source) {
         Field21E cp = new Field21E();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field21F extends Field implements Serializable {
      */
     public static Field21F newInstance(Field21F source) {
         Field21F cp = new Field21F();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
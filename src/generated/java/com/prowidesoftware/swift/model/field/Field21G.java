@@ -143,7 +143,7 @@ public class Field21G extends Field implements Serializable {
      */
     public static Field21G newInstance(Field21G source) {
         Field21G cp = new Field21G();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
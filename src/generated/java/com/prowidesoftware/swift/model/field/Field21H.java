@@ -157,7 +157,7 @@ public class Field21H extends Field implements Serializable {
      */
     public static Field21H newInstance(Field21H source) {
         Field21H cp = new Field21H();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -155,7 +155,7 @@ public class Field21N extends Field implements Serializable {
      */
     public static Field21N newInstance(Field21N source) {
         Field21N cp = new Field21N();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field21P extends Field implements Serializable {
      */
     public static Field21P newInstance(Field21P source) {
         Field21P cp = new Field21P();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
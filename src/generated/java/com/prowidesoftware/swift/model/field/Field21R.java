@@ -143,7 +143,7 @@ public class Field21R extends Field implements Serializable {
      */
     public static Field21R newInstance(Field21R source) {
         Field21R cp = new Field21R();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
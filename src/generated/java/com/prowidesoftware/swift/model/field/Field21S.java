@@ -143,7 +143,7 @@ public class Field21S extends Field implements Serializable {
      */
     public static Field21S newInstance(Field21S source) {
         Field21S cp = new Field21S();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field21T extends Field implements Serializable {
      */
     public static Field21T newInstance(Field21T source) {
         Field21T cp = new Field21T();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
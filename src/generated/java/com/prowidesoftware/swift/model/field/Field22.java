@@ -149,7 +149,7 @@ public class Field22 extends Field implements Serializable {
      */
     public static Field22 newInstance(Field22 source) {
         Field22 cp = new Field22();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
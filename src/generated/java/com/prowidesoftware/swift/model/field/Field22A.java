@@ -155,7 +155,7 @@ public class Field22A extends Field implements Serializable {
      */
     public static Field22A newInstance(Field22A source) {
         Field22A cp = new Field22A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -155,7 +155,7 @@ public class Field22B extends Field implements Serializable {
      */
     public static Field22B newInstance(Field22B source) {
         Field22B cp = new Field22B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
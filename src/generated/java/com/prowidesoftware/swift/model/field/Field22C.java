@@ -169,7 +169,7 @@ public class Field22C extends Field implements Serializable {
      */
     public static Field22C newInstance(Field22C source) {
         Field22C cp = new Field22C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
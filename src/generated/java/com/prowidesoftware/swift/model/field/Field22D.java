@@ -155,7 +155,7 @@ public class Field22D extends Field implements Serializable {
      */
     public static Field22D newInstance(Field22D source) {
         Field22D cp = new Field22D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -149,7 +149,7 @@ public class Field22E extends Field implements Serializable {
      */
     public static Field22E newInstance(Field22E source) {
         Field22E cp = new Field22E();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -156,7 +156,7 @@ public class Field22F extends Field implements Serializable, GenericField {
      */
     public static Field22F newInstance(Field22F source) {
         Field22F cp = new Field22F();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
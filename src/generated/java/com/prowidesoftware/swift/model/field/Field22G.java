@@ -155,7 +155,7 @@ public class Field22G extends Field implements Serializable {
      */
     public static Field22G newInstance(Field22G source) {
         Field22G cp = new Field22G();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
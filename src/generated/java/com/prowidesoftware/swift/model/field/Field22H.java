@@ -158,7 +158,7 @@ public class Field22H extends Field implements Serializable, GenericField {
      */
     public static Field22H newInstance(Field22H source) {
         Field22H cp = new Field22H();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
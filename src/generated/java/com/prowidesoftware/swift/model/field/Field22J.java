@@ -151,7 +151,7 @@ public class Field22J extends Field implements Serializable {
      */
     public static Field22J newInstance(Field22J source) {
         Field22J cp = new Field22J();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -155,7 +155,7 @@ public class Field22K extends Field implements Serializable {
      */
     public static Field22K newInstance(Field22K source) {
         Field22K cp = new Field22K();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -151,7 +151,7 @@ public class Field22L extends Field implements Serializable {
      */
     public static Field22L newInstance(Field22L source) {
         Field22L cp = new Field22L();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
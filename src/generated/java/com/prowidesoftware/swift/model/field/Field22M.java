@@ -163,7 +163,7 @@ public class Field22M extends Field implements Serializable {
      */
     public static Field22M newInstance(Field22M source) {
         Field22M cp = new Field22M();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field22N extends Field implements Serializable {
      */
     public static Field22N newInstance(Field22N source) {
         Field22N cp = new Field22N();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
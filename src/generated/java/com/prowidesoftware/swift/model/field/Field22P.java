@@ -163,7 +163,7 @@ public class Field22P extends Field implements Serializable {
      */
     public static Field22P newInstance(Field22P source) {
         Field22P cp = new Field22P();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -151,7 +151,7 @@ public class Field22Q extends Field implements Serializable {
      */
     public static Field22Q newInstance(Field22Q source) {
         Field22Q cp = new Field22Q();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field22R extends Field implements Serializable {
      */
     public static Field22R newInstance(Field22R source) {
         Field22R cp = new Field22R();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
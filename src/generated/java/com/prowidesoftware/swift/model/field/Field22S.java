@@ -149,7 +149,7 @@ public class Field22S extends Field implements Serializable {
      */
     public static Field22S newInstance(Field22S source) {
         Field22S cp = new Field22S();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
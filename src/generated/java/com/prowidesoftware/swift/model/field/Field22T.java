@@ -143,7 +143,7 @@ public class Field22T extends Field implements Serializable {
      */
     public static Field22T newInstance(Field22T source) {
         Field22T cp = new Field22T();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field22U extends Field implements Serializable {
      */
     public static Field22U newInstance(Field22U source) {
         Field22U cp = new Field22U();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
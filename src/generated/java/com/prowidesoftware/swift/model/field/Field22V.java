@@ -143,7 +143,7 @@ public class Field22V extends Field implements Serializable {
      */
     public static Field22V newInstance(Field22V source) {
         Field22V cp = new Field22V();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
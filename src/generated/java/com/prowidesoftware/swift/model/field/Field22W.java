@@ -143,7 +143,7 @@ public class Field22W extends Field implements Serializable {
      */
     public static Field22W newInstance(Field22W source) {
         Field22W cp = new Field22W();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
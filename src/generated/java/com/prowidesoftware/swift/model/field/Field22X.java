@@ -143,7 +143,7 @@ public class Field22X extends Field implements Serializable {
      */
     public static Field22X newInstance(Field22X source) {
         Field22X cp = new Field22X();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
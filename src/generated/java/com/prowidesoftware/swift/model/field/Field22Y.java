@@ -157,7 +157,7 @@ public class Field22Y extends Field implements Serializable {
      */
     public static Field22Y newInstance(Field22Y source) {
         Field22Y cp = new Field22Y();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
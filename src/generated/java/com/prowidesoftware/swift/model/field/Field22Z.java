@@ -143,7 +143,7 @@ public class Field22Z extends Field implements Serializable {
      */
     public static Field22Z newInstance(Field22Z source) {
         Field22Z cp = new Field22Z();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -188,7 +188,7 @@ public class Field23 extends Field implements Serializable, CurrencyContainer {
      */
     public static Field23 newInstance(Field23 source) {
         Field23 cp = new Field23();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -165,7 +165,7 @@ public class Field23A extends Field implements Serializable {
      */
     public static Field23A newInstance(Field23A source) {
         Field23A cp = new Field23A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
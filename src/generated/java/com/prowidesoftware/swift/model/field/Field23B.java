@@ -143,7 +143,7 @@ public class Field23B extends Field implements Serializable {
      */
     public static Field23B newInstance(Field23B source) {
         Field23B cp = new Field23B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -151,7 +151,7 @@ public class Field23C extends Field implements Serializable {
      */
     public static Field23C newInstance(Field23C source) {
         Field23C cp = new Field23C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
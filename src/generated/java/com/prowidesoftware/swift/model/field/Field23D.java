@@ -143,7 +143,7 @@ public class Field23D extends Field implements Serializable {
      */
     public static Field23D newInstance(Field23D source) {
         Field23D cp = new Field23D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -169,7 +169,7 @@ public class Field23E extends Field implements Serializable {
      */
     public static Field23E newInstance(Field23E source) {
         Field23E cp = new Field23E();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
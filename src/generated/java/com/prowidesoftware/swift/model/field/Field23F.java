@@ -149,7 +149,7 @@ public class Field23F extends Field implements Serializable {
      */
     public static Field23F newInstance(Field23F source) {
         Field23F cp = new Field23F();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
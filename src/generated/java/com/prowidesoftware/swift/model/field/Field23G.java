@@ -149,7 +149,7 @@ public class Field23G extends Field implements Serializable {
      */
     public static Field23G newInstance(Field23G source) {
         Field23G cp = new Field23G();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
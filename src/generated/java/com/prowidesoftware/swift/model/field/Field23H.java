@@ -143,7 +143,7 @@ public class Field23H extends Field implements Serializable {
      */
     public static Field23H newInstance(Field23H source) {
         Field23H cp = new Field23H();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -155,7 +155,7 @@ public class Field23R extends Field implements Serializable, MultiLineField {
      */
     public static Field23R newInstance(Field23R source) {
         Field23R cp = new Field23R();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field23S extends Field implements Serializable {
      */
     public static Field23S newInstance(Field23S source) {
         Field23S cp = new Field23S();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
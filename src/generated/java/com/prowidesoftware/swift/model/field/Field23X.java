@@ -149,7 +149,7 @@ public class Field23X extends Field implements Serializable {
      */
     public static Field23X newInstance(Field23X source) {
         Field23X cp = new Field23X();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field242 extends Field implements Serializable {
      */
     public static Field242 newInstance(Field242 source) {
         Field242 cp = new Field242();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
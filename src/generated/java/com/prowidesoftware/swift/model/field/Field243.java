@@ -145,7 +145,7 @@ public class Field243 extends Field implements Serializable {
      */
     public static Field243 newInstance(Field243 source) {
         Field243 cp = new Field243();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -156,7 +156,7 @@ public class Field24B extends Field implements Serializable, GenericField {
      */
     public static Field24B newInstance(Field24B source) {
         Field24B cp = new Field24B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
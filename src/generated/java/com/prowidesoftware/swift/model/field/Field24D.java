@@ -155,7 +155,7 @@ public class Field24D extends Field implements Serializable {
      */
     public static Field24D newInstance(Field24D source) {
         Field24D cp = new Field24D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
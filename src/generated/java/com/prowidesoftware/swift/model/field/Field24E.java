@@ -149,7 +149,7 @@ public class Field24E extends Field implements Serializable {
      */
     public static Field24E newInstance(Field24E source) {
         Field24E cp = new Field24E();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -155,7 +155,7 @@ public class Field24G extends Field implements Serializable, MultiLineField {
      */
     public static Field24G newInstance(Field24G source) {
         Field24G cp = new Field24G();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field25 extends Field implements Serializable {
      */
     public static Field25 newInstance(Field25 source) {
         Field25 cp = new Field25();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -144,7 +144,7 @@ public class Field251 extends Field implements Serializable {
      */
     public static Field251 newInstance(Field251 source) {
         Field251 cp = new Field251();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -144,7 +144,7 @@ public class Field253 extends Field implements Serializable {
      */
     public static Field253 newInstance(Field253 source) {
         Field253 cp = new Field253();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
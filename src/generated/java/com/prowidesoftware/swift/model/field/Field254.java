@@ -163,7 +163,7 @@ public class Field254 extends Field implements Serializable {
      */
     public static Field254 newInstance(Field254 source) {
         Field254 cp = new Field254();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -458,6 +458,16 @@ public class Field254 extends Field implements Serializable {
         return SwiftFormatUtils.getTime3(getComponent(3));
     }
 
+    /**
+     * Get the component 3 as LocalTime
+     *
+     * @return the component 3 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent3AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime3(getComponent(3));
+    }
+
     /**
      * Gets the Start Time (component 3).
      * @return the Start Time from component 3
@@ -474,6 +484,15 @@ public class Field254 extends Field implements Serializable {
         return getComponent3AsCalendar();
     }
 
+    /**
+     * Get the Start Time (component 3) as LocalTime
+     * @return the Start Time from component 3 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getStartTimeAsLocalTime() {
+        return getComponent3AsLocalTime();
+    }
+
     /**
      * Gets the component 4 (End Time).
      * @return the component 4
@@ -491,6 +510,16 @@ public class Field254 extends Field implements Serializable {
         return SwiftFormatUtils.getTime3(getComponent(4));
     }
 
+    /**
+     * Get the component 4 as LocalTime
+     *
+     * @return the component 4 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent4AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime3(getComponent(4));
+    }
+
     /**
      * Gets the End Time (component 4).
      * @return the End Time from component 4
@@ -507,6 +536,15 @@ public class Field254 extends Field implements Serializable {
         return getComponent4AsCalendar();
     }
 
+    /**
+     * Get the End Time (component 4) as LocalTime
+     * @return the End Time from component 4 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getEndTimeAsLocalTime() {
+        return getComponent4AsLocalTime();
+    }
+
     /**
      * Set the component 1 (Start MOR).
      *
@@ -179,7 +179,7 @@ public class Field256 extends Field implements Serializable, DateContainer {
      */
     public static Field256 newInstance(Field256 source) {
         Field256 cp = new Field256();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -597,6 +597,16 @@ public class Field256 extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getDate2(getComponent(4));
     }
 
+    /**
+     * Get the component 4 as LocalDate
+     *
+     * @return the component 4 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getComponent4AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate2(getComponent(4));
+    }
+
     /**
      * Gets the Date (component 4).
      * @return the Date from component 4
@@ -613,6 +623,15 @@ public class Field256 extends Field implements Serializable, DateContainer {
         return getComponent4AsCalendar();
     }
 
+    /**
+     * Get the Date (component 4) as LocalDate
+     * @return the Date from component 4 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getDateAsLocalDate() {
+        return getComponent4AsLocalDate();
+    }
+
     /**
      * Gets the component 5 (Start Time).
      * @return the component 5
@@ -630,6 +649,16 @@ public class Field256 extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getTime3(getComponent(5));
     }
 
+    /**
+     * Get the component 5 as LocalTime
+     *
+     * @return the component 5 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent5AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime3(getComponent(5));
+    }
+
     /**
      * Gets the Start Time (component 5).
      * @return the Start Time from component 5
@@ -646,6 +675,15 @@ public class Field256 extends Field implements Serializable, DateContainer {
         return getComponent5AsCalendar();
     }
 
+    /**
+     * Get the Start Time (component 5) as LocalTime
+     * @return the Start Time from component 5 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getStartTimeAsLocalTime() {
+        return getComponent5AsLocalTime();
+    }
+
     /**
      * Gets the component 6 (End Time).
      * @return the component 6
@@ -663,6 +701,16 @@ public class Field256 extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getTime3(getComponent(6));
     }
 
+    /**
+     * Get the component 6 as LocalTime
+     *
+     * @return the component 6 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent6AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime3(getComponent(6));
+    }
+
     /**
      * Gets the End Time (component 6).
      * @return the End Time from component 6
@@ -679,6 +727,15 @@ public class Field256 extends Field implements Serializable, DateContainer {
         return getComponent6AsCalendar();
     }
 
+    /**
+     * Get the End Time (component 6) as LocalTime
+     * @return the End Time from component 6 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getEndTimeAsLocalTime() {
+        return getComponent6AsLocalTime();
+    }
+
     /**
      * Set the component 1 (LT Address).
      *
@@ -179,7 +179,7 @@ public class Field259 extends Field implements Serializable, DateContainer {
      */
     public static Field259 newInstance(Field259 source) {
         Field259 cp = new Field259();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -592,6 +592,16 @@ public class Field259 extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getDate2(getComponent(4));
     }
 
+    /**
+     * Get the component 4 as LocalDate
+     *
+     * @return the component 4 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getComponent4AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate2(getComponent(4));
+    }
+
     /**
      * Gets the Date (component 4).
      * @return the Date from component 4
@@ -608,6 +618,15 @@ public class Field259 extends Field implements Serializable, DateContainer {
         return getComponent4AsCalendar();
     }
 
+    /**
+     * Get the Date (component 4) as LocalDate
+     * @return the Date from component 4 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getDateAsLocalDate() {
+        return getComponent4AsLocalDate();
+    }
+
     /**
      * Gets the component 5 (Start Time).
      * @return the component 5
@@ -625,6 +644,16 @@ public class Field259 extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getTime3(getComponent(5));
     }
 
+    /**
+     * Get the component 5 as LocalTime
+     *
+     * @return the component 5 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent5AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime3(getComponent(5));
+    }
+
     /**
      * Gets the Start Time (component 5).
      * @return the Start Time from component 5
@@ -641,6 +670,15 @@ public class Field259 extends Field implements Serializable, DateContainer {
         return getComponent5AsCalendar();
     }
 
+    /**
+     * Get the Start Time (component 5) as LocalTime
+     * @return the Start Time from component 5 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getStartTimeAsLocalTime() {
+        return getComponent5AsLocalTime();
+    }
+
     /**
      * Gets the component 6 (End Time).
      * @return the component 6
@@ -658,6 +696,16 @@ public class Field259 extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getTime3(getComponent(6));
     }
 
+    /**
+     * Get the component 6 as LocalTime
+     *
+     * @return the component 6 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent6AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime3(getComponent(6));
+    }
+
     /**
      * Gets the End Time (component 6).
      * @return the End Time from component 6
@@ -674,6 +722,15 @@ public class Field259 extends Field implements Serializable, DateContainer {
         return getComponent6AsCalendar();
     }
 
+    /**
+     * Get the End Time (component 6) as LocalTime
+     * @return the End Time from component 6 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getEndTimeAsLocalTime() {
+        return getComponent6AsLocalTime();
+    }
+
     /**
      * Set the component 1 (LT Address).
      *
@@ -143,7 +143,7 @@ public class Field25A extends Field implements Serializable {
      */
     public static Field25A newInstance(Field25A source) {
         Field25A cp = new Field25A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -164,7 +164,7 @@ public class Field25D extends Field implements Serializable, GenericField {
      */
     public static Field25D newInstance(Field25D source) {
         Field25D cp = new Field25D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field25F extends Field implements Serializable {
      */
     public static Field25F newInstance(Field25F source) {
         Field25F cp = new Field25F();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
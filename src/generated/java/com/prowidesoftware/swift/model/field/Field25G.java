@@ -143,7 +143,7 @@ public class Field25G extends Field implements Serializable {
      */
     public static Field25G newInstance(Field25G source) {
         Field25G cp = new Field25G();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -161,7 +161,7 @@ public class Field25P extends Field implements Serializable, BICContainer, Multi
      */
     public static Field25P newInstance(Field25P source) {
         Field25P cp = new Field25P();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -173,7 +173,7 @@ public class Field260 extends Field implements Serializable, DateContainer {
      */
     public static Field260 newInstance(Field260 source) {
         Field260 cp = new Field260();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -449,6 +449,16 @@ public class Field260 extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getDate2(getComponent(2));
     }
 
+    /**
+     * Get the component 2 as LocalDate
+     *
+     * @return the component 2 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getComponent2AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate2(getComponent(2));
+    }
+
     /**
      * Gets the Date (component 2).
      * @return the Date from component 2
@@ -465,6 +475,15 @@ public class Field260 extends Field implements Serializable, DateContainer {
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Date (component 2) as LocalDate
+     * @return the Date from component 2 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getDateAsLocalDate() {
+        return getComponent2AsLocalDate();
+    }
+
     /**
      * Gets the component 3 (Start Time).
      * @return the component 3
@@ -482,6 +501,16 @@ public class Field260 extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getTime3(getComponent(3));
     }
 
+    /**
+     * Get the component 3 as LocalTime
+     *
+     * @return the component 3 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent3AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime3(getComponent(3));
+    }
+
     /**
      * Gets the Start Time (component 3).
      * @return the Start Time from component 3
@@ -498,6 +527,15 @@ public class Field260 extends Field implements Serializable, DateContainer {
         return getComponent3AsCalendar();
     }
 
+    /**
+     * Get the Start Time (component 3) as LocalTime
+     * @return the Start Time from component 3 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getStartTimeAsLocalTime() {
+        return getComponent3AsLocalTime();
+    }
+
     /**
      * Gets the component 4 (End Time).
      * @return the component 4
@@ -515,6 +553,16 @@ public class Field260 extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getTime3(getComponent(4));
     }
 
+    /**
+     * Get the component 4 as LocalTime
+     *
+     * @return the component 4 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent4AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime3(getComponent(4));
+    }
+
     /**
      * Gets the End Time (component 4).
      * @return the End Time from component 4
@@ -531,6 +579,15 @@ public class Field260 extends Field implements Serializable, DateContainer {
         return getComponent4AsCalendar();
     }
 
+    /**
+     * Get the End Time (component 4) as LocalTime
+     * @return the End Time from component 4 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getEndTimeAsLocalTime() {
+        return getComponent4AsLocalTime();
+    }
+
     /**
      * Gets the component 5 (Session Number).
      * @return the component 5
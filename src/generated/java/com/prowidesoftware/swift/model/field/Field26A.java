@@ -149,7 +149,7 @@ public class Field26A extends Field implements Serializable {
      */
     public static Field26A newInstance(Field26A source) {
         Field26A cp = new Field26A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field26B extends Field implements Serializable {
      */
     public static Field26B newInstance(Field26B source) {
         Field26B cp = new Field26B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
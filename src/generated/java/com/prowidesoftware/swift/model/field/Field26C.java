@@ -173,7 +173,7 @@ public class Field26C extends Field implements Serializable {
      */
     public static Field26C newInstance(Field26C source) {
         Field26C cp = new Field26C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
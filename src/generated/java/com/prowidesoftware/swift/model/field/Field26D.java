@@ -173,7 +173,7 @@ public class Field26D extends Field implements Serializable, MultiLineField {
      */
     public static Field26D newInstance(Field26D source) {
         Field26D cp = new Field26D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -159,7 +159,7 @@ public class Field26E extends Field implements Serializable {
      */
     public static Field26E newInstance(Field26E source) {
         Field26E cp = new Field26E();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field26F extends Field implements Serializable {
      */
     public static Field26F newInstance(Field26F source) {
         Field26F cp = new Field26F();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -157,7 +157,7 @@ public class Field26H extends Field implements Serializable {
      */
     public static Field26H newInstance(Field26H source) {
         Field26H cp = new Field26H();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field26K extends Field implements Serializable {
      */
     public static Field26K newInstance(Field26K source) {
         Field26K cp = new Field26K();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field26T extends Field implements Serializable {
      */
     public static Field26T newInstance(Field26T source) {
         Field26T cp = new Field26T();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -163,7 +163,7 @@ public class Field27 extends Field implements Serializable {
      */
     public static Field27 newInstance(Field27 source) {
         Field27 cp = new Field27();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -152,7 +152,7 @@ public class Field270 extends Field implements Serializable, DateContainer {
      */
     public static Field270 newInstance(Field270 source) {
         Field270 cp = new Field270();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -357,6 +357,16 @@ public class Field270 extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getDateTimeShortYear(getComponent(1));
     }
 
+    /**
+     * Get the component 1 as LocalDateTime
+     *
+     * @return the component 1 converted to LocalDateTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDateTime getComponent1AsLocalDateTime() {
+        return SwiftFormatUtils.getLocalDateTimeShortYear(getComponent(1));
+    }
+
     /**
      * Gets the Timestamp (component 1).
      * @return the Timestamp from component 1
@@ -373,6 +383,15 @@ public class Field270 extends Field implements Serializable, DateContainer {
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Timestamp (component 1) as LocalDateTime
+     * @return the Timestamp from component 1 converted to LocalDateTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDateTime getTimestampAsLocalDateTime() {
+        return getComponent1AsLocalDateTime();
+    }
+
     /**
      * Gets the component 2 (Login Block).
      * @return the component 2
@@ -151,7 +151,7 @@ public class Field27A extends Field implements Serializable {
      */
     public static Field27A newInstance(Field27A source) {
         Field27A cp = new Field27A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
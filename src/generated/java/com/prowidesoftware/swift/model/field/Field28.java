@@ -163,7 +163,7 @@ public class Field28 extends Field implements Serializable {
      */
     public static Field28 newInstance(Field28 source) {
         Field28 cp = new Field28();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
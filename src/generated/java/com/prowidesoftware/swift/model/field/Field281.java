@@ -163,7 +163,7 @@ public class Field281 extends Field implements Serializable {
      */
     public static Field281 newInstance(Field281 source) {
         Field281 cp = new Field281();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -385,6 +385,16 @@ public class Field281 extends Field implements Serializable {
         return SwiftFormatUtils.getTime3(getComponent(1));
     }
 
+    /**
+     * Get the component 1 as LocalTime
+     *
+     * @return the component 1 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent1AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime3(getComponent(1));
+    }
+
     /**
      * Gets the Output Time (component 1).
      * @return the Output Time from component 1
@@ -401,6 +411,15 @@ public class Field281 extends Field implements Serializable {
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Output Time (component 1) as LocalTime
+     * @return the Output Time from component 1 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getOutputTimeAsLocalTime() {
+        return getComponent1AsLocalTime();
+    }
+
     /**
      * Gets the component 2 (MOR).
      * @return the component 2
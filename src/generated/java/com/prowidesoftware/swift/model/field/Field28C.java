@@ -151,7 +151,7 @@ public class Field28C extends Field implements Serializable {
      */
     public static Field28C newInstance(Field28C source) {
         Field28C cp = new Field28C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
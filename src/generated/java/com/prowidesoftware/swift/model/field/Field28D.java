@@ -167,7 +167,7 @@ public class Field28D extends Field implements Serializable {
      */
     public static Field28D newInstance(Field28D source) {
         Field28D cp = new Field28D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
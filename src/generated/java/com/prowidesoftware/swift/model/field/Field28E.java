@@ -151,7 +151,7 @@ public class Field28E extends Field implements Serializable {
      */
     public static Field28E newInstance(Field28E source) {
         Field28E cp = new Field28E();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
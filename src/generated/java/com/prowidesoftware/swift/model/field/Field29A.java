@@ -128,7 +128,7 @@ public class Field29A extends StructuredNarrativeField implements Serializable,
      */
     public static Field29A newInstance(Field29A source) {
         Field29A cp = new Field29A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -147,7 +147,7 @@ public class Field29B extends Field implements Serializable, MultiLineField {
      */
     public static Field29B newInstance(Field29B source) {
         Field29B cp = new Field29B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -147,7 +147,7 @@ public class Field29D extends Field implements Serializable, MultiLineField {
      */
     public static Field29D newInstance(Field29D source) {
         Field29D cp = new Field29D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -150,7 +150,7 @@ public class Field29E extends Field implements Serializable {
      */
     public static Field29E newInstance(Field29E source) {
         Field29E cp = new Field29E();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -366,6 +366,16 @@ public class Field29E extends Field implements Serializable {
         return SwiftFormatUtils.getTime3(getComponent(2));
     }
 
+    /**
+     * Get the component 2 as LocalTime
+     *
+     * @return the component 2 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent2AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime3(getComponent(2));
+    }
+
     /**
      * Gets the Time (component 2).
      * @return the Time from component 2
@@ -382,6 +392,15 @@ public class Field29E extends Field implements Serializable {
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Time (component 2) as LocalTime
+     * @return the Time from component 2 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getTimeAsLocalTime() {
+        return getComponent2AsLocalTime();
+    }
+
     /**
      * Set the component 1 (Location).
      *
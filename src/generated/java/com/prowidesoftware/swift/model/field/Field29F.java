@@ -147,7 +147,7 @@ public class Field29F extends Field implements Serializable, MultiLineField {
      */
     public static Field29F newInstance(Field29F source) {
         Field29F cp = new Field29F();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field29H extends Field implements Serializable {
      */
     public static Field29H newInstance(Field29H source) {
         Field29H cp = new Field29H();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -150,7 +150,7 @@ public class Field29J extends Field implements Serializable {
      */
     public static Field29J newInstance(Field29J source) {
         Field29J cp = new Field29J();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -370,6 +370,16 @@ public class Field29J extends Field implements Serializable {
         return SwiftFormatUtils.getTime3(getComponent(2));
     }
 
+    /**
+     * Get the component 2 as LocalTime
+     *
+     * @return the component 2 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent2AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime3(getComponent(2));
+    }
+
     /**
      * Gets the Time (component 2).
      * @return the Time from component 2
@@ -386,6 +396,15 @@ public class Field29J extends Field implements Serializable {
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Time (component 2) as LocalTime
+     * @return the Time from component 2 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getTimeAsLocalTime() {
+        return getComponent2AsLocalTime();
+    }
+
     /**
      * Set the component 1 (Location).
      *
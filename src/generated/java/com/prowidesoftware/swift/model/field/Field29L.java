@@ -158,7 +158,7 @@ public class Field29L extends Field implements Serializable, DateContainer {
      */
     public static Field29L newInstance(Field29L source) {
         Field29L cp = new Field29L();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -372,6 +372,16 @@ public class Field29L extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getDate4(getComponent(1));
     }
 
+    /**
+     * Get the component 1 as LocalDate
+     *
+     * @return the component 1 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getComponent1AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate4(getComponent(1));
+    }
+
     /**
      * Gets the Date (component 1).
      * @return the Date from component 1
@@ -388,6 +398,15 @@ public class Field29L extends Field implements Serializable, DateContainer {
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Date (component 1) as LocalDate
+     * @return the Date from component 1 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getDateAsLocalDate() {
+        return getComponent1AsLocalDate();
+    }
+
     /**
      * Gets the component 2 (Location).
      * @return the component 2
@@ -421,6 +440,16 @@ public class Field29L extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getTime3(getComponent(3));
     }
 
+    /**
+     * Get the component 3 as LocalTime
+     *
+     * @return the component 3 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent3AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime3(getComponent(3));
+    }
+
     /**
      * Gets the Time (component 3).
      * @return the Time from component 3
@@ -437,6 +466,15 @@ public class Field29L extends Field implements Serializable, DateContainer {
         return getComponent3AsCalendar();
     }
 
+    /**
+     * Get the Time (component 3) as LocalTime
+     * @return the Time from component 3 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getTimeAsLocalTime() {
+        return getComponent3AsLocalTime();
+    }
+
     /**
      * Set the component 1 (Date).
      *
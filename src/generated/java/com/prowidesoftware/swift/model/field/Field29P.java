@@ -154,7 +154,7 @@ public class Field29P extends Field implements Serializable, BICContainer {
      */
     public static Field29P newInstance(Field29P source) {
         Field29P cp = new Field29P();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -149,7 +149,7 @@ public class Field29S extends Field implements Serializable {
      */
     public static Field29S newInstance(Field29S source) {
         Field29S cp = new Field29S();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -154,7 +154,7 @@ public class Field29U extends Field implements Serializable, BICContainer {
      */
     public static Field29U newInstance(Field29U source) {
         Field29U cp = new Field29U();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field301 extends Field implements Serializable {
      */
     public static Field301 newInstance(Field301 source) {
         Field301 cp = new Field301();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field302 extends Field implements Serializable {
      */
     public static Field302 newInstance(Field302 source) {
         Field302 cp = new Field302();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
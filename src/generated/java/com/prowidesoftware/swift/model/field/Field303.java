@@ -143,7 +143,7 @@ public class Field303 extends Field implements Serializable {
      */
     public static Field303 newInstance(Field303 source) {
         Field303 cp = new Field303();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -149,7 +149,7 @@ public class Field304 extends Field implements Serializable {
      */
     public static Field304 newInstance(Field304 source) {
         Field304 cp = new Field304();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
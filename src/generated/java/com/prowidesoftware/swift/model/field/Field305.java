@@ -143,7 +143,7 @@ public class Field305 extends Field implements Serializable {
      */
     public static Field305 newInstance(Field305 source) {
         Field305 cp = new Field305();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
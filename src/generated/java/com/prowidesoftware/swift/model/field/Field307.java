@@ -143,7 +143,7 @@ public class Field307 extends Field implements Serializable {
      */
     public static Field307 newInstance(Field307 source) {
         Field307 cp = new Field307();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -164,7 +164,7 @@ public class Field30G extends Field implements Serializable, DateContainer {
      */
     public static Field30G newInstance(Field30G source) {
         Field30G cp = new Field30G();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -368,6 +368,16 @@ public class Field30G extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getDate4(getComponent(1));
     }
 
+    /**
+     * Get the component 1 as LocalDate
+     *
+     * @return the component 1 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getComponent1AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate4(getComponent(1));
+    }
+
     /**
      * Gets the Start Date (component 1).
      * @return the Start Date from component 1
@@ -393,6 +403,15 @@ public class Field30G extends Field implements Serializable, DateContainer {
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Start Date (component 1) as LocalDate
+     * @return the Start Date from component 1 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getStartDateAsLocalDate() {
+        return getComponent1AsLocalDate();
+    }
+
     /**
      * Alternative method getter for field's Start Date as Calendar
      * @see #getStartDateAsCalendar()
@@ -419,6 +438,16 @@ public class Field30G extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getDate4(getComponent(2));
     }
 
+    /**
+     * Get the component 2 as LocalDate
+     *
+     * @return the component 2 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getComponent2AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate4(getComponent(2));
+    }
+
     /**
      * Gets the End Date (component 2).
      * @return the End Date from component 2
@@ -444,6 +473,15 @@ public class Field30G extends Field implements Serializable, DateContainer {
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the End Date (component 2) as LocalDate
+     * @return the End Date from component 2 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getEndDateAsLocalDate() {
+        return getComponent2AsLocalDate();
+    }
+
     /**
      * Alternative method getter for field's End Date as Calendar
      * @see #getEndDateAsCalendar()
@@ -151,7 +151,7 @@ public class Field30J extends Field implements Serializable {
      */
     public static Field30J newInstance(Field30J source) {
         Field30J cp = new Field30J();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field311 extends Field implements Serializable {
      */
     public static Field311 newInstance(Field311 source) {
         Field311 cp = new Field311();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
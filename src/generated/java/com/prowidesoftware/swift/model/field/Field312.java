@@ -143,7 +143,7 @@ public class Field312 extends Field implements Serializable {
      */
     public static Field312 newInstance(Field312 source) {
         Field312 cp = new Field312();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -145,7 +145,7 @@ public class Field313 extends Field implements Serializable {
      */
     public static Field313 newInstance(Field313 source) {
         Field313 cp = new Field313();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -152,7 +152,7 @@ public class Field31R extends Field implements Serializable, DateContainer {
      */
     public static Field31R newInstance(Field31R source) {
         Field31R cp = new Field31R();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -360,6 +360,16 @@ public class Field31R extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getDate2(getComponent(1));
     }
 
+    /**
+     * Get the component 1 as LocalDate
+     *
+     * @return the component 1 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getComponent1AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate2(getComponent(1));
+    }
+
     /**
      * Gets the Date 1 (component 1).
      * @return the Date 1 from component 1
@@ -376,6 +386,15 @@ public class Field31R extends Field implements Serializable, DateContainer {
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Date 1 (component 1) as LocalDate
+     * @return the Date 1 from component 1 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getDate1AsLocalDate() {
+        return getComponent1AsLocalDate();
+    }
+
     /**
      * Gets the component 2 (Date 2).
      * @return the component 2
@@ -393,6 +412,16 @@ public class Field31R extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getDate2(getComponent(2));
     }
 
+    /**
+     * Get the component 2 as LocalDate
+     *
+     * @return the component 2 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getComponent2AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate2(getComponent(2));
+    }
+
     /**
      * Gets the Date 2 (component 2).
      * @return the Date 2 from component 2
@@ -409,6 +438,15 @@ public class Field31R extends Field implements Serializable, DateContainer {
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Date 2 (component 2) as LocalDate
+     * @return the Date 2 from component 2 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getDate2AsLocalDate() {
+        return getComponent2AsLocalDate();
+    }
+
     /**
      * Set the component 1 (Date 1).
      *
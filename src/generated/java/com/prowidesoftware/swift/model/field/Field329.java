@@ -143,7 +143,7 @@ public class Field329 extends Field implements Serializable {
      */
     public static Field329 newInstance(Field329 source) {
         Field329 cp = new Field329();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -160,7 +160,7 @@ public class Field32B extends Field implements Serializable, MonetaryAmountConta
      */
     public static Field32B newInstance(Field32B source) {
         Field32B cp = new Field32B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
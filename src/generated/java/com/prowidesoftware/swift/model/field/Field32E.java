@@ -146,7 +146,7 @@ public class Field32E extends Field implements Serializable, CurrencyContainer {
      */
     public static Field32E newInstance(Field32E source) {
         Field32E cp = new Field32E();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
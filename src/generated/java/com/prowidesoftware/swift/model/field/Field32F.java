@@ -153,7 +153,7 @@ public class Field32F extends Field implements Serializable, AmountContainer {
      */
     public static Field32F newInstance(Field32F source) {
         Field32F cp = new Field32F();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -154,7 +154,7 @@ public class Field32G extends Field implements Serializable, MonetaryAmountConta
      */
     public static Field32G newInstance(Field32G source) {
         Field32G cp = new Field32G();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
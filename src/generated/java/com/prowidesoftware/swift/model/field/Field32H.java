@@ -160,7 +160,7 @@ public class Field32H extends Field implements Serializable, MonetaryAmountConta
      */
     public static Field32H newInstance(Field32H source) {
         Field32H cp = new Field32H();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
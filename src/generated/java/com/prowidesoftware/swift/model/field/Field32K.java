@@ -180,7 +180,7 @@ public class Field32K extends Field implements Serializable, MonetaryAmountConta
      */
     public static Field32K newInstance(Field32K source) {
         Field32K cp = new Field32K();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
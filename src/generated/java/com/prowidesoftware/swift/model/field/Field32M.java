@@ -154,7 +154,7 @@ public class Field32M extends Field implements Serializable, MonetaryAmountConta
      */
     public static Field32M newInstance(Field32M source) {
         Field32M cp = new Field32M();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
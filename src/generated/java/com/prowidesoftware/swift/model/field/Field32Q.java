@@ -152,7 +152,7 @@ public class Field32Q extends Field implements Serializable, CurrencyContainer {
      */
     public static Field32Q newInstance(Field32Q source) {
         Field32Q cp = new Field32Q();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -159,7 +159,7 @@ public class Field32R extends Field implements Serializable, AmountContainer {
      */
     public static Field32R newInstance(Field32R source) {
         Field32R cp = new Field32R();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -154,7 +154,7 @@ public class Field32U extends Field implements Serializable, MonetaryAmountConta
      */
     public static Field32U newInstance(Field32U source) {
         Field32U cp = new Field32U();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -175,7 +175,7 @@ public class Field330 extends Field implements Serializable {
      */
     public static Field330 newInstance(Field330 source) {
         Field330 cp = new Field330();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
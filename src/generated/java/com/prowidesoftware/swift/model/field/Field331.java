@@ -214,7 +214,7 @@ public class Field331 extends Field implements Serializable, DateContainer {
      */
     public static Field331 newInstance(Field331 source) {
         Field331 cp = new Field331();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -570,6 +570,16 @@ public class Field331 extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getDate2(getComponent(2));
     }
 
+    /**
+     * Get the component 2 as LocalDate
+     *
+     * @return the component 2 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getComponent2AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate2(getComponent(2));
+    }
+
     /**
      * Gets the Date Session Opened (component 2).
      * @return the Date Session Opened from component 2
@@ -586,6 +596,15 @@ public class Field331 extends Field implements Serializable, DateContainer {
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Date Session Opened (component 2) as LocalDate
+     * @return the Date Session Opened from component 2 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getDateSessionOpenedAsLocalDate() {
+        return getComponent2AsLocalDate();
+    }
+
     /**
      * Gets the component 3 (Time Session Opened).
      * @return the component 3
@@ -603,6 +622,16 @@ public class Field331 extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getTime3(getComponent(3));
     }
 
+    /**
+     * Get the component 3 as LocalTime
+     *
+     * @return the component 3 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent3AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime3(getComponent(3));
+    }
+
     /**
      * Gets the Time Session Opened (component 3).
      * @return the Time Session Opened from component 3
@@ -619,6 +648,15 @@ public class Field331 extends Field implements Serializable, DateContainer {
         return getComponent3AsCalendar();
     }
 
+    /**
+     * Get the Time Session Opened (component 3) as LocalTime
+     * @return the Time Session Opened from component 3 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getTimeSessionOpenedAsLocalTime() {
+        return getComponent3AsLocalTime();
+    }
+
     /**
      * Gets the component 4 (Date Session Closed).
      * @return the component 4
@@ -636,6 +674,16 @@ public class Field331 extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getDate2(getComponent(4));
     }
 
+    /**
+     * Get the component 4 as LocalDate
+     *
+     * @return the component 4 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getComponent4AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate2(getComponent(4));
+    }
+
     /**
      * Gets the Date Session Closed (component 4).
      * @return the Date Session Closed from component 4
@@ -652,6 +700,15 @@ public class Field331 extends Field implements Serializable, DateContainer {
         return getComponent4AsCalendar();
     }
 
+    /**
+     * Get the Date Session Closed (component 4) as LocalDate
+     * @return the Date Session Closed from component 4 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getDateSessionClosedAsLocalDate() {
+        return getComponent4AsLocalDate();
+    }
+
     /**
      * Gets the component 5 (Time Session Closed).
      * @return the component 5
@@ -669,6 +726,16 @@ public class Field331 extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getTime3(getComponent(5));
     }
 
+    /**
+     * Get the component 5 as LocalTime
+     *
+     * @return the component 5 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent5AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime3(getComponent(5));
+    }
+
     /**
      * Gets the Time Session Closed (component 5).
      * @return the Time Session Closed from component 5
@@ -685,6 +752,15 @@ public class Field331 extends Field implements Serializable, DateContainer {
         return getComponent5AsCalendar();
     }
 
+    /**
+     * Get the Time Session Closed (component 5) as LocalTime
+     * @return the Time Session Closed from component 5 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getTimeSessionClosedAsLocalTime() {
+        return getComponent5AsLocalTime();
+    }
+
     /**
      * Gets the component 6 (Reason For Closure).
      * @return the component 6
@@ -151,7 +151,7 @@ public class Field332 extends Field implements Serializable {
      */
     public static Field332 newInstance(Field332 source) {
         Field332 cp = new Field332();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -190,7 +190,7 @@ public class Field333 extends Field implements Serializable, DateContainer {
      */
     public static Field333 newInstance(Field333 source) {
         Field333 cp = new Field333();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -460,6 +460,16 @@ public class Field333 extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getDate2(getComponent(1));
     }
 
+    /**
+     * Get the component 1 as LocalDate
+     *
+     * @return the component 1 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getComponent1AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate2(getComponent(1));
+    }
+
     /**
      * Gets the Date Last Session Opened (component 1).
      * @return the Date Last Session Opened from component 1
@@ -476,6 +486,15 @@ public class Field333 extends Field implements Serializable, DateContainer {
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Date Last Session Opened (component 1) as LocalDate
+     * @return the Date Last Session Opened from component 1 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getDateLastSessionOpenedAsLocalDate() {
+        return getComponent1AsLocalDate();
+    }
+
     /**
      * Gets the component 2 (Time Last Session Opened).
      * @return the component 2
@@ -493,6 +512,16 @@ public class Field333 extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getTime3(getComponent(2));
     }
 
+    /**
+     * Get the component 2 as LocalTime
+     *
+     * @return the component 2 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent2AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime3(getComponent(2));
+    }
+
     /**
      * Gets the Time Last Session Opened (component 2).
      * @return the Time Last Session Opened from component 2
@@ -509,6 +538,15 @@ public class Field333 extends Field implements Serializable, DateContainer {
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Time Last Session Opened (component 2) as LocalTime
+     * @return the Time Last Session Opened from component 2 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getTimeLastSessionOpenedAsLocalTime() {
+        return getComponent2AsLocalTime();
+    }
+
     /**
      * Gets the component 3 (Session Number).
      * @return the component 3
@@ -592,6 +630,16 @@ public class Field333 extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getDate2(getComponent(4));
     }
 
+    /**
+     * Get the component 4 as LocalDate
+     *
+     * @return the component 4 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getComponent4AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate2(getComponent(4));
+    }
+
     /**
      * Gets the Date Last Session Closed (component 4).
      * @return the Date Last Session Closed from component 4
@@ -608,6 +656,15 @@ public class Field333 extends Field implements Serializable, DateContainer {
         return getComponent4AsCalendar();
     }
 
+    /**
+     * Get the Date Last Session Closed (component 4) as LocalDate
+     * @return the Date Last Session Closed from component 4 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getDateLastSessionClosedAsLocalDate() {
+        return getComponent4AsLocalDate();
+    }
+
     /**
      * Gets the component 5 (Time Last Session Closed).
      * @return the component 5
@@ -625,6 +682,16 @@ public class Field333 extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getTime3(getComponent(5));
     }
 
+    /**
+     * Get the component 5 as LocalTime
+     *
+     * @return the component 5 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent5AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime3(getComponent(5));
+    }
+
     /**
      * Gets the Time Last Session Closed (component 5).
      * @return the Time Last Session Closed from component 5
@@ -641,6 +708,15 @@ public class Field333 extends Field implements Serializable, DateContainer {
         return getComponent5AsCalendar();
     }
 
+    /**
+     * Get the Time Last Session Closed (component 5) as LocalTime
+     * @return the Time Last Session Closed from component 5 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getTimeLastSessionClosedAsLocalTime() {
+        return getComponent5AsLocalTime();
+    }
+
     /**
      * Gets the component 6 (Reason For Closure).
      * @return the component 6
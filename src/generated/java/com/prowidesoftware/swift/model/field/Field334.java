@@ -150,7 +150,7 @@ public class Field334 extends Field implements Serializable {
      */
     public static Field334 newInstance(Field334 source) {
         Field334 cp = new Field334();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -366,6 +366,16 @@ public class Field334 extends Field implements Serializable {
         return SwiftFormatUtils.getTime3(getComponent(2));
     }
 
+    /**
+     * Get the component 2 as LocalTime
+     *
+     * @return the component 2 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent2AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime3(getComponent(2));
+    }
+
     /**
      * Gets the Delta Time (component 2).
      * @return the Delta Time from component 2
@@ -382,6 +392,15 @@ public class Field334 extends Field implements Serializable {
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Delta Time (component 2) as LocalTime
+     * @return the Delta Time from component 2 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getDeltaTimeAsLocalTime() {
+        return getComponent2AsLocalTime();
+    }
+
     /**
      * Set the component 1 (Region).
      *
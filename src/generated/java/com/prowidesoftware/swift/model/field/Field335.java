@@ -172,7 +172,7 @@ public class Field335 extends Field implements Serializable {
      */
     public static Field335 newInstance(Field335 source) {
         Field335 cp = new Field335();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -409,6 +409,16 @@ public class Field335 extends Field implements Serializable {
         return SwiftFormatUtils.getTime3(getComponent(1));
     }
 
+    /**
+     * Get the component 1 as LocalTime
+     *
+     * @return the component 1 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent1AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime3(getComponent(1));
+    }
+
     /**
      * Gets the Time Message Entered (component 1).
      * @return the Time Message Entered from component 1
@@ -425,6 +435,15 @@ public class Field335 extends Field implements Serializable {
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Time Message Entered (component 1) as LocalTime
+     * @return the Time Message Entered from component 1 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getTimeMessageEnteredAsLocalTime() {
+        return getComponent1AsLocalTime();
+    }
+
     /**
      * Gets the component 2 (MIR).
      * @return the component 2
@@ -524,6 +543,16 @@ public class Field335 extends Field implements Serializable {
         return SwiftFormatUtils.getTime3(getComponent(5));
     }
 
+    /**
+     * Get the component 5 as LocalTime
+     *
+     * @return the component 5 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent5AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime3(getComponent(5));
+    }
+
     /**
      * Gets the Time Last Delivery Attempt (component 5).
      * @return the Time Last Delivery Attempt from component 5
@@ -540,6 +569,15 @@ public class Field335 extends Field implements Serializable {
         return getComponent5AsCalendar();
     }
 
+    /**
+     * Get the Time Last Delivery Attempt (component 5) as LocalTime
+     * @return the Time Last Delivery Attempt from component 5 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getTimeLastDeliveryAttemptAsLocalTime() {
+        return getComponent5AsLocalTime();
+    }
+
     /**
      * Set the component 1 (Time Message Entered).
      *
@@ -157,7 +157,7 @@ public class Field336 extends Field implements Serializable {
      */
     public static Field336 newInstance(Field336 source) {
         Field336 cp = new Field336();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field337 extends Field implements Serializable {
      */
     public static Field337 newInstance(Field337 source) {
         Field337 cp = new Field337();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field338 extends Field implements Serializable {
      */
     public static Field338 newInstance(Field338 source) {
         Field338 cp = new Field338();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field339 extends Field implements Serializable {
      */
     public static Field339 newInstance(Field339 source) {
         Field339 cp = new Field339();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
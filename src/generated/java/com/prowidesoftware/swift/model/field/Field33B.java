@@ -159,7 +159,7 @@ public class Field33B extends Field implements Serializable, AmountContainer {
      */
     public static Field33B newInstance(Field33B source) {
         Field33B cp = new Field33B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -154,7 +154,7 @@ public class Field33E extends Field implements Serializable, MonetaryAmountConta
      */
     public static Field33E newInstance(Field33E source) {
         Field33E cp = new Field33E();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
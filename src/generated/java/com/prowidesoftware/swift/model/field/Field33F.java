@@ -154,7 +154,7 @@ public class Field33F extends Field implements Serializable, MonetaryAmountConta
      */
     public static Field33F newInstance(Field33F source) {
         Field33F cp = new Field33F();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
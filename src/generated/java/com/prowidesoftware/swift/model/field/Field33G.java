@@ -168,7 +168,7 @@ public class Field33G extends Field implements Serializable, MonetaryAmountConta
      */
     public static Field33G newInstance(Field33G source) {
         Field33G cp = new Field33G();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
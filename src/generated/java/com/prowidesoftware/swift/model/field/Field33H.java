@@ -154,7 +154,7 @@ public class Field33H extends Field implements Serializable, MonetaryAmountConta
      */
     public static Field33H newInstance(Field33H source) {
         Field33H cp = new Field33H();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -161,7 +161,7 @@ public class Field33J extends Field implements Serializable, AmountContainer {
      */
     public static Field33J newInstance(Field33J source) {
         Field33J cp = new Field33J();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -180,7 +180,7 @@ public class Field33K extends Field implements Serializable, MonetaryAmountConta
      */
     public static Field33K newInstance(Field33K source) {
         Field33K cp = new Field33K();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -161,7 +161,7 @@ public class Field33S extends Field implements Serializable, AmountContainer {
      */
     public static Field33S newInstance(Field33S source) {
         Field33S cp = new Field33S();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -161,7 +161,7 @@ public class Field33T extends Field implements Serializable, AmountContainer {
      */
     public static Field33T newInstance(Field33T source) {
         Field33T cp = new Field33T();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
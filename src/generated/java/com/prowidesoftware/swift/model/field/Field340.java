@@ -149,7 +149,7 @@ public class Field340 extends Field implements Serializable {
      */
     public static Field340 newInstance(Field340 source) {
         Field340 cp = new Field340();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
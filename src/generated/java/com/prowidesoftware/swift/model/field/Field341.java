@@ -143,7 +143,7 @@ public class Field341 extends Field implements Serializable {
      */
     public static Field341 newInstance(Field341 source) {
         Field341 cp = new Field341();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -163,7 +163,7 @@ public class Field343 extends Field implements Serializable {
      */
     public static Field343 newInstance(Field343 source) {
         Field343 cp = new Field343();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -151,7 +151,7 @@ public class Field344 extends Field implements Serializable {
      */
     public static Field344 newInstance(Field344 source) {
         Field344 cp = new Field344();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
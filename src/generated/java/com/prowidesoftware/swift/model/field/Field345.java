@@ -199,7 +199,7 @@ public class Field345 extends Field implements Serializable {
      */
     public static Field345 newInstance(Field345 source) {
         Field345 cp = new Field345();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
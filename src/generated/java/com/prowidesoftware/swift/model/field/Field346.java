@@ -197,7 +197,7 @@ public class Field346 extends Field implements Serializable {
      */
     public static Field346 newInstance(Field346 source) {
         Field346 cp = new Field346();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -197,7 +197,7 @@ public class Field347 extends Field implements Serializable {
      */
     public static Field347 newInstance(Field347 source) {
         Field347 cp = new Field347();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field348 extends Field implements Serializable {
      */
     public static Field348 newInstance(Field348 source) {
         Field348 cp = new Field348();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -145,7 +145,7 @@ public class Field349 extends Field implements Serializable {
      */
     public static Field349 newInstance(Field349 source) {
         Field349 cp = new Field349();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
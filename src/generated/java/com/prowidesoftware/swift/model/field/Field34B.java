@@ -154,7 +154,7 @@ public class Field34B extends Field implements Serializable, MonetaryAmountConta
      */
     public static Field34B newInstance(Field34B source) {
         Field34B cp = new Field34B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
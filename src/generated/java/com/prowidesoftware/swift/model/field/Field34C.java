@@ -182,7 +182,7 @@ public class Field34C extends Field implements Serializable, MonetaryAmountConta
      */
     public static Field34C newInstance(Field34C source) {
         Field34C cp = new Field34C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -153,7 +153,7 @@ public class Field34D extends Field implements Serializable, AmountContainer {
      */
     public static Field34D newInstance(Field34D source) {
         Field34D cp = new Field34D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -160,7 +160,7 @@ public class Field34E extends Field implements Serializable, MonetaryAmountConta
      */
     public static Field34E newInstance(Field34E source) {
         Field34E cp = new Field34E();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -160,7 +160,7 @@ public class Field34F extends Field implements Serializable, MonetaryAmountConta
      */
     public static Field34F newInstance(Field34F source) {
         Field34F cp = new Field34F();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
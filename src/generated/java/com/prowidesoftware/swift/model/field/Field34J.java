@@ -167,7 +167,7 @@ public class Field34J extends Field implements Serializable, AmountContainer {
      */
     public static Field34J newInstance(Field34J source) {
         Field34J cp = new Field34J();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -153,7 +153,7 @@ public class Field34K extends Field implements Serializable, AmountContainer {
      */
     public static Field34K newInstance(Field34K source) {
         Field34K cp = new Field34K();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
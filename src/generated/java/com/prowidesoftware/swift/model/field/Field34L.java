@@ -153,7 +153,7 @@ public class Field34L extends Field implements Serializable, AmountContainer {
      */
     public static Field34L newInstance(Field34L source) {
         Field34L cp = new Field34L();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
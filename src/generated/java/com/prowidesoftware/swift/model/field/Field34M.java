@@ -153,7 +153,7 @@ public class Field34M extends Field implements Serializable, AmountContainer {
      */
     public static Field34M newInstance(Field34M source) {
         Field34M cp = new Field34M();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
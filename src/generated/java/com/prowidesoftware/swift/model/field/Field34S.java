@@ -153,7 +153,7 @@ public class Field34S extends Field implements Serializable, AmountContainer {
      */
     public static Field34S newInstance(Field34S source) {
         Field34S cp = new Field34S();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -153,7 +153,7 @@ public class Field34T extends Field implements Serializable, AmountContainer {
      */
     public static Field34T newInstance(Field34T source) {
         Field34T cp = new Field34T();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -153,7 +153,7 @@ public class Field34U extends Field implements Serializable, AmountContainer {
      */
     public static Field34U newInstance(Field34U source) {
         Field34U cp = new Field34U();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
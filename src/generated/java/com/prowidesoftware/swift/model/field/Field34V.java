@@ -153,7 +153,7 @@ public class Field34V extends Field implements Serializable, AmountContainer {
      */
     public static Field34V newInstance(Field34V source) {
         Field34V cp = new Field34V();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -153,7 +153,7 @@ public class Field34W extends Field implements Serializable, AmountContainer {
      */
     public static Field34W newInstance(Field34W source) {
         Field34W cp = new Field34W();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -153,7 +153,7 @@ public class Field34X extends Field implements Serializable, AmountContainer {
      */
     public static Field34X newInstance(Field34X source) {
         Field34X cp = new Field34X();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
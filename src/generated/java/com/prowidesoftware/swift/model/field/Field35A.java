@@ -169,7 +169,7 @@ public class Field35A extends Field implements Serializable, AmountContainer {
      */
     public static Field35A newInstance(Field35A source) {
         Field35A cp = new Field35A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
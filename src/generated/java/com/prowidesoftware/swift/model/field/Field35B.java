@@ -183,7 +183,7 @@ public class Field35B extends Field implements Serializable, MultiLineField {
      */
     public static Field35B newInstance(Field35B source) {
         Field35B cp = new Field35B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
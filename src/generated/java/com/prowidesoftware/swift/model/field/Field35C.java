@@ -149,7 +149,7 @@ public class Field35C extends Field implements Serializable {
      */
     public static Field35C newInstance(Field35C source) {
         Field35C cp = new Field35C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
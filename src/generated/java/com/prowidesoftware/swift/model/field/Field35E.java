@@ -149,7 +149,7 @@ public class Field35E extends Field implements Serializable, MultiLineField {
      */
     public static Field35E newInstance(Field35E source) {
         Field35E cp = new Field35E();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -155,7 +155,7 @@ public class Field35G extends Field implements Serializable, MultiLineField {
      */
     public static Field35G newInstance(Field35G source) {
         Field35G cp = new Field35G();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -167,7 +167,7 @@ public class Field35H extends Field implements Serializable, AmountContainer {
      */
     public static Field35H newInstance(Field35H source) {
         Field35H cp = new Field35H();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
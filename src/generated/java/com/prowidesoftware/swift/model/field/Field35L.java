@@ -147,7 +147,7 @@ public class Field35L extends Field implements Serializable, MultiLineField {
      */
     public static Field35L newInstance(Field35L source) {
         Field35L cp = new Field35L();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -169,7 +169,7 @@ public class Field35N extends Field implements Serializable, AmountContainer {
      */
     public static Field35N newInstance(Field35N source) {
         Field35N cp = new Field35N();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -169,7 +169,7 @@ public class Field35S extends Field implements Serializable, AmountContainer {
      */
     public static Field35S newInstance(Field35S source) {
         Field35S cp = new Field35S();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
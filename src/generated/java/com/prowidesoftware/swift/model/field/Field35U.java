@@ -167,7 +167,7 @@ public class Field35U extends Field implements Serializable, AmountContainer {
      */
     public static Field35U newInstance(Field35U source) {
         Field35U cp = new Field35U();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -147,7 +147,7 @@ public class Field36 extends Field implements Serializable, AmountContainer {
      */
     public static Field36 newInstance(Field36 source) {
         Field36 cp = new Field36();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
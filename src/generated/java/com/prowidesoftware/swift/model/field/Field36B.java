@@ -160,7 +160,7 @@ public class Field36B extends Field implements Serializable, AmountContainer, Ge
      */
     public static Field36B newInstance(Field36B source) {
         Field36B cp = new Field36B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -158,7 +158,7 @@ public class Field36C extends Field implements Serializable, GenericField {
      */
     public static Field36C newInstance(Field36C source) {
         Field36C cp = new Field36C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
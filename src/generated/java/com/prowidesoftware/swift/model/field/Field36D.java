@@ -158,7 +158,7 @@ public class Field36D extends Field implements Serializable, GenericField {
      */
     public static Field36D newInstance(Field36D source) {
         Field36D cp = new Field36D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
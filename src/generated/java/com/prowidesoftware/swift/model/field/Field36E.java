@@ -174,7 +174,7 @@ public class Field36E extends Field implements Serializable, AmountContainer, Ge
      */
     public static Field36E newInstance(Field36E source) {
         Field36E cp = new Field36E();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
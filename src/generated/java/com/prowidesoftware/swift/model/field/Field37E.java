@@ -198,7 +198,7 @@ public class Field37E extends Field implements Serializable, AmountContainer, Da
      */
     public static Field37E newInstance(Field37E source) {
         Field37E cp = new Field37E();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -518,6 +518,16 @@ public class Field37E extends Field implements Serializable, AmountContainer, Da
         return SwiftFormatUtils.getDate2(getComponent(2));
     }
 
+    /**
+     * Get the component 2 as LocalDate
+     *
+     * @return the component 2 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getComponent2AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate2(getComponent(2));
+    }
+
     /**
      * Gets the End Date (component 2).
      * @return the End Date from component 2
@@ -545,6 +555,15 @@ public class Field37E extends Field implements Serializable, AmountContainer, Da
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the End Date (component 2) as LocalDate
+     * @return the End Date from component 2 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getEndDateAsLocalDate() {
+        return getComponent2AsLocalDate();
+    }
+
     /**
      * Alternative <em>DEPRECATED</em> method getter for field's End Date as Calendar
      * @see #getEndDateAsCalendar()
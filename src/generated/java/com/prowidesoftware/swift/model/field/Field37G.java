@@ -153,7 +153,7 @@ public class Field37G extends Field implements Serializable, AmountContainer {
      */
     public static Field37G newInstance(Field37G source) {
         Field37G cp = new Field37G();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
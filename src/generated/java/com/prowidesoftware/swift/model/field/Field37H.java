@@ -167,7 +167,7 @@ public class Field37H extends Field implements Serializable, AmountContainer {
      */
     public static Field37H newInstance(Field37H source) {
         Field37H cp = new Field37H();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -147,7 +147,7 @@ public class Field37J extends Field implements Serializable, AmountContainer {
      */
     public static Field37J newInstance(Field37J source) {
         Field37J cp = new Field37J();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
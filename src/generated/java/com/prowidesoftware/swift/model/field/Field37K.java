@@ -153,7 +153,7 @@ public class Field37K extends Field implements Serializable, AmountContainer {
      */
     public static Field37K newInstance(Field37K source) {
         Field37K cp = new Field37K();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -147,7 +147,7 @@ public class Field37L extends Field implements Serializable, AmountContainer {
      */
     public static Field37L newInstance(Field37L source) {
         Field37L cp = new Field37L();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -153,7 +153,7 @@ public class Field37M extends Field implements Serializable, AmountContainer {
      */
     public static Field37M newInstance(Field37M source) {
         Field37M cp = new Field37M();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -128,7 +128,7 @@ public class Field37N extends StructuredNarrativeField implements Serializable,
      */
     public static Field37N newInstance(Field37N source) {
         Field37N cp = new Field37N();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -147,7 +147,7 @@ public class Field37P extends Field implements Serializable, AmountContainer {
      */
     public static Field37P newInstance(Field37P source) {
         Field37P cp = new Field37P();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
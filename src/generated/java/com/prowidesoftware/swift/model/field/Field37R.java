@@ -153,7 +153,7 @@ public class Field37R extends Field implements Serializable, AmountContainer {
      */
     public static Field37R newInstance(Field37R source) {
         Field37R cp = new Field37R();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -147,7 +147,7 @@ public class Field37U extends Field implements Serializable, AmountContainer {
      */
     public static Field37U newInstance(Field37U source) {
         Field37U cp = new Field37U();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
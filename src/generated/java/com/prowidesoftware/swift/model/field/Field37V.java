@@ -153,7 +153,7 @@ public class Field37V extends Field implements Serializable, AmountContainer {
      */
     public static Field37V newInstance(Field37V source) {
         Field37V cp = new Field37V();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -153,7 +153,7 @@ public class Field38A extends Field implements Serializable {
      */
     public static Field38A newInstance(Field38A source) {
         Field38A cp = new Field38A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -153,7 +153,7 @@ public class Field38D extends Field implements Serializable {
      */
     public static Field38D newInstance(Field38D source) {
         Field38D cp = new Field38D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
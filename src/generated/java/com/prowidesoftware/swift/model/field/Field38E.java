@@ -151,7 +151,7 @@ public class Field38E extends Field implements Serializable {
      */
     public static Field38E newInstance(Field38E source) {
         Field38E cp = new Field38E();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
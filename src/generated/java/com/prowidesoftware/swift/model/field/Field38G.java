@@ -163,7 +163,7 @@ public class Field38G extends Field implements Serializable {
      */
     public static Field38G newInstance(Field38G source) {
         Field38G cp = new Field38G();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -163,7 +163,7 @@ public class Field38H extends Field implements Serializable {
      */
     public static Field38H newInstance(Field38H source) {
         Field38H cp = new Field38H();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -159,7 +159,7 @@ public class Field38J extends Field implements Serializable {
      */
     public static Field38J newInstance(Field38J source) {
         Field38J cp = new Field38J();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -151,7 +151,7 @@ public class Field39A extends Field implements Serializable {
      */
     public static Field39A newInstance(Field39A source) {
         Field39A cp = new Field39A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
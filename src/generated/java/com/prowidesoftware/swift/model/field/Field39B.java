@@ -143,7 +143,7 @@ public class Field39B extends Field implements Serializable {
      */
     public static Field39B newInstance(Field39B source) {
         Field39B cp = new Field39B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
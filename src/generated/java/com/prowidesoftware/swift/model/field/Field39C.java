@@ -147,7 +147,7 @@ public class Field39C extends Field implements Serializable, MultiLineField {
      */
     public static Field39C newInstance(Field39C source) {
         Field39C cp = new Field39C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
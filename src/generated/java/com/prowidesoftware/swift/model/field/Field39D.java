@@ -155,7 +155,7 @@ public class Field39D extends Field implements Serializable, MultiLineField {
      */
     public static Field39D newInstance(Field39D source) {
         Field39D cp = new Field39D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
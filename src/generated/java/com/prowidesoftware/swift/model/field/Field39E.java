@@ -155,7 +155,7 @@ public class Field39E extends Field implements Serializable, MultiLineField {
      */
     public static Field39E newInstance(Field39E source) {
         Field39E cp = new Field39E();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field39M extends Field implements Serializable {
      */
     public static Field39M newInstance(Field39M source) {
         Field39M cp = new Field39M();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
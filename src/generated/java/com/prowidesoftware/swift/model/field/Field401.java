@@ -145,7 +145,7 @@ public class Field401 extends Field implements Serializable {
      */
     public static Field401 newInstance(Field401 source) {
         Field401 cp = new Field401();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -151,7 +151,7 @@ public class Field405 extends Field implements Serializable {
      */
     public static Field405 newInstance(Field405 source) {
         Field405 cp = new Field405();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field40A extends Field implements Serializable {
      */
     public static Field40A newInstance(Field40A source) {
         Field40A cp = new Field40A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -150,7 +150,7 @@ public class Field40B extends Field implements Serializable, MultiLineField {
      */
     public static Field40B newInstance(Field40B source) {
         Field40B cp = new Field40B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -149,7 +149,7 @@ public class Field40C extends Field implements Serializable {
      */
     public static Field40C newInstance(Field40C source) {
         Field40C cp = new Field40C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
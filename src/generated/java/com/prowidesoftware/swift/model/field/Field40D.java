@@ -143,7 +143,7 @@ public class Field40D extends Field implements Serializable {
      */
     public static Field40D newInstance(Field40D source) {
         Field40D cp = new Field40D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -149,7 +149,7 @@ public class Field40E extends Field implements Serializable {
      */
     public static Field40E newInstance(Field40E source) {
         Field40E cp = new Field40E();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
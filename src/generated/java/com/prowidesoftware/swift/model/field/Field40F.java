@@ -143,7 +143,7 @@ public class Field40F extends Field implements Serializable {
      */
     public static Field40F newInstance(Field40F source) {
         Field40F cp = new Field40F();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
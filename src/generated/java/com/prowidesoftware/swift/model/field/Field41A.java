@@ -161,7 +161,7 @@ public class Field41A extends Field implements Serializable, BICContainer, Multi
      */
     public static Field41A newInstance(Field41A source) {
         Field41A cp = new Field41A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -153,7 +153,7 @@ public class Field41D extends Field implements Serializable, MultiLineField {
      */
     public static Field41D newInstance(Field41D source) {
         Field41D cp = new Field41D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -154,7 +154,7 @@ public class Field41F extends Field implements Serializable, BICContainer {
      */
     public static Field41F newInstance(Field41F source) {
         Field41F cp = new Field41F();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -147,7 +147,7 @@ public class Field41G extends Field implements Serializable, MultiLineField {
      */
     public static Field41G newInstance(Field41G source) {
         Field41G cp = new Field41G();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field421 extends Field implements Serializable {
      */
     public static Field421 newInstance(Field421 source) {
         Field421 cp = new Field421();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
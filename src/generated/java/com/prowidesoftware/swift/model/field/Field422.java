@@ -161,7 +161,7 @@ public class Field422 extends Field implements Serializable {
      */
     public static Field422 newInstance(Field422 source) {
         Field422 cp = new Field422();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field423 extends Field implements Serializable {
      */
     public static Field423 newInstance(Field423 source) {
         Field423 cp = new Field423();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field424 extends Field implements Serializable {
      */
     public static Field424 newInstance(Field424 source) {
         Field424 cp = new Field424();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -177,7 +177,7 @@ public class Field425 extends Field implements Serializable {
      */
     public static Field425 newInstance(Field425 source) {
         Field425 cp = new Field425();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -123,7 +123,7 @@ public class Field42A extends OptionAPartyField implements Serializable, BICCont
      */
     public static Field42A newInstance(Field42A source) {
         Field42A cp = new Field42A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -146,7 +146,7 @@ public class Field42C extends Field implements Serializable, MultiLineField {
      */
     public static Field42C newInstance(Field42C source) {
         Field42C cp = new Field42C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
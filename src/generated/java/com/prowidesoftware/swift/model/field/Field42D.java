@@ -123,7 +123,7 @@ public class Field42D extends OptionDPartyField implements Serializable, MultiLi
      */
     public static Field42D newInstance(Field42D source) {
         Field42D cp = new Field42D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -147,7 +147,7 @@ public class Field42M extends Field implements Serializable, MultiLineField {
      */
     public static Field42M newInstance(Field42M source) {
         Field42M cp = new Field42M();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -147,7 +147,7 @@ public class Field42P extends Field implements Serializable, MultiLineField {
      */
     public static Field42P newInstance(Field42P source) {
         Field42P cp = new Field42P();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -145,7 +145,7 @@ public class Field431 extends Field implements Serializable {
      */
     public static Field431 newInstance(Field431 source) {
         Field431 cp = new Field431();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field432 extends Field implements Serializable {
      */
     public static Field432 newInstance(Field432 source) {
         Field432 cp = new Field432();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
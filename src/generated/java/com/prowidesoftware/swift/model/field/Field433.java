@@ -149,7 +149,7 @@ public class Field433 extends Field implements Serializable {
      */
     public static Field433 newInstance(Field433 source) {
         Field433 cp = new Field433();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -149,7 +149,7 @@ public class Field434 extends Field implements Serializable {
      */
     public static Field434 newInstance(Field434 source) {
         Field434 cp = new Field434();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
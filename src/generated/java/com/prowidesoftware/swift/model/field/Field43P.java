@@ -151,7 +151,7 @@ public class Field43P extends Field implements Serializable {
      */
     public static Field43P newInstance(Field43P source) {
         Field43P cp = new Field43P();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
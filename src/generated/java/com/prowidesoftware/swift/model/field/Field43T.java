@@ -151,7 +151,7 @@ public class Field43T extends Field implements Serializable {
      */
     public static Field43T newInstance(Field43T source) {
         Field43T cp = new Field43T();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field443 extends Field implements Serializable {
      */
     public static Field443 newInstance(Field443 source) {
         Field443 cp = new Field443();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
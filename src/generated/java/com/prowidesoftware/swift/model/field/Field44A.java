@@ -143,7 +143,7 @@ public class Field44A extends Field implements Serializable {
      */
     public static Field44A newInstance(Field44A source) {
         Field44A cp = new Field44A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field44B extends Field implements Serializable {
      */
     public static Field44B newInstance(Field44B source) {
         Field44B cp = new Field44B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -149,7 +149,7 @@ public class Field44D extends Field implements Serializable, MultiLineField {
      */
     public static Field44D newInstance(Field44D source) {
         Field44D cp = new Field44D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field44E extends Field implements Serializable {
      */
     public static Field44E newInstance(Field44E source) {
         Field44E cp = new Field44E();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field44F extends Field implements Serializable {
      */
     public static Field44F newInstance(Field44F source) {
         Field44F cp = new Field44F();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -149,7 +149,7 @@ public class Field44H extends Field implements Serializable {
      */
     public static Field44H newInstance(Field44H source) {
         Field44H cp = new Field44H();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -145,7 +145,7 @@ public class Field451 extends Field implements Serializable {
      */
     public static Field451 newInstance(Field451 source) {
         Field451 cp = new Field451();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
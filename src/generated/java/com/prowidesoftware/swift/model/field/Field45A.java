@@ -144,7 +144,7 @@ public class Field45A extends Field implements Serializable, MultiLineField {
      */
     public static Field45A newInstance(Field45A source) {
         Field45A cp = new Field45A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -128,7 +128,7 @@ public class Field45B extends StructuredNarrativeField implements Serializable,
      */
     public static Field45B newInstance(Field45B source) {
         Field45B cp = new Field45B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
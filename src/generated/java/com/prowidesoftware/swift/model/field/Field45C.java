@@ -144,7 +144,7 @@ public class Field45C extends Field implements Serializable, MultiLineField {
      */
     public static Field45C newInstance(Field45C source) {
         Field45C cp = new Field45C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
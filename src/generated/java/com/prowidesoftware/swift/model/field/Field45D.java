@@ -144,7 +144,7 @@ public class Field45D extends Field implements Serializable, MultiLineField {
      */
     public static Field45D newInstance(Field45D source) {
         Field45D cp = new Field45D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
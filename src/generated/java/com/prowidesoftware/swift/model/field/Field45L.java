@@ -144,7 +144,7 @@ public class Field45L extends Field implements Serializable, MultiLineField {
      */
     public static Field45L newInstance(Field45L source) {
         Field45L cp = new Field45L();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field461 extends Field implements Serializable {
      */
     public static Field461 newInstance(Field461 source) {
         Field461 cp = new Field461();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -144,7 +144,7 @@ public class Field46A extends Field implements Serializable, MultiLineField {
      */
     public static Field46A newInstance(Field46A source) {
         Field46A cp = new Field46A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -128,7 +128,7 @@ public class Field46B extends StructuredNarrativeField implements Serializable,
      */
     public static Field46B newInstance(Field46B source) {
         Field46B cp = new Field46B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -144,7 +144,7 @@ public class Field47A extends Field implements Serializable, MultiLineField {
      */
     public static Field47A newInstance(Field47A source) {
         Field47A cp = new Field47A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
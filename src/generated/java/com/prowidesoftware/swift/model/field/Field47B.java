@@ -128,7 +128,7 @@ public class Field47B extends StructuredNarrativeField implements Serializable,
      */
     public static Field47B newInstance(Field47B source) {
         Field47B cp = new Field47B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
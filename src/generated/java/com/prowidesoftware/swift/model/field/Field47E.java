@@ -144,7 +144,7 @@ public class Field47E extends Field implements Serializable, MultiLineField {
      */
     public static Field47E newInstance(Field47E source) {
         Field47E cp = new Field47E();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -151,7 +151,7 @@ public class Field48 extends Field implements Serializable {
      */
     public static Field48 newInstance(Field48 source) {
         Field48 cp = new Field48();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
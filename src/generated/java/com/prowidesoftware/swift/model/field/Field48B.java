@@ -143,7 +143,7 @@ public class Field48B extends Field implements Serializable {
      */
     public static Field48B newInstance(Field48B source) {
         Field48B cp = new Field48B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field48D extends Field implements Serializable {
      */
     public static Field48D newInstance(Field48D source) {
         Field48D cp = new Field48D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
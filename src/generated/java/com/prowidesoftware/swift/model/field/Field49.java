@@ -143,7 +143,7 @@ public class Field49 extends Field implements Serializable {
      */
     public static Field49 newInstance(Field49 source) {
         Field49 cp = new Field49();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
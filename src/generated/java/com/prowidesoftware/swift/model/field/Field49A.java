@@ -158,7 +158,7 @@ public class Field49A extends Field implements Serializable, MultiLineField {
      */
     public static Field49A newInstance(Field49A source) {
         Field49A cp = new Field49A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
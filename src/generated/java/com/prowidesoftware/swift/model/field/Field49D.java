@@ -143,7 +143,7 @@ public class Field49D extends Field implements Serializable {
      */
     public static Field49D newInstance(Field49D source) {
         Field49D cp = new Field49D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
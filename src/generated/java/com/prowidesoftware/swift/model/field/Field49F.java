@@ -144,7 +144,7 @@ public class Field49F extends Field implements Serializable, MultiLineField {
      */
     public static Field49F newInstance(Field49F source) {
         Field49F cp = new Field49F();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
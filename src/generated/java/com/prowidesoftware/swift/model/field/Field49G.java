@@ -144,7 +144,7 @@ public class Field49G extends Field implements Serializable, MultiLineField {
      */
     public static Field49G newInstance(Field49G source) {
         Field49G cp = new Field49G();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -144,7 +144,7 @@ public class Field49H extends Field implements Serializable, MultiLineField {
      */
     public static Field49H newInstance(Field49H source) {
         Field49H cp = new Field49H();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
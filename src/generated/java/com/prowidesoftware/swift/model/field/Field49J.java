@@ -144,7 +144,7 @@ public class Field49J extends Field implements Serializable, MultiLineField {
      */
     public static Field49J newInstance(Field49J source) {
         Field49J cp = new Field49J();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -144,7 +144,7 @@ public class Field49K extends Field implements Serializable, MultiLineField {
      */
     public static Field49K newInstance(Field49K source) {
         Field49K cp = new Field49K();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
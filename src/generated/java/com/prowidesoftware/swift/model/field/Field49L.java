@@ -144,7 +144,7 @@ public class Field49L extends Field implements Serializable, MultiLineField {
      */
     public static Field49L newInstance(Field49L source) {
         Field49L cp = new Field49L();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
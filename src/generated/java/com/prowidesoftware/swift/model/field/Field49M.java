@@ -128,7 +128,7 @@ public class Field49M extends StructuredNarrativeField implements Serializable,
      */
     public static Field49M newInstance(Field49M source) {
         Field49M cp = new Field49M();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -128,7 +128,7 @@ public class Field49N extends StructuredNarrativeField implements Serializable,
      */
     public static Field49N newInstance(Field49N source) {
         Field49N cp = new Field49N();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -144,7 +144,7 @@ public class Field49Z extends Field implements Serializable, MultiLineField {
      */
     public static Field49Z newInstance(Field49Z source) {
         Field49Z cp = new Field49Z();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
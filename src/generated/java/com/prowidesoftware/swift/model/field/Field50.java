@@ -147,7 +147,7 @@ public class Field50 extends Field implements Serializable, MultiLineField {
      */
     public static Field50 newInstance(Field50 source) {
         Field50 cp = new Field50();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field503 extends Field implements Serializable {
      */
     public static Field503 newInstance(Field503 source) {
         Field503 cp = new Field503();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
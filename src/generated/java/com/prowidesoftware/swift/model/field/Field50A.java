@@ -161,7 +161,7 @@ public class Field50A extends Field implements Serializable, BICContainer, Multi
      */
     public static Field50A newInstance(Field50A source) {
         Field50A cp = new Field50A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
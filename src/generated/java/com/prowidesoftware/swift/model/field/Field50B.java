@@ -147,7 +147,7 @@ public class Field50B extends Field implements Serializable, MultiLineField {
      */
     public static Field50B newInstance(Field50B source) {
         Field50B cp = new Field50B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
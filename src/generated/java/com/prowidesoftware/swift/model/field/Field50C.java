@@ -154,7 +154,7 @@ public class Field50C extends Field implements Serializable, BICContainer {
      */
     public static Field50C newInstance(Field50C source) {
         Field50C cp = new Field50C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
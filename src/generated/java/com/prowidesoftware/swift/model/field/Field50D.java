@@ -123,7 +123,7 @@ public class Field50D extends OptionDPartyField implements Serializable, MultiLi
      */
     public static Field50D newInstance(Field50D source) {
         Field50D cp = new Field50D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -194,7 +194,7 @@ public class Field50F extends Field implements Serializable, MultiLineField {
      */
     public static Field50F newInstance(Field50F source) {
         Field50F cp = new Field50F();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -122,7 +122,7 @@ public class Field50G extends OptionGPartyField implements Serializable, BICCont
      */
     public static Field50G newInstance(Field50G source) {
         Field50G cp = new Field50G();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -122,7 +122,7 @@ public class Field50H extends OptionHPartyField implements Serializable, MultiLi
      */
     public static Field50H newInstance(Field50H source) {
         Field50H cp = new Field50H();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
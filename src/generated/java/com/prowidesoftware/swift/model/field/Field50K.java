@@ -122,7 +122,7 @@ public class Field50K extends OptionKPartyField implements Serializable, MultiLi
      */
     public static Field50K newInstance(Field50K source) {
         Field50K cp = new Field50K();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
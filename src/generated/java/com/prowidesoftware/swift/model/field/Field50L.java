@@ -117,7 +117,7 @@ public class Field50L extends OptionLPartyField implements Serializable {
      */
     public static Field50L newInstance(Field50L source) {
         Field50L cp = new Field50L();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -147,7 +147,7 @@ public class Field51 extends Field implements Serializable, MultiLineField {
      */
     public static Field51 newInstance(Field51 source) {
         Field51 cp = new Field51();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
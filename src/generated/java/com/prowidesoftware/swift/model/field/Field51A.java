@@ -123,7 +123,7 @@ public class Field51A extends OptionAPartyField implements Serializable, BICCont
      */
     public static Field51A newInstance(Field51A source) {
         Field51A cp = new Field51A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
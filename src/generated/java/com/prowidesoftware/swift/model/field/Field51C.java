@@ -117,7 +117,7 @@ public class Field51C extends OptionCPartyField implements Serializable {
      */
     public static Field51C newInstance(Field51C source) {
         Field51C cp = new Field51C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -123,7 +123,7 @@ public class Field51D extends OptionDPartyField implements Serializable, MultiLi
      */
     public static Field51D newInstance(Field51D source) {
         Field51D cp = new Field51D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
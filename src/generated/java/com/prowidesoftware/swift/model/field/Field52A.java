@@ -123,7 +123,7 @@ public class Field52A extends OptionAPartyField implements Serializable, BICCont
      */
     public static Field52A newInstance(Field52A source) {
         Field52A cp = new Field52A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -120,7 +120,7 @@ public class Field52B extends OptionBPartyField implements Serializable, MultiLi
      */
     public static Field52B newInstance(Field52B source) {
         Field52B cp = new Field52B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
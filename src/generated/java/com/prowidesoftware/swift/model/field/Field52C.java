@@ -117,7 +117,7 @@ public class Field52C extends OptionCPartyField implements Serializable {
      */
     public static Field52C newInstance(Field52C source) {
         Field52C cp = new Field52C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
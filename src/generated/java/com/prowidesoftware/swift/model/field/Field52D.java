@@ -123,7 +123,7 @@ public class Field52D extends OptionDPartyField implements Serializable, MultiLi
      */
     public static Field52D newInstance(Field52D source) {
         Field52D cp = new Field52D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
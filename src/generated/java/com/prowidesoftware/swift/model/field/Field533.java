@@ -145,7 +145,7 @@ public class Field533 extends Field implements Serializable {
      */
     public static Field533 newInstance(Field533 source) {
         Field533 cp = new Field533();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
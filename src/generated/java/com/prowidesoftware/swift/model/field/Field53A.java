@@ -123,7 +123,7 @@ public class Field53A extends OptionAPartyField implements Serializable, BICCont
      */
     public static Field53A newInstance(Field53A source) {
         Field53A cp = new Field53A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
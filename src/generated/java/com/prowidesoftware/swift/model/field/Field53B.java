@@ -120,7 +120,7 @@ public class Field53B extends OptionBPartyField implements Serializable, MultiLi
      */
     public static Field53B newInstance(Field53B source) {
         Field53B cp = new Field53B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -117,7 +117,7 @@ public class Field53C extends OptionCPartyField implements Serializable {
      */
     public static Field53C newInstance(Field53C source) {
         Field53C cp = new Field53C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
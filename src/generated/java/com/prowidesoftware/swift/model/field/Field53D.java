@@ -123,7 +123,7 @@ public class Field53D extends OptionDPartyField implements Serializable, MultiLi
      */
     public static Field53D newInstance(Field53D source) {
         Field53D cp = new Field53D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -117,7 +117,7 @@ public class Field53J extends OptionJPartyField implements Serializable {
      */
     public static Field53J newInstance(Field53J source) {
         Field53J cp = new Field53J();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
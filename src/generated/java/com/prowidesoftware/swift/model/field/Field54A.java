@@ -123,7 +123,7 @@ public class Field54A extends OptionAPartyField implements Serializable, BICCont
      */
     public static Field54A newInstance(Field54A source) {
         Field54A cp = new Field54A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
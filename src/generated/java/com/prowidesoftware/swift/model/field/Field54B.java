@@ -120,7 +120,7 @@ public class Field54B extends OptionBPartyField implements Serializable, MultiLi
      */
     public static Field54B newInstance(Field54B source) {
         Field54B cp = new Field54B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -123,7 +123,7 @@ public class Field54D extends OptionDPartyField implements Serializable, MultiLi
      */
     public static Field54D newInstance(Field54D source) {
         Field54D cp = new Field54D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -123,7 +123,7 @@ public class Field55A extends OptionAPartyField implements Serializable, BICCont
      */
     public static Field55A newInstance(Field55A source) {
         Field55A cp = new Field55A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -120,7 +120,7 @@ public class Field55B extends OptionBPartyField implements Serializable, MultiLi
      */
     public static Field55B newInstance(Field55B source) {
         Field55B cp = new Field55B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -123,7 +123,7 @@ public class Field55D extends OptionDPartyField implements Serializable, MultiLi
      */
     public static Field55D newInstance(Field55D source) {
         Field55D cp = new Field55D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
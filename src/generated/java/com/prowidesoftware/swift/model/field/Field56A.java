@@ -123,7 +123,7 @@ public class Field56A extends OptionAPartyField implements Serializable, BICCont
      */
     public static Field56A newInstance(Field56A source) {
         Field56A cp = new Field56A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -120,7 +120,7 @@ public class Field56B extends OptionBPartyField implements Serializable, MultiLi
      */
     public static Field56B newInstance(Field56B source) {
         Field56B cp = new Field56B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
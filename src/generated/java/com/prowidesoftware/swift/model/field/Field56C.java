@@ -117,7 +117,7 @@ public class Field56C extends OptionCPartyField implements Serializable {
      */
     public static Field56C newInstance(Field56C source) {
         Field56C cp = new Field56C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
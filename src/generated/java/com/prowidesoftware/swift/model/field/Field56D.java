@@ -123,7 +123,7 @@ public class Field56D extends OptionDPartyField implements Serializable, MultiLi
      */
     public static Field56D newInstance(Field56D source) {
         Field56D cp = new Field56D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
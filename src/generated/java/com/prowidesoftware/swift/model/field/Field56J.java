@@ -117,7 +117,7 @@ public class Field56J extends OptionJPartyField implements Serializable {
      */
     public static Field56J newInstance(Field56J source) {
         Field56J cp = new Field56J();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -123,7 +123,7 @@ public class Field57A extends OptionAPartyField implements Serializable, BICCont
      */
     public static Field57A newInstance(Field57A source) {
         Field57A cp = new Field57A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -120,7 +120,7 @@ public class Field57B extends OptionBPartyField implements Serializable, MultiLi
      */
     public static Field57B newInstance(Field57B source) {
         Field57B cp = new Field57B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
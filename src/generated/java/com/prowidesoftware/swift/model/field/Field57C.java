@@ -117,7 +117,7 @@ public class Field57C extends OptionCPartyField implements Serializable {
      */
     public static Field57C newInstance(Field57C source) {
         Field57C cp = new Field57C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -123,7 +123,7 @@ public class Field57D extends OptionDPartyField implements Serializable, MultiLi
      */
     public static Field57D newInstance(Field57D source) {
         Field57D cp = new Field57D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -117,7 +117,7 @@ public class Field57J extends OptionJPartyField implements Serializable {
      */
     public static Field57J newInstance(Field57J source) {
         Field57J cp = new Field57J();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
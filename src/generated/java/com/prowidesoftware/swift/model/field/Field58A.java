@@ -123,7 +123,7 @@ public class Field58A extends OptionAPartyField implements Serializable, BICCont
      */
     public static Field58A newInstance(Field58A source) {
         Field58A cp = new Field58A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
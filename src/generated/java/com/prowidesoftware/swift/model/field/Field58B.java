@@ -120,7 +120,7 @@ public class Field58B extends OptionBPartyField implements Serializable, MultiLi
      */
     public static Field58B newInstance(Field58B source) {
         Field58B cp = new Field58B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -123,7 +123,7 @@ public class Field58D extends OptionDPartyField implements Serializable, MultiLi
      */
     public static Field58D newInstance(Field58D source) {
         Field58D cp = new Field58D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -117,7 +117,7 @@ public class Field58J extends OptionJPartyField implements Serializable {
      */
     public static Field58J newInstance(Field58J source) {
         Field58J cp = new Field58J();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
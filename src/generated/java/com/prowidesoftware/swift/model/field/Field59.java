@@ -153,7 +153,7 @@ public class Field59 extends Field implements Serializable, MultiLineField {
      */
     public static Field59 newInstance(Field59 source) {
         Field59 cp = new Field59();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -161,7 +161,7 @@ public class Field59A extends Field implements Serializable, BICContainer, Multi
      */
     public static Field59A newInstance(Field59A source) {
         Field59A cp = new Field59A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
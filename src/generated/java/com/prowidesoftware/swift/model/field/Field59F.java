@@ -194,7 +194,7 @@ public class Field59F extends Field implements Serializable, MultiLineField {
      */
     public static Field59F newInstance(Field59F source) {
         Field59F cp = new Field59F();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
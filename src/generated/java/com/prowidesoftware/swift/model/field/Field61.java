@@ -219,7 +219,7 @@ public class Field61 extends Field implements Serializable, AmountContainer, Dat
      */
     public static Field61 newInstance(Field61 source) {
         Field61 cp = new Field61();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -502,6 +502,16 @@ public class Field61 extends Field implements Serializable, AmountContainer, Dat
         return SwiftFormatUtils.getDate2(getComponent(1));
     }
 
+    /**
+     * Get the component 1 as LocalDate
+     *
+     * @return the component 1 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getComponent1AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate2(getComponent(1));
+    }
+
     /**
      * Gets the Value Date (component 1).
      * @return the Value Date from component 1
@@ -527,6 +537,15 @@ public class Field61 extends Field implements Serializable, AmountContainer, Dat
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Value Date (component 1) as LocalDate
+     * @return the Value Date from component 1 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getValueDateAsLocalDate() {
+        return getComponent1AsLocalDate();
+    }
+
     /**
      * Alternative method getter for field's Value Date as Calendar
      * @see #getValueDateAsCalendar()
@@ -553,6 +572,16 @@ public class Field61 extends Field implements Serializable, AmountContainer, Dat
         return SwiftFormatUtils.getMonthDay(getComponent(2));
     }
 
+    /**
+     * Get the component 2 as MonthDay
+     *
+     * @return the component 2 converted to MonthDay or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.MonthDay getComponent2AsMonthDay() {
+        return SwiftFormatUtils.getLocalMonthDay(getComponent(2));
+    }
+
     /**
      * Gets the Entry Date (component 2).
      * @return the Entry Date from component 2
@@ -569,6 +598,15 @@ public class Field61 extends Field implements Serializable, AmountContainer, Dat
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Entry Date (component 2) as MonthDay
+     * @return the Entry Date from component 2 converted to MonthDay or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.MonthDay getEntryDateAsMonthDay() {
+        return getComponent2AsMonthDay();
+    }
+
     /**
      * Gets the component 3 (Debit/Credit Mark).
      * @return the component 3
@@ -143,7 +143,7 @@ public class Field619 extends Field implements Serializable {
      */
     public static Field619 newInstance(Field619 source) {
         Field619 cp = new Field619();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -178,7 +178,7 @@ public class Field68A extends Field implements Serializable, MonetaryAmountConta
      */
     public static Field68A newInstance(Field68A source) {
         Field68A cp = new Field68A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -159,7 +159,7 @@ public class Field69A extends Field implements Serializable, DateContainer, Gene
      */
     public static Field69A newInstance(Field69A source) {
         Field69A cp = new Field69A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -390,6 +390,16 @@ public class Field69A extends Field implements Serializable, DateContainer, Gene
         return SwiftFormatUtils.getDate4(getComponent(2));
     }
 
+    /**
+     * Get the component 2 as LocalDate
+     *
+     * @return the component 2 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getComponent2AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate4(getComponent(2));
+    }
+
     /**
      * Gets the Date1 (component 2).
      * @return the Date1 from component 2
@@ -406,6 +416,15 @@ public class Field69A extends Field implements Serializable, DateContainer, Gene
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Date1 (component 2) as LocalDate
+     * @return the Date1 from component 2 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getDate1AsLocalDate() {
+        return getComponent2AsLocalDate();
+    }
+
     /**
      * Gets the component 3 (Date2).
      * @return the component 3
@@ -423,6 +442,16 @@ public class Field69A extends Field implements Serializable, DateContainer, Gene
         return SwiftFormatUtils.getDate4(getComponent(3));
     }
 
+    /**
+     * Get the component 3 as LocalDate
+     *
+     * @return the component 3 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getComponent3AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate4(getComponent(3));
+    }
+
     /**
      * Gets the Date2 (component 3).
      * @return the Date2 from component 3
@@ -439,6 +468,15 @@ public class Field69A extends Field implements Serializable, DateContainer, Gene
         return getComponent3AsCalendar();
     }
 
+    /**
+     * Get the Date2 (component 3) as LocalDate
+     * @return the Date2 from component 3 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getDate2AsLocalDate() {
+        return getComponent3AsLocalDate();
+    }
+
     /**
      * Set the component 1 (Qualifier).
      *
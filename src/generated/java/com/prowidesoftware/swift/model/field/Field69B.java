@@ -203,7 +203,7 @@ public class Field69B extends Field implements Serializable, DateContainer, Gene
      */
     public static Field69B newInstance(Field69B source) {
         Field69B cp = new Field69B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -472,6 +472,16 @@ public class Field69B extends Field implements Serializable, DateContainer, Gene
         return SwiftFormatUtils.getDate4(getComponent(2));
     }
 
+    /**
+     * Get the component 2 as LocalDate
+     *
+     * @return the component 2 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getComponent2AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate4(getComponent(2));
+    }
+
     /**
      * Gets the Date1 (component 2).
      * @return the Date1 from component 2
@@ -499,6 +509,15 @@ public class Field69B extends Field implements Serializable, DateContainer, Gene
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Date1 (component 2) as LocalDate
+     * @return the Date1 from component 2 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getDate1AsLocalDate() {
+        return getComponent2AsLocalDate();
+    }
+
     /**
      * Alternative <em>DEPRECATED</em> method getter for field's Date1 as Calendar
      * @see #getDate1AsCalendar()
@@ -526,6 +545,16 @@ public class Field69B extends Field implements Serializable, DateContainer, Gene
         return SwiftFormatUtils.getTime2(getComponent(3));
     }
 
+    /**
+     * Get the component 3 as LocalTime
+     *
+     * @return the component 3 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent3AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime2(getComponent(3));
+    }
+
     /**
      * Gets the Time1 (component 3).
      * @return the Time1 from component 3
@@ -553,6 +582,15 @@ public class Field69B extends Field implements Serializable, DateContainer, Gene
         return getComponent3AsCalendar();
     }
 
+    /**
+     * Get the Time1 (component 3) as LocalTime
+     * @return the Time1 from component 3 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getTime1AsLocalTime() {
+        return getComponent3AsLocalTime();
+    }
+
     /**
      * Alternative <em>DEPRECATED</em> method getter for field's Time1 as Calendar
      * @see #getTime1AsCalendar()
@@ -580,6 +618,16 @@ public class Field69B extends Field implements Serializable, DateContainer, Gene
         return SwiftFormatUtils.getDate4(getComponent(4));
     }
 
+    /**
+     * Get the component 4 as LocalDate
+     *
+     * @return the component 4 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getComponent4AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate4(getComponent(4));
+    }
+
     /**
      * Gets the Date2 (component 4).
      * @return the Date2 from component 4
@@ -607,6 +655,15 @@ public class Field69B extends Field implements Serializable, DateContainer, Gene
         return getComponent4AsCalendar();
     }
 
+    /**
+     * Get the Date2 (component 4) as LocalDate
+     * @return the Date2 from component 4 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getDate2AsLocalDate() {
+        return getComponent4AsLocalDate();
+    }
+
     /**
      * Alternative <em>DEPRECATED</em> method getter for field's Date2 as Calendar
      * @see #getDate2AsCalendar()
@@ -634,6 +691,16 @@ public class Field69B extends Field implements Serializable, DateContainer, Gene
         return SwiftFormatUtils.getTime2(getComponent(5));
     }
 
+    /**
+     * Get the component 5 as LocalTime
+     *
+     * @return the component 5 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent5AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime2(getComponent(5));
+    }
+
     /**
      * Gets the Time2 (component 5).
      * @return the Time2 from component 5
@@ -661,6 +728,15 @@ public class Field69B extends Field implements Serializable, DateContainer, Gene
         return getComponent5AsCalendar();
     }
 
+    /**
+     * Get the Time2 (component 5) as LocalTime
+     * @return the Time2 from component 5 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getTime2AsLocalTime() {
+        return getComponent5AsLocalTime();
+    }
+
     /**
      * Alternative <em>DEPRECATED</em> method getter for field's Time2 as Calendar
      * @see #getTime2AsCalendar()
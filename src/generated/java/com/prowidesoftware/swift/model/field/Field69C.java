@@ -159,7 +159,7 @@ public class Field69C extends Field implements Serializable, DateContainer, Gene
      */
     public static Field69C newInstance(Field69C source) {
         Field69C cp = new Field69C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -386,6 +386,16 @@ public class Field69C extends Field implements Serializable, DateContainer, Gene
         return SwiftFormatUtils.getDate4(getComponent(2));
     }
 
+    /**
+     * Get the component 2 as LocalDate
+     *
+     * @return the component 2 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getComponent2AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate4(getComponent(2));
+    }
+
     /**
      * Gets the Date (component 2).
      * @return the Date from component 2
@@ -402,6 +412,15 @@ public class Field69C extends Field implements Serializable, DateContainer, Gene
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Date (component 2) as LocalDate
+     * @return the Date from component 2 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getDateAsLocalDate() {
+        return getComponent2AsLocalDate();
+    }
+
     /**
      * Gets the component 3 (Date Code).
      * @return the component 3
@@ -165,7 +165,7 @@ public class Field69D extends Field implements Serializable, DateContainer, Gene
      */
     public static Field69D newInstance(Field69D source) {
         Field69D cp = new Field69D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -411,6 +411,16 @@ public class Field69D extends Field implements Serializable, DateContainer, Gene
         return SwiftFormatUtils.getDate4(getComponent(2));
     }
 
+    /**
+     * Get the component 2 as LocalDate
+     *
+     * @return the component 2 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getComponent2AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate4(getComponent(2));
+    }
+
     /**
      * Gets the Date (component 2).
      * @return the Date from component 2
@@ -427,6 +437,15 @@ public class Field69D extends Field implements Serializable, DateContainer, Gene
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Date (component 2) as LocalDate
+     * @return the Date from component 2 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getDateAsLocalDate() {
+        return getComponent2AsLocalDate();
+    }
+
     /**
      * Gets the component 3 (Time).
      * @return the component 3
@@ -444,6 +463,16 @@ public class Field69D extends Field implements Serializable, DateContainer, Gene
         return SwiftFormatUtils.getTime2(getComponent(3));
     }
 
+    /**
+     * Get the component 3 as LocalTime
+     *
+     * @return the component 3 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent3AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime2(getComponent(3));
+    }
+
     /**
      * Gets the Time (component 3).
      * @return the Time from component 3
@@ -460,6 +489,15 @@ public class Field69D extends Field implements Serializable, DateContainer, Gene
         return getComponent3AsCalendar();
     }
 
+    /**
+     * Get the Time (component 3) as LocalTime
+     * @return the Time from component 3 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getTimeAsLocalTime() {
+        return getComponent3AsLocalTime();
+    }
+
     /**
      * Gets the component 4 (Date Code).
      * @return the component 4
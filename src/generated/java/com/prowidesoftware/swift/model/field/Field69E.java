@@ -167,7 +167,7 @@ public class Field69E extends Field implements Serializable, DateContainer, Gene
      */
     public static Field69E newInstance(Field69E source) {
         Field69E cp = new Field69E();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -421,6 +421,16 @@ public class Field69E extends Field implements Serializable, DateContainer, Gene
         return SwiftFormatUtils.getDate4(getComponent(3));
     }
 
+    /**
+     * Get the component 3 as LocalDate
+     *
+     * @return the component 3 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getComponent3AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate4(getComponent(3));
+    }
+
     /**
      * Gets the Date (component 3).
      * @return the Date from component 3
@@ -437,6 +447,15 @@ public class Field69E extends Field implements Serializable, DateContainer, Gene
         return getComponent3AsCalendar();
     }
 
+    /**
+     * Get the Date (component 3) as LocalDate
+     * @return the Date from component 3 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getDateAsLocalDate() {
+        return getComponent3AsLocalDate();
+    }
+
     /**
      * Set the component 1 (Qualifier).
      *
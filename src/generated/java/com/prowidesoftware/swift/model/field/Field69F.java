@@ -173,7 +173,7 @@ public class Field69F extends Field implements Serializable, DateContainer, Gene
      */
     public static Field69F newInstance(Field69F source) {
         Field69F cp = new Field69F();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -446,6 +446,16 @@ public class Field69F extends Field implements Serializable, DateContainer, Gene
         return SwiftFormatUtils.getDate4(getComponent(3));
     }
 
+    /**
+     * Get the component 3 as LocalDate
+     *
+     * @return the component 3 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getComponent3AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate4(getComponent(3));
+    }
+
     /**
      * Gets the Date (component 3).
      * @return the Date from component 3
@@ -462,6 +472,15 @@ public class Field69F extends Field implements Serializable, DateContainer, Gene
         return getComponent3AsCalendar();
     }
 
+    /**
+     * Get the Date (component 3) as LocalDate
+     * @return the Date from component 3 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getDateAsLocalDate() {
+        return getComponent3AsLocalDate();
+    }
+
     /**
      * Gets the component 4 (Time).
      * @return the component 4
@@ -479,6 +498,16 @@ public class Field69F extends Field implements Serializable, DateContainer, Gene
         return SwiftFormatUtils.getTime2(getComponent(4));
     }
 
+    /**
+     * Get the component 4 as LocalTime
+     *
+     * @return the component 4 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent4AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime2(getComponent(4));
+    }
+
     /**
      * Gets the Time (component 4).
      * @return the Time from component 4
@@ -495,6 +524,15 @@ public class Field69F extends Field implements Serializable, DateContainer, Gene
         return getComponent4AsCalendar();
     }
 
+    /**
+     * Get the Time (component 4) as LocalTime
+     * @return the Time from component 4 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getTimeAsLocalTime() {
+        return getComponent4AsLocalTime();
+    }
+
     /**
      * Set the component 1 (Qualifier).
      *
@@ -158,7 +158,7 @@ public class Field69J extends Field implements Serializable, GenericField {
      */
     public static Field69J newInstance(Field69J source) {
         Field69J cp = new Field69J();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
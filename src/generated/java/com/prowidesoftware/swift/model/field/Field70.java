@@ -128,7 +128,7 @@ public class Field70 extends StructuredNarrativeField implements Serializable, N
      */
     public static Field70 newInstance(Field70 source) {
         Field70 cp = new Field70();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -154,7 +154,7 @@ public class Field70C extends Field implements Serializable, GenericField, Multi
      */
     public static Field70C newInstance(Field70C source) {
         Field70C cp = new Field70C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -156,7 +156,7 @@ public class Field70D extends Field implements Serializable, GenericField, Multi
      */
     public static Field70D newInstance(Field70D source) {
         Field70D cp = new Field70D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
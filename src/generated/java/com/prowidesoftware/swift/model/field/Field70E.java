@@ -160,7 +160,7 @@ public class Field70E extends Field implements Serializable, GenericField, Multi
      */
     public static Field70E newInstance(Field70E source) {
         Field70E cp = new Field70E();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -151,7 +151,7 @@ public class Field70F extends Field implements Serializable, GenericField, Multi
      */
     public static Field70F newInstance(Field70F source) {
         Field70F cp = new Field70F();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -160,7 +160,7 @@ public class Field70G extends Field implements Serializable, GenericField, Multi
      */
     public static Field70G newInstance(Field70G source) {
         Field70G cp = new Field70G();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -150,7 +150,7 @@ public class Field70H extends Field implements Serializable, GenericField {
      */
     public static Field70H newInstance(Field70H source) {
         Field70H cp = new Field70H();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
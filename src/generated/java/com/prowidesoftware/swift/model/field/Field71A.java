@@ -143,7 +143,7 @@ public class Field71A extends Field implements Serializable {
      */
     public static Field71A newInstance(Field71A source) {
         Field71A cp = new Field71A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
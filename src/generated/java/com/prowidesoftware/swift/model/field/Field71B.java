@@ -128,7 +128,7 @@ public class Field71B extends StructuredNarrativeField implements Serializable,
      */
     public static Field71B newInstance(Field71B source) {
         Field71B cp = new Field71B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -149,7 +149,7 @@ public class Field71C extends Field implements Serializable, MultiLineField {
      */
     public static Field71C newInstance(Field71C source) {
         Field71C cp = new Field71C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
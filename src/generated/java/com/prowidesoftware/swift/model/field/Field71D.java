@@ -128,7 +128,7 @@ public class Field71D extends StructuredNarrativeField implements Serializable,
      */
     public static Field71D newInstance(Field71D source) {
         Field71D cp = new Field71D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -154,7 +154,7 @@ public class Field71F extends Field implements Serializable, MonetaryAmountConta
      */
     public static Field71F newInstance(Field71F source) {
         Field71F cp = new Field71F();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
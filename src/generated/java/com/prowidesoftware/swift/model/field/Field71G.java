@@ -154,7 +154,7 @@ public class Field71G extends Field implements Serializable, MonetaryAmountConta
      */
     public static Field71G newInstance(Field71G source) {
         Field71G cp = new Field71G();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -155,7 +155,7 @@ public class Field71N extends Field implements Serializable, MultiLineField {
      */
     public static Field71N newInstance(Field71N source) {
         Field71N cp = new Field71N();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
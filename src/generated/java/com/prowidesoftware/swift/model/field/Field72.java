@@ -128,7 +128,7 @@ public class Field72 extends StructuredNarrativeField implements Serializable, N
      */
     public static Field72 newInstance(Field72 source) {
         Field72 cp = new Field72();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -128,7 +128,7 @@ public class Field72Z extends StructuredNarrativeField implements Serializable,
      */
     public static Field72Z newInstance(Field72Z source) {
         Field72Z cp = new Field72Z();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
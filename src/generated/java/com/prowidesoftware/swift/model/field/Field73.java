@@ -128,7 +128,7 @@ public class Field73 extends StructuredNarrativeField implements Serializable, N
      */
     public static Field73 newInstance(Field73 source) {
         Field73 cp = new Field73();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
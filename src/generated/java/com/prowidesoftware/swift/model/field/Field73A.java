@@ -128,7 +128,7 @@ public class Field73A extends StructuredNarrativeField implements Serializable,
      */
     public static Field73A newInstance(Field73A source) {
         Field73A cp = new Field73A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
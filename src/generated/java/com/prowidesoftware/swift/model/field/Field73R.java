@@ -149,7 +149,7 @@ public class Field73R extends Field implements Serializable {
      */
     public static Field73R newInstance(Field73R source) {
         Field73R cp = new Field73R();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -149,7 +149,7 @@ public class Field73S extends Field implements Serializable {
      */
     public static Field73S newInstance(Field73S source) {
         Field73S cp = new Field73S();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
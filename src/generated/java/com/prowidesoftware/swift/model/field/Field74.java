@@ -128,7 +128,7 @@ public class Field74 extends StructuredNarrativeField implements Serializable, N
      */
     public static Field74 newInstance(Field74 source) {
         Field74 cp = new Field74();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -128,7 +128,7 @@ public class Field75 extends StructuredNarrativeField implements Serializable, N
      */
     public static Field75 newInstance(Field75 source) {
         Field75 cp = new Field75();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
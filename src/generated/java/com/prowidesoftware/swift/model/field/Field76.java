@@ -128,7 +128,7 @@ public class Field76 extends StructuredNarrativeField implements Serializable, N
      */
     public static Field76 newInstance(Field76 source) {
         Field76 cp = new Field76();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -128,7 +128,7 @@ public class Field77 extends StructuredNarrativeField implements Serializable, N
      */
     public static Field77 newInstance(Field77 source) {
         Field77 cp = new Field77();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -128,7 +128,7 @@ public class Field77A extends StructuredNarrativeField implements Serializable,
      */
     public static Field77A newInstance(Field77A source) {
         Field77A cp = new Field77A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -128,7 +128,7 @@ public class Field77B extends StructuredNarrativeField implements Serializable,
      */
     public static Field77B newInstance(Field77B source) {
         Field77B cp = new Field77B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -144,7 +144,7 @@ public class Field77C extends Field implements Serializable, MultiLineField {
      */
     public static Field77C newInstance(Field77C source) {
         Field77C cp = new Field77C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -128,7 +128,7 @@ public class Field77D extends StructuredNarrativeField implements Serializable,
      */
     public static Field77D newInstance(Field77D source) {
         Field77D cp = new Field77D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
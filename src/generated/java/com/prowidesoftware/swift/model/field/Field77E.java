@@ -144,7 +144,7 @@ public class Field77E extends Field implements Serializable, MultiLineField {
      */
     public static Field77E newInstance(Field77E source) {
         Field77E cp = new Field77E();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -152,7 +152,7 @@ public class Field77F extends Field implements Serializable, MultiLineField {
      */
     public static Field77F newInstance(Field77F source) {
         Field77F cp = new Field77F();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
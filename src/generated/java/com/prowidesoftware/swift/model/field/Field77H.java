@@ -164,7 +164,7 @@ public class Field77H extends Field implements Serializable, DateContainer {
      */
     public static Field77H newInstance(Field77H source) {
         Field77H cp = new Field77H();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -407,6 +407,16 @@ public class Field77H extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getDate4(getComponent(2));
     }
 
+    /**
+     * Get the component 2 as LocalDate
+     *
+     * @return the component 2 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getComponent2AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate4(getComponent(2));
+    }
+
     /**
      * Gets the Date (component 2).
      * @return the Date from component 2
@@ -423,6 +433,15 @@ public class Field77H extends Field implements Serializable, DateContainer {
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Date (component 2) as LocalDate
+     * @return the Date from component 2 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getDateAsLocalDate() {
+        return getComponent2AsLocalDate();
+    }
+
     /**
      * Gets the component 3 (Version).
      * @return the component 3
@@ -440,6 +459,16 @@ public class Field77H extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getYear(getComponent(3));
     }
 
+    /**
+     * Get the component 3 as Year
+     *
+     * @return the component 3 converted to Year or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.Year getComponent3AsYear() {
+        return SwiftFormatUtils.getLocalYear(getComponent(3));
+    }
+
     /**
      * Gets the Version (component 3).
      * @return the Version from component 3
@@ -456,6 +485,15 @@ public class Field77H extends Field implements Serializable, DateContainer {
         return getComponent3AsCalendar();
     }
 
+    /**
+     * Get the Version (component 3) as Year
+     * @return the Version from component 3 converted to Year or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.Year getVersionAsYear() {
+        return getComponent3AsYear();
+    }
+
     /**
      * Set the component 1 (Type Of Agreement).
      *
@@ -128,7 +128,7 @@ public class Field77J extends StructuredNarrativeField implements Serializable,
      */
     public static Field77J newInstance(Field77J source) {
         Field77J cp = new Field77J();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
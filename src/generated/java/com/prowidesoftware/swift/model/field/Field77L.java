@@ -152,7 +152,7 @@ public class Field77L extends Field implements Serializable, MultiLineField {
      */
     public static Field77L newInstance(Field77L source) {
         Field77L cp = new Field77L();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
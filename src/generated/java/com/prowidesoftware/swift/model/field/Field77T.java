@@ -144,7 +144,7 @@ public class Field77T extends Field implements Serializable, MultiLineField {
      */
     public static Field77T newInstance(Field77T source) {
         Field77T cp = new Field77T();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
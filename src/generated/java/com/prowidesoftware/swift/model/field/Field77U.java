@@ -144,7 +144,7 @@ public class Field77U extends Field implements Serializable, MultiLineField {
      */
     public static Field77U newInstance(Field77U source) {
         Field77U cp = new Field77U();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -155,7 +155,7 @@ public class Field78 extends Field implements Serializable, MultiLineField {
      */
     public static Field78 newInstance(Field78 source) {
         Field78 cp = new Field78();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
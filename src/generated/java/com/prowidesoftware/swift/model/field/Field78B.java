@@ -144,7 +144,7 @@ public class Field78B extends Field implements Serializable, MultiLineField {
      */
     public static Field78B newInstance(Field78B source) {
         Field78B cp = new Field78B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
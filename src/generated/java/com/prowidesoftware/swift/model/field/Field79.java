@@ -178,7 +178,7 @@ public class Field79 extends Field implements Serializable, MultiLineField {
      */
     public static Field79 newInstance(Field79 source) {
         Field79 cp = new Field79();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -178,7 +178,7 @@ public class Field79Z extends Field implements Serializable, MultiLineField {
      */
     public static Field79Z newInstance(Field79Z source) {
         Field79Z cp = new Field79Z();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -149,7 +149,7 @@ public class Field80C extends Field implements Serializable, MultiLineField {
      */
     public static Field80C newInstance(Field80C source) {
         Field80C cp = new Field80C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -123,7 +123,7 @@ public class Field81A extends OptionAPartyField implements Serializable, BICCont
      */
     public static Field81A newInstance(Field81A source) {
         Field81A cp = new Field81A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -123,7 +123,7 @@ public class Field81D extends OptionDPartyField implements Serializable, MultiLi
      */
     public static Field81D newInstance(Field81D source) {
         Field81D cp = new Field81D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -117,7 +117,7 @@ public class Field81J extends OptionJPartyField implements Serializable {
      */
     public static Field81J newInstance(Field81J source) {
         Field81J cp = new Field81J();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
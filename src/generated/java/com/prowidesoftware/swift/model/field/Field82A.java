@@ -123,7 +123,7 @@ public class Field82A extends OptionAPartyField implements Serializable, BICCont
      */
     public static Field82A newInstance(Field82A source) {
         Field82A cp = new Field82A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -120,7 +120,7 @@ public class Field82B extends OptionBPartyField implements Serializable, MultiLi
      */
     public static Field82B newInstance(Field82B source) {
         Field82B cp = new Field82B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
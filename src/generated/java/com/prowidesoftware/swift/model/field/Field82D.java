@@ -123,7 +123,7 @@ public class Field82D extends OptionDPartyField implements Serializable, MultiLi
      */
     public static Field82D newInstance(Field82D source) {
         Field82D cp = new Field82D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
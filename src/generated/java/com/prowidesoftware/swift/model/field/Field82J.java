@@ -117,7 +117,7 @@ public class Field82J extends OptionJPartyField implements Serializable {
      */
     public static Field82J newInstance(Field82J source) {
         Field82J cp = new Field82J();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -123,7 +123,7 @@ public class Field83A extends OptionAPartyField implements Serializable, BICCont
      */
     public static Field83A newInstance(Field83A source) {
         Field83A cp = new Field83A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
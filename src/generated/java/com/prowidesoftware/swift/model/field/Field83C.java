@@ -117,7 +117,7 @@ public class Field83C extends OptionCPartyField implements Serializable {
      */
     public static Field83C newInstance(Field83C source) {
         Field83C cp = new Field83C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -123,7 +123,7 @@ public class Field83D extends OptionDPartyField implements Serializable, MultiLi
      */
     public static Field83D newInstance(Field83D source) {
         Field83D cp = new Field83D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -117,7 +117,7 @@ public class Field83J extends OptionJPartyField implements Serializable {
      */
     public static Field83J newInstance(Field83J source) {
         Field83J cp = new Field83J();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
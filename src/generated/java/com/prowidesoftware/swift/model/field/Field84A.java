@@ -123,7 +123,7 @@ public class Field84A extends OptionAPartyField implements Serializable, BICCont
      */
     public static Field84A newInstance(Field84A source) {
         Field84A cp = new Field84A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -120,7 +120,7 @@ public class Field84B extends OptionBPartyField implements Serializable, MultiLi
      */
     public static Field84B newInstance(Field84B source) {
         Field84B cp = new Field84B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
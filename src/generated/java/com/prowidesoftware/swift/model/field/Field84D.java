@@ -123,7 +123,7 @@ public class Field84D extends OptionDPartyField implements Serializable, MultiLi
      */
     public static Field84D newInstance(Field84D source) {
         Field84D cp = new Field84D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -117,7 +117,7 @@ public class Field84J extends OptionJPartyField implements Serializable {
      */
     public static Field84J newInstance(Field84J source) {
         Field84J cp = new Field84J();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -123,7 +123,7 @@ public class Field85A extends OptionAPartyField implements Serializable, BICCont
      */
     public static Field85A newInstance(Field85A source) {
         Field85A cp = new Field85A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -120,7 +120,7 @@ public class Field85B extends OptionBPartyField implements Serializable, MultiLi
      */
     public static Field85B newInstance(Field85B source) {
         Field85B cp = new Field85B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
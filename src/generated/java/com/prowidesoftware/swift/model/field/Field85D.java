@@ -123,7 +123,7 @@ public class Field85D extends OptionDPartyField implements Serializable, MultiLi
      */
     public static Field85D newInstance(Field85D source) {
         Field85D cp = new Field85D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
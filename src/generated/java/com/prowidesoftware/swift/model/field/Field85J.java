@@ -117,7 +117,7 @@ public class Field85J extends OptionJPartyField implements Serializable {
      */
     public static Field85J newInstance(Field85J source) {
         Field85J cp = new Field85J();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
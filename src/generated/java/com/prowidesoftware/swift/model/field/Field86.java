@@ -149,7 +149,7 @@ public class Field86 extends Field implements Serializable, MultiLineField {
      */
     public static Field86 newInstance(Field86 source) {
         Field86 cp = new Field86();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -123,7 +123,7 @@ public class Field86A extends OptionAPartyField implements Serializable, BICCont
      */
     public static Field86A newInstance(Field86A source) {
         Field86A cp = new Field86A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
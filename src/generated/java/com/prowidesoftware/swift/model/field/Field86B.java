@@ -120,7 +120,7 @@ public class Field86B extends OptionBPartyField implements Serializable, MultiLi
      */
     public static Field86B newInstance(Field86B source) {
         Field86B cp = new Field86B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -123,7 +123,7 @@ public class Field86D extends OptionDPartyField implements Serializable, MultiLi
      */
     public static Field86D newInstance(Field86D source) {
         Field86D cp = new Field86D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -117,7 +117,7 @@ public class Field86J extends OptionJPartyField implements Serializable {
      */
     public static Field86J newInstance(Field86J source) {
         Field86J cp = new Field86J();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
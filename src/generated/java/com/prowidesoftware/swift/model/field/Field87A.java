@@ -123,7 +123,7 @@ public class Field87A extends OptionAPartyField implements Serializable, BICCont
      */
     public static Field87A newInstance(Field87A source) {
         Field87A cp = new Field87A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
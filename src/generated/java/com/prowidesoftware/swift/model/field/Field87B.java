@@ -120,7 +120,7 @@ public class Field87B extends OptionBPartyField implements Serializable, MultiLi
      */
     public static Field87B newInstance(Field87B source) {
         Field87B cp = new Field87B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
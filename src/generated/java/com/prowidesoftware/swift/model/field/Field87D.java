@@ -123,7 +123,7 @@ public class Field87D extends OptionDPartyField implements Serializable, MultiLi
      */
     public static Field87D newInstance(Field87D source) {
         Field87D cp = new Field87D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -117,7 +117,7 @@ public class Field87J extends OptionJPartyField implements Serializable {
      */
     public static Field87J newInstance(Field87J source) {
         Field87J cp = new Field87J();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
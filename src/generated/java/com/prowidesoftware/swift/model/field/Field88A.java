@@ -123,7 +123,7 @@ public class Field88A extends OptionAPartyField implements Serializable, BICCont
      */
     public static Field88A newInstance(Field88A source) {
         Field88A cp = new Field88A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
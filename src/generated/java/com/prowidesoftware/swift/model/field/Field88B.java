@@ -120,7 +120,7 @@ public class Field88B extends OptionBPartyField implements Serializable, MultiLi
      */
     public static Field88B newInstance(Field88B source) {
         Field88B cp = new Field88B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
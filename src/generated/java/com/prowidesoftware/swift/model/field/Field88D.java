@@ -123,7 +123,7 @@ public class Field88D extends OptionDPartyField implements Serializable, MultiLi
      */
     public static Field88D newInstance(Field88D source) {
         Field88D cp = new Field88D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -117,7 +117,7 @@ public class Field88J extends OptionJPartyField implements Serializable {
      */
     public static Field88J newInstance(Field88J source) {
         Field88J cp = new Field88J();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
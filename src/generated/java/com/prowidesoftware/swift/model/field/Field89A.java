@@ -123,7 +123,7 @@ public class Field89A extends OptionAPartyField implements Serializable, BICCont
      */
     public static Field89A newInstance(Field89A source) {
         Field89A cp = new Field89A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
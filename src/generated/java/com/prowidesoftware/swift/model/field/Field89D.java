@@ -123,7 +123,7 @@ public class Field89D extends OptionDPartyField implements Serializable, MultiLi
      */
     public static Field89D newInstance(Field89D source) {
         Field89D cp = new Field89D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
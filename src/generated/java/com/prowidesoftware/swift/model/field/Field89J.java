@@ -117,7 +117,7 @@ public class Field89J extends OptionJPartyField implements Serializable {
      */
     public static Field89J newInstance(Field89J source) {
         Field89J cp = new Field89J();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -166,7 +166,7 @@ public class Field90A extends Field implements Serializable, AmountContainer, Ge
      */
     public static Field90A newInstance(Field90A source) {
         Field90A cp = new Field90A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -175,7 +175,7 @@ public class Field90B extends Field implements Serializable, MonetaryAmountConta
      */
     public static Field90B newInstance(Field90B source) {
         Field90B cp = new Field90B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
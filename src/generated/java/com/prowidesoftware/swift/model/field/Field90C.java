@@ -160,7 +160,7 @@ public class Field90C extends Field implements Serializable, MonetaryAmountConta
      */
     public static Field90C newInstance(Field90C source) {
         Field90C cp = new Field90C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -160,7 +160,7 @@ public class Field90D extends Field implements Serializable, MonetaryAmountConta
      */
     public static Field90D newInstance(Field90D source) {
         Field90D cp = new Field90D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -158,7 +158,7 @@ public class Field90E extends Field implements Serializable, GenericField {
      */
     public static Field90E newInstance(Field90E source) {
         Field90E cp = new Field90E();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -187,7 +187,7 @@ public class Field90F extends Field implements Serializable, MonetaryAmountConta
      */
     public static Field90F newInstance(Field90F source) {
         Field90F cp = new Field90F();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
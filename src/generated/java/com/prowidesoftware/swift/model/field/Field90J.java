@@ -203,7 +203,7 @@ public class Field90J extends Field implements Serializable, MonetaryAmountConta
      */
     public static Field90J newInstance(Field90J source) {
         Field90J cp = new Field90J();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -162,7 +162,7 @@ public class Field90K extends Field implements Serializable, AmountContainer, Ge
      */
     public static Field90K newInstance(Field90K source) {
         Field90K cp = new Field90K();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -168,7 +168,7 @@ public class Field90L extends Field implements Serializable, AmountContainer, Ge
      */
     public static Field90L newInstance(Field90L source) {
         Field90L cp = new Field90L();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -123,7 +123,7 @@ public class Field91A extends OptionAPartyField implements Serializable, BICCont
      */
     public static Field91A newInstance(Field91A source) {
         Field91A cp = new Field91A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
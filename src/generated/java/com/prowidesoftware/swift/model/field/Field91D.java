@@ -123,7 +123,7 @@ public class Field91D extends OptionDPartyField implements Serializable, MultiLi
      */
     public static Field91D newInstance(Field91D source) {
         Field91D cp = new Field91D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
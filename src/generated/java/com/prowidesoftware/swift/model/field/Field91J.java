@@ -117,7 +117,7 @@ public class Field91J extends OptionJPartyField implements Serializable {
      */
     public static Field91J newInstance(Field91J source) {
         Field91J cp = new Field91J();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
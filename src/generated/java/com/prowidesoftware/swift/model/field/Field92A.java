@@ -168,7 +168,7 @@ public class Field92A extends Field implements Serializable, AmountContainer, Ge
      */
     public static Field92A newInstance(Field92A source) {
         Field92A cp = new Field92A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
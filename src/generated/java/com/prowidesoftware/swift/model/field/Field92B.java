@@ -167,7 +167,7 @@ public class Field92B extends Field implements Serializable, MonetaryAmountConta
      */
     public static Field92B newInstance(Field92B source) {
         Field92B cp = new Field92B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -164,7 +164,7 @@ public class Field92C extends Field implements Serializable, GenericField {
      */
     public static Field92C newInstance(Field92C source) {
         Field92C cp = new Field92C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
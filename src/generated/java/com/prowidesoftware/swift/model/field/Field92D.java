@@ -160,7 +160,7 @@ public class Field92D extends Field implements Serializable, AmountContainer, Ge
      */
     public static Field92D newInstance(Field92D source) {
         Field92D cp = new Field92D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -169,7 +169,7 @@ public class Field92F extends Field implements Serializable, MonetaryAmountConta
      */
     public static Field92F newInstance(Field92F source) {
         Field92F cp = new Field92F();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
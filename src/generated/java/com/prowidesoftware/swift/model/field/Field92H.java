@@ -175,7 +175,7 @@ public class Field92H extends Field implements Serializable, MonetaryAmountConta
      */
     public static Field92H newInstance(Field92H source) {
         Field92H cp = new Field92H();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
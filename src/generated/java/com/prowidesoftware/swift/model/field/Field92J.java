@@ -195,7 +195,7 @@ public class Field92J extends Field implements Serializable, MonetaryAmountConta
      */
     public static Field92J newInstance(Field92J source) {
         Field92J cp = new Field92J();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -150,7 +150,7 @@ public class Field92K extends Field implements Serializable, GenericField {
      */
     public static Field92K newInstance(Field92K source) {
         Field92K cp = new Field92K();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -189,7 +189,7 @@ public class Field92L extends Field implements Serializable, MonetaryAmountConta
      */
     public static Field92L newInstance(Field92L source) {
         Field92L cp = new Field92L();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -175,7 +175,7 @@ public class Field92M extends Field implements Serializable, MonetaryAmountConta
      */
     public static Field92M newInstance(Field92M source) {
         Field92M cp = new Field92M();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -175,7 +175,7 @@ public class Field92N extends Field implements Serializable, MonetaryAmountConta
      */
     public static Field92N newInstance(Field92N source) {
         Field92N cp = new Field92N();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -162,7 +162,7 @@ public class Field92P extends Field implements Serializable, AmountContainer, Ge
      */
     public static Field92P newInstance(Field92P source) {
         Field92P cp = new Field92P();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
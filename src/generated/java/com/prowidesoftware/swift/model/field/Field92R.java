@@ -182,7 +182,7 @@ public class Field92R extends Field implements Serializable, AmountContainer, Ge
      */
     public static Field92R newInstance(Field92R source) {
         Field92R cp = new Field92R();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -164,7 +164,7 @@ public class Field93A extends Field implements Serializable, GenericField {
      */
     public static Field93A newInstance(Field93A source) {
         Field93A cp = new Field93A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
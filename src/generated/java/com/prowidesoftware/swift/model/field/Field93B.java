@@ -180,7 +180,7 @@ public class Field93B extends Field implements Serializable, AmountContainer, Ge
      */
     public static Field93B newInstance(Field93B source) {
         Field93B cp = new Field93B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
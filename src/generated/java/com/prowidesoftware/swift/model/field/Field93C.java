@@ -180,7 +180,7 @@ public class Field93C extends Field implements Serializable, AmountContainer, Ge
      */
     public static Field93C newInstance(Field93C source) {
         Field93C cp = new Field93C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
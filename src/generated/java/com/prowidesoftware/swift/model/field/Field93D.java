@@ -168,7 +168,7 @@ public class Field93D extends Field implements Serializable, AmountContainer, Ge
      */
     public static Field93D newInstance(Field93D source) {
         Field93D cp = new Field93D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -172,7 +172,7 @@ public class Field93E extends Field implements Serializable, AmountContainer, Ge
      */
     public static Field93E newInstance(Field93E source) {
         Field93E cp = new Field93E();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -172,7 +172,7 @@ public class Field93F extends Field implements Serializable, AmountContainer, Ge
      */
     public static Field93F newInstance(Field93F source) {
         Field93F cp = new Field93F();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -143,7 +143,7 @@ public class Field94A extends Field implements Serializable {
      */
     public static Field94A newInstance(Field94A source) {
         Field94A cp = new Field94A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
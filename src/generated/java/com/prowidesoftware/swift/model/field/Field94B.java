@@ -162,7 +162,7 @@ public class Field94B extends Field implements Serializable, GenericField {
      */
     public static Field94B newInstance(Field94B source) {
         Field94B cp = new Field94B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -150,7 +150,7 @@ public class Field94C extends Field implements Serializable, GenericField {
      */
     public static Field94C newInstance(Field94C source) {
         Field94C cp = new Field94C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
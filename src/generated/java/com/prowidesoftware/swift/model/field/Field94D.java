@@ -156,7 +156,7 @@ public class Field94D extends Field implements Serializable, GenericField {
      */
     public static Field94D newInstance(Field94D source) {
         Field94D cp = new Field94D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -160,7 +160,7 @@ public class Field94E extends Field implements Serializable, GenericField, Multi
      */
     public static Field94E newInstance(Field94E source) {
         Field94E cp = new Field94E();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
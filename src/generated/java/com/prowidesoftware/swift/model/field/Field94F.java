@@ -175,7 +175,7 @@ public class Field94F extends Field implements Serializable, BICContainer, Gener
      */
     public static Field94F newInstance(Field94F source) {
         Field94F cp = new Field94F();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -152,7 +152,7 @@ public class Field94G extends Field implements Serializable, GenericField, Multi
      */
     public static Field94G newInstance(Field94G source) {
         Field94G cp = new Field94G();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
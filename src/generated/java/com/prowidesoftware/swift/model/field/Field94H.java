@@ -161,7 +161,7 @@ public class Field94H extends Field implements Serializable, BICContainer, Gener
      */
     public static Field94H newInstance(Field94H source) {
         Field94H cp = new Field94H();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -158,7 +158,7 @@ public class Field94L extends Field implements Serializable, GenericField {
      */
     public static Field94L newInstance(Field94L source) {
         Field94L cp = new Field94L();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -150,7 +150,7 @@ public class Field95C extends Field implements Serializable, GenericField {
      */
     public static Field95C newInstance(Field95C source) {
         Field95C cp = new Field95C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -158,7 +158,7 @@ public class Field95L extends Field implements Serializable, GenericField {
      */
     public static Field95L newInstance(Field95L source) {
         Field95L cp = new Field95L();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -122,7 +122,7 @@ public class Field95P extends OptionPPartyField implements Serializable, BICCont
      */
     public static Field95P newInstance(Field95P source) {
         Field95P cp = new Field95P();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -123,7 +123,7 @@ public class Field95Q extends OptionQPartyField implements Serializable, Generic
      */
     public static Field95Q newInstance(Field95Q source) {
         Field95Q cp = new Field95Q();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -120,7 +120,7 @@ public class Field95R extends OptionRPartyField implements Serializable, Generic
      */
     public static Field95R newInstance(Field95R source) {
         Field95R cp = new Field95R();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
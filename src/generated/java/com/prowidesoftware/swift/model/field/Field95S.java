@@ -122,7 +122,7 @@ public class Field95S extends OptionSPartyField implements Serializable, Generic
      */
     public static Field95S newInstance(Field95S source) {
         Field95S cp = new Field95S();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
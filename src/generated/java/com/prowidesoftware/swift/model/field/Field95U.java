@@ -122,7 +122,7 @@ public class Field95U extends OptionUPartyField implements Serializable, Generic
      */
     public static Field95U newInstance(Field95U source) {
         Field95U cp = new Field95U();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
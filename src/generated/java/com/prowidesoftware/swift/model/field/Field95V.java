@@ -160,7 +160,7 @@ public class Field95V extends Field implements Serializable, GenericField, Multi
      */
     public static Field95V newInstance(Field95V source) {
         Field95V cp = new Field95V();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -123,7 +123,7 @@ public class Field96A extends OptionAPartyField implements Serializable, BICCont
      */
     public static Field96A newInstance(Field96A source) {
         Field96A cp = new Field96A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -123,7 +123,7 @@ public class Field96D extends OptionDPartyField implements Serializable, MultiLi
      */
     public static Field96D newInstance(Field96D source) {
         Field96D cp = new Field96D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -117,7 +117,7 @@ public class Field96J extends OptionJPartyField implements Serializable {
      */
     public static Field96J newInstance(Field96J source) {
         Field96J cp = new Field96J();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -158,7 +158,7 @@ public class Field97A extends Field implements Serializable, GenericField {
      */
     public static Field97A newInstance(Field97A source) {
         Field97A cp = new Field97A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -162,7 +162,7 @@ public class Field97B extends Field implements Serializable, GenericField {
      */
     public static Field97B newInstance(Field97B source) {
         Field97B cp = new Field97B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
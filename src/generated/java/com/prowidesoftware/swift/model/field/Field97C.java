@@ -158,7 +158,7 @@ public class Field97C extends Field implements Serializable, GenericField {
      */
     public static Field97C newInstance(Field97C source) {
         Field97C cp = new Field97C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -156,7 +156,7 @@ public class Field97D extends Field implements Serializable, GenericField {
      */
     public static Field97D newInstance(Field97D source) {
         Field97D cp = new Field97D();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -158,7 +158,7 @@ public class Field97E extends Field implements Serializable, GenericField {
      */
     public static Field97E newInstance(Field97E source) {
         Field97E cp = new Field97E();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -164,7 +164,7 @@ public class Field98B extends Field implements Serializable, GenericField {
      */
     public static Field98B newInstance(Field98B source) {
         Field98B cp = new Field98B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
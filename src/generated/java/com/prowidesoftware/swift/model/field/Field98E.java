@@ -179,7 +179,7 @@ public class Field98E extends Field implements Serializable, DateContainer, Gene
      */
     public static Field98E newInstance(Field98E source) {
         Field98E cp = new Field98E();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -474,6 +474,16 @@ public class Field98E extends Field implements Serializable, DateContainer, Gene
         return SwiftFormatUtils.getDate4(getComponent(2));
     }
 
+    /**
+     * Get the component 2 as LocalDate
+     *
+     * @return the component 2 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getComponent2AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate4(getComponent(2));
+    }
+
     /**
      * Gets the Date (component 2).
      * @return the Date from component 2
@@ -490,6 +500,15 @@ public class Field98E extends Field implements Serializable, DateContainer, Gene
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Date (component 2) as LocalDate
+     * @return the Date from component 2 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getDateAsLocalDate() {
+        return getComponent2AsLocalDate();
+    }
+
     /**
      * Gets the component 3 (Time).
      * @return the component 3
@@ -507,6 +526,16 @@ public class Field98E extends Field implements Serializable, DateContainer, Gene
         return SwiftFormatUtils.getTime2(getComponent(3));
     }
 
+    /**
+     * Get the component 3 as LocalTime
+     *
+     * @return the component 3 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent3AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime2(getComponent(3));
+    }
+
     /**
      * Gets the Time (component 3).
      * @return the Time from component 3
@@ -523,6 +552,15 @@ public class Field98E extends Field implements Serializable, DateContainer, Gene
         return getComponent3AsCalendar();
     }
 
+    /**
+     * Get the Time (component 3) as LocalTime
+     * @return the Time from component 3 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getTimeAsLocalTime() {
+        return getComponent3AsLocalTime();
+    }
+
     /**
      * Gets the component 4 (Decimals).
      * @return the component 4
@@ -638,6 +676,34 @@ public class Field98E extends Field implements Serializable, DateContainer, Gene
         return getComponent6AsCalendar();
     }
 
+    /**
+     * Get the Sign and Offset (components 5 and 6) as ZoneOffset
+     * @return the signed UTC offset or null if the offset is not present or cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.ZoneOffset getOffsetAsZoneOffset() {
+        return SwiftFormatUtils.getZoneOffset(SwiftFormatUtils.getSign(getComponent5()), getComponent6());
+    }
+
+    /**
+     * Get the Date, Time, Decimals and UTC Indicator (components 2 to 6) as OffsetDateTime
+     * @return the date and time at the indicated UTC offset, or null if the components cannot be converted or the optional UTC indicator is not present
+     * @since 9.3.9
+     */
+    public java.time.OffsetDateTime getDateTimeAsOffsetDateTime() {
+        final java.time.LocalDate date = getComponent2AsLocalDate();
+        final java.time.LocalTime time = getComponent3AsLocalTime();
+        if (date == null || time == null) {
+            return null;
+        }
+        java.time.LocalDateTime dateTime = java.time.LocalDateTime.of(date, time);
+        final String decimals = getComponent4();
+        if (decimals != null && decimals.length() <= 9 && StringUtils.isNumeric(decimals)) {
+            dateTime = dateTime.withNano(Integer.parseInt(StringUtils.rightPad(decimals, 9, '0')));
+        }
+        return SwiftFormatUtils.getOffsetDateTime(dateTime, SwiftFormatUtils.getSign(getComponent5()), getComponent6());
+    }
+
     /**
      * Set the component 1 (Qualifier).
      *
@@ -171,7 +171,7 @@ public class Field98F extends Field implements Serializable, GenericField {
      */
     public static Field98F newInstance(Field98F source) {
         Field98F cp = new Field98F();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -459,6 +459,16 @@ public class Field98F extends Field implements Serializable, GenericField {
         return SwiftFormatUtils.getTime2(getComponent(4));
     }
 
+    /**
+     * Get the component 4 as LocalTime
+     *
+     * @return the component 4 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent4AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime2(getComponent(4));
+    }
+
     /**
      * Gets the Time (component 4).
      * @return the Time from component 4
@@ -475,6 +485,15 @@ public class Field98F extends Field implements Serializable, GenericField {
         return getComponent4AsCalendar();
     }
 
+    /**
+     * Get the Time (component 4) as LocalTime
+     * @return the Time from component 4 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getTimeAsLocalTime() {
+        return getComponent4AsLocalTime();
+    }
+
     /**
      * Set the component 1 (Qualifier).
      *
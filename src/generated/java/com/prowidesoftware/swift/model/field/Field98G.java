@@ -180,7 +180,7 @@ public class Field98G extends Field implements Serializable, DateContainer {
      */
     public static Field98G newInstance(Field98G source) {
         Field98G cp = new Field98G();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -448,6 +448,16 @@ public class Field98G extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getDate4(getComponent(1));
     }
 
+    /**
+     * Get the component 1 as LocalDate
+     *
+     * @return the component 1 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getComponent1AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate4(getComponent(1));
+    }
+
     /**
      * Gets the Date (component 1).
      * @return the Date from component 1
@@ -464,6 +474,15 @@ public class Field98G extends Field implements Serializable, DateContainer {
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Date (component 1) as LocalDate
+     * @return the Date from component 1 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getDateAsLocalDate() {
+        return getComponent1AsLocalDate();
+    }
+
     /**
      * Gets the component 2 (Time).
      * @return the component 2
@@ -481,6 +500,16 @@ public class Field98G extends Field implements Serializable, DateContainer {
         return SwiftFormatUtils.getTime2(getComponent(2));
     }
 
+    /**
+     * Get the component 2 as LocalTime
+     *
+     * @return the component 2 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent2AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime2(getComponent(2));
+    }
+
     /**
      * Gets the Time (component 2).
      * @return the Time from component 2
@@ -497,6 +526,15 @@ public class Field98G extends Field implements Serializable, DateContainer {
         return getComponent2AsCalendar();
     }
 
+    /**
+     * Get the Time (component 2) as LocalTime
+     * @return the Time from component 2 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getTimeAsLocalTime() {
+        return getComponent2AsLocalTime();
+    }
+
     /**
      * Gets the component 3 (Decimals).
      * @return the component 3
@@ -648,6 +686,15 @@ public class Field98G extends Field implements Serializable, DateContainer {
         return getComponent5AsCalendar();
     }
 
+    /**
+     * Get the Sign and Offset (components 4 and 5) as ZoneOffset
+     * @return the signed UTC offset or null if the offset is not present or cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.ZoneOffset getOffsetAsZoneOffset() {
+        return SwiftFormatUtils.getZoneOffset(SwiftFormatUtils.getSign(getComponent4()), getComponent5());
+    }
+
     /**
      * Set the component 1 (Date).
      *
@@ -172,7 +172,7 @@ public class Field98H extends Field implements Serializable {
      */
     public static Field98H newInstance(Field98H source) {
         Field98H cp = new Field98H();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -429,6 +429,16 @@ public class Field98H extends Field implements Serializable {
         return SwiftFormatUtils.getTime2(getComponent(1));
     }
 
+    /**
+     * Get the component 1 as LocalTime
+     *
+     * @return the component 1 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent1AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime2(getComponent(1));
+    }
+
     /**
      * Gets the Time (component 1).
      * @return the Time from component 1
@@ -445,6 +455,15 @@ public class Field98H extends Field implements Serializable {
         return getComponent1AsCalendar();
     }
 
+    /**
+     * Get the Time (component 1) as LocalTime
+     * @return the Time from component 1 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getTimeAsLocalTime() {
+        return getComponent1AsLocalTime();
+    }
+
     /**
      * Gets the component 2 (Decimals).
      * @return the component 2
@@ -596,6 +615,15 @@ public class Field98H extends Field implements Serializable {
         return getComponent4AsCalendar();
     }
 
+    /**
+     * Get the Sign and Offset (components 3 and 4) as ZoneOffset
+     * @return the signed UTC offset or null if the offset is not present or cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.ZoneOffset getOffsetAsZoneOffset() {
+        return SwiftFormatUtils.getZoneOffset(SwiftFormatUtils.getSign(getComponent3()), getComponent4());
+    }
+
     /**
      * Set the component 1 (Time).
      *
@@ -171,7 +171,7 @@ public class Field98K extends Field implements Serializable, DateContainer, Gene
      */
     public static Field98K newInstance(Field98K source) {
         Field98K cp = new Field98K();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
@@ -442,6 +442,16 @@ public class Field98K extends Field implements Serializable, DateContainer, Gene
         return SwiftFormatUtils.getDate4(getComponent(3));
     }
 
+    /**
+     * Get the component 3 as LocalDate
+     *
+     * @return the component 3 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getComponent3AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate4(getComponent(3));
+    }
+
     /**
      * Gets the Date (component 3).
      * @return the Date from component 3
@@ -458,6 +468,15 @@ public class Field98K extends Field implements Serializable, DateContainer, Gene
         return getComponent3AsCalendar();
     }
 
+    /**
+     * Get the Date (component 3) as LocalDate
+     * @return the Date from component 3 converted to LocalDate or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalDate getDateAsLocalDate() {
+        return getComponent3AsLocalDate();
+    }
+
     /**
      * Gets the component 4 (Time).
      * @return the component 4
@@ -475,6 +494,16 @@ public class Field98K extends Field implements Serializable, DateContainer, Gene
         return SwiftFormatUtils.getTime2(getComponent(4));
     }
 
+    /**
+     * Get the component 4 as LocalTime
+     *
+     * @return the component 4 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getComponent4AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime2(getComponent(4));
+    }
+
     /**
      * Gets the Time (component 4).
      * @return the Time from component 4
@@ -491,6 +520,15 @@ public class Field98K extends Field implements Serializable, DateContainer, Gene
         return getComponent4AsCalendar();
     }
 
+    /**
+     * Get the Time (component 4) as LocalTime
+     * @return the Time from component 4 converted to LocalTime or null if cannot be converted
+     * @since 9.3.9
+     */
+    public java.time.LocalTime getTimeAsLocalTime() {
+        return getComponent4AsLocalTime();
+    }
+
     /**
      * Gets the component 5 (Proprietary Code).
      * @return the component 5
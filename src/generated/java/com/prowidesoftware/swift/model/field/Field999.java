@@ -138,7 +138,7 @@ public class Field999 extends Field implements Serializable {
      */
     public static Field999 newInstance(Field999 source) {
         Field999 cp = new Field999();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
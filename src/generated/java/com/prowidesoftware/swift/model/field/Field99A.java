@@ -166,7 +166,7 @@ public class Field99A extends Field implements Serializable, GenericField {
      */
     public static Field99A newInstance(Field99A source) {
         Field99A cp = new Field99A();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
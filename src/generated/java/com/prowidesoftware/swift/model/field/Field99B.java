@@ -152,7 +152,7 @@ public class Field99B extends Field implements Serializable, GenericField {
      */
     public static Field99B newInstance(Field99B source) {
         Field99B cp = new Field99B();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
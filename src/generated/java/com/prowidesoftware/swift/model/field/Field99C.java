@@ -152,7 +152,7 @@ public class Field99C extends Field implements Serializable, GenericField {
      */
     public static Field99C newInstance(Field99C source) {
         Field99C cp = new Field99C();
-        cp.setComponents(new ArrayList<>(source.getComponents()));
+        cp.setComponents(source.getComponents());
         return cp;
     }
 
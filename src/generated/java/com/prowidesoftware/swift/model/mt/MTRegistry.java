@@ -0,0 +1,379 @@
+/*
+ * Copyright 2006-2022 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model.mt;
+
+import com.prowidesoftware.Generated;
+import com.prowidesoftware.swift.model.SwiftMessage;
+import com.prowidesoftware.swift.model.mt.mt0xx.*;
+import com.prowidesoftware.swift.model.mt.mt1xx.*;
+import com.prowidesoftware.swift.model.mt.mt2xx.*;
+import com.prowidesoftware.swift.model.mt.mt3xx.*;
+import com.prowidesoftware.swift.model.mt.mt4xx.*;
+import com.prowidesoftware.swift.model.mt.mt5xx.*;
+import com.prowidesoftware.swift.model.mt.mt6xx.*;
+import com.prowidesoftware.swift.model.mt.mt7xx.*;
+import com.prowidesoftware.swift.model.mt.mt8xx.*;
+import com.prowidesoftware.swift.model.mt.mt9xx.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Registry of the available specific MT model classes, keyed by message type number and variant.
+ *
+ * <p>Each entry holds a constructor reference for the MT class, so a {@link SwiftMessage} can be
+ * wrapped into its specific MT without class name composition and reflection.
+ *
+ * <p>
+ * This source code is specific to release <strong>SRU 2022</strong>
+ *
+ * @see SwiftMessage#toMT()
+ * @since 9.3.9
+ */
+@Generated
+public final class MTRegistry {
+
+	private static final Map<Integer, Function<SwiftMessage, AbstractMT>> registry = new HashMap<>(512);
+
+	static {
+		register(8, null, MT008::new);
+		register(9, null, MT009::new);
+		register(10, null, MT010::new);
+		register(11, null, MT011::new);
+		register(12, null, MT012::new);
+		register(15, null, MT015::new);
+		register(19, null, MT019::new);
+		register(20, null, MT020::new);
+		register(21, null, MT021::new);
+		register(22, null, MT022::new);
+		register(23, null, MT023::new);
+		register(24, null, MT024::new);
+		register(25, null, MT025::new);
+		register(26, null, MT026::new);
+		register(27, null, MT027::new);
+		register(28, null, MT028::new);
+		register(29, null, MT029::new);
+		register(31, null, MT031::new);
+		register(32, null, MT032::new);
+		register(35, null, MT035::new);
+		register(36, null, MT036::new);
+		register(37, null, MT037::new);
+		register(41, null, MT041::new);
+		register(42, null, MT042::new);
+		register(43, null, MT043::new);
+		register(44, null, MT044::new);
+		register(45, null, MT045::new);
+		register(46, null, MT046::new);
+		register(47, null, MT047::new);
+		register(48, null, MT048::new);
+		register(49, null, MT049::new);
+		register(51, null, MT051::new);
+		register(52, null, MT052::new);
+		register(55, null, MT055::new);
+		register(56, null, MT056::new);
+		register(57, null, MT057::new);
+		register(61, null, MT061::new);
+		register(62, null, MT062::new);
+		register(63, null, MT063::new);
+		register(64, null, MT064::new);
+		register(65, null, MT065::new);
+		register(66, null, MT066::new);
+		register(67, null, MT067::new);
+		register(68, null, MT068::new);
+		register(69, null, MT069::new);
+		register(70, null, MT070::new);
+		register(71, null, MT071::new);
+		register(72, null, MT072::new);
+		register(73, null, MT073::new);
+		register(74, null, MT074::new);
+		register(77, null, MT077::new);
+		register(81, null, MT081::new);
+		register(82, null, MT082::new);
+		register(83, null, MT083::new);
+		register(90, null, MT090::new);
+		register(92, null, MT092::new);
+		register(94, null, MT094::new);
+		register(96, null, MT096::new);
+		register(97, null, MT097::new);
+		register(101, null, MT101::new);
+		register(102, null, MT102::new);
+		register(102, MTVariant.STP, MT102_STP::new);
+		register(103, null, MT103::new);
+		register(103, MTVariant.REMIT, MT103_REMIT::new);
+		register(103, MTVariant.STP, MT103_STP::new);
+		register(104, null, MT104::new);
+		register(105, null, MT105::new);
+		register(107, null, MT107::new);
+		register(110, null, MT110::new);
+		register(111, null, MT111::new);
+		register(112, null, MT112::new);
+		register(190, null, MT190::new);
+		register(191, null, MT191::new);
+		register(192, null, MT192::new);
+		register(195, null, MT195::new);
+		register(196, null, MT196::new);
+		register(198, null, MT198::new);
+		register(199, null, MT199::new);
+		register(200, null, MT200::new);
+		register(201, null, MT201::new);
+		register(202, null, MT202::new);
+		register(202, MTVariant.COV, MT202COV::new);
+		register(203, null, MT203::new);
+		register(204, null, MT204::new);
+		register(205, null, MT205::new);
+		register(205, MTVariant.COV, MT205COV::new);
+		register(210, null, MT210::new);
+		register(290, null, MT290::new);
+		register(291, null, MT291::new);
+		register(292, null, MT292::new);
+		register(295, null, MT295::new);
+		register(296, null, MT296::new);
+		register(298, null, MT298::new);
+		register(299, null, MT299::new);
+		register(300, null, MT300::new);
+		register(304, null, MT304::new);
+		register(305, null, MT305::new);
+		register(306, null, MT306::new);
+		register(320, null, MT320::new);
+		register(321, null, MT321::new);
+		register(330, null, MT330::new);
+		register(340, null, MT340::new);
+		register(341, null, MT341::new);
+		register(350, null, MT350::new);
+		register(360, null, MT360::new);
+		register(361, null, MT361::new);
+		register(362, null, MT362::new);
+		register(364, null, MT364::new);
+		register(365, null, MT365::new);
+		register(370, null, MT370::new);
+		register(380, null, MT380::new);
+		register(381, null, MT381::new);
+		register(390, null, MT390::new);
+		register(391, null, MT391::new);
+		register(392, null, MT392::new);
+		register(395, null, MT395::new);
+		register(396, null, MT396::new);
+		register(398, null, MT398::new);
+		register(399, null, MT399::new);
+		register(400, null, MT400::new);
+		register(410, null, MT410::new);
+		register(412, null, MT412::new);
+		register(416, null, MT416::new);
+		register(420, null, MT420::new);
+		register(422, null, MT422::new);
+		register(430, null, MT430::new);
+		register(450, null, MT450::new);
+		register(455, null, MT455::new);
+		register(456, null, MT456::new);
+		register(490, null, MT490::new);
+		register(491, null, MT491::new);
+		register(492, null, MT492::new);
+		register(495, null, MT495::new);
+		register(496, null, MT496::new);
+		register(498, null, MT498::new);
+		register(499, null, MT499::new);
+		register(500, null, MT500::new);
+		register(501, null, MT501::new);
+		register(502, null, MT502::new);
+		register(503, null, MT503::new);
+		register(504, null, MT504::new);
+		register(505, null, MT505::new);
+		register(506, null, MT506::new);
+		register(507, null, MT507::new);
+		register(508, null, MT508::new);
+		register(509, null, MT509::new);
+		register(510, null, MT510::new);
+		register(513, null, MT513::new);
+		register(514, null, MT514::new);
+		register(515, null, MT515::new);
+		register(516, null, MT516::new);
+		register(517, null, MT517::new);
+		register(518, null, MT518::new);
+		register(519, null, MT519::new);
+		register(524, null, MT524::new);
+		register(526, null, MT526::new);
+		register(527, null, MT527::new);
+		register(530, null, MT530::new);
+		register(535, null, MT535::new);
+		register(536, null, MT536::new);
+		register(537, null, MT537::new);
+		register(538, null, MT538::new);
+		register(540, null, MT540::new);
+		register(541, null, MT541::new);
+		register(542, null, MT542::new);
+		register(543, null, MT543::new);
+		register(544, null, MT544::new);
+		register(545, null, MT545::new);
+		register(546, null, MT546::new);
+		register(547, null, MT547::new);
+		register(548, null, MT548::new);
+		register(549, null, MT549::new);
+		register(558, null, MT558::new);
+		register(564, null, MT564::new);
+		register(565, null, MT565::new);
+		register(566, null, MT566::new);
+		register(567, null, MT567::new);
+		register(568, null, MT568::new);
+		register(569, null, MT569::new);
+		register(575, null, MT575::new);
+		register(576, null, MT576::new);
+		register(578, null, MT578::new);
+		register(581, null, MT581::new);
+		register(586, null, MT586::new);
+		register(590, null, MT590::new);
+		register(591, null, MT591::new);
+		register(592, null, MT592::new);
+		register(595, null, MT595::new);
+		register(596, null, MT596::new);
+		register(598, null, MT598::new);
+		register(599, null, MT599::new);
+		register(600, null, MT600::new);
+		register(601, null, MT601::new);
+		register(604, null, MT604::new);
+		register(605, null, MT605::new);
+		register(606, null, MT606::new);
+		register(607, null, MT607::new);
+		register(608, null, MT608::new);
+		register(620, null, MT620::new);
+		register(670, null, MT670::new);
+		register(671, null, MT671::new);
+		register(690, null, MT690::new);
+		register(691, null, MT691::new);
+		register(692, null, MT692::new);
+		register(695, null, MT695::new);
+		register(696, null, MT696::new);
+		register(698, null, MT698::new);
+		register(699, null, MT699::new);
+		register(700, null, MT700::new);
+		register(701, null, MT701::new);
+		register(705, null, MT705::new);
+		register(707, null, MT707::new);
+		register(708, null, MT708::new);
+		register(710, null, MT710::new);
+		register(711, null, MT711::new);
+		register(720, null, MT720::new);
+		register(721, null, MT721::new);
+		register(730, null, MT730::new);
+		register(732, null, MT732::new);
+		register(734, null, MT734::new);
+		register(740, null, MT740::new);
+		register(742, null, MT742::new);
+		register(744, null, MT744::new);
+		register(747, null, MT747::new);
+		register(750, null, MT750::new);
+		register(752, null, MT752::new);
+		register(754, null, MT754::new);
+		register(756, null, MT756::new);
+		register(759, null, MT759::new);
+		register(760, null, MT760::new);
+		register(761, null, MT761::new);
+		register(765, null, MT765::new);
+		register(767, null, MT767::new);
+		register(768, null, MT768::new);
+		register(769, null, MT769::new);
+		register(775, null, MT775::new);
+		register(785, null, MT785::new);
+		register(786, null, MT786::new);
+		register(787, null, MT787::new);
+		register(790, null, MT790::new);
+		register(791, null, MT791::new);
+		register(792, null, MT792::new);
+		register(795, null, MT795::new);
+		register(796, null, MT796::new);
+		register(798, null, MT798::new);
+		register(799, null, MT799::new);
+		register(801, null, MT801::new);
+		register(802, null, MT802::new);
+		register(890, null, MT890::new);
+		register(891, null, MT891::new);
+		register(892, null, MT892::new);
+		register(895, null, MT895::new);
+		register(896, null, MT896::new);
+		register(898, null, MT898::new);
+		register(899, null, MT899::new);
+		register(900, null, MT900::new);
+		register(910, null, MT910::new);
+		register(920, null, MT920::new);
+		register(935, null, MT935::new);
+		register(940, null, MT940::new);
+		register(941, null, MT941::new);
+		register(942, null, MT942::new);
+		register(950, null, MT950::new);
+		register(970, null, MT970::new);
+		register(971, null, MT971::new);
+		register(972, null, MT972::new);
+		register(973, null, MT973::new);
+		register(985, null, MT985::new);
+		register(986, null, MT986::new);
+		register(990, null, MT990::new);
+		register(991, null, MT991::new);
+		register(992, null, MT992::new);
+		register(995, null, MT995::new);
+		register(996, null, MT996::new);
+		register(998, null, MT998::new);
+		register(999, null, MT999::new);
+	}
+
+	// Suppress default constructor for noninstantiability
+	private MTRegistry() {
+		throw new AssertionError();
+	}
+
+	private static void register(final int type, final MTVariant variant, final Function<SwiftMessage, AbstractMT> constructor) {
+		registry.put(key(type, variant), constructor);
+	}
+
+	private static int key(final int type, final MTVariant variant) {
+		return type * 8 + (variant == null ? 0 : variant.ordinal() + 1);
+	}
+
+	/**
+	 * Gets the constructor for the MT class modeling the given message type and variant.
+	 *
+	 * @param type    the message type number, for example 103
+	 * @param variant the message variant or null for the plain message type
+	 * @return the constructor function or null if there is no MT class for the given type and variant
+	 */
+	public static Function<SwiftMessage, AbstractMT> get(final int type, final MTVariant variant) {
+		return registry.get(key(type, variant));
+	}
+
+	/**
+	 * Checks if there is an MT class for the given message type and variant.
+	 *
+	 * @param type    the message type number, for example 103
+	 * @param variant the message variant or null for the plain message type
+	 * @return true if an MT class is available for the type and variant
+	 */
+	public static boolean contains(final int type, final MTVariant variant) {
+		return registry.containsKey(key(type, variant));
+	}
+
+	/**
+	 * Creates the specific MT for the given message type and variant, wrapping the parameter message.
+	 *
+	 * @param type    the message type number, for example 103
+	 * @param variant the message variant or null for the plain message type
+	 * @param m       the message to wrap
+	 * @return the created MT or null if there is no MT class for the given type and variant
+	 */
+	public static AbstractMT create(final int type, final MTVariant variant, final SwiftMessage m) {
+		final Function<SwiftMessage, AbstractMT> constructor = get(type, variant);
+		return constructor != null ? constructor.apply(m) : null;
+	}
+
+}
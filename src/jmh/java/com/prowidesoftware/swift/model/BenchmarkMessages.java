@@ -0,0 +1,61 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+/**
+ * Sample messages shared by the benchmarks.
+ */
+public final class BenchmarkMessages {
+
+    /**
+     * Trailer block appended to {@link #MT103_BODY}
+     */
+    public static final String TRAILER = "{5:{CHK:123456789ABC}}";
+
+    /**
+     * MT103 blocks 1 to 4, without trailer
+     */
+    public static final String MT103_BODY = mt103("{108:MUR}", "REFERENCE");
+
+    /**
+     * Complete MT103 including the trailer block
+     */
+    public static final String MT103 = MT103_BODY + TRAILER;
+
+    private BenchmarkMessages() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Builds a variant of the sample MT103, without trailer.
+     *
+     * @param block3    content of the user header block
+     * @param reference sender's reference for field 20
+     * @return the message in FIN format
+     */
+    public static String mt103(final String block3, final String reference) {
+        return "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBUSBBXXXXN}{3:" + block3 + "}{4:\n" +
+                ":20:" + reference + "\n" +
+                ":23B:CRED\n" +
+                ":32A:130204USD1234567,89\n" +
+                ":50K:/12345678901234567890\nFOOBANKXXXXX\n" +
+                ":59:/12345678901234567890\nJOE DOE\n" +
+                ":70:/ROC/ABC\n" +
+                ":71A:OUR\n" +
+                "-}";
+    }
+
+}
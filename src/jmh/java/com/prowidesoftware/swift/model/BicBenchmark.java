@@ -0,0 +1,45 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BIC validation with the static cached path compared with the BIC instance validation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BicBenchmark {
+
+    @Param({"DEUTDEFF", "BNPAFRPPXXX"})
+    public String bic;
+
+    @Benchmark
+    @Threads(4)
+    public BicValidationStatus validate() {
+        return BIC.validate(bic);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public BicValidationResult validateInstance() {
+        return new BIC(bic).validate();
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binary encoding and decoding of a message, compared with the FIN and the compact JSON representations.
+ * The size of each representation is printed in the setup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BinaryCodecBenchmark {
+
+    private SwiftMessage m;
+    private byte[] binary;
+    private String fin;
+    private String json;
+
+    @Setup
+    public void setup() throws IOException {
+        m = SwiftMessage.parse(BenchmarkMessages.MT103);
+        binary = SwiftMessageBinaryCodec.encode(m);
+        fin = m.message();
+        json = SwiftMessageJsonWriter.toJson(m, false);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return SwiftMessageBinaryCodec.encode(m);
+    }
+
+    @Benchmark
+    public String encodeFin() {
+        return m.message();
+    }
+
+    @Benchmark
+    public String encodeJson() {
+        return SwiftMessageJsonWriter.toJson(m, false);
+    }
+
+    @Benchmark
+    public SwiftMessage decodeBinary() {
+        return SwiftMessageBinaryCodec.decode(binary);
+    }
+
+    @Benchmark
+    public SwiftMessage decodeFin() throws IOException {
+        return SwiftMessage.parse(fin);
+    }
+
+    @Benchmark
+    public SwiftMessage decodeJson() {
+        return SwiftMessage.fromJson(json);
+    }
+
+}
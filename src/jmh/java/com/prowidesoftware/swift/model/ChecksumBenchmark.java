@@ -0,0 +1,66 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import com.prowidesoftware.swift.io.writer.SwiftWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Message checksum computation with the streaming digest and each algorithm, compared with hashing the FIN
+ * content as a String.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChecksumBenchmark {
+
+    @Param({"MD5", "SHA_256", "MURMUR3_128"})
+    public ChecksumAlgorithm algorithm;
+
+    private SwiftMessage m;
+
+    @Setup
+    public void setup() throws IOException {
+        m = SwiftMessage.parse(BenchmarkMessages.MT103);
+    }
+
+    @Benchmark
+    public String streaming() {
+        return SwiftMessageUtils.calculateChecksum(m, algorithm, ChecksumEncoding.HEX);
+    }
+
+    @Benchmark
+    public String streamingBase64() {
+        return SwiftMessageUtils.calculateChecksum(m, algorithm, ChecksumEncoding.BASE64);
+    }
+
+    @Benchmark
+    public String string() throws NoSuchAlgorithmException {
+        final StringWriter writer = new StringWriter();
+        SwiftWriter.writeMessage(m, writer, true);
+        final MessageDigest digest = algorithm == ChecksumAlgorithm.MURMUR3_128 ? algorithm.newDigest() : MessageDigest.getInstance(algorithm == ChecksumAlgorithm.MD5 ? "MD5" : "SHA-256");
+        return new BigInteger(1, digest.digest(writer.toString().getBytes(StandardCharsets.UTF_8))).toString(16);
+    }
+
+}
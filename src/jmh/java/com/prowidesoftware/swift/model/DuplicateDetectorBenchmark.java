@@ -0,0 +1,59 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Duplicate checks from several threads for each message identity, on a stream of mostly new messages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class DuplicateDetectorBenchmark {
+
+    private static final int MESSAGES = 4096;
+
+    @Param({"FULL_CHECKSUM", "BODY_CHECKSUM", "MUR_UETR", "REFERENCE_SENDER_AMOUNT"})
+    public DuplicateKey key;
+
+    private SwiftMessage[] messages;
+    private DuplicateDetector detector;
+
+    @Setup
+    public void setup() throws IOException {
+        messages = new SwiftMessage[MESSAGES];
+        for (int i = 0; i < MESSAGES; i++) {
+            messages[i] = SwiftMessage.parse(BenchmarkMessages.mt103("{108:MUR" + i + "}{121:eb6305c9-1f7f-49de-aed0-" + String.format("%012d", i) + "}", "REFERENCE" + i));
+        }
+        detector = new DuplicateDetector(key, 10_000, 1_000_000, 0.0001);
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    public DuplicateVerdict check(final Cursor cursor) {
+        return detector.check(messages[cursor.next++ & (MESSAGES - 1)]);
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import com.prowidesoftware.swift.model.field.Field;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Field labels resolution, single labels with the most generic key (all the bundle keys probed when not cached)
+ * and bulk labels for a message type.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FieldLabelBenchmark {
+
+    public Locale locale = Locale.ENGLISH;
+
+    public List<String> fields = Arrays.asList("20", "23B", "32A", "50K", "59", "71A");
+
+    @Benchmark
+    public String label() {
+        return Field.getLabel("50K", "103", "B", locale);
+    }
+
+    @Benchmark
+    public Map<String, String> labels() {
+        return Field.getLabels(fields, "103", null, locale);
+    }
+
+}
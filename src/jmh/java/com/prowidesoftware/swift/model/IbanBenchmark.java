@@ -0,0 +1,74 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IBAN modulo 97 and check digits computation, compared with the string based implementation used up to 9.3.8
+ * which is reproduced here as baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IbanBenchmark {
+
+    @Param({"DE89370400440532013000", "GB29NWBK60161331926819", "SC52BAHL01031234567890123456USD"})
+    public String iban;
+
+    @Benchmark
+    public int mod97() {
+        return IbanValidationUtils.mod97(iban, false);
+    }
+
+    @Benchmark
+    public int mod97Legacy() {
+        return legacyMod(iban);
+    }
+
+    @Benchmark
+    public int checkDigit() {
+        return IbanValidationUtils.calculateCheckDigit(iban);
+    }
+
+    @Benchmark
+    public String checkDigitLegacy() {
+        final int checkDigitIntValue = 98 - legacyMod(IBAN.getCountryCode(iban) + "00" + IBAN.getBban(iban));
+        final String checkDigit = Integer.toString(checkDigitIntValue);
+        return checkDigitIntValue > 9 ? checkDigit : "0" + checkDigit;
+    }
+
+    @Benchmark
+    public IbanValidationResult validate() {
+        return new IBAN(iban).validate();
+    }
+
+    private static int legacyMod(final String iban) {
+        final String reformattedIban = IBAN.getBban(iban) + IBAN.getCountryCode(iban) + IBAN.getCheckDigits(iban);
+        long total = 0;
+        for (int i = 0; i < reformattedIban.length(); i++) {
+            final int numericValue = Character.getNumericValue(reformattedIban.charAt(i));
+            total = (numericValue > 9 ? total * 100 : total * 10) + numericValue;
+            if (total > 999999999) {
+                total = total % 97;
+            }
+        }
+        return (int) (total % 97);
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.prowidesoftware.swift.model.mt.AbstractMT;
+import com.prowidesoftware.swift.model.mt.AbstractMTAdapter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization with the streaming writer, compared with the Gson tree based adapters.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonBenchmark {
+
+    private SwiftMessage m;
+    private AbstractMT mt;
+    private final Writer sink = new Writer() {
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    @Setup
+    public void setup() throws IOException {
+        m = SwiftMessage.parse(BenchmarkMessages.MT103);
+        mt = m.toMT();
+    }
+
+    @Benchmark
+    public void messageStream() throws IOException {
+        SwiftMessageJsonWriter.write(m, sink, false);
+    }
+
+    @Benchmark
+    public String messageLegacy() {
+        final Gson gson = new GsonBuilder()
+                .registerTypeAdapter(SwiftMessage.class, new SwiftMessageAdapter())
+                .registerTypeAdapter(SwiftBlock2.class, new SwiftBlock2Adapter())
+                .setPrettyPrinting()
+                .create();
+        return gson.toJson(m);
+    }
+
+    @Benchmark
+    public void mtStream() throws IOException {
+        SwiftMessageJsonWriter.write(mt, sink, false);
+    }
+
+    @Benchmark
+    public String mtLegacy() {
+        final Gson gson = new GsonBuilder()
+                .registerTypeAdapter(AbstractMT.class, new AbstractMTAdapter())
+                .setPrettyPrinting()
+                .create();
+        return gson.toJson(mt, AbstractMT.class);
+    }
+
+}
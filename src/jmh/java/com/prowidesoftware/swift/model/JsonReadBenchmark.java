@@ -0,0 +1,96 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.prowidesoftware.swift.model.mt.AbstractMT;
+import com.prowidesoftware.swift.model.mt.AbstractMTAdapter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON deserialization with the shared Gson instances and the streaming reader, compared with a Gson instance
+ * created per call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonReadBenchmark {
+
+    private static final int BATCH = 100;
+
+    private String messageJson;
+    private String mtJson;
+    private String ndjson;
+
+    @Setup
+    public void setup() throws IOException {
+        final SwiftMessage m = SwiftMessage.parse(BenchmarkMessages.MT103);
+        messageJson = m.toJson();
+        mtJson = m.toMT().toJson();
+        final StringWriter out = new StringWriter();
+        for (int i = 0; i < BATCH; i++) {
+            SwiftMessageJsonWriter.writeLine(m, out);
+        }
+        ndjson = out.toString();
+    }
+
+    @Benchmark
+    public SwiftMessage messageShared() {
+        return SwiftMessage.fromJson(messageJson);
+    }
+
+    @Benchmark
+    public SwiftMessage messageLegacy() {
+        final Gson gson = new GsonBuilder()
+                .registerTypeAdapter(SwiftMessage.class, new SwiftMessageAdapter())
+                .registerTypeAdapter(SwiftBlock2.class, new SwiftBlock2Adapter())
+                .create();
+        return gson.fromJson(messageJson, SwiftMessage.class);
+    }
+
+    @Benchmark
+    public AbstractMT mtShared() {
+        return AbstractMT.fromJson(mtJson);
+    }
+
+    @Benchmark
+    public AbstractMT mtLegacy() {
+        final Gson gson = new GsonBuilder()
+                .registerTypeAdapter(AbstractMT.class, new AbstractMTAdapter())
+                .registerTypeAdapter(SwiftBlock2.class, new SwiftBlock2Adapter())
+                .create();
+        return gson.fromJson(mtJson, AbstractMT.class);
+    }
+
+    /**
+     * Reads a batch of newline delimited messages
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int ndjsonStream() {
+        int count = 0;
+        for (SwiftMessage ignored : new SwiftMessageJsonReader(ndjson)) {
+            count++;
+        }
+        return count;
+    }
+
+}
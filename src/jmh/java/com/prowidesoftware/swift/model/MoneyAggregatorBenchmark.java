@@ -0,0 +1,63 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per message cost of the main amount extraction, with {@link SwiftMessageUtils#money(SwiftMessage)} and with the
+ * primitive {@link MoneyAggregator}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoneyAggregatorBenchmark {
+
+    private SwiftMessage message;
+    private MoneyAggregator aggregator;
+    private BigDecimal total;
+
+    @Setup
+    public void setup() throws IOException {
+        message = SwiftMessage.parse("{1:F01AAAAUSAAAXXX0000000000}{2:I103BBBBUSBBXXXXN}{4:\n" +
+                ":20:REFERENCE\n" +
+                ":23B:CRED\n" +
+                ":32A:221115USD1234567,89\n" +
+                ":50K:/12345678\nORDERING CUSTOMER\n" +
+                ":59:/87654321\nBENEFICIARY\n" +
+                ":71A:SHA\n" +
+                "-}");
+        aggregator = new MoneyAggregator();
+        total = BigDecimal.ZERO;
+    }
+
+    @Benchmark
+    public BigDecimal money() {
+        total = total.add(SwiftMessageUtils.money(message).getAmount());
+        return total;
+    }
+
+    @Benchmark
+    public MoneyAggregator aggregator() {
+        aggregator.accept(message);
+        return aggregator;
+    }
+
+}
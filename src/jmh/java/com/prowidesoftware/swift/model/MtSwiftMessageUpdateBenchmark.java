@@ -0,0 +1,57 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import com.prowidesoftware.swift.model.mt.DefaultMtMetadataStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity update from FIN content when only the trailer changes, with the single pass extraction of the default
+ * strategy compared with the separate checksums and strategy calls used for any other strategy.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MtSwiftMessageUpdateBenchmark {
+
+    private static final String[] TRAILERS = {BenchmarkMessages.TRAILER, "{5:{CHK:123456789ABC}{PDE:}}"};
+
+    /**
+     * Same extraction as the default strategy, but not eligible for the single pass extraction
+     */
+    private static final class SeparateStrategy extends DefaultMtMetadataStrategy {
+    }
+
+    private final MtSwiftMessage msg = new MtSwiftMessage();
+    private final DefaultMtMetadataStrategy singlePass = new DefaultMtMetadataStrategy();
+    private final DefaultMtMetadataStrategy separate = new SeparateStrategy();
+    private int i;
+
+    @Benchmark
+    public MtSwiftMessage singlePass() {
+        msg.updateFromFIN(BenchmarkMessages.MT103_BODY + TRAILERS[i++ & 1], singlePass);
+        return msg;
+    }
+
+    @Benchmark
+    public MtSwiftMessage separate() {
+        msg.updateFromFIN(BenchmarkMessages.MT103_BODY + TRAILERS[i++ & 1], separate);
+        return msg;
+    }
+
+}
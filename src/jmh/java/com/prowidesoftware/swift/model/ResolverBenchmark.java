@@ -0,0 +1,71 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import com.prowidesoftware.swift.model.field.AmountResolver;
+import com.prowidesoftware.swift.model.field.CurrencyResolver;
+import com.prowidesoftware.swift.model.field.DateResolver;
+import com.prowidesoftware.swift.model.field.Field32A;
+import com.prowidesoftware.swift.utils.ResolverUtils;
+import com.prowidesoftware.swift.utils.SwiftFormatUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Component resolvers with the precomputed type positions, compared with the types pattern scan.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResolverBenchmark {
+
+    public Field32A field = new Field32A("121212USD1234,56");
+
+    @Benchmark
+    public List<String> currencyStrings() {
+        return CurrencyResolver.currencyStrings(field);
+    }
+
+    @Benchmark
+    public List<String> currencyStringsPatternScan() {
+        return ResolverUtils.findWantedType(field.typesPattern(), 'C', field.getComponents());
+    }
+
+    @Benchmark
+    public List<BigDecimal> amounts() {
+        return AmountResolver.amounts(field);
+    }
+
+    @Benchmark
+    public List<BigDecimal> amountsPatternScan() {
+        return ResolverUtils.findNonNullWantedType(field.typesPattern(), 'I', field.getComponents()).stream()
+                .map(SwiftFormatUtils::getBigDecimal)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Calendar date() {
+        return DateResolver.date(field);
+    }
+
+}
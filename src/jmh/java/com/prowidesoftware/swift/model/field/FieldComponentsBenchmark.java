@@ -0,0 +1,84 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model.field;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Field components storage benchmark.
+ *
+ * <p>The creation benchmarks allocate new field instances, so with the gc profiler enabled the
+ * <code>gc.alloc.rate.norm</code> metric is the memory footprint per field (field object, components
+ * storage and parsed component strings). Since 9.3.9 the components are kept in a plain array
+ * instead of an ArrayList, saving the list object on each instance.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FieldComponentsBenchmark {
+
+    private Field32A field32A;
+    private Field98A field98A;
+
+    @Setup
+    public void setup() {
+        field32A = new Field32A("221019USD1234,56");
+        field98A = new Field98A(":SETT//20221019");
+    }
+
+    @Benchmark
+    public Field32A createEmpty() {
+        return new Field32A();
+    }
+
+    @Benchmark
+    public Field32A parse32A() {
+        return new Field32A("221019USD1234,56");
+    }
+
+    @Benchmark
+    public Field98A parse98A() {
+        return new Field98A(":SETT//20221019");
+    }
+
+    @Benchmark
+    public Field32A copy() {
+        return Field32A.newInstance(field32A);
+    }
+
+    @Benchmark
+    public void getComponent(final Blackhole bh) {
+        bh.consume(field32A.getComponent(1));
+        bh.consume(field32A.getComponent(2));
+        bh.consume(field32A.getComponent(3));
+    }
+
+    @Benchmark
+    public void iterateComponents(final Blackhole bh) {
+        for (final String c : field98A.getComponents()) {
+            bh.consume(c);
+        }
+    }
+
+    @Benchmark
+    public int hashCodeAndEquals() {
+        return field32A.hashCode() + (field32A.equals(field98A) ? 1 : 0);
+    }
+
+}
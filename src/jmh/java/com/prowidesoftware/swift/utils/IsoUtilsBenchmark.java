@@ -0,0 +1,66 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Currency;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ISO country and currency checks over a tag value, with the bitset lookups compared with substrings and the
+ * codes set.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IsoUtilsBenchmark {
+
+    public String value = "121212USD1234,56";
+
+    public String bic = "DEUTDEFFXXX";
+
+    @Benchmark
+    public boolean currency() {
+        return IsoUtils.getInstance().isValidISOCurrency(value, 6);
+    }
+
+    @Benchmark
+    public boolean currencySubstring() {
+        return IsoUtils.getInstance().getCurrencies().contains(value.substring(6, 9));
+    }
+
+    @Benchmark
+    public boolean country() {
+        return IsoUtils.getInstance().isValidISOCountry(bic, 4);
+    }
+
+    @Benchmark
+    public boolean countrySubstring() {
+        return IsoUtils.getInstance().getCountries().contains(bic.substring(4, 6));
+    }
+
+    @Benchmark
+    public Currency currencyInstance() {
+        return IsoUtils.getCurrency(value, 6);
+    }
+
+    @Benchmark
+    public Currency currencyInstanceLegacy() {
+        return Currency.getInstance(value.substring(6, 9));
+    }
+
+}
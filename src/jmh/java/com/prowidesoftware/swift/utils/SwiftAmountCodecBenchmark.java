@@ -0,0 +1,56 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SWIFT amounts parsing and formatting benchmark.
+ *
+ * <p>Since 9.3.9 the SwiftFormatUtils amount methods delegate to {@link SwiftAmountCodec} instead of creating a
+ * DecimalFormat per call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SwiftAmountCodecBenchmark {
+
+    private final BigDecimal amount = new BigDecimal("1234567.89");
+
+    @Benchmark
+    public BigDecimal parseBigDecimal() {
+        return SwiftFormatUtils.getBigDecimal("1234567,89");
+    }
+
+    @Benchmark
+    public long parseUnscaled() {
+        return SwiftAmountCodec.parseUnscaled("1234567,89");
+    }
+
+    @Benchmark
+    public String formatBigDecimal() {
+        return SwiftFormatUtils.getBigDecimal(amount);
+    }
+
+    @Benchmark
+    public String formatUnscaled() {
+        return SwiftAmountCodec.format(123456789L, 2);
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Calendar;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Date and time components parsing benchmark.
+ *
+ * <p>Compares the legacy Calendar based getters against the java.time based ones. Since 9.3.9 both are
+ * implemented with plain digit parsing instead of a new SimpleDateFormat per call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SwiftFormatUtilsDateBenchmark {
+
+    @Benchmark
+    public Calendar date2AsCalendar() {
+        return SwiftFormatUtils.getDate2("221019");
+    }
+
+    @Benchmark
+    public LocalDate date2AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate2("221019");
+    }
+
+    @Benchmark
+    public Calendar date4AsCalendar() {
+        return SwiftFormatUtils.getDate4("20221019");
+    }
+
+    @Benchmark
+    public LocalDate date4AsLocalDate() {
+        return SwiftFormatUtils.getLocalDate4("20221019");
+    }
+
+    @Benchmark
+    public Calendar time2AsCalendar() {
+        return SwiftFormatUtils.getTime2("101530");
+    }
+
+    @Benchmark
+    public LocalTime time2AsLocalTime() {
+        return SwiftFormatUtils.getLocalTime2("101530");
+    }
+
+}
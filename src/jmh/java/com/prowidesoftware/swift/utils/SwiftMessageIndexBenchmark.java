@@ -0,0 +1,83 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.utils;
+
+import com.prowidesoftware.swift.model.BenchmarkMessages;
+import com.prowidesoftware.swift.model.SwiftMessage;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup of a message among thousands of candidates, with a linear scan using the comparator and with the
+ * fingerprint index.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SwiftMessageIndexBenchmark {
+
+    @Param({"5000"})
+    public int candidates;
+
+    private SwiftMessageComparator comparator;
+    private List<SwiftMessage> list;
+    private SwiftMessageIndex index;
+    private SwiftMessage incoming;
+
+    @Setup
+    public void setup() throws IOException {
+        comparator = new SwiftMessageComparator();
+        comparator.setIgnoreTrailer(true);
+        comparator.setIgnoreHeaderSession(true);
+        comparator.setIgnoreEolsInMultiline(true);
+        list = new ArrayList<>();
+        for (int i = 0; i < candidates; i++) {
+            list.add(message(i));
+        }
+        index = new SwiftMessageIndex(comparator);
+        index.addAll(list);
+        incoming = message(candidates - 1);
+    }
+
+    @Benchmark
+    public SwiftMessage linearScan() {
+        for (SwiftMessage candidate : list) {
+            if (comparator.compare(incoming, candidate) == 0) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public SwiftMessage index() {
+        return index.findFirst(incoming).orElse(null);
+    }
+
+    @Benchmark
+    public MessageFingerprint fingerprint() {
+        return comparator.fingerprint(incoming);
+    }
+
+    private static SwiftMessage message(final int i) throws IOException {
+        return SwiftMessage.parse(BenchmarkMessages.mt103("{108:MUR}", "REFERENCE" + i) + BenchmarkMessages.TRAILER);
+    }
+
+}
@@ -16,7 +16,7 @@
 package com.prowidesoftware.swift.constraints;
 
 import com.prowidesoftware.swift.model.BIC;
-import com.prowidesoftware.swift.model.BicValidationResult;
+import com.prowidesoftware.swift.model.BicValidationStatus;
 import org.apache.commons.lang3.StringUtils;
 
 import javax.validation.ConstraintValidator;
@@ -25,7 +25,7 @@ import javax.validation.ConstraintValidatorContext;
 /**
  * Implementation of the BIC validation constraint
  *
- * @see BIC#validate() for implementation details
+ * @see BIC#validate(CharSequence) for implementation details
  * @since 7.10.3
  */
 public class BicValidator implements ConstraintValidator<BicConstraint, String> {
@@ -39,8 +39,8 @@ public class BicValidator implements ConstraintValidator<BicConstraint, String>
         if (StringUtils.isBlank(bic)) {
             return true;
         }
-        BicValidationResult result = new BIC(bic).validate();
-        if (result == BicValidationResult.OK) {
+        BicValidationStatus result = BIC.validate(bic);
+        if (result.isValid()) {
             return true;
         } else {
             context.disableDefaultConstraintViolation();
@@ -16,7 +16,7 @@
 package com.prowidesoftware.swift.constraints;
 
 import com.prowidesoftware.swift.model.IBAN;
-import com.prowidesoftware.swift.model.IbanValidationResult;
+import com.prowidesoftware.swift.model.IbanValidationStatus;
 import org.apache.commons.lang3.StringUtils;
 
 import javax.validation.ConstraintValidator;
@@ -39,8 +39,8 @@ public class IbanValidator implements ConstraintValidator<IbanConstraint, String
         if (StringUtils.isBlank(iban)) {
             return true;
         }
-        IbanValidationResult result = new IBAN(iban).validate();
-        if (result == IbanValidationResult.OK) {
+        IbanValidationStatus result = IBAN.validate(iban);
+        if (result.isValid()) {
             return true;
         } else {
             context.disableDefaultConstraintViolation();
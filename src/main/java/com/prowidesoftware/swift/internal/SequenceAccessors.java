@@ -0,0 +1,174 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.internal;
+
+import com.prowidesoftware.swift.model.SwiftTagListBlock;
+import com.prowidesoftware.swift.model.Tag;
+import com.prowidesoftware.swift.model.mt.AbstractMT;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Per MT class table of sequence accessors, resolved once by name and cached.
+ *
+ * <p>The tables are built on first use for each MT class from its public <code>getSequenceX()</code>,
+ * <code>getSequenceXList()</code> methods, their counterparts receiving a parent
+ * {@link SwiftTagListBlock}, and the <code>SequenceX.newInstance(Tag...)</code> factories of its inner
+ * sequence classes. Lookups by sequence name are then plain map access and the returned method handles
+ * are already adapted to a generic signature.
+ *
+ * @since 9.3.9
+ */
+public final class SequenceAccessors {
+    private static final Logger log = Logger.getLogger(SequenceAccessors.class.getName());
+
+    private static final String GETSEQUENCE = "getSequence";
+    private static final String LIST = "List";
+    private static final String SEQUENCE = "Sequence";
+
+    private static final MethodType INSTANCE_TYPE = MethodType.methodType(Object.class, AbstractMT.class);
+    private static final MethodType FROM_BLOCK_TYPE = MethodType.methodType(Object.class, AbstractMT.class, SwiftTagListBlock.class);
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(SwiftTagListBlock.class, Tag[].class);
+
+    private static final ClassValue<SequenceAccessors> CACHE = new ClassValue<SequenceAccessors>() {
+        @Override
+        protected SequenceAccessors computeValue(final Class<?> type) {
+            return new SequenceAccessors(type);
+        }
+    };
+
+    private final Map<String, MethodHandle> sequences = new HashMap<>();
+    private final Map<String, MethodHandle> sequenceLists = new HashMap<>();
+    private final Map<String, MethodHandle> sequencesFromBlock = new HashMap<>();
+    private final Map<String, MethodHandle> sequenceListsFromBlock = new HashMap<>();
+    private final Map<String, MethodHandle> factories = new HashMap<>();
+
+    private SequenceAccessors(final Class<?> type) {
+        final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        for (final Method method : type.getMethods()) {
+            final String name = method.getName();
+            if (name.length() <= GETSEQUENCE.length() || !name.startsWith(GETSEQUENCE)) {
+                continue;
+            }
+            final Class<?>[] params = method.getParameterTypes();
+            final boolean isStatic = Modifier.isStatic(method.getModifiers());
+            final boolean isList = name.endsWith(LIST) && List.class.isAssignableFrom(method.getReturnType());
+            final String sequenceName = name.substring(GETSEQUENCE.length(), isList ? name.length() - LIST.length() : name.length());
+            try {
+                if (params.length == 0 && !isStatic) {
+                    (isList ? sequenceLists : sequences).put(sequenceName, lookup.unreflect(method).asType(INSTANCE_TYPE));
+                } else if (params.length == 1 && params[0] == SwiftTagListBlock.class) {
+                    MethodHandle handle = lookup.unreflect(method);
+                    if (isStatic) {
+                        // static accessors get a leading ignored MT parameter to share the instance signature
+                        handle = MethodHandles.dropArguments(handle, 0, AbstractMT.class);
+                    }
+                    (isList ? sequenceListsFromBlock : sequencesFromBlock).put(sequenceName, handle.asType(FROM_BLOCK_TYPE));
+                }
+            } catch (final IllegalAccessException e) {
+                log.log(Level.FINE, "Cannot access " + name + " in " + type, e);
+            }
+        }
+        for (final Class<?> inner : type.getClasses()) {
+            final String name = inner.getSimpleName();
+            if (name.length() <= SEQUENCE.length() || !name.startsWith(SEQUENCE) || !SwiftTagListBlock.class.isAssignableFrom(inner)) {
+                continue;
+            }
+            try {
+                final MethodHandle factory = lookup.findStatic(inner, "newInstance", MethodType.methodType(inner, Tag[].class));
+                factories.put(name.substring(SEQUENCE.length()), factory.asType(FACTORY_TYPE));
+            } catch (final NoSuchMethodException | IllegalAccessException e) {
+                log.log(Level.FINE, "No newInstance(Tag...) factory in " + inner, e);
+            }
+        }
+    }
+
+    /**
+     * Gets the accessors table for the given MT class, creating it on first use.
+     *
+     * @param mt the specific MT class
+     * @return the cached accessors for the class
+     */
+    public static SequenceAccessors of(final Class<? extends AbstractMT> mt) {
+        return CACHE.get(mt);
+    }
+
+    /**
+     * @param name the sequence alpha numeric identifier such as A1a
+     * @return handle for the <code>getSequenceX()</code> instance method, with type (AbstractMT)Object, or null if not found
+     */
+    public MethodHandle sequence(final String name) {
+        return sequences.get(name);
+    }
+
+    /**
+     * @param name the sequence alpha numeric identifier such as A1a
+     * @return handle for the <code>getSequenceXList()</code> instance method, with type (AbstractMT)Object, or null if not found
+     */
+    public MethodHandle sequenceList(final String name) {
+        return sequenceLists.get(name);
+    }
+
+    /**
+     * @param name the sequence alpha numeric identifier such as A1a
+     * @return handle for the <code>getSequenceX(SwiftTagListBlock)</code> method, with type (AbstractMT,SwiftTagListBlock)Object, or null if not found
+     */
+    public MethodHandle sequenceFromBlock(final String name) {
+        return sequencesFromBlock.get(name);
+    }
+
+    /**
+     * @param name the sequence alpha numeric identifier such as A1a
+     * @return handle for the <code>getSequenceXList(SwiftTagListBlock)</code> method, with type (AbstractMT,SwiftTagListBlock)Object, or null if not found
+     */
+    public MethodHandle sequenceListFromBlock(final String name) {
+        return sequenceListsFromBlock.get(name);
+    }
+
+    /**
+     * @param name the sequence alpha numeric identifier such as A1a
+     * @return handle for the static <code>SequenceX.newInstance(Tag...)</code> factory, with type (Tag[])SwiftTagListBlock, or null if not found
+     */
+    public MethodHandle factory(final String name) {
+        return factories.get(name);
+    }
+
+    /**
+     * @return the names of the non repetitive sequences with an instance getter in the MT class
+     */
+    public Set<String> sequenceNames() {
+        return Collections.unmodifiableSet(sequences.keySet());
+    }
+
+    /**
+     * @return the names of the repetitive sequences with an instance list getter in the MT class
+     */
+    public Set<String> sequenceListNames() {
+        return Collections.unmodifiableSet(sequenceLists.keySet());
+    }
+
+}
@@ -68,10 +68,19 @@ public class FINWriterVisitor implements IMessageVisitor {
     ////////////////////////////////////////////////////////////
     @Override
     public void startMessage(SwiftMessage m) {
-
         // initialize status
-        this.block4asText = true;
+        this.block4asText = isBlock4AsText(m);
+    }
 
+    /**
+     * Tells the syntax used to write the block 4 of a message.
+     *
+     * @param m the message to write
+     * @return true if the block 4 is written with the text block syntax (fields separated by EOLs and ending with
+     * a hyphen), or false if it is written with the tag block syntax used for service and category 0 messages
+     * @since 9.3.9
+     */
+    public static boolean isBlock4AsText(final SwiftMessage m) {
         // If app identifier NOT 'F' OR service identifier NOT '01'  => USE TAG-BLOCK  syntax
         // If message type is category 0                             => USE TAG-BLOCK  syntax
         // Otherwise                                                 => USE TEXT-BLOCK syntax
@@ -83,7 +92,7 @@ public class FINWriterVisitor implements IMessageVisitor {
             boolean isAppIdOrServiceId = !StringUtils.equals(b1.getApplicationId(), "F") || !StringUtils.equals(b1.getServiceId(), "01");
             if (isAppIdOrServiceId) {
                 // if app identifier NOT 'F' OR service identifier NOT '01' => USE TAG-BLOCK syntax
-                this.block4asText = false;
+                return false;
             }
         }
 
@@ -94,9 +103,10 @@ public class FINWriterVisitor implements IMessageVisitor {
             String mt = StringUtils.trimToEmpty(b2.getMessageType());
             if (mt.startsWith("0")) {
                 // if message type is category 0 => USE TAG-BLOCK  syntax
-                this.block4asText = false;
+                return false;
             }
         }
+        return true;
     }
 
     @Override
@@ -85,6 +85,23 @@ public class SwiftWriter {
         Validate.notNull(writer, WRITER_MESSAGE);
         FINWriterVisitor v = new FINWriterVisitor(writer);
         v.setTrimTagValues(trimTagValues);
+        writeMessage(msg, v, ignoreEmptyBlocks);
+    }
+
+    /**
+     * Writes the given message content with a FIN writer visitor, controlling how to handle empty blocks. This is
+     * the same serialization of {@link #writeMessage(SwiftMessage, Writer, boolean, boolean)}, for visitors that
+     * customize the FIN output or track the written blocks.
+     *
+     * @param msg               the message to write
+     * @param visitor           the visitor that will actually write the content
+     * @param ignoreEmptyBlocks if true, empty blocks will not be written
+     * @throws IllegalArgumentException if msg or visitor are null
+     * @since 9.3.9
+     */
+    public static void writeMessage(SwiftMessage msg, FINWriterVisitor visitor, boolean ignoreEmptyBlocks) {
+        Validate.notNull(msg, "msg cannot be null");
+        Validate.notNull(visitor, "visitor cannot be null");
 
         if (ignoreEmptyBlocks) {
             // copy the blocks to a new message container
@@ -103,11 +120,11 @@ public class SwiftWriter {
             copy.removeEmptyBlocks();
 
             // serialize copy
-            copy.visit(v);
+            copy.visit(visitor);
 
         } else {
             // serialize message parameter as is
-            msg.visit(v);
+            msg.visit(visitor);
         }
     }
 
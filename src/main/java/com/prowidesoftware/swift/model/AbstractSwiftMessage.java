@@ -15,8 +15,6 @@
  */
 package com.prowidesoftware.swift.model;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.prowidesoftware.JsonSerializable;
 import com.prowidesoftware.deprecation.ProwideDeprecated;
 import com.prowidesoftware.deprecation.TargetYear;
@@ -45,12 +43,23 @@ import javax.xml.bind.annotation.XmlTransient;
  *
  * <p>This minimal abstraction make this model is specially suited for JPA to store all messages in a single table.
  *
+ * <p>The raw message content is loaded lazily when supported by the persistence provider, and can be compressed
+ * in the database, see {@link MessageContentConverter}. For list queries that only need the metadata use the
+ * {@link SwiftMessageSummary} entity instead.
+ *
  * <p>XML may be used to override or augment these default JPA annotations.
  *
  * @since 7.0
  */
 @Entity
-@Table(name = "swift_msg")
+@Table(name = "swift_msg", indexes = {
+        @Index(name = "swift_msg_identifier_idx", columnList = "identifier"),
+        @Index(name = "swift_msg_sender_idx", columnList = "sender"),
+        @Index(name = "swift_msg_receiver_idx", columnList = "receiver"),
+        @Index(name = "swift_msg_checksum_idx", columnList = "checksum"),
+        @Index(name = "swift_msg_creation_date_idx", columnList = "creation_date"),
+        @Index(name = "swift_msg_status_idx", columnList = "status")
+})
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "type", length = 2)
 public abstract class AbstractSwiftMessage implements Serializable, JsonSerializable {
@@ -70,6 +79,13 @@ public abstract class AbstractSwiftMessage implements Serializable, JsonSerializ
     private static final transient java.util.logging.Logger log = java.util.logging.Logger.getLogger(AbstractSwiftMessage.class.getName());
     private static final long serialVersionUID = 3769865560736793606L;
 
+    /**
+     * Default number of consecutive revisions between complete snapshots, see {@link #createDeltaRevision(int)}
+     *
+     * @since 9.3.9
+     */
+    public static final int DEFAULT_REVISION_SNAPSHOT_INTERVAL = 10;
+
     /**
      * Unique identifier (used for ORM mapped to the table record id)
      */
@@ -87,6 +103,8 @@ public abstract class AbstractSwiftMessage implements Serializable, JsonSerializ
     protected String receiver;
 
     @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @Convert(converter = MessageContentConverter.class)
     private String message;
 
     @Enumerated(EnumType.STRING)
@@ -1047,6 +1065,7 @@ public abstract class AbstractSwiftMessage implements Serializable, JsonSerializ
             copy.setCreationUser(rev.getCreationUser());
             copy.setMessage(rev.getMessage());
             copy.setJson(rev.getJson());
+            copy.setDelta(rev.getDelta());
             msg.addRevision(copy);
         }
     }
@@ -1095,6 +1114,86 @@ public abstract class AbstractSwiftMessage implements Serializable, JsonSerializ
         return rev;
     }
 
+    /**
+     * Creates a new revision of the message with a default interval of {@value #DEFAULT_REVISION_SNAPSHOT_INTERVAL}
+     * revisions between complete snapshots.
+     *
+     * @return the revision added
+     * @see #createDeltaRevision(int)
+     * @since 9.3.9
+     */
+    public SwiftMessageRevision createDeltaRevision() {
+        return createDeltaRevision(DEFAULT_REVISION_SNAPSHOT_INTERVAL);
+    }
+
+    /**
+     * Creates a new revision of the message storing its content as a delta against the previous revision, and adds
+     * it to the revision list.
+     *
+     * <p>The delta holds only the changes in the message content, at tag granularity for MT messages. A complete
+     * snapshot of the content is stored instead for the first revision, every given number of revisions to bound
+     * the cost of reconstructing a revision content, and when the delta is not smaller than the content.
+     *
+     * @param snapshotInterval maximum number of consecutive revisions from a complete snapshot to the next one, 1
+     *                         means all revisions are complete snapshots
+     * @return the revision added
+     * @throws IllegalArgumentException if the snapshot interval is not positive
+     * @see #getRevisionMessage(int)
+     * @since 9.3.9
+     */
+    public SwiftMessageRevision createDeltaRevision(int snapshotInterval) {
+        Validate.isTrue(snapshotInterval > 0, "snapshotInterval must be positive");
+        SwiftMessageRevision rev = new SwiftMessageRevision(this);
+        int size = this.revisions != null ? this.revisions.size() : 0;
+        int deltas = 0;
+        while (deltas < size && this.revisions.get(size - 1 - deltas).isDelta()) {
+            deltas++;
+        }
+        if (size > 0 && deltas < snapshotInterval - 1) {
+            String delta = RevisionDelta.diff(getRevisionMessage(size - 1), rev.getMessage());
+            if (rev.getMessage() == null || delta.length() < rev.getMessage().length()) {
+                rev.setDelta(delta);
+                rev.setMessage(null);
+            }
+        }
+        addRevision(rev);
+        return rev;
+    }
+
+    /**
+     * Gets the complete message content of a revision, reconstructing it from the nearest previous snapshot when
+     * the revision is stored as a delta.
+     *
+     * @param index the revision position in the revision list
+     * @return the revision message content
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalStateException     if the revision list has no complete snapshot before the delta revision, or
+     *                                   its deltas do not correspond to the previous revisions content
+     * @since 9.3.9
+     */
+    public String getRevisionMessage(int index) {
+        List<SwiftMessageRevision> list = this.revisions != null ? this.revisions : Collections.emptyList();
+        if (index < 0 || index >= list.size()) {
+            throw new IndexOutOfBoundsException("Revision index " + index + " out of range, revisions: " + list.size());
+        }
+        int snapshot = index;
+        while (snapshot >= 0 && list.get(snapshot).isDelta()) {
+            snapshot--;
+        }
+        if (snapshot < 0) {
+            throw new IllegalStateException("No complete revision found before delta revision " + index);
+        }
+        String content = list.get(snapshot).getMessage();
+        for (int i = snapshot + 1; i <= index; i++) {
+            try {
+                content = RevisionDelta.apply(content, list.get(i).getDelta());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException("Cannot reconstruct revision " + i + ": " + e.getMessage(), e);
+            }
+        }
+        return content;
+    }
+
     /**
      * @since 7.10.8
      */
@@ -1441,10 +1540,7 @@ public abstract class AbstractSwiftMessage implements Serializable, JsonSerializ
      * @since 7.10.6
      */
     protected String toJsonImpl() {
-        final Gson gson = new GsonBuilder()
-                .setPrettyPrinting()
-                .create();
-        return gson.toJson(this);
+        return SwiftMessageJsonWriter.gson(true).toJson(this);
     }
 
     /**
@@ -18,7 +18,9 @@ package com.prowidesoftware.swift.model;
 import com.prowidesoftware.swift.utils.IsoUtils;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Helper class to process BIC information.
@@ -62,6 +64,13 @@ public class BIC {
      */
     public static final String PARTNER_PREFIX = "PTS";
 
+    /**
+     * Maximum number of valid codes kept in the {@link #validate(CharSequence)} cache
+     */
+    private static final int VALID_CACHE_SIZE = 10_000;
+
+    private static final Map<String, Boolean> VALID_CACHE = new ConcurrentHashMap<>();
+
     protected String branch = null;
 
     private String institution = null;
@@ -131,56 +140,136 @@ public class BIC {
      * @since 7.10.3
      */
     public BicValidationResult validate() {
-        if (this.institution == null || this.country == null || this.location == null) {
-            return BicValidationResult.INVALID_LENGTH;
+        final BicValidationStatus status = check(
+                this.institution, 0, length(this.institution),
+                this.country, 0, length(this.country),
+                this.location, 0, length(this.location),
+                this.branch, 0, length(this.branch));
+        if (status.getFound() != null) {
+            return status.getResult().setFound(status.getFound());
+        }
+        return status.getResult();
+    }
+
+    /**
+     * Validates a BIC code without creating a {@link BIC} instance.
+     *
+     * <p>Performs the same checks as {@link #validate()} for a BIC created with the given code, but returns an
+     * immutable result and can be safely called from multiple threads. Valid BIC8 and BIC11 codes are kept in a
+     * bounded cache, so repeated validations of the same codes return without checking the content again.
+     *
+     * <p>Notice the cache is not aware of changes in the {@link IsoUtils} countries, a code validated before a country
+     * is removed will still be reported as valid while it remains in the cache.
+     *
+     * @param bic a BIC code
+     * @return the validation status, never null
+     * @since 9.3.9
+     */
+    public static BicValidationStatus validate(final CharSequence bic) {
+        if (bic == null) {
+            return BicValidationStatus.INVALID_LENGTH;
+        }
+        final int length = bic.length();
+        final boolean cacheable = length == 8 || length == 11;
+        if (cacheable && bic instanceof String && VALID_CACHE.containsKey(bic)) {
+            return BicValidationStatus.OK;
+        }
+        final BicValidationStatus status = check(bic);
+        if (cacheable && status.isValid()) {
+            if (VALID_CACHE.size() >= VALID_CACHE_SIZE) {
+                VALID_CACHE.clear();
+            }
+            VALID_CACHE.put(bic.toString(), Boolean.TRUE);
         }
-        if (this.institution.length() != 4) {
-            return BicValidationResult.INVALID_INSTITUTION_LENGTH
-                    .setFound(this.institution);
+        return status;
+    }
+
+    /**
+     * Checks the BIC parts directly on the code, unless the code contains whitespace, in which case it is parsed
+     * with the same trim semantic of {@link #parse(String)}.
+     */
+    private static BicValidationStatus check(final CharSequence bic) {
+        final int length = bic.length();
+        for (int i = 0; i < length; i++) {
+            if (bic.charAt(i) <= ' ') {
+                final BIC parsed = new BIC(bic.toString());
+                return check(
+                        parsed.institution, 0, length(parsed.institution),
+                        parsed.country, 0, length(parsed.country),
+                        parsed.location, 0, length(parsed.location),
+                        parsed.branch, 0, length(parsed.branch));
+            }
         }
-        if (this.country.length() != 2) {
-            return BicValidationResult.INVALID_COUNTRY_LENGTH
-                    .setFound(this.country);
+        final int branchStart = length >= 12 ? 9 : 8;
+        return check(
+                length > 0 ? bic : null, 0, Math.min(length, 4),
+                length > 4 ? bic : null, 4, Math.min(length, 6),
+                length > 6 ? bic : null, 6, Math.min(length, 8),
+                length > branchStart ? bic : null, branchStart, length);
+    }
+
+    /**
+     * Validation checks for the BIC parts, each part is given as a text range and a null text means the part is not
+     * present.
+     */
+    private static BicValidationStatus check(
+            final CharSequence institution, final int i0, final int i1,
+            final CharSequence country, final int c0, final int c1,
+            final CharSequence location, final int l0, final int l1,
+            final CharSequence branch, final int b0, final int b1) {
+        if (institution == null || country == null || location == null) {
+            return BicValidationStatus.INVALID_LENGTH;
+        }
+        if (i1 - i0 != 4) {
+            return status(BicValidationResult.INVALID_INSTITUTION_LENGTH, institution, i0, i1);
         }
-        if (this.location.length() != 2) {
-            return BicValidationResult.INVALID_LOCATION_LENGTH
-                    .setFound(this.location);
+        if (c1 - c0 != 2) {
+            return status(BicValidationResult.INVALID_COUNTRY_LENGTH, country, c0, c1);
         }
-        if (this.branch != null && this.branch.length() != 3) {
-            return BicValidationResult.INVALID_BRANCH_LENGTH
-                    .setFound(this.branch);
+        if (l1 - l0 != 2) {
+            return status(BicValidationResult.INVALID_LOCATION_LENGTH, location, l0, l1);
         }
-        if (!isUpperCase(this.institution)) {
-            return BicValidationResult.INVALID_INSTITUTION_CHARSET
-                    .setFound(this.institution);
+        if (branch != null && b1 - b0 != 3) {
+            return status(BicValidationResult.INVALID_BRANCH_LENGTH, branch, b0, b1);
         }
-        if (!IsoUtils.getInstance().isValidISOCountry(this.country)) {
-            return BicValidationResult.INVALID_COUNTRY
-                    .setFound(this.country);
+        if (!isUpperCase(institution, i0, i1)) {
+            return status(BicValidationResult.INVALID_INSTITUTION_CHARSET, institution, i0, i1);
         }
-        if (!isUpperCaseOrDigit(this.location)) {
-            return BicValidationResult.INVALID_LOCATION_CHARSET
-                    .setFound(this.location);
+        if (!IsoUtils.getInstance().isValidISOCountry(country, c0)) {
+            return status(BicValidationResult.INVALID_COUNTRY, country, c0, c1);
         }
-        if (this.branch != null && !isUpperCaseOrDigit(this.branch)) {
-            return BicValidationResult.INVALID_BRANCH_CHARSET
-                    .setFound(this.branch);
+        if (!isUpperCaseOrDigit(location, l0, l1)) {
+            return status(BicValidationResult.INVALID_LOCATION_CHARSET, location, l0, l1);
         }
-        return BicValidationResult.OK;
+        if (branch != null && !isUpperCaseOrDigit(branch, b0, b1)) {
+            return status(BicValidationResult.INVALID_BRANCH_CHARSET, branch, b0, b1);
+        }
+        return BicValidationStatus.OK;
+    }
+
+    private static BicValidationStatus status(final BicValidationResult result, final CharSequence text, final int start, final int end) {
+        return new BicValidationStatus(result, text.subSequence(start, end).toString());
+    }
+
+    private static int length(final String text) {
+        return text != null ? text.length() : 0;
     }
 
-    private boolean isUpperCase(final String text) {
-        for (int i = 0; i < text.length(); i++) {
-            if (!Character.isUpperCase(text.charAt(i))) {
+    private static boolean isUpperCase(final CharSequence text, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            final char c = text.charAt(i);
+            if ((c < 'A' || c > 'Z') && (c < 128 || !Character.isUpperCase(c))) {
                 return false;
             }
         }
         return true;
     }
 
-    private boolean isUpperCaseOrDigit(final String text) {
-        for (int i = 0; i < text.length(); i++) {
-            if (!Character.isUpperCase(text.charAt(i)) && !Character.isDigit(text.charAt(i))) {
+    private static boolean isUpperCaseOrDigit(final CharSequence text, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            final char c = text.charAt(i);
+            if ((c < 'A' || c > 'Z') && (c < '0' || c > '9')
+                    && (c < 128 || !Character.isUpperCase(c) && !Character.isDigit(c))) {
                 return false;
             }
         }
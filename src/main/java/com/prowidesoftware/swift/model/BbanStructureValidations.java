@@ -36,6 +36,10 @@ import java.util.logging.Level;
  * The BBAN is the last part of the IBAN when used for international funds transfers.
  * Every country has it's specific BBAN format and length depending on it's own standards.
  *
+ * <p>The structures are indexed by country code and compiled into validators on first use. The index is rebuilt
+ * when the structures list is replaced or its size changes, so structures modified in place after being used
+ * should be set again with {@link #setBbanStructures(List)}.
+ *
  * @author psantamarina
  * @since 7.9.7
  */
@@ -47,6 +51,11 @@ public final class BbanStructureValidations {
 
     private List<BbanStructureDTO> bbanStructures = null;
 
+    /*
+     * Compiled validators indexed by the two letters country code, rebuilt when the structures list changes
+     */
+    private volatile Index index;
+
     private BbanStructureValidations() {
         Gson gson = new GsonBuilder()
                 .registerTypeAdapter(BbanEntryType.class, new BbanEntryTypeDeserializer())
@@ -93,6 +102,13 @@ public final class BbanStructureValidations {
      * @see #contains(String)
      */
     public BbanStructureDTO forCountry(final String countryCode) {
+        if (countryCode != null && countryCode.length() == 2) {
+            final int slot = Index.slot(countryCode, 0);
+            if (slot >= 0) {
+                final BbanValidator validator = index().validators[slot];
+                return validator != null ? validator.getStructure() : null;
+            }
+        }
         BbanStructureDTO bbanStructure = null;
         if (this.bbanStructures != null) {
             for (BbanStructureDTO structure : this.bbanStructures) {
@@ -105,6 +121,29 @@ public final class BbanStructureValidations {
         return bbanStructure;
     }
 
+    /**
+     * Gets the compiled BBAN validator for the country code found at the given position of a text.
+     *
+     * @param text   a text containing a country code, such as an IBAN
+     * @param offset the country code position in the text
+     * @return the validator for the country or null if the country is not supported
+     * @since 9.3.9
+     */
+    BbanValidator validator(final CharSequence text, final int offset) {
+        final int slot = Index.slot(text, offset);
+        return slot >= 0 ? index().validators[slot] : null;
+    }
+
+    private Index index() {
+        final List<BbanStructureDTO> structures = this.bbanStructures;
+        Index result = this.index;
+        if (result == null || result.source != structures || result.size != (structures != null ? structures.size() : 0)) {
+            result = new Index(structures);
+            this.index = result;
+        }
+        return result;
+    }
+
     /**
      * Checks if the given country is configured for BBAN validations
      *
@@ -112,7 +151,7 @@ public final class BbanStructureValidations {
      * @return true if a BBAN structure exists for the given country
      */
     public boolean contains(final String countryCode) {
-        return supportedCountries().contains(countryCode);
+        return forCountry(countryCode) != null;
     }
 
     /**
@@ -144,4 +183,42 @@ public final class BbanStructureValidations {
         return this;
     }
 
+    /**
+     * BBAN validators indexed by country code in a 26x26 array, the first structure found for a country is used
+     */
+    private static final class Index {
+        private final List<BbanStructureDTO> source;
+        private final int size;
+        private final BbanValidator[] validators = new BbanValidator[26 * 26];
+
+        private Index(final List<BbanStructureDTO> source) {
+            this.source = source;
+            this.size = source != null ? source.size() : 0;
+            if (source != null) {
+                for (BbanStructureDTO structure : source) {
+                    final String country = structure.getCountry_coode();
+                    final int slot = country != null && country.length() == 2 ? slot(country, 0) : -1;
+                    if (slot >= 0 && validators[slot] == null) {
+                        validators[slot] = new BbanValidator(structure);
+                    }
+                }
+            }
+        }
+
+        /**
+         * @return the array index for the two uppercase letters at the given position, or -1 if not letters
+         */
+        private static int slot(final CharSequence text, final int offset) {
+            if (text == null || offset < 0 || offset + 2 > text.length()) {
+                return -1;
+            }
+            final char c1 = text.charAt(offset);
+            final char c2 = text.charAt(offset + 1);
+            if (c1 < 'A' || c1 > 'Z' || c2 < 'A' || c2 > 'Z') {
+                return -1;
+            }
+            return (c1 - 'A') * 26 + (c2 - 'A');
+        }
+    }
+
 }
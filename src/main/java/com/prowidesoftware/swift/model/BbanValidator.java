@@ -0,0 +1,109 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import java.util.List;
+
+/**
+ * A country BBAN structure compiled into flat arrays of entry offsets, lengths and charsets, to validate the BBAN
+ * part of an IBAN in place without creating substrings for each entry.
+ *
+ * @see BbanStructureValidations
+ * @since 9.3.9
+ */
+final class BbanValidator {
+
+    private final BbanStructureDTO structure;
+    private final int length;
+    private final int[] offsets;
+    private final int[] lengths;
+    private final SwiftCharset[] charsets;
+    private final BbanEntryType[] types;
+
+    BbanValidator(final BbanStructureDTO structure) {
+        this.structure = structure;
+        final List<BbanStructureEntryDTO> entries = structure.getValidation_rules();
+        final int size = entries != null ? entries.size() : 0;
+        this.offsets = new int[size];
+        this.lengths = new int[size];
+        this.charsets = new SwiftCharset[size];
+        this.types = new BbanEntryType[size];
+        int offset = 0;
+        for (int i = 0; i < size; i++) {
+            final BbanStructureEntryDTO entry = entries.get(i);
+            this.offsets[i] = offset;
+            this.lengths[i] = entry.getLength();
+            this.charsets[i] = entry.getCharacterType();
+            this.types[i] = entry.getEntryType();
+            offset += entry.getLength();
+        }
+        this.length = offset;
+    }
+
+    BbanStructureDTO getStructure() {
+        return structure;
+    }
+
+    /**
+     * @return the expected BBAN length
+     */
+    int getLength() {
+        return length;
+    }
+
+    /**
+     * Validates the BBAN length and the character type of each entry.
+     *
+     * @param text   the text containing the BBAN
+     * @param offset the BBAN start position in the text, the BBAN extends to the end of the text
+     * @return problem found or null if OK
+     */
+    IbanValidationStatus validate(final String text, final int offset) {
+        final int foundLength = text.length() - offset;
+        if (foundLength != length) {
+            return new IbanValidationStatus(IbanValidationResult.BBAN_INVALID_LENGTH,
+                    "found", text.substring(offset),
+                    "foundLength", String.valueOf(foundLength),
+                    "expectedLength", String.valueOf(length));
+        }
+        for (int i = 0; i < offsets.length; i++) {
+            final int start = offset + offsets[i];
+            if (SwiftCharsetUtils.is(text, start, start + lengths[i], charsets[i]) != SwiftCharsetUtils.OK) {
+                IbanValidationResult result = null;
+                switch (charsets[i]) {
+                    case a:
+                        result = IbanValidationResult.BBAN_INVALID_UPPER_CASE_LETTERS;
+                        break;
+                    case c:
+                        result = IbanValidationResult.BBAN_INVALID_DIGITS_OR_LETTERS;
+                        break;
+                    case n:
+                        result = IbanValidationResult.BBAN_INVALID_DIGITS;
+                        break;
+                    default:
+                        break;
+                }
+                if (result != null) {
+                    return new IbanValidationStatus(result,
+                            "found", text.substring(start, start + lengths[i]),
+                            "bbanEntryType", types[i].name());
+                }
+            }
+        }
+        return null;
+    }
+
+}
@@ -20,6 +20,9 @@ import java.util.Objects;
 /**
  * To indicate the validation problem found when validating a BIC
  *
+ * <p>Notice the {@code found} content is a shared state of the enum values, use {@link BIC#validate(CharSequence)}
+ * and the immutable {@link BicValidationStatus} when validating BIC codes from multiple threads.
+ *
  * @author sebastian
  * @see BIC#validate()
  * @since 7.10.3
@@ -50,6 +53,17 @@ public enum BicValidationResult {
      * @return message with variables replaced
      */
     public String message() {
+        return message(this.found);
+    }
+
+    /**
+     * Validation problem description with the given found content, this method does not change the enum state.
+     *
+     * @param found content for the {@code found} placeholder
+     * @return message with variables replaced
+     * @since 9.3.9
+     */
+    String message(final String found) {
         return this.message
                 .replace("${found}", Objects.toString(found))
                 .replace("${length}", found == null ? "-1" : String.valueOf(found.length()));
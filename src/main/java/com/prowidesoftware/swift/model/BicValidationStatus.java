@@ -0,0 +1,95 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import java.util.Objects;
+
+/**
+ * Immutable result of a BIC validation, with the validation problem found and the offending BIC part.
+ *
+ * <p>Contrary to the {@link BicValidationResult} enum, instances of this class do not share state and can be safely
+ * used from multiple threads.
+ *
+ * @see BIC#validate(CharSequence)
+ * @since 9.3.9
+ */
+public final class BicValidationStatus {
+
+    /**
+     * Status for a valid BIC code
+     */
+    public static final BicValidationStatus OK = new BicValidationStatus(BicValidationResult.OK, null);
+
+    static final BicValidationStatus INVALID_LENGTH = new BicValidationStatus(BicValidationResult.INVALID_LENGTH, null);
+
+    private final BicValidationResult result;
+    private final String found;
+
+    BicValidationStatus(final BicValidationResult result, final String found) {
+        this.result = result;
+        this.found = found;
+    }
+
+    /**
+     * @return the validation problem found, or {@link BicValidationResult#OK} if the BIC is valid
+     */
+    public BicValidationResult getResult() {
+        return result;
+    }
+
+    /**
+     * @return the BIC part with the validation problem or null if the BIC is valid or the problem is the total length
+     */
+    public String getFound() {
+        return found;
+    }
+
+    /**
+     * @return true if the BIC is valid
+     */
+    public boolean isValid() {
+        return result == BicValidationResult.OK;
+    }
+
+    /**
+     * Validation problem description including expected and found content when necessary.
+     *
+     * @return message with variables replaced
+     * @see BicValidationResult#message()
+     */
+    public String message() {
+        return result.message(found);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BicValidationStatus that = (BicValidationStatus) o;
+        return result == that.result && Objects.equals(found, that.found);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(result, found);
+    }
+
+    @Override
+    public String toString() {
+        return message();
+    }
+
+}
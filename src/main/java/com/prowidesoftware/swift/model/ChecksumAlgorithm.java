@@ -0,0 +1,75 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.function.Supplier;
+
+/**
+ * Hash algorithms available for the message checksums.
+ *
+ * @see SwiftMessageUtils#calculateChecksum(SwiftMessage, ChecksumAlgorithm, ChecksumEncoding)
+ * @since 9.3.9
+ */
+public enum ChecksumAlgorithm {
+    /**
+     * MD5, the algorithm used by default for the checksums, 16 bytes
+     */
+    MD5(() -> jca("MD5")),
+    /**
+     * SHA-256, a cryptographic hash, 32 bytes
+     */
+    SHA_256(() -> jca("SHA-256")),
+    /**
+     * 128-bit MurmurHash3 (x64 variant), a fast non-cryptographic hash for duplicates detection and integrity
+     * checks, 16 bytes
+     */
+    MURMUR3_128(Murmur3Digest::new);
+
+    private final Supplier<MessageDigest> factory;
+    private final ThreadLocal<DigestWriter> writers;
+
+    ChecksumAlgorithm(final Supplier<MessageDigest> factory) {
+        this.factory = factory;
+        this.writers = ThreadLocal.withInitial(() -> new DigestWriter(factory.get()));
+    }
+
+    /**
+     * @return a new message digest instance for this algorithm
+     */
+    public MessageDigest newDigest() {
+        return factory.get();
+    }
+
+    /**
+     * @return the reusable digest writer for the current thread, with no content written
+     */
+    DigestWriter writer() {
+        final DigestWriter writer = writers.get();
+        writer.reset();
+        return writer;
+    }
+
+    private static MessageDigest jca(final String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (final NoSuchAlgorithmException e) {
+            // MD5 and SHA-256 are required in every Java platform implementation
+            throw new IllegalStateException(e);
+        }
+    }
+}
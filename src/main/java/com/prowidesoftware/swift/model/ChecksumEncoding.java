@@ -0,0 +1,59 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import java.util.Base64;
+
+/**
+ * Text encodings for the message checksums.
+ *
+ * @see SwiftMessageUtils#calculateChecksum(SwiftMessage, ChecksumAlgorithm, ChecksumEncoding)
+ * @since 9.3.9
+ */
+public enum ChecksumEncoding {
+    /**
+     * Lowercase hexadecimal, two characters per byte; for example 32 characters for an MD5 hash
+     */
+    HEX {
+        @Override
+        public String encode(final byte[] hash) {
+            final char[] result = new char[hash.length << 1];
+            for (int i = 0; i < hash.length; i++) {
+                result[i << 1] = HEX_DIGITS[(hash[i] >> 4) & 0xF];
+                result[(i << 1) + 1] = HEX_DIGITS[hash[i] & 0xF];
+            }
+            return new String(result);
+        }
+    },
+    /**
+     * Base64 without padding; for example 22 characters for an MD5 hash
+     */
+    BASE64 {
+        @Override
+        public String encode(final byte[] hash) {
+            return BASE64_ENCODER.encodeToString(hash);
+        }
+    };
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final Base64.Encoder BASE64_ENCODER = Base64.getEncoder().withoutPadding();
+
+    /**
+     * @param hash the hash bytes
+     * @return the hash encoded as text
+     */
+    public abstract String encode(byte[] hash);
+}
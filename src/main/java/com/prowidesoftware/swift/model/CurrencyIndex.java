@@ -0,0 +1,137 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import java.util.Arrays;
+import java.util.Currency;
+
+/**
+ * Primitive int representation of three letter currency codes.
+ *
+ * <p>The index is computed from the code letters, AAA is 0 and ZZZ is {@link #SIZE} - 1, so it can be used as a
+ * compact key or array index for currency codes without allocating Strings or {@link Currency} instances.
+ *
+ * @see MoneyAggregator
+ * @since 9.3.9
+ */
+public final class CurrencyIndex {
+
+    /**
+     * Number of possible currency indexes, from AAA to ZZZ
+     */
+    public static final int SIZE = 26 * 26 * 26;
+
+    private static final Currency[] CURRENCIES = new Currency[SIZE];
+    private static final byte[] FRACTION_DIGITS = new byte[SIZE];
+
+    static {
+        Arrays.fill(FRACTION_DIGITS, (byte) -1);
+        for (Currency currency : Currency.getAvailableCurrencies()) {
+            final int index = of(currency.getCurrencyCode());
+            if (index >= 0) {
+                CURRENCIES[index] = currency;
+                FRACTION_DIGITS[index] = (byte) currency.getDefaultFractionDigits();
+            }
+        }
+    }
+
+    // Suppress default constructor for noninstantiability
+    private CurrencyIndex() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Gets the index for a currency code.
+     *
+     * @param code a three uppercase letters currency code
+     * @return the currency index or -1 if the code is null or not three uppercase letters
+     */
+    public static int of(final CharSequence code) {
+        if (code == null || code.length() != 3) {
+            return -1;
+        }
+        return of(code, 0);
+    }
+
+    /**
+     * Gets the index for the currency code found at the given position in a text.
+     *
+     * @param text   a not null text
+     * @param offset the position of the currency code in the text
+     * @return the currency index or -1 if the three characters at the offset are not uppercase letters
+     */
+    public static int of(final CharSequence text, final int offset) {
+        if (offset < 0 || offset + 3 > text.length()) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = offset; i < offset + 3; i++) {
+            final char c = text.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                return -1;
+            }
+            index = index * 26 + (c - 'A');
+        }
+        return index;
+    }
+
+    /**
+     * Gets the currency code for an index.
+     *
+     * @param index a currency index
+     * @return the three letters currency code
+     * @throws IllegalArgumentException if the index is out of range
+     */
+    public static String code(final int index) {
+        if (index < 0 || index >= SIZE) {
+            throw new IllegalArgumentException("invalid currency index " + index);
+        }
+        return new String(new char[]{
+                (char) ('A' + index / 676),
+                (char) ('A' + index / 26 % 26),
+                (char) ('A' + index % 26)});
+    }
+
+    /**
+     * Gets the Java {@link Currency} for an index.
+     * <p>The currencies are looked up in a table built once from {@link Currency#getAvailableCurrencies()}.
+     *
+     * @param index a currency index
+     * @return the currency or null if the index is not a currency supported by the JVM
+     */
+    public static Currency currency(final int index) {
+        if (index < 0 || index >= SIZE) {
+            return null;
+        }
+        return CURRENCIES[index];
+    }
+
+    /**
+     * Gets the ISO 4217 default fraction digits for a currency, for example 2 for USD and 0 for JPY.
+     *
+     * @param index a currency index
+     * @return the number of fraction digits or -1 if the index is not an ISO currency or the currency has no
+     * fraction digits defined (for example the XAU gold code)
+     * @see Currency#getDefaultFractionDigits()
+     */
+    public static int fractionDigits(final int index) {
+        if (index < 0 || index >= SIZE) {
+            return -1;
+        }
+        return FRACTION_DIGITS[index];
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import java.io.Writer;
+import java.security.MessageDigest;
+
+/**
+ * Writer that feeds the UTF-8 encoding of the written characters into a message digest, to compute a hash of
+ * serialized content without building it as a String nor as a byte array.
+ *
+ * <p>Instances are not thread safe, they are reused per thread through {@link ChecksumAlgorithm}.
+ *
+ * @since 9.3.9
+ */
+final class DigestWriter extends Writer {
+
+    private final MessageDigest digest;
+    private final byte[] buffer = new byte[1024];
+    private int count;
+    private char highSurrogate;
+
+    DigestWriter(final MessageDigest digest) {
+        this.digest = digest;
+    }
+
+    @Override
+    public void write(final int c) {
+        encode((char) c);
+    }
+
+    @Override
+    public void write(final char[] cbuf, final int off, final int len) {
+        for (int i = off; i < off + len; i++) {
+            encode(cbuf[i]);
+        }
+    }
+
+    @Override
+    public void write(final String str, final int off, final int len) {
+        for (int i = off; i < off + len; i++) {
+            encode(str.charAt(i));
+        }
+    }
+
+    /**
+     * Encodes the char as UTF-8, with the same replacement of malformed surrogates as {@link String#getBytes(java.nio.charset.Charset)}
+     */
+    private void encode(final char c) {
+        if (highSurrogate != 0) {
+            final char high = highSurrogate;
+            highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                final int cp = Character.toCodePoint(high, c);
+                put(0xF0 | (cp >> 18));
+                put(0x80 | ((cp >> 12) & 0x3F));
+                put(0x80 | ((cp >> 6) & 0x3F));
+                put(0x80 | (cp & 0x3F));
+                return;
+            }
+            put('?');
+        }
+        if (c < 0x80) {
+            if (count == buffer.length) {
+                flushBuffer();
+            }
+            buffer[count++] = (byte) c;
+        } else if (c < 0x800) {
+            put(0xC0 | (c >> 6));
+            put(0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            put('?');
+        } else {
+            put(0xE0 | (c >> 12));
+            put(0x80 | ((c >> 6) & 0x3F));
+            put(0x80 | (c & 0x3F));
+        }
+    }
+
+    private void put(final int b) {
+        if (count == buffer.length) {
+            flushBuffer();
+        }
+        buffer[count++] = (byte) b;
+    }
+
+    private void flushBuffer() {
+        digest.update(buffer, 0, count);
+        count = 0;
+    }
+
+    /**
+     * Completes the hash computation for the content written so far, and resets this writer for reuse.
+     *
+     * @return the digest bytes
+     */
+    byte[] digest() {
+        if (highSurrogate != 0) {
+            highSurrogate = 0;
+            put('?');
+        }
+        flushBuffer();
+        return digest.digest();
+    }
+
+    /**
+     * Discards any content written so far.
+     */
+    void reset() {
+        count = 0;
+        highSurrogate = 0;
+        digest.reset();
+    }
+
+    @Override
+    public void flush() {
+        // the content is kept until the digest is computed
+    }
+
+    @Override
+    public void close() {
+        // nothing to release
+    }
+
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * In-process detector of duplicate messages, for example to flag possible duplicate emissions before sending or
+ * to discard duplicates received.
+ *
+ * <p>The message identity is configured with a {@link DuplicateKey}, and is hashed into a 128-bit MurmurHash3
+ * fingerprint streaming the message content, see {@link ChecksumAlgorithm#MURMUR3_128}. Fingerprints are checked
+ * in two levels:
+ * <ul>
+ *     <li>A concurrent LRU of the most recent keys, split in stripes locked independently, that gives an exact
+ *     {@link DuplicateVerdict#DUPLICATE} verdict</li>
+ *     <li>A scalable Bloom filter covering a longer window of keys with a small memory footprint, that gives a
+ *     {@link DuplicateVerdict#POSSIBLE_DUPLICATE} verdict, with a configurable false positive probability</li>
+ * </ul>
+ *
+ * <p>Each check records the message identity. The detector is thread safe, checks on different keys run in
+ * parallel and concurrent checks of the same key are serialized, so exactly one of them is reported as
+ * {@link DuplicateVerdict#UNIQUE}.
+ * <pre>
+ * DuplicateDetector detector = new DuplicateDetector(DuplicateKey.MUR_UETR);
+ * ...
+ * if (detector.check(m).isPossibleDuplicate()) {
+ *     m.setPDE();
+ * }
+ * </pre>
+ *
+ * @since 9.3.9
+ */
+public final class DuplicateDetector {
+
+    /**
+     * Default number of recent keys kept in the LRU
+     */
+    public static final int DEFAULT_RECENT_CAPACITY = 100_000;
+
+    /**
+     * Default number of keys covered by the Bloom filter
+     */
+    public static final long DEFAULT_WINDOW_CAPACITY = 10_000_000;
+
+    /**
+     * Default false positive probability for the Bloom filter
+     */
+    public static final double DEFAULT_FALSE_POSITIVE_PROBABILITY = 0.0001;
+
+    private final DuplicateKey key;
+    private final Stripe[] stripes;
+    private final ScalableBloomFilter window;
+
+    /**
+     * Creates a detector with the default capacities.
+     *
+     * @param key the message identity
+     */
+    public DuplicateDetector(final DuplicateKey key) {
+        this(key, DEFAULT_RECENT_CAPACITY, DEFAULT_WINDOW_CAPACITY, DEFAULT_FALSE_POSITIVE_PROBABILITY);
+    }
+
+    /**
+     * Creates a detector.
+     *
+     * @param key                      the message identity
+     * @param recentCapacity           number of recent keys kept in the LRU for exact duplicates detection
+     * @param windowCapacity           number of keys covered by the Bloom filter for possible duplicates detection
+     * @param falsePositiveProbability probability of reporting a possible duplicate for a new key, between 0 and 1
+     * @throws IllegalArgumentException if the capacities are not positive or the probability is out of range
+     */
+    public DuplicateDetector(final DuplicateKey key, final int recentCapacity, final long windowCapacity, final double falsePositiveProbability) {
+        this.key = Objects.requireNonNull(key, "key must not be null");
+        if (recentCapacity <= 0) {
+            throw new IllegalArgumentException("recentCapacity must be positive: " + recentCapacity);
+        }
+        this.window = new ScalableBloomFilter(windowCapacity, falsePositiveProbability);
+        int count = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 4 - 1) << 1;
+        // keep at least some hundred keys per stripe, so the LRU order is meaningful
+        while (count > 1 && recentCapacity / count < 256) {
+            count >>= 1;
+        }
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe((recentCapacity + count - 1) / count);
+        }
+    }
+
+    /**
+     * Checks the message identity against the keys seen before, and records it.
+     *
+     * @param m the message to check
+     * @return the verdict, {@link DuplicateVerdict#NO_KEY} if the message is null or has no data for the identity
+     */
+    public DuplicateVerdict check(final SwiftMessage m) {
+        if (m == null) {
+            return DuplicateVerdict.NO_KEY;
+        }
+        final DigestWriter writer = ChecksumAlgorithm.MURMUR3_128.writer();
+        if (!key.write(m, writer)) {
+            return DuplicateVerdict.NO_KEY;
+        }
+        final byte[] hash = writer.digest();
+        return check(new Fingerprint(toLong(hash, 0), toLong(hash, 8)));
+    }
+
+    /**
+     * Checks the message identity as in {@link #check(SwiftMessage)}, and sets the possible duplicate emission flag
+     * in the message trailer when the message is a duplicate or possible duplicate.
+     *
+     * <p>Frozen messages cannot be flagged, so they are rejected before their identity is recorded.
+     *
+     * @param m the message to check
+     * @return the verdict
+     * @throws UnsupportedOperationException if the message is frozen
+     * @see SwiftMessage#setPDE()
+     * @see SwiftMessage#freeze()
+     */
+    public DuplicateVerdict checkAndSetPDE(final SwiftMessage m) {
+        if (m != null && m.isFrozen()) {
+            throw new UnsupportedOperationException("Cannot set the PDE flag in a frozen message, use SwiftMessage#thaw() to get a modifiable copy");
+        }
+        final DuplicateVerdict verdict = check(m);
+        if (verdict.isPossibleDuplicate()) {
+            m.setPDE();
+        }
+        return verdict;
+    }
+
+    /**
+     * Discards all the keys recorded
+     */
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+        window.clear();
+    }
+
+    /**
+     * @return the message identity used by this detector
+     */
+    public DuplicateKey getKey() {
+        return key;
+    }
+
+    private DuplicateVerdict check(final Fingerprint fingerprint) {
+        // stripes selected with bits not used by the hash map buckets
+        final Stripe stripe = stripes[(int) (fingerprint.h2 >>> 32) & (stripes.length - 1)];
+        synchronized (stripe) {
+            if (stripe.get(fingerprint) != null) {
+                return DuplicateVerdict.DUPLICATE;
+            }
+            stripe.put(fingerprint, Boolean.TRUE);
+            return window.put(fingerprint.h1, fingerprint.h2) ? DuplicateVerdict.POSSIBLE_DUPLICATE : DuplicateVerdict.UNIQUE;
+        }
+    }
+
+    private static long toLong(final byte[] b, final int offset) {
+        long result = 0;
+        for (int i = offset + 7; i >= offset; i--) {
+            result = (result << 8) | (b[i] & 0xFFL);
+        }
+        return result;
+    }
+
+    /**
+     * Access ordered map with a maximum size, guarded by its own monitor
+     */
+    private static final class Stripe extends LinkedHashMap<Fingerprint, Boolean> {
+        private static final long serialVersionUID = 1L;
+        private final int capacity;
+
+        Stripe(final int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Fingerprint, Boolean> eldest) {
+            return size() > capacity;
+        }
+    }
+
+    private static final class Fingerprint {
+        private final long h1;
+        private final long h2;
+
+        Fingerprint(final long h1, final long h2) {
+            this.h1 = h1;
+            this.h2 = h2;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final Fingerprint that = (Fingerprint) o;
+            return h1 == that.h1 && h2 == that.h2;
+        }
+
+        @Override
+        public int hashCode() {
+            return (int) (h1 ^ (h1 >>> 32));
+        }
+    }
+
+}
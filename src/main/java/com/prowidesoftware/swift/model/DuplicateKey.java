@@ -0,0 +1,120 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import com.prowidesoftware.swift.io.writer.SwiftWriter;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Message identities for duplicates detection, see {@link DuplicateDetector}.
+ *
+ * @since 9.3.9
+ */
+public enum DuplicateKey {
+    /**
+     * The complete message content in FIN format, excluding the trailer and user blocks, so a retransmission with
+     * the same headers and content is detected even if the trailer flags differ. Notice the session and sequence
+     * numbers of the basic header are part of the identity.
+     */
+    FULL_CHECKSUM {
+        @Override
+        boolean write(final SwiftMessage m, final DigestWriter writer) {
+            boolean written = false;
+            if (m.getBlock1() != null) {
+                SwiftWriter.writeBlock1(m.getBlock1(), writer);
+                written = true;
+            }
+            if (m.getBlock2() != null) {
+                SwiftWriter.writeBlock2(m.getBlock2(), writer);
+                written = true;
+            }
+            if (m.getBlock3() != null && !m.getBlock3().isEmpty()) {
+                SwiftWriter.writeBlock3(m.getBlock3(), writer);
+                written = true;
+            }
+            return BODY_CHECKSUM.write(m, writer) || written;
+        }
+    },
+    /**
+     * The text block (block 4) content in FIN format, as in {@link SwiftMessageUtils#calculateChecksum(SwiftBlock4)}
+     */
+    BODY_CHECKSUM {
+        @Override
+        boolean write(final SwiftMessage m, final DigestWriter writer) {
+            if (m.getBlock4() == null || m.getBlock4().isEmpty()) {
+                return false;
+            }
+            SwiftWriter.writeBlock4(m.getBlock4(), writer);
+            return true;
+        }
+    },
+    /**
+     * The message type and the UETR (field 121) when present, or otherwise the message type, the sender and the
+     * MUR (field 108)
+     */
+    MUR_UETR {
+        @Override
+        boolean write(final SwiftMessage m, final DigestWriter writer) {
+            final String uetr = m.getUETR();
+            if (StringUtils.isNotEmpty(uetr)) {
+                writeValues(writer, "121", m.getType(), uetr);
+                return true;
+            }
+            final String mur = m.getMUR();
+            if (StringUtils.isNotEmpty(mur)) {
+                writeValues(writer, "108", m.getType(), m.getSender(), mur);
+                return true;
+            }
+            return false;
+        }
+    },
+    /**
+     * The message type, the sender, the reference (as returned by {@link SwiftMessageUtils#reference(SwiftMessage)},
+     * typically field 20) and the main amount (as returned by {@link SwiftMessageUtils#money(SwiftMessage)}) when
+     * present
+     */
+    REFERENCE_SENDER_AMOUNT {
+        @Override
+        boolean write(final SwiftMessage m, final DigestWriter writer) {
+            final String reference = SwiftMessageUtils.reference(m);
+            if (StringUtils.isEmpty(reference)) {
+                return false;
+            }
+            final Money money = SwiftMessageUtils.money(m);
+            writeValues(writer, m.getType(), m.getSender(), reference,
+                    money != null ? money.getCurrency() : null,
+                    money != null && money.getAmount() != null ? money.getAmount().stripTrailingZeros().toPlainString() : null);
+            return true;
+        }
+    };
+
+    /**
+     * Writes the message identity content into the digest writer.
+     *
+     * @return false if the message has no data for this identity
+     */
+    abstract boolean write(SwiftMessage m, DigestWriter writer);
+
+    private static void writeValues(final DigestWriter writer, final String... values) {
+        for (String value : values) {
+            if (value != null) {
+                writer.write(value, 0, value.length());
+            }
+            // separator to avoid ambiguities between consecutive values
+            writer.write(0);
+        }
+    }
+}
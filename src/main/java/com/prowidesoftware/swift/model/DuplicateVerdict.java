@@ -0,0 +1,48 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+/**
+ * Result of a duplicate check in the {@link DuplicateDetector}.
+ *
+ * @since 9.3.9
+ */
+public enum DuplicateVerdict {
+    /**
+     * The message identity was not seen before
+     */
+    UNIQUE,
+    /**
+     * The message identity was seen recently, the message is a duplicate
+     */
+    DUPLICATE,
+    /**
+     * The message identity is probably within the detector window, but no longer in the recent keys. This could be
+     * a false positive, with the low probability configured in the detector.
+     */
+    POSSIBLE_DUPLICATE,
+    /**
+     * The message has no data for the configured identity, for example no UETR nor MUR, and could not be checked
+     */
+    NO_KEY;
+
+    /**
+     * @return true if the message should be flagged as a possible duplicate emission, see {@link SwiftMessage#setPDE()}
+     */
+    public boolean isPossibleDuplicate() {
+        return this == DUPLICATE || this == POSSIBLE_DUPLICATE;
+    }
+}
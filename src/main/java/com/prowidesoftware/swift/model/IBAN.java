@@ -16,7 +16,11 @@
 package com.prowidesoftware.swift.model;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.logging.Level;
 
 /**
@@ -96,6 +100,37 @@ public class IBAN {
         return iban.substring(COUNTRY_CODE_INDEX, COUNTRY_CODE_INDEX + COUNTRY_CODE_LENGTH);
     }
 
+    /**
+     * Computes the check digits of an IBAN, ignoring its current check digits.
+     *
+     * @param iban an IBAN without separators, with at least the country code, check digits and BBAN
+     * @return the check digits number, from 2 to 98
+     * @throws IllegalArgumentException if the IBAN is too short
+     * @since 9.3.9
+     */
+    public static int calculateCheckDigits(final CharSequence iban) {
+        Validate.isTrue(iban != null && iban.length() > BBAN_INDEX, "the IBAN must contain the country code, check digits and BBAN");
+        return IbanValidationUtils.calculateCheckDigit(iban);
+    }
+
+    /**
+     * Computes and writes in place the check digits of an IBAN, for example to create an IBAN from a country code
+     * and a BBAN:
+     * <pre>
+     * StringBuilder sb = new StringBuilder("GB00NWBK60161331926819");
+     * IBAN.setCheckDigits(sb); // GB29NWBK60161331926819
+     * </pre>
+     *
+     * @param iban an IBAN without separators, with at least the country code, check digits and BBAN
+     * @throws IllegalArgumentException if the IBAN is too short
+     * @since 9.3.9
+     */
+    public static void setCheckDigits(final StringBuilder iban) {
+        final int checkDigits = calculateCheckDigits(iban);
+        iban.setCharAt(CHECK_DIGIT_INDEX, (char) ('0' + checkDigits / 10));
+        iban.setCharAt(CHECK_DIGIT_INDEX + 1, (char) ('0' + checkDigits % 10));
+    }
+
     /**
      * Get the IBAN
      *
@@ -136,19 +171,58 @@ public class IBAN {
      * <p>Non alpha-numeric characters are removed from the code prior to validation. Meaning an IBAN
      * such as "ES64 0049 6170 68 2810279951" will be considered valid.
      *
+     * <p>The returned constant is shared, so its {@link IbanValidationResult#message()} does not include the found
+     * and expected values of this IBAN; use {@link #validate(String)} for the full validation problem description.
+     *
      * @return IbanFormatStatus with detailed information of the validation problem found
      */
     public IbanValidationResult validate() {
+        return status(this.iban).getResult();
+    }
+
+    /**
+     * Validates an IBAN code, with the same checks as {@link #validate()}.
+     *
+     * <p>The returned status is immutable and includes the found and expected values of the given IBAN in its
+     * message, so it can be safely used from multiple threads.
+     *
+     * @param iban the IBAN code to validate
+     * @return the validation result with the details of the validation problem found
+     * @since 9.3.9
+     */
+    public static IbanValidationStatus validate(final String iban) {
+        return status(iban);
+    }
+
+    /**
+     * Validates a batch of IBAN codes, with the same checks as {@link #validate()}.
+     *
+     * <p>Each IBAN gets its own immutable {@link IbanValidationStatus}, with the details of its validation problem,
+     * and the shared {@link IbanValidationResult} constants are not modified.
+     *
+     * @param ibans the IBAN codes to validate
+     * @return the validation results in the same order of the given IBAN codes
+     * @since 9.3.9
+     */
+    public static List<IbanValidationStatus> validate(final Collection<String> ibans) {
+        final List<IbanValidationStatus> results = new ArrayList<>(ibans.size());
+        for (String iban : ibans) {
+            results.add(status(iban));
+        }
+        return results;
+    }
+
+    private static IbanValidationStatus status(final String iban) {
         if (iban == null) {
-            return IbanValidationResult.IBAN_IS_NULL;
+            return new IbanValidationStatus(IbanValidationResult.IBAN_IS_NULL);
         }
         if (iban.length() == 0) {
-            return IbanValidationResult.IBAN_IS_EMPTY;
+            return new IbanValidationStatus(IbanValidationResult.IBAN_IS_EMPTY);
         }
 
-        IbanValidationResult result = null;
+        IbanValidationStatus result = null;
         try {
-            final String code = removeNonAlpha(this.iban);
+            final String code = alphanumeric(iban);
 
             result = IbanValidationUtils.validateCountryCode(code);
 
@@ -161,21 +235,17 @@ public class IBAN {
             }
 
             if (result == null) {
-                final String bban = getBban(code);
-
-                result = IbanValidationUtils.validateBbanMaxLength(bban);
+                result = IbanValidationUtils.validateBbanMaxLength(code.length() - BBAN_INDEX);
 
                 if (result == null) {
                     /*
                      * load specific structure for country
                      */
-                    final String country = getCountryCode(code);
-                    final BbanStructureDTO structure = BbanStructureValidations.getInstance().forCountry(country);
-                    if (structure == null) {
-                        result = IbanValidationResult.MISSING_BBAN_CONFIGURATION;
-                        result.setFound(country);
+                    final BbanValidator validator = BbanStructureValidations.getInstance().validator(code, COUNTRY_CODE_INDEX);
+                    if (validator == null) {
+                        result = new IbanValidationStatus(IbanValidationResult.MISSING_BBAN_CONFIGURATION, "found", getCountryCode(code));
                     } else {
-                        result = IbanValidationUtils.validateBban(bban, structure);
+                        result = validator.validate(code, BBAN_INDEX);
                     }
                 }
             }
@@ -188,13 +258,13 @@ public class IBAN {
             }
 
         } catch (RuntimeException e) {
-            return IbanValidationResult.UNKNOWN;
+            return new IbanValidationStatus(IbanValidationResult.UNKNOWN);
         }
 
         if (result != null) {
             return result;
         } else {
-            return IbanValidationResult.OK;
+            return IbanValidationStatus.OK;
         }
     }
 
@@ -222,8 +292,23 @@ public class IBAN {
      * @return the resulting IBAN
      */
     public String removeNonAlpha(final String iban) {
-        final StringBuilder result = new StringBuilder();
-        for (int i = 0; i < iban.length(); i++) {
+        return alphanumeric(iban);
+    }
+
+    /**
+     * @return the same IBAN if all characters are alphanumeric or a new string with the non alphanumeric removed
+     */
+    private static String alphanumeric(final String iban) {
+        int i = 0;
+        while (i < iban.length() && Character.isLetterOrDigit(iban.charAt(i))) {
+            i++;
+        }
+        if (i == iban.length()) {
+            return iban;
+        }
+        final StringBuilder result = new StringBuilder(iban.length());
+        result.append(iban, 0, i);
+        for (; i < iban.length(); i++) {
             char c = iban.charAt(i);
             if (Character.isLetter(c) || Character.isDigit(c)) {
                 result.append(c);
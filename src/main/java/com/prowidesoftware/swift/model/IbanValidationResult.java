@@ -63,6 +63,17 @@ public enum IbanValidationResult {
      * Validation problem description including expected and found content when necessary
      */
     public String message() {
+        return message(this.vars);
+    }
+
+    /**
+     * Validation problem description with the given variables, this method does not change the enum state.
+     *
+     * @param vars variables for the message text
+     * @return message with variables replaced
+     * @since 9.3.9
+     */
+    String message(final Map<String, String> vars) {
         String msg = this.message;
         for (Entry<String, String> e : vars.entrySet()) {
             msg = msg.replace("${" + e.getKey() + "}", e.getValue());
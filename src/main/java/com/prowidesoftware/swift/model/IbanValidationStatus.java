@@ -0,0 +1,108 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable result of an IBAN validation, with the validation problem found and the variables of its message.
+ *
+ * <p>Contrary to the {@link IbanValidationResult} enum, instances of this class do not share state and can be safely
+ * kept or used from multiple threads.
+ *
+ * @see IBAN#validate(java.util.Collection)
+ * @since 9.3.9
+ */
+public final class IbanValidationStatus {
+
+    /**
+     * Status for a valid IBAN
+     */
+    public static final IbanValidationStatus OK = new IbanValidationStatus(IbanValidationResult.OK);
+
+    private final IbanValidationResult result;
+    private final Map<String, String> vars;
+
+    /**
+     * @param result the validation problem
+     * @param vars   pairs of variable name and value for the message text
+     */
+    IbanValidationStatus(final IbanValidationResult result, final String... vars) {
+        this.result = Objects.requireNonNull(result);
+        if (vars.length == 0) {
+            this.vars = Collections.emptyMap();
+        } else {
+            final Map<String, String> map = new HashMap<>();
+            for (int i = 0; i < vars.length; i += 2) {
+                map.put(vars[i], vars[i + 1]);
+            }
+            this.vars = Collections.unmodifiableMap(map);
+        }
+    }
+
+    /**
+     * @return the validation problem found, or {@link IbanValidationResult#OK} if the IBAN is valid
+     */
+    public IbanValidationResult getResult() {
+        return result;
+    }
+
+    /**
+     * @return the validation message parameters, as an unmodifiable map
+     */
+    public Map<String, String> vars() {
+        return vars;
+    }
+
+    /**
+     * @return true if the IBAN is valid
+     */
+    public boolean isValid() {
+        return result == IbanValidationResult.OK;
+    }
+
+    /**
+     * Validation problem description including expected and found content when necessary.
+     *
+     * @return message with variables replaced
+     * @see IbanValidationResult#message()
+     */
+    public String message() {
+        return result.message(vars);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        IbanValidationStatus that = (IbanValidationStatus) o;
+        return result == that.result && vars.equals(that.vars);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(result, vars);
+    }
+
+    @Override
+    public String toString() {
+        return message();
+    }
+
+}
@@ -25,8 +25,6 @@ import com.prowidesoftware.swift.utils.IsoUtils;
  */
 class IbanValidationUtils {
 
-    static final String IBAN_DEFAULT_CHECK_DIGIT = "00";
-
     private static final int MOD = 97;
     private static final long MAX = 999999999;
     private static final int MAX_BBAN_LENGTH = 30;
@@ -41,10 +39,10 @@ class IbanValidationUtils {
      *
      * @return problem found or null if country code is OK
      */
-    static IbanValidationResult validateCountryCode(final String iban) {
+    static IbanValidationStatus validateCountryCode(final String iban) {
         // check if iban contains 2 char country code
         if (iban.length() < IBAN.COUNTRY_CODE_LENGTH) {
-            return IbanValidationResult.MISSING_COUNTRY_CODE;
+            return new IbanValidationStatus(IbanValidationResult.MISSING_COUNTRY_CODE);
         }
 
         final String countryCode = IBAN.getCountryCode(iban);
@@ -53,15 +51,11 @@ class IbanValidationUtils {
         if (!countryCode.equals(countryCode.toUpperCase()) ||
                 !Character.isLetter(countryCode.charAt(0)) ||
                 !Character.isLetter(countryCode.charAt(1))) {
-            IbanValidationResult result = IbanValidationResult.INVALID_COUNTRY_CODE_CHARSET;
-            result.setFound(countryCode);
-            return result;
+            return new IbanValidationStatus(IbanValidationResult.INVALID_COUNTRY_CODE_CHARSET, "found", countryCode);
         }
 
         if (!IsoUtils.getInstance().isValidISOCountry(countryCode)) {
-            IbanValidationResult result = IbanValidationResult.INVALID_COUNTRY_CODE;
-            result.setFound(countryCode);
-            return result;
+            return new IbanValidationStatus(IbanValidationResult.INVALID_COUNTRY_CODE, "found", countryCode);
         }
 
         return null;
@@ -72,10 +66,10 @@ class IbanValidationUtils {
      *
      * @return problem found or null if OK
      */
-    static IbanValidationResult validateCheckDigitPresence(final String iban) {
+    static IbanValidationStatus validateCheckDigitPresence(final String iban) {
         // check if iban contains 2 digit check digit
         if (iban.length() < IBAN.COUNTRY_CODE_LENGTH + IBAN.CHECK_DIGIT_LENGTH) {
-            return IbanValidationResult.MISSING_CHECK_DIGITS;
+            return new IbanValidationStatus(IbanValidationResult.MISSING_CHECK_DIGITS);
         }
 
         final String checkDigit = IBAN.getCheckDigits(iban);
@@ -83,9 +77,7 @@ class IbanValidationUtils {
         // check digits
         if (!Character.isDigit(checkDigit.charAt(0)) ||
                 !Character.isDigit(checkDigit.charAt(1))) {
-            IbanValidationResult result = IbanValidationResult.INVALID_CHECK_DIGITS_FORMAT;
-            result.setFound(checkDigit);
-            return result;
+            return new IbanValidationStatus(IbanValidationResult.INVALID_CHECK_DIGITS_FORMAT, "found", checkDigit);
         }
         return null;
     }
@@ -96,9 +88,9 @@ class IbanValidationUtils {
      * @return problem found or null if OK
      * @since 7.9.7
      */
-    static IbanValidationResult validateBbanPresence(final String iban) {
+    static IbanValidationStatus validateBbanPresence(final String iban) {
         if (iban.length() <= IBAN.COUNTRY_CODE_LENGTH + IBAN.CHECK_DIGIT_LENGTH) {
-            return IbanValidationResult.MISSING_BBAN;
+            return new IbanValidationStatus(IbanValidationResult.MISSING_BBAN);
         }
         return null;
     }
@@ -106,102 +98,15 @@ class IbanValidationUtils {
     /**
      * Validates Bban max length
      *
-     * @param bban the BBAN part of the IBAN to check
-     * @return problem found or null if OK
-     * @since 7.9.7
-     */
-    static IbanValidationResult validateBbanMaxLength(final String bban) {
-        if (bban.length() > MAX_BBAN_LENGTH) {
-            IbanValidationResult result = IbanValidationResult.BBAN_MAX_LENGTH;
-            result.setExpectedLength(MAX_BBAN_LENGTH);
-            result.setFoundLength(bban.length());
-            return result;
-        }
-        return null;
-    }
-
-    /**
-     * Validates Bban length
-     *
-     * @param bban      the BBAN part of the IBAN to check
-     * @param structure structure to check
-     * @return problem found or null if OK
-     * @since 7.9.7
-     */
-    static IbanValidationResult validateBban(final String bban, final BbanStructureDTO structure) {
-        final int expectedBbanLength = getBbanLengh(structure);
-
-        if (expectedBbanLength != bban.length()) {
-            IbanValidationResult result = IbanValidationResult.BBAN_INVALID_LENGTH;
-            result.setFound(bban);
-            result.setFoundLength(bban.length());
-            result.setExpectedLength(expectedBbanLength);
-            return result;
-        }
-
-        int bbanEntryOffset = 0;
-        for (final BbanStructureEntryDTO entry : structure.getValidation_rules()) {
-
-            final int entryLength = entry.getLength();
-
-            String entryValue = bban.substring(bbanEntryOffset, bbanEntryOffset + entryLength);
-
-            bbanEntryOffset = bbanEntryOffset + entryLength;
-
-            // validate character type
-            IbanValidationResult result = validateBbanEntryCharacterType(entry, entryValue);
-            if (result != null) {
-                return result;
-            }
-
-        }
-        return null;
-    }
-
-    /**
-     * Returns bban's length.
-     *
-     * @param bbanStructure BbanStructureDTO
-     * @return Returns bban's length
-     * @since 7.9.7
-     */
-    private static int getBbanLengh(BbanStructureDTO bbanStructure) {
-        int length = 0;
-        for (BbanStructureEntryDTO entry : bbanStructure.getValidation_rules()) {
-            length += entry.getLength();
-        }
-        return length;
-    }
-
-    /**
-     * Checks the check digits are present
-     *
+     * @param bbanLength the length of the BBAN part of the IBAN to check
      * @return problem found or null if OK
      * @since 7.9.7
      */
-    private static IbanValidationResult validateBbanEntryCharacterType(final BbanStructureEntryDTO entry, final String entryValue) {
-        if (SwiftCharsetUtils.is(entryValue, entry.getCharacterType()) != SwiftCharsetUtils.OK) {
-            IbanValidationResult result = null;
-            switch (entry.getCharacterType()) {
-                case a:
-                    result = IbanValidationResult.BBAN_INVALID_UPPER_CASE_LETTERS;
-                    break;
-                case c:
-                    result = IbanValidationResult.BBAN_INVALID_DIGITS_OR_LETTERS;
-                    break;
-                case n:
-                    result = IbanValidationResult.BBAN_INVALID_DIGITS;
-                    break;
-
-                default:
-                    break;
-
-            }
-            if (result != null) {
-                result.setFound(entryValue);
-                result.setBbanEntryType(entry.getEntryType());
-                return result;
-            }
+    static IbanValidationStatus validateBbanMaxLength(final int bbanLength) {
+        if (bbanLength > MAX_BBAN_LENGTH) {
+            return new IbanValidationStatus(IbanValidationResult.BBAN_MAX_LENGTH,
+                    "expectedLength", String.valueOf(MAX_BBAN_LENGTH),
+                    "foundLength", String.valueOf(bbanLength));
         }
         return null;
     }
@@ -212,14 +117,13 @@ class IbanValidationUtils {
      * @return problem found or null if OK
      * @since 7.9.7
      */
-    static IbanValidationResult validateCheckDigit(final String iban) {
-        if (calculateMod(iban) != 1) {
+    static IbanValidationStatus validateCheckDigit(final String iban) {
+        if (mod97(iban, false) != 1) {
             final String checkDigit = IBAN.getCheckDigits(iban);
-            final String expectedCheckDigit = calculateCheckDigit(iban);
-            IbanValidationResult result = IbanValidationResult.IVALID_CHECK_DIGITS;
-            result.setExpectedCheckDigit(expectedCheckDigit);
-            result.setFound(checkDigit);
-            return result;
+            final int expectedCheckDigit = calculateCheckDigit(iban);
+            return new IbanValidationStatus(IbanValidationResult.IVALID_CHECK_DIGITS,
+                    "expectedCheckDigit", expectedCheckDigit > 9 ? Integer.toString(expectedCheckDigit) : "0" + expectedCheckDigit,
+                    "found", checkDigit);
         }
         return null;
     }
@@ -230,13 +134,11 @@ class IbanValidationUtils {
      * @return problem found or null if OK
      * @since 7.9.7
      */
-    static IbanValidationResult validateCharacters(final String iban) {
+    static IbanValidationStatus validateCharacters(final String iban) {
         for (int i = 0; i < iban.length(); i++) {
-            final int numericValue = Character.getNumericValue(iban.charAt(i));
+            final int numericValue = numericValue(iban.charAt(i));
             if (numericValue < 0 || numericValue > 35) {
-                IbanValidationResult result = IbanValidationResult.INVALID_CHARACTERS;
-                result.setFound(String.valueOf(iban.charAt(i)));
-                return result;
+                return new IbanValidationStatus(IbanValidationResult.INVALID_CHARACTERS, "found", String.valueOf(iban.charAt(i)));
             }
         }
         return null;
@@ -246,42 +148,33 @@ class IbanValidationUtils {
      * Calculates Iban
      * <a href="http://en.wikipedia.org/wiki/ISO_13616#Generating_IBAN_check_digits">Check Digit</a>.
      *
-     * @param iban string value
-     * @return check digit as String
-     * @since 7.9.7
-     */
-    private static String calculateCheckDigit(final String iban) {
-        final String reformattedIban = replaceCheckDigit(iban, IBAN_DEFAULT_CHECK_DIGIT);
-        final int modResult = calculateMod(reformattedIban);
-        final int checkDigitIntValue = 98 - modResult;
-        final String checkDigit = Integer.toString(checkDigitIntValue);
-        return checkDigitIntValue > 9 ? checkDigit : "0" + checkDigit;
-    }
-
-    /**
-     * Returns an iban with replaced check digit.
-     *
-     * @param iban The iban
-     * @return The iban without the check digit
+     * @param iban IBAN value, the current check digits are ignored
+     * @return check digit number, from 2 to 98
      * @since 7.9.7
      */
-    private static String replaceCheckDigit(final String iban, final String checkDigit) {
-        return IBAN.getCountryCode(iban) + checkDigit + IBAN.getBban(iban);
+    static int calculateCheckDigit(final CharSequence iban) {
+        return 98 - mod97(iban, true);
     }
 
     /**
      * Calculates
-     * <a href="http://en.wikipedia.org/wiki/ISO_13616#Modulo_operation_on_IBAN">Iban Modulo</a>.
+     * <a href="http://en.wikipedia.org/wiki/ISO_13616#Modulo_operation_on_IBAN">Iban Modulo</a>
+     * directly over the IBAN characters, reading the BBAN first and then the country code and check digits,
+     * instead of building the rearranged IBAN string.
      *
-     * @param iban String value
+     * @param iban                IBAN value with at least the country code and check digits
+     * @param ignoreCheckDigits true to compute the modulo as if the check digits were 00
      * @return modulo 97
-     * @since 7.9.7
+     * @since 9.3.9
      */
-    private static int calculateMod(final String iban) {
-        final String reformattedIban = IBAN.getBban(iban) + IBAN.getCountryCode(iban) + IBAN.getCheckDigits(iban);
+    static int mod97(final CharSequence iban, final boolean ignoreCheckDigits) {
+        final int length = iban.length();
+        final int bbanIndex = Math.min(IBAN.COUNTRY_CODE_LENGTH + IBAN.CHECK_DIGIT_LENGTH, length);
         long total = 0;
-        for (int i = 0; i < reformattedIban.length(); i++) {
-            final int numericValue = Character.getNumericValue(reformattedIban.charAt(i));
+        for (int k = 0; k < length; k++) {
+            // rotate the country code and check digits to the end
+            final int i = k + bbanIndex < length ? k + bbanIndex : k + bbanIndex - length;
+            final int numericValue = ignoreCheckDigits && i >= IBAN.COUNTRY_CODE_LENGTH && i < bbanIndex ? 0 : numericValue(iban.charAt(i));
             total = (numericValue > 9 ? total * 100 : total * 10) + numericValue;
             if (total > MAX) {
                 total = total % MOD;
@@ -290,4 +183,18 @@ class IbanValidationUtils {
         return (int) (total % MOD);
     }
 
-}
\ No newline at end of file
+    /**
+     * Same as {@link Character#getNumericValue(char)} with a fast path for ASCII digits and letters
+     */
+    private static int numericValue(final char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        } else if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 10;
+        } else if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 10;
+        }
+        return Character.getNumericValue(c);
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+/**
+ * JPA converter for the raw message content in {@link AbstractSwiftMessage}, with optional transparent compression.
+ *
+ * <p>When compression is enabled with {@link #setCompressionThreshold(int)}, contents with at least the threshold
+ * number of characters are stored as the deflate of their UTF-8 bytes encoded in base64, after a
+ * {@value #DEFLATE_PREFIX} format flag. Contents without the format flag are read as is, so compression can be
+ * enabled on existing databases and compressed and plain rows can coexist. Compressed contents are always read
+ * back, regardless of the current compression setting.
+ *
+ * <p>The base64 encoding adds a third to the compressed size, so compression pays off for contents of a few KB,
+ * such as long statements or MX messages, while small MT messages are better stored as is; a threshold of 2000
+ * characters is a sensible start. Notice compressed contents cannot be matched in queries by their text.
+ *
+ * @since 9.3.9
+ */
+@Converter
+public class MessageContentConverter implements AttributeConverter<String, String> {
+
+    /**
+     * Format flag of the compressed contents
+     */
+    public static final String DEFLATE_PREFIX = "#deflate#";
+
+    private static volatile int compressionThreshold = -1;
+
+    /**
+     * Sets the minimum size of the contents to compress when they are stored. Compression is disabled by default.
+     *
+     * @param threshold minimum number of characters of the contents to compress, or a negative value to disable the
+     *                  compression
+     */
+    public static void setCompressionThreshold(final int threshold) {
+        compressionThreshold = threshold;
+    }
+
+    /**
+     * @return the minimum number of characters of the contents to compress, negative if compression is disabled
+     */
+    public static int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    @Override
+    public String convertToDatabaseColumn(final String content) {
+        if (content == null) {
+            return null;
+        }
+        final int threshold = compressionThreshold;
+        // contents starting with the format flag are always compressed so they are read back unchanged
+        if ((threshold >= 0 && content.length() >= threshold) || content.startsWith(DEFLATE_PREFIX)) {
+            return compress(content);
+        }
+        return content;
+    }
+
+    @Override
+    public String convertToEntityAttribute(final String column) {
+        if (column != null && column.startsWith(DEFLATE_PREFIX)) {
+            return decompress(column);
+        }
+        return column;
+    }
+
+    /**
+     * @param content a message content
+     * @return the compressed content with the format flag
+     */
+    static String compress(final String content) {
+        final byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2 + 16);
+            final byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return DEFLATE_PREFIX + Base64.getEncoder().encodeToString(out.toByteArray());
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * @param column a compressed content with the format flag
+     * @return the original content
+     * @throws IllegalArgumentException if the compressed content is corrupted
+     */
+    static String decompress(final String column) {
+        final byte[] bytes = Base64.getDecoder().decode(column.substring(DEFLATE_PREFIX.length()));
+        final Inflater inflater = new Inflater(true);
+        try {
+            // the raw format needs an extra dummy input byte, see the Inflater constructor
+            inflater.setInput(Arrays.copyOf(bytes, bytes.length + 1));
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length * 3);
+            final byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                final int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("Truncated compressed message content");
+                }
+                out.write(buffer, 0, n);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        } catch (final DataFormatException e) {
+            throw new IllegalArgumentException("Invalid compressed message content: " + e.getMessage(), e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+}
@@ -24,6 +24,7 @@ import org.apache.commons.lang3.Validate;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.util.Currency;
+import java.util.List;
 import java.util.Objects;
 import java.util.logging.Logger;
 
@@ -208,6 +209,54 @@ public final class Money implements Serializable {
         }
     }
 
+    /**
+     * Creates a currency amount from an amount expressed in the currency minor units.
+     *
+     * @param currency   a not null currency code
+     * @param minorUnits the amount in minor units, for example 1234 for USD 12.34
+     * @return the created currency amount
+     * @see #toMinorUnits()
+     * @since 9.3.9
+     */
+    public static Money ofMinorUnits(final String currency, final long minorUnits) {
+        Objects.requireNonNull(currency, "currency can not be null");
+        return new Money(currency, BigDecimal.valueOf(minorUnits, minorUnitDigits(CurrencyIndex.of(currency))));
+    }
+
+    /**
+     * Gets the amount expressed in the currency minor units, for example USD 12.34 is 1234 and JPY 1234 is 1234.
+     * Currencies without ISO fraction digits, such as XAU, are considered as having no minor units.
+     *
+     * @return the amount in minor units
+     * @throws ArithmeticException if the amount has more decimals than the currency minor units or does not fit in a long
+     * @see CurrencyIndex#fractionDigits(int)
+     * @since 9.3.9
+     */
+    public long toMinorUnits() {
+        return amount.movePointRight(minorUnitDigits(CurrencyIndex.of(currency))).longValueExact();
+    }
+
+    /**
+     * @return the currency fraction digits, or zero when not defined
+     */
+    static int minorUnitDigits(final int currencyIndex) {
+        return Math.max(CurrencyIndex.fractionDigits(currencyIndex), 0);
+    }
+
+    /**
+     * Creates a currency amount from the sum of the fields in the given tags.
+     *
+     * @param tags tags to sum, currency must be the same for all
+     * @return total or null if the list is empty, cannot create amount from any tag or if not all currencies match
+     * @see #ofSum(Field...)
+     */
+    static Money ofSum(final List<Tag> tags) {
+        if (tags.size() == 1) {
+            return of(tags.get(0).asField());
+        }
+        return ofSum(tags.stream().map(Tag::asField).toArray(Field[]::new));
+    }
+
     public String getCurrency() {
         return currency;
     }
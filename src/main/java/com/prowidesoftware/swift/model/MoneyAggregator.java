@@ -0,0 +1,455 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import com.prowidesoftware.swift.io.AbstractReader;
+import com.prowidesoftware.swift.utils.SwiftAmountCodec;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Accumulates per currency totals of the messages main amount, as interpreted by
+ * {@link SwiftMessageUtils#money(SwiftMessage)}.
+ *
+ * <p>Totals are kept as long values in the currency minor units (see {@link CurrencyIndex#fractionDigits(int)})
+ * in a small table keyed by the {@link CurrencyIndex}. For the common amount fields (32A, 32B, 33B, 19A, 62F, etc.)
+ * the currency and amount are read directly from the tag value, without creating Field, Money or BigDecimal
+ * instances. Amounts that cannot be represented in the currency minor units, for example with more decimals than
+ * the currency allows, or that would overflow the long total, are accumulated apart as BigDecimal, so the totals
+ * are always exact.
+ *
+ * <p>An aggregator instance is not thread safe. For parallel processing use {@link #collector()} or the static
+ * aggregate methods, where each thread feeds its own aggregator and the partial results are combined at the end.
+ * <pre>
+ * MoneyAggregator totals = MoneyAggregator.aggregate(new RJEReader(file));
+ * Money usd = totals.getTotal("USD");
+ * </pre>
+ *
+ * @since 9.3.9
+ */
+public final class MoneyAggregator implements Consumer<SwiftMessage> {
+    private static final Logger log = Logger.getLogger(MoneyAggregator.class.getName());
+
+    private static final long INVALID = Long.MIN_VALUE;
+
+    /*
+     * open addressing table, keys are the currency index plus one (zero marks an empty slot)
+     */
+    private int[] keys = new int[16];
+    private long[] totals = new long[16];
+    private long[] counts = new long[16];
+    private BigDecimal[] excess = new BigDecimal[16];
+    private int size;
+    private long skipped;
+
+    /**
+     * Creates an empty aggregator
+     */
+    public MoneyAggregator() {
+    }
+
+    /**
+     * Creates a collector to aggregate the main amount of a stream of messages. When used in a parallel stream,
+     * each thread accumulates into its own aggregator and partial results are combined.
+     *
+     * @return a new collector
+     */
+    public static Collector<SwiftMessage, ?, MoneyAggregator> collector() {
+        return Collector.of(MoneyAggregator::new, MoneyAggregator::accept, MoneyAggregator::combine, Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Aggregates in parallel the main amount of all messages in the stream.
+     *
+     * @param messages a stream of messages
+     * @return the per currency totals
+     */
+    public static MoneyAggregator aggregate(final Stream<SwiftMessage> messages) {
+        return messages.parallel().collect(collector());
+    }
+
+    /**
+     * Aggregates the main amount of all messages returned by the reader.
+     * <p>The raw messages are read sequentially while the parsing and aggregation is done in parallel. Blank
+     * messages or messages that cannot be parsed are counted as skipped.
+     *
+     * @param reader a message reader
+     * @return the per currency totals
+     */
+    public static MoneyAggregator aggregate(final AbstractReader reader) {
+        return aggregate(StreamSupport.stream(Spliterators.spliteratorUnknownSize(reader, Spliterator.ORDERED), false)
+                .map(MoneyAggregator::parse));
+    }
+
+    private static SwiftMessage parse(final String fin) {
+        if (StringUtils.isBlank(fin)) {
+            return null;
+        }
+        try {
+            return SwiftMessage.parse(fin);
+        } catch (IOException e) {
+            log.warning("Could not parse message: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Adds the message main amount to the totals, or counts the message as skipped if it has no amount or the
+     * amount cannot be extracted.
+     *
+     * @param m the message to aggregate, may be null
+     */
+    @Override
+    public void accept(final SwiftMessage m) {
+        final List<Tag> tags = SwiftMessageUtils.moneyTags(m);
+        if (tags.isEmpty()) {
+            skipped++;
+            return;
+        }
+        int currency = -1;
+        long total = 0;
+        for (Tag tag : tags) {
+            final String value = tag.getValue();
+            final int offset = currencyOffset(tag.getName(), value);
+            final int index = offset < 0 ? -1 : CurrencyIndex.of(value, offset);
+            if (index < 0 || offset + 3 >= value.length() || value.charAt(offset + 3) == '-') {
+                add(Money.ofSum(tags));
+                return;
+            }
+            if (currency >= 0 && currency != index) {
+                // mixed currencies, there is no main amount
+                skipped++;
+                return;
+            }
+            currency = index;
+            long minorUnits = INVALID;
+            final int scale = SwiftAmountCodec.scale(value, offset + 3, value.length());
+            if (scale >= 0) {
+                minorUnits = SwiftAmountCodec.rescale(SwiftAmountCodec.parseUnscaled(value, offset + 3, value.length()), scale, Money.minorUnitDigits(index));
+            }
+            if (minorUnits == INVALID) {
+                add(Money.ofSum(tags));
+                return;
+            }
+            if (isNegative(tag.getName(), value, offset)) {
+                minorUnits = -minorUnits;
+            }
+            final long sum = total + minorUnits;
+            if (((total ^ sum) & (minorUnits ^ sum)) < 0) {
+                add(Money.ofSum(tags));
+                return;
+            }
+            total = sum;
+        }
+        add(currency, total);
+    }
+
+    /**
+     * Adds an amount to the totals.
+     *
+     * @param currencyIndex the amount currency, see {@link CurrencyIndex}
+     * @param minorUnits    the amount in the currency minor units
+     * @throws IllegalArgumentException if the currency index is out of range
+     */
+    public void add(final int currencyIndex, final long minorUnits) {
+        if (currencyIndex < 0 || currencyIndex >= CurrencyIndex.SIZE) {
+            throw new IllegalArgumentException("invalid currency index " + currencyIndex);
+        }
+        final int slot = slot(currencyIndex);
+        addToSlot(slot, currencyIndex, minorUnits);
+        counts[slot]++;
+    }
+
+    /**
+     * Adds an amount to the totals, or counts it as skipped if the amount is null or its currency is not a three
+     * uppercase letters code.
+     *
+     * @param money the amount to add, may be null
+     */
+    public void add(final Money money) {
+        final int index = money != null ? CurrencyIndex.of(money.getCurrency()) : -1;
+        if (index < 0) {
+            skipped++;
+            return;
+        }
+        final int slot = slot(index);
+        try {
+            addToSlot(slot, index, money.toMinorUnits());
+        } catch (ArithmeticException e) {
+            excess[slot] = excess[slot] == null ? money.getAmount() : excess[slot].add(money.getAmount());
+        }
+        counts[slot]++;
+    }
+
+    /**
+     * Adds the totals and counters of another aggregator into this one.
+     *
+     * @param other the aggregator to combine
+     * @return this aggregator
+     */
+    public MoneyAggregator combine(final MoneyAggregator other) {
+        for (int i = 0; i < other.keys.length; i++) {
+            if (other.keys[i] != 0) {
+                final int index = other.keys[i] - 1;
+                final int slot = slot(index);
+                addToSlot(slot, index, other.totals[i]);
+                if (other.excess[i] != null) {
+                    excess[slot] = excess[slot] == null ? other.excess[i] : excess[slot].add(other.excess[i]);
+                }
+                counts[slot] += other.counts[i];
+            }
+        }
+        skipped += other.skipped;
+        return this;
+    }
+
+    /**
+     * @return the codes of the currencies with some aggregated amount, sorted alphabetically
+     */
+    public SortedSet<String> getCurrencies() {
+        final SortedSet<String> result = new TreeSet<>();
+        for (int key : keys) {
+            if (key != 0) {
+                result.add(CurrencyIndex.code(key - 1));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the total for a currency.
+     *
+     * @param currency a currency code
+     * @return the total or null if no amount in the given currency was aggregated
+     */
+    public Money getTotal(final String currency) {
+        final int slot = find(CurrencyIndex.of(currency));
+        return slot < 0 ? null : total(slot);
+    }
+
+    /**
+     * Gets the total for a currency, expressed in the currency minor units.
+     *
+     * @param currency a currency code
+     * @return the total in minor units or zero if no amount in the given currency was aggregated
+     * @throws ArithmeticException if the total cannot be expressed in minor units
+     */
+    public long getTotalMinorUnits(final String currency) {
+        final int slot = find(CurrencyIndex.of(currency));
+        if (slot < 0) {
+            return 0;
+        }
+        return excess[slot] == null ? totals[slot] : total(slot).toMinorUnits();
+    }
+
+    /**
+     * @return the totals for all currencies, sorted by currency code
+     */
+    public SortedMap<String, Money> getTotals() {
+        final SortedMap<String, Money> result = new TreeMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                final Money total = total(i);
+                result.put(total.getCurrency(), total);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param currency a currency code
+     * @return the number of aggregated amounts in the given currency
+     */
+    public long getCount(final String currency) {
+        final int slot = find(CurrencyIndex.of(currency));
+        return slot < 0 ? 0 : counts[slot];
+    }
+
+    /**
+     * @return the number of aggregated amounts in all currencies
+     */
+    public long getCount() {
+        long result = 0;
+        for (long count : counts) {
+            result += count;
+        }
+        return result;
+    }
+
+    /**
+     * @return the number of messages skipped because they have no main amount or it could not be extracted
+     */
+    public long getSkippedCount() {
+        return skipped;
+    }
+
+    @Override
+    public String toString() {
+        return "MoneyAggregator{totals=" + getTotals().values().stream()
+                .map(m -> m.getCurrency() + " " + m.getAmount().toPlainString())
+                .reduce((a, b) -> a + ", " + b).orElse("") + ", skipped=" + skipped + "}";
+    }
+
+    private Money total(final int slot) {
+        final int index = keys[slot] - 1;
+        BigDecimal amount = BigDecimal.valueOf(totals[slot], Money.minorUnitDigits(index));
+        if (excess[slot] != null) {
+            amount = amount.add(excess[slot]);
+        }
+        return new Money(CurrencyIndex.code(index), amount);
+    }
+
+    private void addToSlot(final int slot, final int currencyIndex, final long minorUnits) {
+        final long total = totals[slot];
+        final long sum = total + minorUnits;
+        if (((total ^ sum) & (minorUnits ^ sum)) < 0) {
+            // long overflow
+            final BigDecimal amount = BigDecimal.valueOf(minorUnits, Money.minorUnitDigits(currencyIndex));
+            excess[slot] = excess[slot] == null ? amount : excess[slot].add(amount);
+        } else {
+            totals[slot] = sum;
+        }
+    }
+
+    private int find(final int currencyIndex) {
+        if (currencyIndex < 0) {
+            return -1;
+        }
+        final int key = currencyIndex + 1;
+        final int mask = keys.length - 1;
+        for (int i = hash(key) & mask; keys[i] != 0; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int slot(final int currencyIndex) {
+        final int key = currencyIndex + 1;
+        final int mask = keys.length - 1;
+        int i = hash(key) & mask;
+        while (keys[i] != 0) {
+            if (keys[i] == key) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        if (size * 2 >= keys.length) {
+            grow();
+            return slot(currencyIndex);
+        }
+        keys[i] = key;
+        size++;
+        return i;
+    }
+
+    private void grow() {
+        final int[] oldKeys = keys;
+        final long[] oldTotals = totals;
+        final long[] oldCounts = counts;
+        final BigDecimal[] oldExcess = excess;
+        keys = new int[oldKeys.length * 2];
+        totals = new long[keys.length];
+        counts = new long[keys.length];
+        excess = new BigDecimal[keys.length];
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                final int slot = slot(oldKeys[i] - 1);
+                totals[slot] = oldTotals[i];
+                counts[slot] = oldCounts[i];
+                excess[slot] = oldExcess[i];
+            }
+        }
+    }
+
+    private static int hash(final int key) {
+        final int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Gets the position of the currency code in the value of the amount fields with a fixed prefix before the
+     * currency and amount, returns -1 for other fields or unexpected content, to fall back to the Field parser.
+     */
+    /*
+     * Keep in sync with the special cases in Money#of(Field)
+     */
+    private static int currencyOffset(final String name, final String value) {
+        if (name == null || value == null) {
+            return -1;
+        }
+        switch (name) {
+            case "32B":
+            case "33B":
+            case "34B":
+                return 0;
+            case "32A":
+            case "32C":
+            case "32D":
+            case "33A":
+            case "34P":
+            case "34R":
+                return isDigits(value, 0, 6) ? 6 : -1;
+            case "32H":
+                return value.length() > 1 && value.charAt(0) == 'N' && CurrencyIndex.of(value, 1) >= 0 ? 1 : 0;
+            case "62F":
+            case "62M":
+                if (isDigits(value, 0, 6)) {
+                    return 6;
+                }
+                return (value.startsWith("C") || value.startsWith("D")) && isDigits(value, 1, 6) ? 7 : -1;
+            case "19A":
+            case "19B":
+                if (value.length() < 8 || value.charAt(0) != ':' || value.charAt(5) != '/' || value.charAt(6) != '/') {
+                    return -1;
+                }
+                return "19A".equals(name) && value.charAt(7) == 'N' ? 8 : 7;
+            default:
+                return -1;
+        }
+    }
+
+    private static boolean isNegative(final String name, final String value, final int offset) {
+        if ("62F".equals(name) || "62M".equals(name)) {
+            return value.charAt(0) == 'D';
+        }
+        return offset == 8 && "19A".equals(name);
+    }
+
+    private static boolean isDigits(final String value, final int offset, final int length) {
+        if (value.length() < offset + length) {
+            return false;
+        }
+        for (int i = offset; i < offset + length; i++) {
+            final char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
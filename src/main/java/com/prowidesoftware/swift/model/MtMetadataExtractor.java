@@ -0,0 +1,278 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import com.prowidesoftware.swift.io.writer.FINWriterVisitor;
+import com.prowidesoftware.swift.io.writer.SwiftWriter;
+import com.prowidesoftware.swift.model.field.DateContainer;
+import com.prowidesoftware.swift.model.field.Field;
+import com.prowidesoftware.swift.model.mt.DefaultMtMetadataStrategy;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.Writer;
+import java.util.Calendar;
+import java.util.Objects;
+
+/**
+ * Single pass extraction of the {@link MtSwiftMessage} attributes derived from the message content.
+ *
+ * <p>Both checksums are computed from one FIN serialization of the message, feeding the text block (block 4) into
+ * the body digest while it is written into the complete message digest. The metadata of the
+ * {@link DefaultMtMetadataStrategy} is collected in one walk of the text block tags, and it is reused from a previous
+ * extraction when the text block, the message type and the MUR did not change, which is the common case on updates
+ * to the header or trailer blocks only.
+ *
+ * <p>The results are the same as the ones computed with {@link SwiftMessageUtils#calculateChecksum(SwiftMessage)},
+ * {@link SwiftMessageUtils#calculateChecksum(SwiftBlock4)} and the {@link DefaultMtMetadataStrategy}.
+ *
+ * @since 9.3.9
+ */
+final class MtMetadataExtractor {
+
+    private final String checksum;
+    private final String checksumBody;
+
+    private String key;
+    private boolean mt;
+    private String reference;
+    private Money money;
+    private Calendar valueDate;
+    private Calendar tradeDate;
+
+    /**
+     * Computes the message and text block checksums.
+     *
+     * @param model the message
+     */
+    MtMetadataExtractor(final SwiftMessage model) {
+        final SwiftBlock4 b4 = model.getBlock4();
+        final DigestWriter full = ChecksumAlgorithm.MD5.writer();
+        // an empty text block is not part of the serialized message but it still has a body checksum, and the
+        // body checksum is always computed from the text syntax, so in those cases it is computed on its own
+        final DigestWriter body = b4 != null && !b4.isEmpty() && FINWriterVisitor.isBlock4AsText(model) ? new DigestWriter(ChecksumAlgorithm.MD5.newDigest()) : null;
+        final TextBlockWriter writer = new TextBlockWriter(full, body);
+
+        // same serialization as SwiftMessageUtils#calculateChecksum(SwiftMessage)
+        SwiftWriter.writeMessage(model, new FINWriterVisitor(writer) {
+            @Override
+            public void startBlock4(final SwiftBlock4 b) {
+                writer.teeing = true;
+                super.startBlock4(b);
+            }
+
+            @Override
+            public void endBlock4(final SwiftBlock4 b) {
+                super.endBlock4(b);
+                writer.teeing = false;
+            }
+        }, true);
+
+        this.checksum = ChecksumEncoding.HEX.encode(full.digest());
+        // the thread digest writer is free to be reused once the full digest is computed
+        this.checksumBody = body != null ? ChecksumEncoding.HEX.encode(body.digest()) : SwiftMessageUtils.calculateChecksum(b4);
+    }
+
+    /**
+     * @return the MD5 hexadecimal checksum of the message, as in {@link SwiftMessageUtils#calculateChecksum(SwiftMessage)}
+     */
+    String getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * @return the MD5 hexadecimal checksum of the text block, as in {@link SwiftMessageUtils#calculateChecksum(SwiftBlock4)}
+     */
+    String getChecksumBody() {
+        return checksumBody;
+    }
+
+    /**
+     * Extracts the metadata of the {@link DefaultMtMetadataStrategy}, or copies it from the previous extraction
+     * if it was done for the same text block, message type and MUR.
+     *
+     * @param model    the message, the same used to compute the checksums
+     * @param previous the previous extraction for the same entity or null
+     * @return true if the metadata was copied from the previous extraction
+     */
+    boolean extract(final SwiftMessage model, final MtMetadataExtractor previous) {
+        final MtId mtId = model.getMtId();
+        final String mur = model.getMUR();
+        this.key = checksumBody + '|' + (mtId != null ? mtId.id() : null) + '|' + mur;
+        if (previous != null && previous.key != null && previous.key.equals(this.key)) {
+            this.mt = previous.mt;
+            this.reference = previous.reference;
+            this.money = previous.money;
+            this.valueDate = previous.valueDate;
+            this.tradeDate = previous.tradeDate;
+            return true;
+        }
+
+        // the default strategy is only applied to messages with a specific MT model
+        this.mt = model.toMT() != null;
+        if (!this.mt) {
+            return false;
+        }
+
+        final SwiftBlock4 b4 = model.getBlock4();
+        if (b4 != null && !b4.isEmpty()) {
+            walk(b4);
+        }
+        if (this.reference == null) {
+            this.reference = mur;
+        }
+        // amount and value date fields depend on the message type, they are picked with targeted lookups
+        this.money = SwiftMessageUtils.money(model);
+        this.valueDate = SwiftMessageUtils.valueDate(model);
+        return false;
+    }
+
+    /**
+     * Collects the reference and trade date, as in {@link SwiftMessageUtils#reference(SwiftMessage)} and
+     * {@link SwiftMessageUtils#tradeDate(SwiftMessage)}, in one iteration of the tags.
+     */
+    private void walk(final SwiftBlock4 b4) {
+        Tag field20 = null;
+        Field seme = null;
+        Tag field108 = null;
+        Field field30T = null;
+        Field trad = null;
+        for (final Tag tag : b4.getTags()) {
+            final String name = tag.getName();
+            if (name == null) {
+                continue;
+            }
+            if (field20 == null && name.equals("20")) {
+                field20 = tag;
+            } else if (field108 == null && name.equals("108")) {
+                field108 = tag;
+            } else if (field30T == null && name.equals("30T")) {
+                field30T = tag.asField();
+            }
+            if (seme == null) {
+                seme = qualified(tag, 20, "SEME");
+            }
+            if (trad == null) {
+                trad = qualified(tag, 98, "TRAD");
+            }
+            if (field20 != null && field30T != null) {
+                // nothing else can take precedence
+                break;
+            }
+        }
+
+        if (field20 != null) {
+            this.reference = field20.getValue();
+        } else if (seme != null) {
+            this.reference = seme.getComponent(2);
+        } else if (field108 != null) {
+            this.reference = field108.getValue();
+        }
+
+        final Field date = field30T != null ? field30T : trad;
+        if (date instanceof DateContainer) {
+            this.tradeDate = ((DateContainer) date).dates().get(0);
+        }
+    }
+
+    /**
+     * @return the tag as field if it has the given number, with any letter option, and qualifier; null otherwise
+     */
+    private static Field qualified(final Tag tag, final int number, final String qualifier) {
+        // the qualifier lookup in the raw value avoids parsing fields that cannot match
+        final String value = tag.getValue();
+        if (value != null && value.contains(qualifier) && tag.isNumber(number)) {
+            final Field field = tag.asField();
+            if (field != null && field.is(qualifier)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Sets the extracted metadata into the entity, as done when applying the {@link DefaultMtMetadataStrategy}.
+     *
+     * @param msg the entity to update
+     */
+    void applyTo(final AbstractSwiftMessage msg) {
+        if (!this.mt) {
+            return;
+        }
+        if (StringUtils.isNotBlank(this.reference)) {
+            msg.setReference(this.reference);
+        }
+        if (this.money != null) {
+            msg.setCurrency(this.money.getCurrency());
+            msg.setAmount(this.money.getAmount());
+        }
+        if (this.valueDate != null) {
+            msg.setValueDate(this.valueDate);
+        }
+        if (this.tradeDate != null) {
+            msg.setTradeDate(this.tradeDate);
+        }
+    }
+
+    /**
+     * Writer that feeds the complete message digest and, while the text block is written, the body digest.
+     */
+    private static final class TextBlockWriter extends Writer {
+
+        private final DigestWriter full;
+        private final DigestWriter body;
+        private boolean teeing;
+
+        private TextBlockWriter(final DigestWriter full, final DigestWriter body) {
+            this.full = Objects.requireNonNull(full);
+            this.body = body;
+        }
+
+        @Override
+        public void write(final int c) {
+            full.write(c);
+            if (teeing && body != null) {
+                body.write(c);
+            }
+        }
+
+        @Override
+        public void write(final char[] cbuf, final int off, final int len) {
+            full.write(cbuf, off, len);
+            if (teeing && body != null) {
+                body.write(cbuf, off, len);
+            }
+        }
+
+        @Override
+        public void write(final String str, final int off, final int len) {
+            full.write(str, off, len);
+            if (teeing && body != null) {
+                body.write(str, off, len);
+            }
+        }
+
+        @Override
+        public void flush() {
+            // the content is kept until the digests are computed
+        }
+
+        @Override
+        public void close() {
+            // nothing to release
+        }
+    }
+
+}
@@ -15,8 +15,6 @@
  */
 package com.prowidesoftware.swift.model;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.prowidesoftware.deprecation.DeprecationUtils;
 import com.prowidesoftware.deprecation.ProwideDeprecated;
 import com.prowidesoftware.deprecation.TargetYear;
@@ -39,6 +37,7 @@ import java.util.logging.Level;
 import javax.persistence.Column;
 import javax.persistence.DiscriminatorValue;
 import javax.persistence.Entity;
+import javax.persistence.Transient;
 
 
 /**
@@ -69,6 +68,12 @@ public class MtSwiftMessage extends AbstractSwiftMessage {
     @Column(length = 31, name = "uuid")
     private String uuid;
 
+    /**
+     * Last extraction from the message content, reused when the text block did not change
+     */
+    @Transient
+    private transient MtMetadataExtractor metadata;
+
     public MtSwiftMessage() {
     }
 
@@ -227,8 +232,7 @@ public class MtSwiftMessage extends AbstractSwiftMessage {
      * @since 7.10.3
      */
     public static MtSwiftMessage fromJson(String json) {
-        final Gson gson = new GsonBuilder().create();
-        return gson.fromJson(json, MtSwiftMessage.class);
+        return SwiftMessageJsonReader.gson().fromJson(json, MtSwiftMessage.class);
     }
 
     /**
@@ -267,12 +271,14 @@ public class MtSwiftMessage extends AbstractSwiftMessage {
     }
 
     private void updateAttributes(final SwiftMessage model, final MessageMetadataStrategy metadataStrategy) {
+        // both checksums are computed from a single serialization of the message
+        final MtMetadataExtractor extractor = new MtMetadataExtractor(model);
         if (model.isServiceMessage21()) {
             // for service messages, we attempt to set the metadata from the original attached message, if present
             if (model.getUnparsedTextsSize() > 0) {
                 final SwiftMessage original = model.getUnparsedTexts().getTextAsMessage(0);
                 if (original != null) {
-                    extractMetadata(original, metadataStrategy);
+                    extractMetadata(original, metadataStrategy, null);
                 }
             }
             // then we overwrite the identifier form the actual service message
@@ -284,20 +290,21 @@ public class MtSwiftMessage extends AbstractSwiftMessage {
 
         } else {
             // any other case we just update the metadata from the received message
-            extractMetadata(model, metadataStrategy);
+            extractMetadata(model, metadataStrategy, extractor);
             if (model.getMtId() != null) {
                 setIdentifier(model.getMtId().id());
             }
         }
         setFileFormat(FileFormat.FIN);
         setSender(bic11(model.getSender()));
-        setChecksum(SwiftMessageUtils.calculateChecksum(model));
-        setChecksumBody(SwiftMessageUtils.calculateChecksum(model.getBlock4()));
+        setChecksum(extractor.getChecksum());
+        setChecksumBody(extractor.getChecksumBody());
         setLastModified(Calendar.getInstance());
         setMur(model.getMUR());
+        this.metadata = extractor;
     }
 
-    private void extractMetadata(final SwiftMessage model, final MessageMetadataStrategy metadataStrategy) {
+    private void extractMetadata(final SwiftMessage model, final MessageMetadataStrategy metadataStrategy, final MtMetadataExtractor extractor) {
         setReceiver(bic11(model.getReceiver()));
         setDirection(model.getDirection());
 
@@ -311,7 +318,13 @@ public class MtSwiftMessage extends AbstractSwiftMessage {
 
         // we extract metadata with the default strategy
         // specific strategy can be applied on top with the #updateMetadata method
-        applyStrategy(model, metadataStrategy);
+        if (extractor != null && metadataStrategy.getClass() == DefaultMtMetadataStrategy.class) {
+            // single pass extraction, skipped if only the header or trailer blocks changed since the last update
+            extractor.extract(model, this.metadata);
+            extractor.applyTo(this);
+        } else {
+            applyStrategy(model, metadataStrategy);
+        }
     }
 
     private void applyStrategy(SwiftMessage model, MessageMetadataStrategy strategy) {
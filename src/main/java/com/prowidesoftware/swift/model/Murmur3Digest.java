@@ -0,0 +1,156 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import java.security.MessageDigest;
+
+/**
+ * Streaming implementation of the 128-bit x64 variant of MurmurHash3, with seed zero, as a {@link MessageDigest}.
+ *
+ * <p>This is a fast non-cryptographic hash, suitable for integrity checks and duplicates detection but not for
+ * security purposes. The digest bytes are the two 64-bit hash values in little-endian order, as produced by other
+ * common implementations.
+ *
+ * @since 9.3.9
+ */
+final class Murmur3Digest extends MessageDigest {
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private final byte[] tail = new byte[16];
+    private int tailLength;
+    private long length;
+    private long h1;
+    private long h2;
+
+    Murmur3Digest() {
+        super("MURMUR3-128");
+    }
+
+    @Override
+    protected int engineGetDigestLength() {
+        return 16;
+    }
+
+    @Override
+    protected void engineUpdate(final byte input) {
+        tail[tailLength++] = input;
+        length++;
+        if (tailLength == 16) {
+            block(tail, 0);
+            tailLength = 0;
+        }
+    }
+
+    @Override
+    protected void engineUpdate(final byte[] input, int offset, int len) {
+        length += len;
+        if (tailLength > 0) {
+            final int n = Math.min(16 - tailLength, len);
+            System.arraycopy(input, offset, tail, tailLength, n);
+            tailLength += n;
+            offset += n;
+            len -= n;
+            if (tailLength < 16) {
+                return;
+            }
+            block(tail, 0);
+            tailLength = 0;
+        }
+        while (len >= 16) {
+            block(input, offset);
+            offset += 16;
+            len -= 16;
+        }
+        System.arraycopy(input, offset, tail, 0, len);
+        tailLength = len;
+    }
+
+    @Override
+    protected byte[] engineDigest() {
+        long k1 = 0;
+        long k2 = 0;
+        for (int i = tailLength - 1; i >= 8; i--) {
+            k2 ^= (tail[i] & 0xFFL) << ((i - 8) << 3);
+        }
+        for (int i = Math.min(tailLength, 8) - 1; i >= 0; i--) {
+            k1 ^= (tail[i] & 0xFFL) << (i << 3);
+        }
+        if (tailLength > 8) {
+            h2 ^= Long.rotateLeft(k2 * C2, 33) * C1;
+        }
+        if (tailLength > 0) {
+            h1 ^= Long.rotateLeft(k1 * C1, 31) * C2;
+        }
+
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix(h1);
+        h2 = fmix(h2);
+        h1 += h2;
+        h2 += h1;
+
+        final byte[] result = new byte[16];
+        for (int i = 0; i < 8; i++) {
+            result[i] = (byte) (h1 >>> (i << 3));
+            result[i + 8] = (byte) (h2 >>> (i << 3));
+        }
+        engineReset();
+        return result;
+    }
+
+    @Override
+    protected void engineReset() {
+        tailLength = 0;
+        length = 0;
+        h1 = 0;
+        h2 = 0;
+    }
+
+    private void block(final byte[] b, final int offset) {
+        final long k1 = getLong(b, offset);
+        final long k2 = getLong(b, offset + 8);
+
+        h1 ^= Long.rotateLeft(k1 * C1, 31) * C2;
+        h1 = Long.rotateLeft(h1, 27) + h2;
+        h1 = h1 * 5 + 0x52dce729;
+
+        h2 ^= Long.rotateLeft(k2 * C2, 33) * C1;
+        h2 = Long.rotateLeft(h2, 31) + h1;
+        h2 = h2 * 5 + 0x38495ab5;
+    }
+
+    private static long getLong(final byte[] b, final int offset) {
+        long result = 0;
+        for (int i = 7; i >= 0; i--) {
+            result = (result << 8) | (b[offset + i] & 0xFFL);
+        }
+        return result;
+    }
+
+    private static long fmix(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Delta encoding of message revisions content, see {@link AbstractSwiftMessage#createDeltaRevision(int)}.
+ *
+ * <p>The content is split in tokens, at tag granularity for MT messages in FIN format (a token per block 4 field,
+ * including its continuation lines) and at line granularity for other content such as MX XML. The delta is the
+ * edit script transforming the base tokens into the target ones, encoded as a sequence of operations:
+ * <ul>
+ *     <li>{@code C<n>;} copy the next n tokens from the base</li>
+ *     <li>{@code D<n>;} skip the next n tokens from the base</li>
+ *     <li>{@code I<n>;<text>} insert the n characters of text</li>
+ * </ul>
+ *
+ * @since 9.3.9
+ */
+final class RevisionDelta {
+
+    /**
+     * Maximum size of the token matrix used to find the common tokens, larger differences are encoded as a
+     * plain replacement
+     */
+    private static final long MAX_MATRIX = 1_000_000;
+
+    // Suppress default constructor for noninstantiability
+    private RevisionDelta() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Computes the delta to transform the base content into the target content.
+     *
+     * @param base   the previous content, null is handled as empty
+     * @param target the new content, null is handled as empty
+     * @return the encoded delta
+     */
+    static String diff(final String base, final String target) {
+        final List<String> left = tokens(base);
+        final List<String> right = tokens(target);
+        final StringBuilder delta = new StringBuilder();
+
+        int prefix = 0;
+        while (prefix < left.size() && prefix < right.size() && left.get(prefix).equals(right.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < left.size() - prefix && suffix < right.size() - prefix
+                && left.get(left.size() - 1 - suffix).equals(right.get(right.size() - 1 - suffix))) {
+            suffix++;
+        }
+        final Encoder encoder = new Encoder(delta);
+        encoder.copy(prefix);
+        diffMiddle(left.subList(prefix, left.size() - suffix), right.subList(prefix, right.size() - suffix), encoder);
+        encoder.copy(suffix);
+        encoder.flush();
+        return delta.toString();
+    }
+
+    /**
+     * Applies the delta to the base content.
+     *
+     * @param base  the previous content, null is handled as empty
+     * @param delta the encoded delta
+     * @return the reconstructed content
+     * @throws IllegalArgumentException if the delta is malformed or does not correspond to the base content
+     */
+    static String apply(final String base, final String delta) {
+        final List<String> left = tokens(base);
+        final StringBuilder result = new StringBuilder(base != null ? base.length() + 64 : 64);
+        int position = 0;
+        int i = 0;
+        while (i < delta.length()) {
+            final char op = delta.charAt(i++);
+            final int end = delta.indexOf(';', i);
+            if (end < 0) {
+                throw new IllegalArgumentException("Malformed revision delta at " + i);
+            }
+            final int n;
+            try {
+                n = Integer.parseInt(delta.substring(i, end));
+            } catch (final NumberFormatException e) {
+                throw new IllegalArgumentException("Malformed revision delta at " + i, e);
+            }
+            i = end + 1;
+            if (op == 'C' || op == 'D') {
+                if (n < 0 || position + n > left.size()) {
+                    throw new IllegalArgumentException("Revision delta does not correspond to the base content");
+                }
+                if (op == 'C') {
+                    for (int k = position; k < position + n; k++) {
+                        result.append(left.get(k));
+                    }
+                }
+                position += n;
+            } else if (op == 'I' && n >= 0 && i + n <= delta.length()) {
+                result.append(delta, i, i + n);
+                i += n;
+            } else {
+                throw new IllegalArgumentException("Malformed revision delta at " + i);
+            }
+        }
+        if (position != left.size()) {
+            throw new IllegalArgumentException("Revision delta does not correspond to the base content");
+        }
+        return result.toString();
+    }
+
+    /**
+     * Splits the content in tokens, the concatenation of the tokens is the original content
+     */
+    static List<String> tokens(final String content) {
+        final List<String> result = new ArrayList<>();
+        if (content == null || content.isEmpty()) {
+            return result;
+        }
+        // FIN content is split before each field, the block 4 end and the trailer
+        final boolean fin = content.charAt(0) == '{';
+        int start = 0;
+        for (int i = 0; i < content.length(); i++) {
+            if (content.charAt(i) == '\n' && i + 1 < content.length()) {
+                final char next = content.charAt(i + 1);
+                if (!fin || next == ':' || next == '-') {
+                    result.add(content.substring(start, i + 1));
+                    start = i + 1;
+                }
+            }
+        }
+        result.add(content.substring(start));
+        return result;
+    }
+
+    /**
+     * Encodes the differences with the longest common subsequence of tokens
+     */
+    private static void diffMiddle(final List<String> left, final List<String> right, final Encoder encoder) {
+        final int n = left.size();
+        final int m = right.size();
+        if (n == 0 || m == 0 || (long) n * m > MAX_MATRIX) {
+            encoder.delete(n);
+            for (String token : right) {
+                encoder.insert(token);
+            }
+            return;
+        }
+        // lcs[i][j] is the length of the common subsequence of left[i..] and right[j..]
+        final int[][] lcs = new int[n + 1][m + 1];
+        for (int i = n - 1; i >= 0; i--) {
+            for (int j = m - 1; j >= 0; j--) {
+                lcs[i][j] = left.get(i).equals(right.get(j)) ? lcs[i + 1][j + 1] + 1 : Math.max(lcs[i + 1][j], lcs[i][j + 1]);
+            }
+        }
+        int i = 0;
+        int j = 0;
+        while (i < n && j < m) {
+            if (left.get(i).equals(right.get(j))) {
+                encoder.copy(1);
+                i++;
+                j++;
+            } else if (lcs[i + 1][j] >= lcs[i][j + 1]) {
+                encoder.delete(1);
+                i++;
+            } else {
+                encoder.insert(right.get(j));
+                j++;
+            }
+        }
+        encoder.delete(n - i);
+        while (j < m) {
+            encoder.insert(right.get(j++));
+        }
+    }
+
+    /**
+     * Writes the operations merging consecutive ones of the same kind
+     */
+    private static final class Encoder {
+        private final StringBuilder out;
+        private final StringBuilder inserted = new StringBuilder();
+        private char pending;
+        private int count;
+
+        Encoder(final StringBuilder out) {
+            this.out = out;
+        }
+
+        void copy(final int n) {
+            add('C', n);
+        }
+
+        void delete(final int n) {
+            add('D', n);
+        }
+
+        void insert(final String token) {
+            if (pending != 'I') {
+                flush();
+                pending = 'I';
+            }
+            inserted.append(token);
+        }
+
+        private void add(final char op, final int n) {
+            if (n == 0) {
+                return;
+            }
+            if (pending != op) {
+                flush();
+                pending = op;
+            }
+            count += n;
+        }
+
+        void flush() {
+            if (pending == 'I') {
+                out.append('I').append(inserted.length()).append(';').append(inserted);
+                inserted.setLength(0);
+            } else if (pending != 0) {
+                out.append(pending).append(count).append(';');
+            }
+            pending = 0;
+            count = 0;
+        }
+    }
+
+}
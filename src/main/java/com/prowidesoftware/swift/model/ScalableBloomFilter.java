@@ -0,0 +1,203 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread safe scalable Bloom filter over 128-bit hashes, with a bounded window.
+ *
+ * <p>The filter is a sequence of slices, each one a plain Bloom filter sized for a capacity and false positive
+ * probability. Entries are added to the last slice, and when it reaches its capacity a new slice is created with
+ * twice the capacity and half the false positive probability, so the memory grows with the actual number of
+ * entries. The capacity of the slices stops growing at a quarter of the window, and once the slices hold the window
+ * capacity the oldest slices are discarded as new ones are created, so the memory is bounded and the filter covers
+ * at least the last window capacity entries. Half of the configured false positive probability is split between
+ * the growing slices and the other half between the maximum number of fixed size slices kept, so the compound
+ * probability stays below the configured one.
+ *
+ * @since 9.3.9
+ */
+final class ScalableBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final long window;
+    private final double falsePositiveProbability;
+    private final long initialCapacity;
+    private final long maxSliceCapacity;
+    private final double maxSliceFalsePositiveProbability;
+    private volatile Slice[] slices;
+
+    /**
+     * @param window                   number of most recent entries the filter must cover
+     * @param falsePositiveProbability overall false positive probability, between 0 and 1
+     */
+    ScalableBloomFilter(final long window, final double falsePositiveProbability) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("window must be positive: " + window);
+        }
+        if (!(falsePositiveProbability > 0 && falsePositiveProbability < 1)) {
+            throw new IllegalArgumentException("falsePositiveProbability must be between 0 and 1: " + falsePositiveProbability);
+        }
+        this.window = window;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.initialCapacity = Math.max(1, Math.min(window / 4, 1 << 12));
+        this.maxSliceCapacity = Math.max(initialCapacity, window / 4);
+        // fixed size slices kept: the ones covering the window, the one partially discarded and the new one
+        final long maxSlices = (window + maxSliceCapacity - 1) / maxSliceCapacity + 2;
+        this.maxSliceFalsePositiveProbability = falsePositiveProbability / 2 / maxSlices;
+        this.slices = new Slice[]{first()};
+    }
+
+    /**
+     * @return true if the hash was probably added before, false if it was definitely not added or is out of the window
+     */
+    boolean mightContain(final long h1, final long h2) {
+        for (Slice slice : slices) {
+            if (slice.mightContain(h1, h2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds the hash unless it is probably present already.
+     * <p>Concurrent calls for the same hash must be serialized by the caller for an exact result.
+     *
+     * @return true if the hash was probably added before, in which case nothing is changed
+     */
+    boolean put(final long h1, final long h2) {
+        final Slice[] current = slices;
+        for (Slice slice : current) {
+            if (slice.mightContain(h1, h2)) {
+                return true;
+            }
+        }
+        final Slice last = current[current.length - 1];
+        last.put(h1, h2);
+        if (last.count.incrementAndGet() == last.capacity) {
+            grow(last);
+        }
+        return false;
+    }
+
+    /**
+     * Removes all entries
+     */
+    synchronized void clear() {
+        slices = new Slice[]{first()};
+    }
+
+    /**
+     * @return the number of entries within the slices kept
+     */
+    long size() {
+        long result = 0;
+        for (Slice slice : slices) {
+            result += slice.count.get();
+        }
+        return result;
+    }
+
+    /**
+     * @return the number of slices kept
+     */
+    int slices() {
+        return slices.length;
+    }
+
+    private Slice first() {
+        return initialCapacity < maxSliceCapacity
+                ? new Slice(initialCapacity, falsePositiveProbability / 4)
+                : new Slice(maxSliceCapacity, maxSliceFalsePositiveProbability);
+    }
+
+    private synchronized void grow(final Slice full) {
+        Slice[] current = slices;
+        if (current[current.length - 1] != full) {
+            // cleared meanwhile
+            return;
+        }
+        final long capacity = Math.min(full.capacity * 2, maxSliceCapacity);
+        final Slice next = capacity < maxSliceCapacity
+                ? new Slice(capacity, full.falsePositiveProbability / 2)
+                : new Slice(capacity, maxSliceFalsePositiveProbability);
+
+        // discard the oldest slices while the rest still cover the window
+        int from = 0;
+        long covered = 0;
+        for (Slice slice : current) {
+            covered += slice.capacity;
+        }
+        while (from < current.length - 1 && covered - current[from].capacity >= window) {
+            covered -= current[from].capacity;
+            from++;
+        }
+        final Slice[] result = Arrays.copyOfRange(current, from, current.length + 1);
+        result[result.length - 1] = next;
+        slices = result;
+    }
+
+    private static final class Slice {
+        private final long capacity;
+        private final double falsePositiveProbability;
+        private final AtomicLongArray bits;
+        private final long size;
+        private final int hashes;
+        private final AtomicLong count = new AtomicLong();
+
+        Slice(final long capacity, final double falsePositiveProbability) {
+            this.capacity = capacity;
+            this.falsePositiveProbability = falsePositiveProbability;
+            final long optimal = (long) Math.ceil(-capacity * Math.log(falsePositiveProbability) / (LN2 * LN2));
+            final int words = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (optimal + 63) / 64));
+            this.bits = new AtomicLongArray(words);
+            this.size = (long) words * 64;
+            this.hashes = Math.max(1, (int) Math.round((double) size / capacity * LN2));
+        }
+
+        boolean mightContain(final long h1, final long h2) {
+            long combined = h1;
+            for (int i = 0; i < hashes; i++) {
+                final long index = (combined & Long.MAX_VALUE) % size;
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+                combined += h2;
+            }
+            return true;
+        }
+
+        void put(final long h1, final long h2) {
+            long combined = h1;
+            for (int i = 0; i < hashes; i++) {
+                final long index = (combined & Long.MAX_VALUE) % size;
+                final int word = (int) (index >>> 6);
+                final long mask = 1L << index;
+                long value;
+                while (((value = bits.get(word)) & mask) == 0 && !bits.compareAndSet(word, value, value | mask)) {
+                    // retry on concurrent update of the same word
+                }
+                combined += h2;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import java.io.*;
+
+/**
+ * Compact Java serialization form for the message model objects.
+ *
+ * <p>The {@link SwiftMessage}, {@link SwiftTagListBlock} (and blocks 3, 4, 5 and user blocks), {@link Tag} and
+ * {@link UnparsedTextList} classes are replaced by this proxy when serialized. The proxy writes a kind marker
+ * followed by the {@link SwiftMessageBinaryCodec} encoding, which begins with the format version, instead of
+ * the default serialization with class descriptors for every nested object.
+ *
+ * <p>The model classes keep their serializable fields, so content serialized by previous versions with the
+ * default mechanism can still be read.
+ *
+ * @since 9.3.9
+ */
+final class SerializationProxy implements Externalizable {
+    private static final long serialVersionUID = 1L;
+
+    private static final byte MESSAGE = 1;
+    private static final byte TAG = 2;
+    private static final byte TEXTS = 3;
+    private static final byte TAG_LIST = 4;
+    private static final byte BLOCK3 = 5;
+    private static final byte BLOCK4 = 6;
+    private static final byte BLOCK5 = 7;
+    private static final byte USER_BLOCK = 8;
+
+    private Object object;
+
+    /**
+     * Constructor for deserialization
+     */
+    public SerializationProxy() {
+    }
+
+    SerializationProxy(final Object object) {
+        this.object = object;
+    }
+
+    /**
+     * @return the object to serialize, replaced by a proxy when its class is supported
+     */
+    static Object replace(final Object object) {
+        return kind(object) != 0 ? new SerializationProxy(object) : object;
+    }
+
+    private static byte kind(final Object o) {
+        // subclasses are serialized with the default mechanism, because the proxy cannot recreate them
+        final Class<?> c = o.getClass();
+        if (c == SwiftMessage.class) {
+            return MESSAGE;
+        } else if (c == Tag.class) {
+            return TAG;
+        } else if (c == UnparsedTextList.class) {
+            return TEXTS;
+        } else if (c == SwiftTagListBlock.class) {
+            return TAG_LIST;
+        } else if (c == SwiftBlock3.class) {
+            return BLOCK3;
+        } else if (c == SwiftBlock4.class) {
+            return BLOCK4;
+        } else if (c == SwiftBlock5.class) {
+            return BLOCK5;
+        } else if (c == SwiftBlockUser.class) {
+            return USER_BLOCK;
+        }
+        return 0;
+    }
+
+    @Override
+    public void writeExternal(final ObjectOutput out) throws IOException {
+        final byte kind = kind(object);
+        out.writeByte(kind);
+        switch (kind) {
+            case MESSAGE:
+                SwiftMessageBinaryCodec.encode((SwiftMessage) object, out);
+                break;
+            case TAG:
+                SwiftMessageBinaryCodec.encodeTag((Tag) object, out);
+                break;
+            case TEXTS:
+                SwiftMessageBinaryCodec.encodeTexts((UnparsedTextList) object, out);
+                break;
+            default:
+                SwiftMessageBinaryCodec.encodeBlock((SwiftTagListBlock) object, out);
+        }
+    }
+
+    @Override
+    public void readExternal(final ObjectInput in) throws IOException {
+        final byte kind = in.readByte();
+        try {
+            switch (kind) {
+                case MESSAGE:
+                    object = SwiftMessageBinaryCodec.decode(in);
+                    break;
+                case TAG:
+                    object = SwiftMessageBinaryCodec.decodeTag(in);
+                    break;
+                case TEXTS:
+                    object = SwiftMessageBinaryCodec.decodeTexts(in);
+                    break;
+                case TAG_LIST:
+                    object = SwiftMessageBinaryCodec.decodeBlock(new SwiftTagListBlock(), in);
+                    break;
+                case BLOCK3:
+                    object = SwiftMessageBinaryCodec.decodeBlock(new SwiftBlock3(), in);
+                    break;
+                case BLOCK4:
+                    object = SwiftMessageBinaryCodec.decodeBlock(new SwiftBlock4(), in);
+                    break;
+                case BLOCK5:
+                    object = SwiftMessageBinaryCodec.decodeBlock(new SwiftBlock5(), in);
+                    break;
+                case USER_BLOCK:
+                    object = SwiftMessageBinaryCodec.decodeBlock(null, in);
+                    break;
+                default:
+                    throw new InvalidObjectException("Unknown serialized object kind " + kind);
+            }
+        } catch (final IllegalArgumentException e) {
+            final InvalidObjectException ex = new InvalidObjectException(e.getMessage());
+            ex.initCause(e);
+            throw ex;
+        }
+    }
+
+    /**
+     * @return the deserialized model object in place of this proxy
+     */
+    private Object readResolve() {
+        return object;
+    }
+
+}
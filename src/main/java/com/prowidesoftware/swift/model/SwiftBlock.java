@@ -56,6 +56,14 @@ public abstract class SwiftBlock implements Serializable {
      */
     protected String blockType;
 
+    /**
+     * True when this block is part of a frozen message snapshot
+     *
+     * @see SwiftMessage#freeze()
+     * @since 9.3.9
+     */
+    private transient boolean frozen = false;
+
     /**
      * Default constructor, shouldn't be used normally.
      * <b>DO NOT USE</b>: present only for subclasses
@@ -100,6 +108,7 @@ public abstract class SwiftBlock implements Serializable {
      *
      */
     public void setBlockType(String blockType) {
+        checkNotFrozen();
         this.blockType = blockType;
     }
 
@@ -153,6 +162,7 @@ public abstract class SwiftBlock implements Serializable {
      */
     protected void unparsedTextVerify() {
         if (this.unparsedTexts == null) {
+            checkNotFrozen();
             this.unparsedTexts = new UnparsedTextList();
         }
     }
@@ -163,6 +173,9 @@ public abstract class SwiftBlock implements Serializable {
      * @return the unparsed texts attached to the block
      */
     public UnparsedTextList getUnparsedTexts() {
+        if (this.frozen && this.unparsedTexts == null) {
+            return UnparsedTextList.EMPTY;
+        }
         // create the list if needed
         unparsedTextVerify();
         return this.unparsedTexts;
@@ -174,6 +187,7 @@ public abstract class SwiftBlock implements Serializable {
      * @param texts the new list of unparsed texts (may be null)
      */
     public void setUnparsedTexts(final UnparsedTextList texts) {
+        checkNotFrozen();
         this.unparsedTexts = texts;
     }
 
@@ -200,9 +214,7 @@ public abstract class SwiftBlock implements Serializable {
      * @throws IndexOutOfBoundsException if parameter index is out of bounds
      */
     public Boolean unparsedTextIsMessage(final Integer index) {
-        // create the list if needed
-        unparsedTextVerify();
-        return this.unparsedTexts.isMessage(index);
+        return getUnparsedTexts().isMessage(index);
     }
 
     /**
@@ -214,9 +226,7 @@ public abstract class SwiftBlock implements Serializable {
      * @throws IndexOutOfBoundsException if parameter index is out of bounds
      */
     public String unparsedTextGetText(final Integer index) {
-        // create the list if needed
-        unparsedTextVerify();
-        return this.unparsedTexts.getText(index);
+        return getUnparsedTexts().getText(index);
     }
 
     /**
@@ -227,9 +237,7 @@ public abstract class SwiftBlock implements Serializable {
      * @throws IllegalArgumentException if parameter index is null
      */
     public SwiftMessage unparsedTextGetAsMessage(final Integer index) {
-        // create the list if needed
-        unparsedTextVerify();
-        return this.unparsedTexts.getTextAsMessage(index);
+        return getUnparsedTexts().getTextAsMessage(index);
     }
 
     /**
@@ -239,6 +247,7 @@ public abstract class SwiftBlock implements Serializable {
      * @throws IllegalArgumentException if parameter text is null
      */
     public void unparsedTextAddText(final String text) {
+        checkNotFrozen();
         // create the list if needed
         unparsedTextVerify();
         this.unparsedTexts.addText(text);
@@ -251,6 +260,7 @@ public abstract class SwiftBlock implements Serializable {
      * @throws IllegalArgumentException if parameter message is null
      */
     public void unparsedTextAddText(final SwiftMessage message) {
+        checkNotFrozen();
         // create the list if needed
         unparsedTextVerify();
         this.unparsedTexts.addText(message);
@@ -273,6 +283,7 @@ public abstract class SwiftBlock implements Serializable {
      * @param input the is input parameter
      */
     public void setInput(Boolean input) {
+        checkNotFrozen();
         this.input = input;
     }
 
@@ -293,6 +304,46 @@ public abstract class SwiftBlock implements Serializable {
      * @param output the is output parameter
      */
     public void setOutput(Boolean output) {
+        checkNotFrozen();
         this.output = output;
     }
+
+    /**
+     * @return true if this block is part of a frozen message snapshot and cannot be modified
+     * @see SwiftMessage#freeze()
+     * @since 9.3.9
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * @throws UnsupportedOperationException if this block is frozen
+     * @since 9.3.9
+     */
+    protected void checkNotFrozen() {
+        if (this.frozen) {
+            throw new UnsupportedOperationException("Cannot modify a frozen " + getClass().getSimpleName() + ", use SwiftMessage#thaw() to get a modifiable copy of the message");
+        }
+    }
+
+    /**
+     * Copies the attributes common to all blocks from the source into this block. The unparsed texts are
+     * copied into a new list, sharing the text instances.
+     *
+     * <p>When the freeze parameter is true the copied unparsed texts are unmodifiable and this block is
+     * marked as frozen, from now on any modification will throw an {@link UnsupportedOperationException}.
+     * Thus, this must be the last step when building a frozen block.
+     *
+     * @param source the block to copy attributes from
+     * @param freeze true to mark this block as frozen
+     * @since 9.3.9
+     */
+    void copyCommonAttributes(final SwiftBlock source, final boolean freeze) {
+        this.unparsedTexts = freeze ? UnparsedTextList.frozenCopy(source.unparsedTexts) : UnparsedTextList.mutableCopy(source.unparsedTexts);
+        this.input = source.input;
+        this.output = source.output;
+        this.blockType = source.blockType;
+        this.frozen = freeze;
+    }
 }
@@ -15,8 +15,6 @@
  */
 package com.prowidesoftware.swift.model;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.prowidesoftware.swift.model.mt.ServiceIdType;
 import org.apache.commons.lang3.Validate;
 
@@ -193,8 +191,7 @@ public class SwiftBlock1 extends SwiftValueBlock implements Serializable {
      * @since 7.9.8
      */
     public static SwiftBlock1 fromJson(String json) {
-        final Gson gson = new GsonBuilder().create();
-        return gson.fromJson(json, SwiftBlock1.class);
+        return SwiftMessageJsonReader.gson().fromJson(json, SwiftBlock1.class);
     }
 
     /**
@@ -263,6 +260,7 @@ public class SwiftBlock1 extends SwiftValueBlock implements Serializable {
      * @param applicationId String of 1 character containing the Application ID (F, A or L)
      */
     public void setApplicationId(final String applicationId) {
+        checkNotFrozen();
         this.applicationId = applicationId;
     }
 
@@ -281,6 +279,7 @@ public class SwiftBlock1 extends SwiftValueBlock implements Serializable {
      * @param serviceId string of 2 characters containing Service ID (01, 02, 03, etc...)
      */
     public void setServiceId(final String serviceId) {
+        checkNotFrozen();
         this.serviceId = serviceId;
     }
 
@@ -294,6 +293,7 @@ public class SwiftBlock1 extends SwiftValueBlock implements Serializable {
      * @since 6.4
      */
     public void setSender(final String sender) {
+        checkNotFrozen();
         setLogicalTerminal(new LogicalTerminalAddress(sender));
     }
 
@@ -326,6 +326,7 @@ public class SwiftBlock1 extends SwiftValueBlock implements Serializable {
      * @param logicalTerminal should be a fixed at 12 character length string; with the BIC address, LT identifier and branch code.
      */
     public void setLogicalTerminal(final String logicalTerminal) {
+        checkNotFrozen();
         this.logicalTerminal = logicalTerminal;
     }
 
@@ -339,6 +340,7 @@ public class SwiftBlock1 extends SwiftValueBlock implements Serializable {
      * @since 7.6
      */
     public void setLogicalTerminal(final LogicalTerminalAddress logicalTerminal) {
+        checkNotFrozen();
         this.logicalTerminal = logicalTerminal.getSenderLogicalTerminalAddress();
     }
 
@@ -350,6 +352,7 @@ public class SwiftBlock1 extends SwiftValueBlock implements Serializable {
      * @since 7.6
      */
     public void setLogicalTerminal(final BIC bic) {
+        checkNotFrozen();
         setLogicalTerminal(new LogicalTerminalAddress(bic.getBic11()));
     }
 
@@ -370,6 +373,7 @@ public class SwiftBlock1 extends SwiftValueBlock implements Serializable {
      * @param sessionNumber 4 numbers.
      */
     public void setSessionNumber(final String sessionNumber) {
+        checkNotFrozen();
         this.sessionNumber = sessionNumber;
     }
 
@@ -395,6 +399,7 @@ public class SwiftBlock1 extends SwiftValueBlock implements Serializable {
      * @param sequenceNumber 6 numbers
      */
     public void setSequenceNumber(final String sequenceNumber) {
+        checkNotFrozen();
         this.sequenceNumber = sequenceNumber;
     }
 
@@ -451,6 +456,7 @@ public class SwiftBlock1 extends SwiftValueBlock implements Serializable {
      */
     @Override
     public void setValue(final String value) {
+        checkNotFrozen();
         setValue(value, false);
     }
 
@@ -467,6 +473,7 @@ public class SwiftBlock1 extends SwiftValueBlock implements Serializable {
      */
     @Override
     public void setBlockValue(final String value) {
+        checkNotFrozen();
         setValue(value);
     }
 
@@ -479,6 +486,7 @@ public class SwiftBlock1 extends SwiftValueBlock implements Serializable {
      * @param lenient if true the value will be parsed with a best effort heuristic, if false it will throw a IllegalArgumentException if the value has an invalid total size
      */
     public void setValue(final String value, boolean lenient) {
+        checkNotFrozen();
         if (lenient) {
             //leave all attributes as null (cleaning defaults)
             clean();
@@ -539,6 +547,7 @@ public class SwiftBlock1 extends SwiftValueBlock implements Serializable {
      * @since 6.4
      */
     public void clean() {
+        checkNotFrozen();
         applicationId = null;
         serviceId = null;
         logicalTerminal = null;
@@ -582,8 +591,7 @@ public class SwiftBlock1 extends SwiftValueBlock implements Serializable {
      * @since 7.5
      */
     public String toJson() {
-        final Gson gson = new GsonBuilder().create();
-        return gson.toJson(this);
+        return SwiftMessageJsonWriter.gson(false).toJson(this);
     }
 
     /**
@@ -618,6 +626,7 @@ public class SwiftBlock1 extends SwiftValueBlock implements Serializable {
      * @since 7.8
      */
     public void setField(SwiftBlock1Field field, final String value) {
+        checkNotFrozen();
         switch (field) {
             case ApplicationId:
                 setApplicationId(value);
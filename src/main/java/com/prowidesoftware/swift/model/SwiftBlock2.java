@@ -15,8 +15,6 @@
  */
 package com.prowidesoftware.swift.model;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
@@ -137,6 +135,7 @@ public abstract class SwiftBlock2 extends SwiftValueBlock implements Serializabl
      * @param messageType String of 3 character
      */
     public void setMessageType(final String messageType) {
+        checkNotFrozen();
         this.messageType = messageType;
     }
 
@@ -155,6 +154,7 @@ public abstract class SwiftBlock2 extends SwiftValueBlock implements Serializabl
      * @param messagePriority the message priority
      */
     public void setMessagePriority(final String messagePriority) {
+        checkNotFrozen();
         this.messagePriority = messagePriority;
     }
 
@@ -201,6 +201,7 @@ public abstract class SwiftBlock2 extends SwiftValueBlock implements Serializabl
      * @since 6.4
      */
     public void clean() {
+        checkNotFrozen();
         messagePriority = null;
         messageType = null;
     }
@@ -226,11 +227,7 @@ public abstract class SwiftBlock2 extends SwiftValueBlock implements Serializabl
      * @since 7.9.8 current block 2 implementation, based on Gson (method signature with null implementation is available since 7.5)
      */
     public String toJson() {
-        final Gson gson = new GsonBuilder()
-                .registerTypeAdapter(SwiftBlock2.class, new SwiftBlock2Adapter())
-                .setPrettyPrinting()
-                .create();
-        return gson.toJson(this, SwiftBlock2.class);
+        return SwiftMessageJsonWriter.gson(true).toJson(this, SwiftBlock2.class);
     }
 
     /**
@@ -266,6 +263,7 @@ public abstract class SwiftBlock2 extends SwiftValueBlock implements Serializabl
      * @since 7.8
      */
     public void setField(SwiftBlock2Field field, final String value) {
+        checkNotFrozen();
         switch (field) {
             case MessageType:
                 setMessageType(value);
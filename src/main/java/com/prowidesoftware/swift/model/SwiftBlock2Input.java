@@ -169,6 +169,7 @@ public class SwiftBlock2Input extends SwiftBlock2 implements Serializable {
      */
     @Override
     public void setMessageType(final String messageType) {
+        checkNotFrozen();
         this.messageType = messageType;
     }
 
@@ -180,6 +181,7 @@ public class SwiftBlock2Input extends SwiftBlock2 implements Serializable {
      * @since 7.6
      */
     public void setReceiver(final BIC bic) {
+        checkNotFrozen();
         setReceiverAddress(new LogicalTerminalAddress(bic.getBic11()));
     }
 
@@ -192,6 +194,7 @@ public class SwiftBlock2Input extends SwiftBlock2 implements Serializable {
      * @since 7.6
      */
     public void setReceiver(final String receiver) {
+        checkNotFrozen();
         setReceiverAddress(new LogicalTerminalAddress(receiver));
     }
 
@@ -212,6 +215,7 @@ public class SwiftBlock2Input extends SwiftBlock2 implements Serializable {
      * @param receiverAddress 12 characters String
      */
     public void setReceiverAddress(final String receiverAddress) {
+        checkNotFrozen();
         this.receiverAddress = receiverAddress;
     }
 
@@ -223,6 +227,7 @@ public class SwiftBlock2Input extends SwiftBlock2 implements Serializable {
      * @since 7.6
      */
     public void setReceiverAddress(final LogicalTerminalAddress logicalTerminal) {
+        checkNotFrozen();
         this.receiverAddress = logicalTerminal.getReceiverLogicalTerminalAddress();
     }
 
@@ -257,6 +262,7 @@ public class SwiftBlock2Input extends SwiftBlock2 implements Serializable {
      */
     @Override
     public void setMessagePriority(final String messagePriority) {
+        checkNotFrozen();
         this.messagePriority = messagePriority;
     }
 
@@ -281,6 +287,7 @@ public class SwiftBlock2Input extends SwiftBlock2 implements Serializable {
      * @param deliveryMonitoring String of 1 character containing the Delivery Monitoring field
      */
     public void setDeliveryMonitoring(final String deliveryMonitoring) {
+        checkNotFrozen();
         this.deliveryMonitoring = deliveryMonitoring;
     }
 
@@ -322,6 +329,7 @@ public class SwiftBlock2Input extends SwiftBlock2 implements Serializable {
      * @param obsolescencePeriod String of 3 characters containing the Obsolescence Period
      */
     public void setObsolescencePeriod(final String obsolescencePeriod) {
+        checkNotFrozen();
         this.obsolescencePeriod = obsolescencePeriod;
     }
 
@@ -378,6 +386,7 @@ public class SwiftBlock2Input extends SwiftBlock2 implements Serializable {
      */
     @Override
     public void setValue(final String value) {
+        checkNotFrozen();
         setValue(value, false);
     }
 
@@ -396,6 +405,7 @@ public class SwiftBlock2Input extends SwiftBlock2 implements Serializable {
      */
     @Override
     public void setBlockValue(final String value) {
+        checkNotFrozen();
         setValue(value);
     }
 
@@ -414,6 +424,7 @@ public class SwiftBlock2Input extends SwiftBlock2 implements Serializable {
      * @param lenient if true the value will be parsed with a best effort heuristic, if false it will throw a IllegalArgumentException if the value has an invalid total size
      */
     public void setValue(final String value, boolean lenient) {
+        checkNotFrozen();
         if (lenient) {
             //leave all attributes as null (cleaning defaults)
             clean();
@@ -480,6 +491,7 @@ public class SwiftBlock2Input extends SwiftBlock2 implements Serializable {
      */
     @Override
     public void clean() {
+        checkNotFrozen();
         super.messagePriority = null;
         super.messageType = null;
         this.receiverAddress = null;
@@ -537,6 +549,7 @@ public class SwiftBlock2Input extends SwiftBlock2 implements Serializable {
      * @since 7.8
      */
     public void setField(SwiftBlock2InputField field, final String value) {
+        checkNotFrozen();
         switch (field) {
             case MessageType:
                 setMessageType(value);
@@ -185,6 +185,7 @@ public class SwiftBlock2Output extends SwiftBlock2 implements Serializable {
      * @param senderInputTime 4 numbers HHMM
      */
     public void setSenderInputTime(final String senderInputTime) {
+        checkNotFrozen();
         this.senderInputTime = senderInputTime;
     }
 
@@ -204,6 +205,7 @@ public class SwiftBlock2Output extends SwiftBlock2 implements Serializable {
      * @param MIRDate 6 numbers with date in format YYMMDD
      */
     public void setMIRDate(final String MIRDate) {
+        checkNotFrozen();
         this.MIRDate = MIRDate;
     }
 
@@ -214,6 +216,7 @@ public class SwiftBlock2Output extends SwiftBlock2 implements Serializable {
      * @since 9.1.3
      */
     public void setMIRDate(Calendar cal) {
+        checkNotFrozen();
         String yymmdd = DateFormatUtils.format(cal.getTime(), "yyMMdd");
         setMIRDate(yymmdd);
     }
@@ -226,6 +229,7 @@ public class SwiftBlock2Output extends SwiftBlock2 implements Serializable {
      * @since 7.6
      */
     public void setSender(final BIC bic) {
+        checkNotFrozen();
         setMIRLogicalTerminal(new LogicalTerminalAddress(bic.getBic11()));
     }
 
@@ -238,6 +242,7 @@ public class SwiftBlock2Output extends SwiftBlock2 implements Serializable {
      * @since 7.6
      */
     public void setSender(final String sender) {
+        checkNotFrozen();
         setMIRLogicalTerminal(new LogicalTerminalAddress(sender));
     }
 
@@ -257,6 +262,7 @@ public class SwiftBlock2Output extends SwiftBlock2 implements Serializable {
      * @param MIRLogicalTerminal 12 characters full LT address
      */
     public void setMIRLogicalTerminal(final String MIRLogicalTerminal) {
+        checkNotFrozen();
         this.MIRLogicalTerminal = MIRLogicalTerminal;
     }
 
@@ -268,6 +274,7 @@ public class SwiftBlock2Output extends SwiftBlock2 implements Serializable {
      * @since 7.6
      */
     public void setMIRLogicalTerminal(final LogicalTerminalAddress MIRLogicalTerminal) {
+        checkNotFrozen();
         this.MIRLogicalTerminal = MIRLogicalTerminal.getSenderLogicalTerminalAddress();
     }
 
@@ -300,6 +307,7 @@ public class SwiftBlock2Output extends SwiftBlock2 implements Serializable {
      * @param MIRSessionNumber 4 numbers
      */
     public void setMIRSessionNumber(final String MIRSessionNumber) {
+        checkNotFrozen();
         this.MIRSessionNumber = MIRSessionNumber;
     }
 
@@ -319,6 +327,7 @@ public class SwiftBlock2Output extends SwiftBlock2 implements Serializable {
      * @param MIRSequenceNumber 6 numbers
      */
     public void setMIRSequenceNumber(final String MIRSequenceNumber) {
+        checkNotFrozen();
         this.MIRSequenceNumber = MIRSequenceNumber;
     }
 
@@ -358,6 +367,7 @@ public class SwiftBlock2Output extends SwiftBlock2 implements Serializable {
      * @see #setMIR(String, boolean)
      */
     public void setMIR(final String mir) {
+        checkNotFrozen();
         setMIR(mir, false);
     }
 
@@ -369,6 +379,7 @@ public class SwiftBlock2Output extends SwiftBlock2 implements Serializable {
      * @param lenient if true the value will be parsed with a best effort heuristic, if false it will throw a IllegalArgumentException if the value has an invalid total size
      */
     public void setMIR(final String mir, boolean lenient) {
+        checkNotFrozen();
         if (!lenient) {
             Objects.requireNonNull(mir);
             Validate.isTrue(mir.length() == 28, "expected a 28 characters string for MIR value and found a " + mir.length() + " string:" + mir);
@@ -414,6 +425,7 @@ public class SwiftBlock2Output extends SwiftBlock2 implements Serializable {
      * @param receiverOutputDate 6 characters in format YYMMDD
      */
     public void setReceiverOutputDate(final String receiverOutputDate) {
+        checkNotFrozen();
         this.receiverOutputDate = receiverOutputDate;
     }
 
@@ -432,6 +444,7 @@ public class SwiftBlock2Output extends SwiftBlock2 implements Serializable {
      * @param receiverOutputTime String with 4 numbers
      */
     public void setReceiverOutputTime(final String receiverOutputTime) {
+        checkNotFrozen();
         this.receiverOutputTime = receiverOutputTime;
     }
 
@@ -442,6 +455,7 @@ public class SwiftBlock2Output extends SwiftBlock2 implements Serializable {
      * @since 9.1.3
      */
     public void setReceiverOutputDateTime(Calendar cal) {
+        checkNotFrozen();
         String yymmdd = DateFormatUtils.format(cal.getTime(), "yyMMdd");
         String hhmm = DateFormatUtils.format(cal.getTime(), "HHmm");
         setReceiverOutputDate(yymmdd);
@@ -505,6 +519,7 @@ public class SwiftBlock2Output extends SwiftBlock2 implements Serializable {
      */
     @Override
     public void setValue(final String value) {
+        checkNotFrozen();
         setValue(value, false);
     }
 
@@ -521,6 +536,7 @@ public class SwiftBlock2Output extends SwiftBlock2 implements Serializable {
      */
     @Override
     public void setBlockValue(final String value) {
+        checkNotFrozen();
         setValue(value);
     }
 
@@ -539,6 +555,7 @@ public class SwiftBlock2Output extends SwiftBlock2 implements Serializable {
      * @param lenient if true the value will be parsed with a best effort heuristic, if false it will throw a IllegalArgumentException if the value has an invalid total size
      */
     public void setValue(final String value, boolean lenient) {
+        checkNotFrozen();
         if (lenient) {
             //leave all attributes as null (cleaning defaults)
             clean();
@@ -664,6 +681,7 @@ public class SwiftBlock2Output extends SwiftBlock2 implements Serializable {
      * @since 7.8
      */
     public void setField(SwiftBlock2OutputField field, final String value) {
+        checkNotFrozen();
         switch (field) {
             case MessageType:
                 setMessageType(value);
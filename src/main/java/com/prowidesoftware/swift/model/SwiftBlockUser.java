@@ -315,6 +315,7 @@ public class SwiftBlockUser extends SwiftTagListBlock implements Serializable {
      * @param sortKey the new sortkey
      */
     public void setSortKey(Integer sortKey) {
+        checkNotFrozen();
         this.sortKey = sortKey;
     }
 
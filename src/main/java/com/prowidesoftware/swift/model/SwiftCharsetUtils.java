@@ -19,6 +19,10 @@ import com.prowidesoftware.ProwideException;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Helper class to validate SWIFT char sets (named after the SWIFT User Handbook).
  *
@@ -36,11 +40,36 @@ public class SwiftCharsetUtils {
     private static final char[] specialCharacters_y = {' ', '.', ',', '-', '(', ')', '/', '=', '\'', '+', ':', '?', '!', '"', '%', '&', '*', ';', '<', '>'};
     private static final char[] specialCharacters_z = {'.', ',', '-', '(', ')', '/', '=', '\'', '+', ':', '?', '@', '#', ' ', '{', '!', '"', '%', '&', '*', ';', '<', '>', '_', '\n', '\r'};
 
+    /*
+     * 128 bits mask per charset, indexed by the charset ordinal, where bit c is set if the ASCII character c belongs
+     * to the charset; non ASCII characters do not belong to any SWIFT charset
+     */
+    private static final long[][] MASKS = new long[SwiftCharset.values().length][];
+
+    static {
+        mask(SwiftCharset.n, get_n());
+        mask(SwiftCharset.a, get_a());
+        mask(SwiftCharset.A, get_A());
+        mask(SwiftCharset.x, get_x());
+        mask(SwiftCharset.y, get_y());
+        mask(SwiftCharset.z, get_z());
+        mask(SwiftCharset.c, get_c());
+        mask(SwiftCharset.B, get_B());
+    }
+
     // Suppress default constructor for noninstantiability
     private SwiftCharsetUtils() {
         throw new AssertionError();
     }
 
+    private static void mask(final SwiftCharset charset, final char[] chars) {
+        final long[] mask = new long[2];
+        for (char c : chars) {
+            mask[c >>> 6] |= 1L << c;
+        }
+        MASKS[charset.ordinal()] = mask;
+    }
+
     private static boolean isNumber(char character) {
         return character >= '0' && character <= '9';
     }
@@ -94,7 +123,7 @@ public class SwiftCharsetUtils {
      * any character of the X permitted set (General FIN application set)  upper case and lower case allowed
      */
     public static boolean is_x(final char character) {
-        return isLowercaseLetter(character) || isUppercaseLetter(character) || isNumber(character) || is(character, specialCharacters_x);
+        return is(character, SwiftCharset.x);
     }
 
     /**
@@ -112,7 +141,7 @@ public class SwiftCharsetUtils {
      * any character of the Y permitted set (EDI service specific set), upper case only
      */
     public static boolean is_y(final char character) {
-        return isUppercaseLetter(character) || isNumber(character) || is(character, specialCharacters_y);
+        return is(character, SwiftCharset.y);
     }
 
     /**
@@ -130,7 +159,7 @@ public class SwiftCharsetUtils {
      * all characters included in the X and Y sets, plus a couple of special characters
      */
     public static boolean is_z(final char character) {
-        return isLowercaseLetter(character) || isUppercaseLetter(character) || isNumber(character) || is(character, specialCharacters_z);
+        return is(character, SwiftCharset.z);
     }
 
     /**
@@ -205,10 +234,48 @@ public class SwiftCharsetUtils {
      */
     public static int is(final String s, SwiftCharset charset) {
         if (StringUtils.isNotEmpty(s)) {
-            for (int i = 0; i < s.length(); i++) {
-                if (!is(s.charAt(i), charset)) {
-                    return i;
-                }
+            return is(s, 0, s.length(), charset);
+        }
+        return OK;
+    }
+
+    /**
+     * Checks if the characters in a range of a text belong to a given SWIFT charset
+     *
+     * @param s       a not null text
+     * @param start   the start index, inclusive
+     * @param end     the end index, exclusive
+     * @param charset the charset to match
+     * @return Returns this.OK (-1) if all characters in the range matches a char defined in the charset or
+     * the position (zero based, from the beginning of the text) of the first invalid character found
+     * @since 9.3.9
+     */
+    public static int is(final CharSequence s, final int start, final int end, final SwiftCharset charset) {
+        final long[] mask = MASKS[charset.ordinal()];
+        for (int i = start; i < end; i++) {
+            if (!is(s.charAt(i), mask)) {
+                return i;
+            }
+        }
+        return OK;
+    }
+
+    /**
+     * Checks if the characters in a range of an array belong to a given SWIFT charset
+     *
+     * @param chars   a not null array
+     * @param start   the start index, inclusive
+     * @param end     the end index, exclusive
+     * @param charset the charset to match
+     * @return Returns this.OK (-1) if all characters in the range matches a char defined in the charset or
+     * the position (zero based, from the beginning of the array) of the first invalid character found
+     * @since 9.3.9
+     */
+    public static int is(final char[] chars, final int start, final int end, final SwiftCharset charset) {
+        final long[] mask = MASKS[charset.ordinal()];
+        for (int i = start; i < end; i++) {
+            if (!is(chars[i], mask)) {
+                return i;
             }
         }
         return OK;
@@ -220,35 +287,11 @@ public class SwiftCharsetUtils {
      * @return true if character matches a char defined in the charset
      */
     public static boolean is(final char c, SwiftCharset charset) {
-        switch (charset) {
-            case n: {
-                return is_n(c);
-            }
-            case a: {
-                return is_a(c);
-            }
-            case A: {
-                return is_A(c);
-            }
-            case x: {
-                return is_x(c);
-            }
-            case y: {
-                return is_y(c);
-            }
-            case z: {
-                return is_z(c);
-            }
-            case c: {
-                return is_c(c);
-            }
-            case B: {
-                return is_B(c);
-            }
-            default: {
-                throw new ProwideException("Unexpected charset value " + charset);
-            }
-        }
+        return is(c, MASKS[charset.ordinal()]);
+    }
+
+    private static boolean is(final char c, final long[] mask) {
+        return c < 128 && (mask[c >>> 6] & (1L << c)) != 0;
     }
 
     /**
@@ -301,13 +344,6 @@ public class SwiftCharsetUtils {
         return StringUtils.replace(result, getAsString(azLowerCase), "[a-z]");
     }
 
-    /**
-     * Returns true if the parameter char is part of the parameter character set
-     */
-    private static boolean is(final char c, final char[] charset) {
-        return ArrayUtils.contains(charset, c);
-    }
-
     /**
      * Gets SWIFT n charset; numeric digits (0 through 9) only.
      */
@@ -421,4 +457,127 @@ public class SwiftCharsetUtils {
         return result.toString();
     }
 
+    /**
+     * Validates all block 4 tag values against a charset, reporting all the invalid characters found per tag.
+     *
+     * @param m       the message to validate
+     * @param charset the expected charset, typically x or z
+     * @return the tags with invalid characters, or an empty list if all tag values match the charset
+     * @since 9.3.9
+     */
+    public static List<SwiftCharsetViolation> validate(final SwiftMessage m, final SwiftCharset charset) {
+        final long[] mask = MASKS[charset.ordinal()];
+        final List<SwiftCharsetViolation> result = new ArrayList<>();
+        if (m == null || m.getBlock4() == null) {
+            return result;
+        }
+        final List<Tag> tags = m.getBlock4().getTags();
+        int[] positions = new int[8];
+        for (int index = 0; index < tags.size(); index++) {
+            final String value = tags.get(index).getValue();
+            int count = 0;
+            for (int i = 0; value != null && i < value.length(); i++) {
+                if (!is(value.charAt(i), mask)) {
+                    if (count == positions.length) {
+                        positions = Arrays.copyOf(positions, count * 2);
+                    }
+                    positions[count++] = i;
+                }
+            }
+            if (count > 0) {
+                result.add(new SwiftCharsetViolation(index, tags.get(index).getName(), value, Arrays.copyOf(positions, count)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Validates all block 4 tag values of a raw FIN message against a charset in a single pass, without parsing the
+     * message, reporting all the invalid characters found per tag.
+     *
+     * <p>The tag values are taken as they appear in the FIN content, including the line breaks of multi line values.
+     * If the message has no block 4 or the block 4 is not a text block (for example in service messages), no
+     * violations are reported.
+     *
+     * @param fin     the message in FIN format
+     * @param charset the expected charset, typically x or z
+     * @return the tags with invalid characters, or an empty list if all tag values match the charset
+     * @since 9.3.9
+     */
+    public static List<SwiftCharsetViolation> validate(final String fin, final SwiftCharset charset) {
+        final long[] mask = MASKS[charset.ordinal()];
+        final List<SwiftCharsetViolation> result = new ArrayList<>();
+        final int block4 = fin != null ? fin.indexOf("{4:") : -1;
+        if (block4 < 0) {
+            return result;
+        }
+        final int length = fin.length();
+        int tagIndex = -1;
+        int nameStart = -1;
+        int valueStart = -1;
+        int[] positions = new int[8];
+        int count = 0;
+        int i = block4 + 3;
+        if (i < length && fin.charAt(i) == ':' && tagNameEnd(fin, i) > 0) {
+            // tag starting right after the block start, without line break
+            nameStart = i + 1;
+            i = tagNameEnd(fin, i) + 1;
+            valueStart = i;
+            tagIndex++;
+        }
+        while (i < length) {
+            final char c = fin.charAt(i);
+            if (c == '\r' || c == '\n') {
+                final int next = c == '\r' && i + 1 < length && fin.charAt(i + 1) == '\n' ? i + 2 : i + 1;
+                final int nameEnd = next < length && fin.charAt(next) == ':' ? tagNameEnd(fin, next) : -1;
+                final boolean blockEnd = next + 1 < length && fin.charAt(next) == '-' && fin.charAt(next + 1) == '}';
+                if (nameEnd > 0 || blockEnd || next >= length) {
+                    if (count > 0) {
+                        result.add(new SwiftCharsetViolation(tagIndex, fin.substring(nameStart, valueStart - 1), fin.substring(valueStart, i), Arrays.copyOf(positions, count)));
+                        count = 0;
+                    }
+                    if (nameEnd < 0) {
+                        break;
+                    }
+                    nameStart = next + 1;
+                    valueStart = nameEnd + 1;
+                    tagIndex++;
+                    i = valueStart;
+                    continue;
+                }
+            } else if (valueStart < 0) {
+                // content before the first tag, not a text block
+                break;
+            }
+            if (valueStart >= 0 && !is(c, mask)) {
+                if (count == positions.length) {
+                    positions = Arrays.copyOf(positions, count * 2);
+                }
+                positions[count++] = i - valueStart;
+            }
+            i++;
+        }
+        if (count > 0) {
+            result.add(new SwiftCharsetViolation(tagIndex, fin.substring(nameStart, valueStart - 1), fin.substring(valueStart, i), Arrays.copyOf(positions, count)));
+        }
+        return result;
+    }
+
+    /**
+     * @return the position of the colon closing a tag name starting at the given colon, or -1 if there is no valid
+     * tag name (two numbers and an optional letter option)
+     */
+    private static int tagNameEnd(final String fin, final int colon) {
+        final int end = colon + 3 < fin.length() && fin.charAt(colon + 3) == ':' ? colon + 3 : colon + 4;
+        if (end >= fin.length() || fin.charAt(end) != ':') {
+            return -1;
+        }
+        for (int i = colon + 1; i < end; i++) {
+            if (!is_B(fin.charAt(i))) {
+                return -1;
+            }
+        }
+        return end;
+    }
+
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import java.util.Arrays;
+
+/**
+ * Characters not matching the expected SWIFT charset found in a block 4 tag.
+ *
+ * @see SwiftCharsetUtils#validate(SwiftMessage, SwiftCharset)
+ * @see SwiftCharsetUtils#validate(String, SwiftCharset)
+ * @since 9.3.9
+ */
+public final class SwiftCharsetViolation {
+
+    private final int tagIndex;
+    private final String tagName;
+    private final String value;
+    private final int[] positions;
+
+    /**
+     * @param tagIndex  the tag position in block 4 (zero based)
+     * @param tagName   the tag name
+     * @param value     the tag value
+     * @param positions the offending positions in the tag value (zero based)
+     */
+    public SwiftCharsetViolation(final int tagIndex, final String tagName, final String value, final int[] positions) {
+        this.tagIndex = tagIndex;
+        this.tagName = tagName;
+        this.value = value;
+        this.positions = positions.clone();
+    }
+
+    /**
+     * @return the tag position in block 4 (zero based)
+     */
+    public int getTagIndex() {
+        return tagIndex;
+    }
+
+    /**
+     * @return the tag name, for example 70
+     */
+    public String getTagName() {
+        return tagName;
+    }
+
+    /**
+     * @return the tag value
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * @return the positions of the invalid characters in the tag value (zero based)
+     */
+    public int[] getPositions() {
+        return positions.clone();
+    }
+
+    /**
+     * @return the invalid characters found, in the order they appear in the tag value
+     */
+    public char[] getCharacters() {
+        final char[] result = new char[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            result[i] = value.charAt(positions[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "Invalid characters in tag " + tagIndex + " (" + tagName + ") at positions " + Arrays.toString(positions);
+    }
+
+}
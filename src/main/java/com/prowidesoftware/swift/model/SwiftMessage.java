@@ -15,8 +15,6 @@
  */
 package com.prowidesoftware.swift.model;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.prowidesoftware.JsonSerializable;
 import com.prowidesoftware.swift.io.ConversionService;
 import com.prowidesoftware.swift.io.IConversionService;
@@ -33,10 +31,12 @@ import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import java.io.IOException;
+import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.io.StringWriter;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.function.Function;
 import java.util.logging.Level;
 
 /**
@@ -79,6 +79,14 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      */
     private UnparsedTextList unparsedTexts = null;
 
+    /**
+     * True when this message is an immutable snapshot
+     *
+     * @see #freeze()
+     * @since 9.3.9
+     */
+    private transient boolean frozen = false;
+
     /**
      * Default constructor.
      * Must be called since here is performed default handler registration
@@ -257,11 +265,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      * @since 7.9.8
      */
     public static SwiftMessage fromJson(String json) {
-        final Gson gson = new GsonBuilder()
-                .registerTypeAdapter(SwiftMessage.class, new SwiftMessageAdapter())
-                .registerTypeAdapter(SwiftBlock2.class, new SwiftBlock2Adapter())
-                .create();
-        return gson.fromJson(json, SwiftMessage.class);
+        return SwiftMessageJsonReader.parseSwiftMessage(json);
     }
 
     @Override
@@ -283,6 +287,16 @@ public class SwiftMessage implements Serializable, JsonSerializable {
         return Objects.hash(block1, block2, block3, block4, block5, userBlocks, unparsedTexts);
     }
 
+    /**
+     * Replaces the message by a compact form when serialized, see {@link SerializationProxy}.
+     *
+     * @return the object to write in place of this message
+     * @since 9.3.9
+     */
+    Object writeReplace() throws ObjectStreamException {
+        return SerializationProxy.replace(this);
+    }
+
     /**
      * Get the block number specified by b.
      *
@@ -511,6 +525,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      * @param block1 the content of the block 1
      */
     public void setBlock1(final SwiftBlock1 block1) {
+        checkNotFrozen();
         this.block1 = block1;
     }
 
@@ -529,6 +544,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      * @param block2 the content of the block 1
      */
     public void setBlock2(final SwiftBlock2 block2) {
+        checkNotFrozen();
         this.block2 = block2;
     }
 
@@ -547,6 +563,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      * @param block3 the content of the block 1
      */
     public void setBlock3(final SwiftBlock3 block3) {
+        checkNotFrozen();
         this.block3 = block3;
     }
 
@@ -565,6 +582,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      * @param block4 the content of the block 1
      */
     public void setBlock4(final SwiftBlock4 block4) {
+        checkNotFrozen();
         this.block4 = block4;
     }
 
@@ -583,6 +601,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      * @param block5 the content of the block 5
      */
     public void setBlock5(final SwiftBlock5 block5) {
+        checkNotFrozen();
         this.block5 = block5;
     }
 
@@ -633,6 +652,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      * @since 5.0
      */
     public void setUserBlocks(final List<SwiftBlockUser> userBlocks) {
+        checkNotFrozen();
         // sanity check
         Objects.requireNonNull(userBlocks, "parameter 'userBlocks' cannot be null");
 
@@ -687,6 +707,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      * @since 5.0
      */
     public void addUserBlock(final SwiftBlockUser userBlock) {
+        checkNotFrozen();
         // sanity check
         Objects.requireNonNull(userBlock);
         Validate.isTrue(userBlock.isValidName(), INVALID_NAME_BLOCK + userBlock.getName() + ")");
@@ -730,6 +751,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      * @since 5.0
      */
     public void removeUserBlock(final String blockName) {
+        checkNotFrozen();
         // sanity check
         Objects.requireNonNull(blockName, "parameter 'blockName' cannot be null");
         Validate.isTrue(SwiftBlockUser.isValidName(blockName), INVALID_NAME_BLOCK + blockName + ")");
@@ -745,6 +767,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      * remove all blocks from these message, including user blocks
      */
     public void clear() {
+        checkNotFrozen();
         // release all blocks
         this.block1 = null;
         this.block2 = null;
@@ -882,6 +905,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      * @since 7.10.4
      */
     public SwiftMessage setSignature(String signature) {
+        checkNotFrozen();
 
         // get the S block (create if it does not exist in the message)
         SwiftBlockUser sBlock = getUserBlock("S");
@@ -915,6 +939,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      */
     protected void unparsedTextVerify() {
         if (this.unparsedTexts == null) {
+            checkNotFrozen();
             this.unparsedTexts = new UnparsedTextList();
         }
     }
@@ -925,17 +950,29 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      * @return the unparsed text attached to this message
      */
     public UnparsedTextList getUnparsedTexts() {
+        if (this.frozen && this.unparsedTexts == null) {
+            return UnparsedTextList.EMPTY;
+        }
         // create the list if needed
         unparsedTextVerify();
         return this.unparsedTexts;
     }
 
+    /**
+     * @return the unparsed texts list as it is, without creating it when not set
+     * @since 9.3.9
+     */
+    UnparsedTextList unparsedTextsOrNull() {
+        return this.unparsedTexts;
+    }
+
     /**
      * sets the list of unparsed texts
      *
      * @param texts the new list of unparsed texts (may be null)
      */
     public void setUnparsedTexts(final UnparsedTextList texts) {
+        checkNotFrozen();
         this.unparsedTexts = texts;
     }
 
@@ -962,9 +999,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      * @throws IndexOutOfBoundsException if parameter index is out of bounds
      */
     public Boolean unparsedTextIsMessage(final Integer index) {
-        // create the list if needed
-        unparsedTextVerify();
-        return this.unparsedTexts.isMessage(index);
+        return getUnparsedTexts().isMessage(index);
     }
 
     /**
@@ -976,9 +1011,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      * @throws IndexOutOfBoundsException if parameter index is out of bounds
      */
     public String unparsedTextGetText(final Integer index) {
-        // create the list if needed
-        unparsedTextVerify();
-        return this.unparsedTexts.getText(index);
+        return getUnparsedTexts().getText(index);
     }
 
     /**
@@ -989,9 +1022,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      * @throws IllegalArgumentException if parameter index is null
      */
     public SwiftMessage unparsedTextGetAsMessage(final Integer index) {
-        // create the list if needed
-        unparsedTextVerify();
-        return this.unparsedTexts.getTextAsMessage(index);
+        return getUnparsedTexts().getTextAsMessage(index);
     }
 
     /**
@@ -1001,6 +1032,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      * @throws IllegalArgumentException if parameter text is null
      */
     public void unparsedTextAddText(final String text) {
+        checkNotFrozen();
         // create the list if needed
         unparsedTextVerify();
         this.unparsedTexts.addText(text);
@@ -1013,6 +1045,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      * @throws IllegalArgumentException if parameter message is null
      */
     public void unparsedTextAddText(final SwiftMessage message) {
+        checkNotFrozen();
         // create the list if needed
         unparsedTextVerify();
         this.unparsedTexts.addText(message);
@@ -1131,6 +1164,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      * @since 8.0.3 returns this
      */
     public SwiftMessage removeEmptyBlocks() {
+        checkNotFrozen();
         if (this.block1 != null && this.block1.isEmpty()) {
             this.block1 = null;
         }
@@ -1262,6 +1296,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      * @since 8.0.2
      */
     public SwiftMessage setPDE() {
+        checkNotFrozen();
         if (this.block5 == null) {
             this.block5 = new SwiftBlock5();
         }
@@ -1359,6 +1394,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      * @since 7.10.4
      */
     public SwiftMessage setMUR(String mur) {
+        checkNotFrozen();
         if (StringUtils.isNotBlank(mur)) {
             if (this.block3 == null) {
                 this.block3 = new SwiftBlock3();
@@ -1510,12 +1546,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      */
     @Override
     public String toJson() {
-        final Gson gson = new GsonBuilder()
-                .registerTypeAdapter(SwiftMessage.class, new SwiftMessageAdapter())
-                .registerTypeAdapter(SwiftBlock2.class, new SwiftBlock2Adapter())
-                .setPrettyPrinting()
-                .create();
-        return gson.toJson(this);
+        return SwiftMessageJsonWriter.toJson(this, true);
     }
 
     /**
@@ -1553,6 +1584,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      * <code>new MT102(SwiftMessage)</code>.
      * <p>For messages with service id 21 = GPA/FIN Message (ACK/NAK/UAK/UNK) it will
      * return an instance of {@link ServiceMessage21}.
+     * <p>The specific MT class is resolved from the message type and variant using the {@link MTRegistry}.
      *
      * @return created specific MT object or null if the message type is not set or an error occurs during message creation
      */
@@ -1564,36 +1596,36 @@ public class SwiftMessage implements Serializable, JsonSerializable {
             }
             log.warning("Cannot determine the message type from application header (block 2)");
         } else {
-            final StringBuilder className = new StringBuilder();
-            className.append("com.prowidesoftware.swift.model.mt.mt");
-            className.append(type.charAt(0));
-            className.append("xx.MT");
-            className.append(type);
+            final int typeInt = getTypeInt();
+            MTVariant variant = null;
             if (isSTP()) {
-                if (isType(102, 103)) {
-                    className.append("_STP");
+                if (typeInt == 102 || typeInt == 103) {
+                    variant = MTVariant.STP;
                 } else {
                     log.warning("Unexpected STP flag in MT " + getType());
                 }
             } else if (isREMIT()) {
-                if (isType(103)) {
-                    className.append("_REMIT");
+                if (typeInt == 103) {
+                    variant = MTVariant.REMIT;
                 } else {
                     log.warning("Unexpected REMIT flag in MT " + getType());
                 }
             } else if (isCOV()) {
-                if (isType(202, 205)) {
-                    className.append("COV");
+                if (typeInt == 202 || typeInt == 205) {
+                    variant = MTVariant.COV;
                 } else {
                     log.warning("Unexpected COV flag in MT " + getType());
                 }
             }
-            log.finer("About to create an instance of " + className);
-            try {
-                final Class<?> mtClass = Class.forName(className.toString());
-                return (AbstractMT) mtClass.getConstructor(SwiftMessage.class).newInstance(this);
-            } catch (final Exception e) {
-                log.warning("Could not create instance of " + className + ": " + e);
+            final Function<SwiftMessage, AbstractMT> constructor = MTRegistry.get(typeInt, variant);
+            if (constructor == null) {
+                log.warning("Could not create instance of MT" + type + (variant != null ? " " + variant : "") + ": no model class available");
+            } else {
+                try {
+                    return constructor.apply(this);
+                } catch (final RuntimeException e) {
+                    log.warning("Could not create instance of MT" + type + (variant != null ? " " + variant : "") + ": " + e);
+                }
             }
         }
         return null;
@@ -1754,6 +1786,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      * @since 7.10.0
      */
     public void setVariant(final MTVariant variant) {
+        checkNotFrozen();
         if (!variant.isValidationFlag()) {
             log.warning("Field " + Field199.NAME + " should be used only for validation flags and not for " + variant.name());
         }
@@ -1841,6 +1874,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      * @since 7.10.0
      */
     public void setServiceTypeIdentifier(final String serviceTypeIdentifier) {
+        checkNotFrozen();
         if (this.block3 == null) {
             this.block3 = new SwiftBlock3();
         }
@@ -1867,6 +1901,7 @@ public class SwiftMessage implements Serializable, JsonSerializable {
      * @since 7.10.0
      */
     public void setUETR(final String uniqueEndToEndTransactionReference) {
+        checkNotFrozen();
         if (this.block3 == null) {
             this.block3 = new SwiftBlock3();
         }
@@ -1914,4 +1949,133 @@ public class SwiftMessage implements Serializable, JsonSerializable {
         return srv.getFIN(this);
     }
 
+    /**
+     * Creates an immutable snapshot of this message.
+     *
+     * <p>The snapshot is built in a single pass over the message structure, without serializing or parsing,
+     * and shares all the string instances (tag names and values, header fields and unparsed texts) with this
+     * message. The blocks, tags and lists are copied, so further changes in this message are not reflected in
+     * the snapshot.
+     *
+     * <p>Any attempt to modify the snapshot, its blocks, tags or unparsed texts, either through setters or
+     * through the returned lists, will throw an {@link UnsupportedOperationException}. Use {@link #thaw()}
+     * to get a modifiable copy.
+     *
+     * <p>Since the frozen message graph is never modified after creation, it can be read concurrently by any
+     * number of threads without locking, provided the snapshot is published safely to the reader threads, for
+     * example through a concurrent collection, an executor service or a volatile or final field.
+     *
+     * <p>Notice the parsed {@link Field} and {@link AbstractMT} instances created from a frozen message are
+     * plain new objects, thus modifiable and not linked to the snapshot.
+     *
+     * @return this message if it is already frozen or a new frozen copy of it
+     * @see #isFrozen()
+     * @see #thaw()
+     * @since 9.3.9
+     */
+    public SwiftMessage freeze() {
+        if (this.frozen) {
+            return this;
+        }
+        return copy(true);
+    }
+
+    /**
+     * Creates a modifiable copy of this message.
+     *
+     * <p>The copy shares all the string instances with this message, but has its own blocks, tags and lists,
+     * so it can be freely modified without affecting this message. This is typically used to modify a message
+     * obtained with {@link #freeze()}, but can be also called on regular messages as a deep copy.
+     *
+     * <p>Notice this is not a copy-on-write view: all the blocks, tags and lists are copied eagerly when this
+     * method is called, so its cost is proportional to the number of tags and unparsed texts in the message,
+     * even if only a single field is modified afterwards. The text content is never copied, serialized or parsed.
+     *
+     * @return a new modifiable copy of this message
+     * @see #freeze()
+     * @since 9.3.9
+     */
+    public SwiftMessage thaw() {
+        return copy(false);
+    }
+
+    /**
+     * @return true if this message is an immutable snapshot created with {@link #freeze()}
+     * @since 9.3.9
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * @throws UnsupportedOperationException if this message is frozen
+     */
+    private void checkNotFrozen() {
+        if (this.frozen) {
+            throw new UnsupportedOperationException("Cannot modify a frozen message, use SwiftMessage#thaw() to get a modifiable copy");
+        }
+    }
+
+    /**
+     * Copies the complete message structure sharing the string instances
+     *
+     * @param freeze true to create an immutable copy
+     */
+    private SwiftMessage copy(final boolean freeze) {
+        final SwiftMessage result = new SwiftMessage(false);
+        result.block1 = copyBlock1(this.block1, freeze);
+        result.block2 = copyBlock2(this.block2, freeze);
+        result.block3 = this.block3 == null ? null : copyTags(new SwiftBlock3(), this.block3, freeze);
+        result.block4 = this.block4 == null ? null : copyTags(new SwiftBlock4(), this.block4, freeze);
+        result.block5 = this.block5 == null ? null : copyTags(new SwiftBlock5(), this.block5, freeze);
+        if (this.userBlocks != null) {
+            final List<SwiftBlockUser> blocks = new ArrayList<>(this.userBlocks.size());
+            for (final SwiftBlockUser b : this.userBlocks) {
+                blocks.add(copyUserBlock(b, freeze));
+            }
+            result.userBlocks = freeze ? Collections.unmodifiableList(blocks) : blocks;
+        }
+        result.unparsedTexts = freeze ? UnparsedTextList.frozenCopy(this.unparsedTexts) : UnparsedTextList.mutableCopy(this.unparsedTexts);
+        result.frozen = freeze;
+        return result;
+    }
+
+    private static SwiftBlock1 copyBlock1(final SwiftBlock1 source, final boolean freeze) {
+        if (source == null) {
+            return null;
+        }
+        final SwiftBlock1 result = new SwiftBlock1(source);
+        result.copyCommonAttributes(source, freeze);
+        return result;
+    }
+
+    private static SwiftBlock2 copyBlock2(final SwiftBlock2 source, final boolean freeze) {
+        final SwiftBlock2 result;
+        if (source instanceof SwiftBlock2Input) {
+            result = new SwiftBlock2Input((SwiftBlock2Input) source);
+        } else if (source instanceof SwiftBlock2Output) {
+            result = new SwiftBlock2Output((SwiftBlock2Output) source);
+        } else {
+            return null;
+        }
+        result.copyCommonAttributes(source, freeze);
+        return result;
+    }
+
+    private static SwiftBlockUser copyUserBlock(final SwiftBlockUser source, final boolean freeze) {
+        if (source == null) {
+            return null;
+        }
+        final SwiftBlockUser result = new SwiftBlockUser();
+        result.blockName = source.blockName;
+        result.sortKey = source.sortKey;
+        result.copyTags(source, freeze);
+        return result;
+    }
+
+    private static <T extends SwiftTagListBlock> T copyTags(final T target, final T source, final boolean freeze) {
+        target.copyTags(source, freeze);
+        return target;
+    }
+
 }
@@ -0,0 +1,729 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Compact binary serialization for {@link SwiftMessage}, intended for distributed caches and messages exchanged
+ * between services, where producing and parsing the FIN or JSON representation is too expensive.
+ *
+ * <p>The encoding preserves the complete message structure: blocks 1 to 5, user blocks, and the unparsed texts of
+ * the message, blocks and tags; so a decoded message is equal to the encoded one. The content is written as:
+ * <ul>
+ *     <li>A leading format version byte, checked when decoding</li>
+ *     <li>Lengths and counts as unsigned variable length integers (7 bits per byte)</li>
+ *     <li>Known tag names and common block 1 and block 2 values as indexes in static dictionaries</li>
+ *     <li>Other texts as their UTF-8 bytes, which for the regular SWIFT content are plain ASCII bytes</li>
+ * </ul>
+ *
+ * <p>The encoding is self delimiting, so several messages can be written one after the other into the same
+ * buffer or stream. All methods are thread safe.
+ *
+ * @since 9.3.9
+ */
+public final class SwiftMessageBinaryCodec {
+
+    /**
+     * Current version of the binary format
+     */
+    public static final int VERSION = 1;
+
+    /*
+     * The dictionaries are part of the binary format, entries can only be appended, changing the existing
+     * positions requires a new format version
+     */
+    private static final Dictionary APPLICATION_IDS = new Dictionary("F", "A", "L");
+    private static final Dictionary SERVICE_IDS = new Dictionary("01", "21", "03", "05", "02", "06", "15", "25", "26", "33", "42", "43", "51", "55", "59", "61", "71", "81", "82", "83", "91");
+    private static final Dictionary SESSION_NUMBERS = new Dictionary("0000");
+    private static final Dictionary SEQUENCE_NUMBERS = new Dictionary("000000");
+    private static final Dictionary BLOCK_TYPES = new Dictionary("I", "O");
+    private static final Dictionary MESSAGE_TYPES = new Dictionary("103", "202", "900", "910", "940", "950", "199", "299", "999", "192", "196", "292", "296", "101", "102", "200", "201", "205", "210", "300", "305", "320", "321", "330", "340", "341", "360", "361", "515", "535", "536", "537", "540", "541", "542", "543", "544", "545", "546", "547", "548", "564", "565", "566", "567", "568", "700", "707", "710", "720", "730", "740", "742", "747", "750", "752", "754", "756", "760", "767", "768", "769", "799", "920", "941", "942", "970", "971", "972", "973", "985", "986");
+    private static final Dictionary PRIORITIES = new Dictionary("N", "U", "S");
+    private static final Dictionary DELIVERY_MONITORING = new Dictionary("1", "2", "3");
+    private static final Dictionary OBSOLESCENCE_PERIODS = new Dictionary("003", "020");
+    private static final Dictionary TAG_NAMES = new Dictionary(
+            // block 3
+            "103", "106", "108", "111", "113", "115", "119", "121", "165", "423", "424", "433", "434",
+            // block 5
+            "CHK", "TNG", "PDE", "PDM", "DLM", "MRF", "PAS", "SYS", "MAC", "PAC",
+            // block 4 payments and cash management
+            "20", "21", "23B", "23E", "26T", "32A", "32B", "33B", "36", "50A", "50F", "50K", "52A", "52D", "53A",
+            "53B", "54A", "56A", "57A", "57D", "58A", "58D", "59", "59A", "59F", "70", "71A", "71F", "71G", "72",
+            "77B", "77T", "13C", "25", "28C", "60F", "60M", "61", "62F", "62M", "64", "65", "86", "79", "75", "76",
+            "77A", "11S", "21R", "50H", "32D", "32E", "34A",
+            // block 4 securities
+            "16R", "16S", "20C", "22F", "22H", "35B", "36B", "69A", "70E", "90A", "90B", "92A", "93B", "94A", "94B",
+            "94F", "95P", "95Q", "95R", "97A", "98A", "98C", "98E", "99A", "19A", "19B", "23G", "13A", "25D",
+            // block 4 treasury and trade finance
+            "30", "30V", "30T", "82A", "87A", "15A", "15B", "15C", "17R", "22A", "14D", "37G", "12", "24D");
+
+    private static final int FLAG_BLOCK1 = 1;
+    private static final int FLAG_BLOCK2_INPUT = 1 << 1;
+    private static final int FLAG_BLOCK2_OUTPUT = 1 << 2;
+    private static final int FLAG_BLOCK3 = 1 << 3;
+    private static final int FLAG_BLOCK4 = 1 << 4;
+    private static final int FLAG_BLOCK5 = 1 << 5;
+    private static final int FLAG_USER_BLOCKS = 1 << 6;
+
+    private static final int FLAG_INPUT = 1;
+    private static final int FLAG_INPUT_TRUE = 1 << 1;
+    private static final int FLAG_OUTPUT = 1 << 2;
+    private static final int FLAG_OUTPUT_TRUE = 1 << 3;
+    private static final int FLAG_TAG_TEXTS = 1 << 4;
+
+    /**
+     * Upper bound for the lists presized from counts read from the content, when the content length is unknown
+     */
+    private static final int MAX_INITIAL_CAPACITY = 256;
+
+    // Suppress default constructor for noninstantiability
+    private SwiftMessageBinaryCodec() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Encodes the message into a new byte array.
+     *
+     * @param m the message to encode
+     * @return the binary representation of the message
+     */
+    public static byte[] encode(final SwiftMessage m) {
+        final Output out = new Output();
+        writeMessage(m, out);
+        return Arrays.copyOf(out.buf, out.count);
+    }
+
+    /**
+     * Encodes the message into the buffer, starting at its current position.
+     *
+     * @param m      the message to encode
+     * @param buffer where the binary representation is written
+     * @throws java.nio.BufferOverflowException if there is insufficient space remaining in the buffer
+     */
+    public static void encode(final SwiftMessage m, final ByteBuffer buffer) {
+        final Output out = new Output();
+        writeMessage(m, out);
+        buffer.put(out.buf, 0, out.count);
+    }
+
+    /**
+     * Encodes the message into the data output.
+     *
+     * @param m   the message to encode
+     * @param out where the binary representation is written
+     * @throws IOException if an error occurs writing the data
+     */
+    public static void encode(final SwiftMessage m, final DataOutput out) throws IOException {
+        final Output o = new Output();
+        writeMessage(m, o);
+        out.write(o.buf, 0, o.count);
+    }
+
+    /**
+     * Decodes a message from its binary representation.
+     *
+     * @param data the binary representation of a message, as returned by {@link #encode(SwiftMessage)}
+     * @return the decoded message
+     * @throws IllegalArgumentException if the data is not a valid binary representation of a message
+     */
+    public static SwiftMessage decode(final byte[] data) {
+        return decode(ByteBuffer.wrap(data));
+    }
+
+    /**
+     * Decodes a message from the buffer, starting at its current position. When this method returns the buffer
+     * is positioned after the message content.
+     *
+     * @param buffer the binary representation of a message
+     * @return the decoded message
+     * @throws IllegalArgumentException if the data is not a valid binary representation of a message
+     */
+    public static SwiftMessage decode(final ByteBuffer buffer) {
+        try {
+            return readMessage(new BufferInput(buffer));
+        } catch (final BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated binary message content", e);
+        } catch (final IOException e) {
+            // not expected reading from a buffer
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Decodes a message from the data input, reading exactly the message content.
+     *
+     * @param in the binary representation of a message
+     * @return the decoded message
+     * @throws IOException              if an error occurs reading the data, or the content is truncated
+     * @throws IllegalArgumentException if the data is not a valid binary representation of a message
+     */
+    public static SwiftMessage decode(final DataInput in) throws IOException {
+        return readMessage(new DataInputInput(in));
+    }
+
+    /**
+     * Encodes a tags block, a user block or a sequence; with the same format used for the message blocks.
+     */
+    static void encodeBlock(final SwiftTagListBlock block, final DataOutput out) throws IOException {
+        final Output o = new Output();
+        o.write(VERSION);
+        if (block instanceof SwiftBlockUser) {
+            writeUserBlock((SwiftBlockUser) block, o);
+        } else {
+            writeTags(block, o);
+        }
+        out.write(o.buf, 0, o.count);
+    }
+
+    /**
+     * Decodes the content written by {@link #encodeBlock(SwiftTagListBlock, DataOutput)} into the given block, or
+     * into a new user block when the given block is null.
+     */
+    static SwiftTagListBlock decodeBlock(final SwiftTagListBlock block, final DataInput in) throws IOException {
+        final Input i = new DataInputInput(in);
+        readVersion(i);
+        return block == null ? readUserBlock(i) : readTags(block, i);
+    }
+
+    static void encodeTag(final Tag tag, final DataOutput out) throws IOException {
+        final Output o = new Output();
+        o.write(VERSION);
+        writeTag(tag, o);
+        writeTexts(tag.unparsedTexts, o);
+        out.write(o.buf, 0, o.count);
+    }
+
+    static Tag decodeTag(final DataInput in) throws IOException {
+        final Input i = new DataInputInput(in);
+        readVersion(i);
+        final Tag t = readTag(i);
+        t.unparsedTexts = readTexts(i);
+        return t;
+    }
+
+    static void encodeTexts(final UnparsedTextList texts, final DataOutput out) throws IOException {
+        final Output o = new Output();
+        o.write(VERSION);
+        writeTexts(texts, o);
+        out.write(o.buf, 0, o.count);
+    }
+
+    static UnparsedTextList decodeTexts(final DataInput in) throws IOException {
+        final Input i = new DataInputInput(in);
+        readVersion(i);
+        final UnparsedTextList result = readTexts(i);
+        return result != null ? result : new UnparsedTextList();
+    }
+
+    private static void writeMessage(final SwiftMessage m, final Output out) {
+        Objects.requireNonNull(m, "message to encode cannot be null");
+        int flags = 0;
+        if (m.getBlock1() != null) {
+            flags |= FLAG_BLOCK1;
+        }
+        if (m.getBlock2() instanceof SwiftBlock2Input) {
+            flags |= FLAG_BLOCK2_INPUT;
+        } else if (m.getBlock2() instanceof SwiftBlock2Output) {
+            flags |= FLAG_BLOCK2_OUTPUT;
+        }
+        if (m.getBlock3() != null) {
+            flags |= FLAG_BLOCK3;
+        }
+        if (m.getBlock4() != null) {
+            flags |= FLAG_BLOCK4;
+        }
+        if (m.getBlock5() != null) {
+            flags |= FLAG_BLOCK5;
+        }
+        if (m.getUserBlocks() != null) {
+            flags |= FLAG_USER_BLOCKS;
+        }
+        out.write(VERSION);
+        out.writeVarint(flags);
+
+        final SwiftBlock1 b1 = m.getBlock1();
+        if (b1 != null) {
+            writeCommon(b1, 0, out);
+            out.writeCoded(b1.getApplicationId(), APPLICATION_IDS);
+            out.writeCoded(b1.getServiceId(), SERVICE_IDS);
+            out.writeString(b1.getLogicalTerminal());
+            out.writeCoded(b1.getSessionNumber(), SESSION_NUMBERS);
+            out.writeCoded(b1.getSequenceNumber(), SEQUENCE_NUMBERS);
+        }
+
+        if (m.getBlock2() instanceof SwiftBlock2Input) {
+            final SwiftBlock2Input b2 = (SwiftBlock2Input) m.getBlock2();
+            writeCommon(b2, 0, out);
+            out.writeCoded(b2.getMessageType(), MESSAGE_TYPES);
+            out.writeCoded(b2.getMessagePriority(), PRIORITIES);
+            out.writeString(b2.getReceiverAddress());
+            out.writeCoded(b2.getDeliveryMonitoring(), DELIVERY_MONITORING);
+            out.writeCoded(b2.getObsolescencePeriod(), OBSOLESCENCE_PERIODS);
+        } else if (m.getBlock2() instanceof SwiftBlock2Output) {
+            final SwiftBlock2Output b2 = (SwiftBlock2Output) m.getBlock2();
+            writeCommon(b2, 0, out);
+            out.writeCoded(b2.getMessageType(), MESSAGE_TYPES);
+            out.writeCoded(b2.getMessagePriority(), PRIORITIES);
+            out.writeString(b2.getSenderInputTime());
+            out.writeString(b2.getMIRDate());
+            out.writeString(b2.getMIRLogicalTerminal());
+            out.writeCoded(b2.getMIRSessionNumber(), SESSION_NUMBERS);
+            out.writeCoded(b2.getMIRSequenceNumber(), SEQUENCE_NUMBERS);
+            out.writeString(b2.getReceiverOutputDate());
+            out.writeString(b2.getReceiverOutputTime());
+        }
+
+        writeTags(m.getBlock3(), out);
+        writeTags(m.getBlock4(), out);
+        writeTags(m.getBlock5(), out);
+
+        if (m.getUserBlocks() != null) {
+            out.writeVarint(m.getUserBlocks().size());
+            for (final SwiftBlockUser b : m.getUserBlocks()) {
+                writeUserBlock(b, out);
+            }
+        }
+
+        writeTexts(m.unparsedTextsOrNull(), out);
+    }
+
+    private static void writeUserBlock(final SwiftBlockUser b, final Output out) {
+        out.writeString(b.blockName);
+        out.writeVarint(b.sortKey == null ? 0 : b.sortKey + 1);
+        writeTags(b, out);
+    }
+
+    private static void writeTag(final Tag t, final Output out) {
+        out.writeCoded(t.name, TAG_NAMES);
+        out.writeString(t.value);
+    }
+
+    private static void writeCommon(final SwiftBlock block, final int flags, final Output out) {
+        int f = flags;
+        if (block.input != null) {
+            f |= block.input ? FLAG_INPUT | FLAG_INPUT_TRUE : FLAG_INPUT;
+        }
+        if (block.output != null) {
+            f |= block.output ? FLAG_OUTPUT | FLAG_OUTPUT_TRUE : FLAG_OUTPUT;
+        }
+        out.write(f);
+        out.writeCoded(block.blockType, BLOCK_TYPES);
+        writeTexts(block.unparsedTexts, out);
+    }
+
+    private static void writeTags(final SwiftTagListBlock block, final Output out) {
+        if (block == null) {
+            return;
+        }
+        final List<Tag> tags = block.getTags();
+        boolean tagTexts = false;
+        if (tags != null) {
+            for (final Tag t : tags) {
+                if (t.unparsedTexts != null) {
+                    tagTexts = true;
+                    break;
+                }
+            }
+        }
+        writeCommon(block, tagTexts ? FLAG_TAG_TEXTS : 0, out);
+        if (tags == null) {
+            out.writeVarint(0);
+            return;
+        }
+        out.writeVarint(tags.size() + 1);
+        for (final Tag t : tags) {
+            writeTag(t, out);
+            if (tagTexts) {
+                writeTexts(t.unparsedTexts, out);
+            }
+        }
+    }
+
+    private static void writeTexts(final UnparsedTextList texts, final Output out) {
+        if (texts == null || texts.getTexts() == null) {
+            out.writeVarint(0);
+            return;
+        }
+        out.writeVarint(texts.getTexts().size() + 1);
+        for (final String s : texts.getTexts()) {
+            out.writeString(s);
+        }
+    }
+
+    private static void readVersion(final Input in) throws IOException {
+        final int version = in.read();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported binary message format version " + version + ", expected " + VERSION);
+        }
+    }
+
+    private static SwiftMessage readMessage(final Input in) throws IOException {
+        readVersion(in);
+        final int flags = in.readVarint();
+        final SwiftMessage m = new SwiftMessage(false);
+
+        if ((flags & FLAG_BLOCK1) != 0) {
+            final SwiftBlock1 b1 = new SwiftBlock1();
+            readCommon(b1, in);
+            b1.setApplicationId(in.readCoded(APPLICATION_IDS));
+            b1.setServiceId(in.readCoded(SERVICE_IDS));
+            b1.setLogicalTerminal(in.readString());
+            b1.setSessionNumber(in.readCoded(SESSION_NUMBERS));
+            b1.setSequenceNumber(in.readCoded(SEQUENCE_NUMBERS));
+            m.setBlock1(b1);
+        }
+
+        if ((flags & FLAG_BLOCK2_INPUT) != 0) {
+            final SwiftBlock2Input b2 = new SwiftBlock2Input();
+            readCommon(b2, in);
+            b2.setMessageType(in.readCoded(MESSAGE_TYPES));
+            b2.setMessagePriority(in.readCoded(PRIORITIES));
+            b2.setReceiverAddress(in.readString());
+            b2.setDeliveryMonitoring(in.readCoded(DELIVERY_MONITORING));
+            b2.setObsolescencePeriod(in.readCoded(OBSOLESCENCE_PERIODS));
+            m.setBlock2(b2);
+        } else if ((flags & FLAG_BLOCK2_OUTPUT) != 0) {
+            final SwiftBlock2Output b2 = new SwiftBlock2Output();
+            readCommon(b2, in);
+            b2.setMessageType(in.readCoded(MESSAGE_TYPES));
+            b2.setMessagePriority(in.readCoded(PRIORITIES));
+            b2.setSenderInputTime(in.readString());
+            b2.setMIRDate(in.readString());
+            b2.setMIRLogicalTerminal(in.readString());
+            b2.setMIRSessionNumber(in.readCoded(SESSION_NUMBERS));
+            b2.setMIRSequenceNumber(in.readCoded(SEQUENCE_NUMBERS));
+            b2.setReceiverOutputDate(in.readString());
+            b2.setReceiverOutputTime(in.readString());
+            m.setBlock2(b2);
+        }
+
+        if ((flags & FLAG_BLOCK3) != 0) {
+            m.setBlock3(readTags(new SwiftBlock3(), in));
+        }
+        if ((flags & FLAG_BLOCK4) != 0) {
+            m.setBlock4(readTags(new SwiftBlock4(), in));
+        }
+        if ((flags & FLAG_BLOCK5) != 0) {
+            m.setBlock5(readTags(new SwiftBlock5(), in));
+        }
+
+        if ((flags & FLAG_USER_BLOCKS) != 0) {
+            final int size = in.readCount();
+            final List<SwiftBlockUser> blocks = new ArrayList<>(Math.min(size, MAX_INITIAL_CAPACITY));
+            for (int i = 0; i < size; i++) {
+                blocks.add(readUserBlock(in));
+            }
+            m.setUserBlocks(blocks);
+        }
+
+        m.setUnparsedTexts(readTexts(in));
+        return m;
+    }
+
+    private static SwiftBlockUser readUserBlock(final Input in) throws IOException {
+        final SwiftBlockUser b = new SwiftBlockUser();
+        b.blockName = in.readString();
+        final int sortKey = in.readVarint();
+        b.sortKey = sortKey == 0 ? null : sortKey - 1;
+        return readTags(b, in);
+    }
+
+    private static Tag readTag(final Input in) throws IOException {
+        final Tag t = new Tag();
+        t.name = in.readCoded(TAG_NAMES);
+        t.value = in.readString();
+        return t;
+    }
+
+    private static int readCommon(final SwiftBlock block, final Input in) throws IOException {
+        final int flags = in.read();
+        if ((flags & FLAG_INPUT) != 0) {
+            block.input = (flags & FLAG_INPUT_TRUE) != 0;
+        }
+        if ((flags & FLAG_OUTPUT) != 0) {
+            block.output = (flags & FLAG_OUTPUT_TRUE) != 0;
+        }
+        block.blockType = in.readCoded(BLOCK_TYPES);
+        block.unparsedTexts = readTexts(in);
+        return flags;
+    }
+
+    private static <T extends SwiftTagListBlock> T readTags(final T block, final Input in) throws IOException {
+        final boolean tagTexts = (readCommon(block, in) & FLAG_TAG_TEXTS) != 0;
+        final int size = in.readCount();
+        if (size == 0) {
+            block.setTags((List<Tag>) null);
+            return block;
+        }
+        final List<Tag> tags = new ArrayList<>(Math.min(size - 1, MAX_INITIAL_CAPACITY));
+        for (int i = 1; i < size; i++) {
+            final Tag t = readTag(in);
+            if (tagTexts) {
+                t.unparsedTexts = readTexts(in);
+            }
+            tags.add(t);
+        }
+        block.setTags(tags);
+        return block;
+    }
+
+    private static UnparsedTextList readTexts(final Input in) throws IOException {
+        final int size = in.readCount();
+        if (size == 0) {
+            return null;
+        }
+        final UnparsedTextList result = new UnparsedTextList();
+        for (int i = 1; i < size; i++) {
+            result.getTexts().add(in.readString());
+        }
+        return result;
+    }
+
+    /**
+     * Static table of frequent values, encoded by position
+     */
+    private static final class Dictionary {
+        private final String[] values;
+        private final Map<String, Integer> index;
+
+        Dictionary(final String... values) {
+            this.values = values;
+            this.index = new HashMap<>(values.length * 2);
+            for (int i = 0; i < values.length; i++) {
+                this.index.put(values[i], i);
+            }
+        }
+    }
+
+    /**
+     * Growable byte array where the message is encoded
+     */
+    private static final class Output {
+        private byte[] buf = new byte[256];
+        private int count = 0;
+
+        private void ensure(final int length) {
+            if (count + length > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length << 1, count + length));
+            }
+        }
+
+        void write(final int b) {
+            ensure(1);
+            buf[count++] = (byte) b;
+        }
+
+        void writeVarint(int value) {
+            ensure(5);
+            while ((value & ~0x7F) != 0) {
+                buf[count++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buf[count++] = (byte) value;
+        }
+
+        /**
+         * Writes 0 for null, or the length plus one followed by the text bytes
+         */
+        void writeString(final String s) {
+            if (s == null) {
+                writeVarint(0);
+                return;
+            }
+            final int length = s.length();
+            for (int i = 0; i < length; i++) {
+                if (s.charAt(i) >= 0x80) {
+                    final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+                    writeVarint(bytes.length + 1);
+                    ensure(bytes.length);
+                    System.arraycopy(bytes, 0, buf, count, bytes.length);
+                    count += bytes.length;
+                    return;
+                }
+            }
+            // plain ASCII text, the chars are the UTF-8 bytes
+            writeVarint(length + 1);
+            ensure(length);
+            for (int i = 0; i < length; i++) {
+                buf[count++] = (byte) s.charAt(i);
+            }
+        }
+
+        /**
+         * Writes 0 for null, 1 followed by the text when it is not in the dictionary, or the dictionary position plus two
+         */
+        void writeCoded(final String s, final Dictionary dictionary) {
+            if (s == null) {
+                writeVarint(0);
+                return;
+            }
+            final Integer position = dictionary.index.get(s);
+            if (position != null) {
+                writeVarint(position + 2);
+            } else {
+                writeVarint(1);
+                writeString(s);
+            }
+        }
+    }
+
+    /**
+     * Source of the encoded content
+     */
+    private abstract static class Input {
+
+        abstract int read() throws IOException;
+
+        abstract String readText(int length) throws IOException;
+
+        /**
+         * @return the number of bytes left in the content, or {@link Integer#MAX_VALUE} if it is not known
+         */
+        abstract int remaining();
+
+        int readVarint() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                final int b = read();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    if (value < 0) {
+                        break;
+                    }
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed length in binary message content");
+        }
+
+        /**
+         * Reads a length or a number of items, possibly stored plus one, that must fit in the remaining content
+         */
+        int readCount() throws IOException {
+            final int count = readVarint();
+            if (count - 1 > remaining()) {
+                throw new IllegalArgumentException("Length " + count + " exceeds the remaining " + remaining() + " bytes of binary message content");
+            }
+            return count;
+        }
+
+        String readString() throws IOException {
+            final int length = readCount();
+            return length == 0 ? null : readText(length - 1);
+        }
+
+        String readCoded(final Dictionary dictionary) throws IOException {
+            final int code = readVarint();
+            if (code == 0) {
+                return null;
+            }
+            if (code == 1) {
+                return readString();
+            }
+            if (code - 2 >= dictionary.values.length) {
+                throw new IllegalArgumentException("Unknown dictionary code " + code + " in binary message content");
+            }
+            return dictionary.values[code - 2];
+        }
+
+        static String text(final byte[] bytes, final int offset, final int length) {
+            for (int i = offset; i < offset + length; i++) {
+                if (bytes[i] < 0) {
+                    return new String(bytes, offset, length, StandardCharsets.UTF_8);
+                }
+            }
+            return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+        }
+    }
+
+    private static final class BufferInput extends Input {
+        private final ByteBuffer buffer;
+
+        BufferInput(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        int read() {
+            return buffer.get() & 0xFF;
+        }
+
+        @Override
+        int remaining() {
+            return buffer.remaining();
+        }
+
+        @Override
+        String readText(final int length) {
+            if (length > buffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            final String result;
+            if (buffer.hasArray()) {
+                result = text(buffer.array(), buffer.arrayOffset() + buffer.position(), length);
+                buffer.position(buffer.position() + length);
+            } else {
+                final byte[] bytes = new byte[length];
+                buffer.get(bytes);
+                result = text(bytes, 0, length);
+            }
+            return result;
+        }
+    }
+
+    private static final class DataInputInput extends Input {
+        private final DataInput in;
+        private byte[] scratch = new byte[64];
+
+        DataInputInput(final DataInput in) {
+            this.in = in;
+        }
+
+        @Override
+        int read() throws IOException {
+            return in.readUnsignedByte();
+        }
+
+        @Override
+        int remaining() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        String readText(final int length) throws IOException {
+            // the buffer grows with the content actually read, so a corrupted length ends reading past the end of
+            // the input instead of allocating the length upfront
+            int read = 0;
+            while (read < length) {
+                if (read == scratch.length) {
+                    scratch = Arrays.copyOf(scratch, (int) Math.min(length, scratch.length * 2L));
+                }
+                final int chunk = Math.min(length, scratch.length) - read;
+                in.readFully(scratch, read, chunk);
+                read += chunk;
+            }
+            return text(scratch, 0, length);
+        }
+    }
+
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import com.google.gson.*;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import com.prowidesoftware.swift.model.mt.AbstractMT;
+import com.prowidesoftware.swift.model.mt.AbstractMTAdapter;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Streaming JSON deserialization for {@link SwiftMessage} and {@link AbstractMT}.
+ *
+ * <p>The reader consumes a character stream with several messages, one at a time, using a Gson {@link JsonReader}.
+ * The content can be either newline delimited JSON (one message per line, as written by
+ * {@link SwiftMessageJsonWriter#writeLine(SwiftMessage, Writer)}) or a JSON array of messages. Only the message
+ * being read is kept in memory, so arbitrarily large exports can be processed with constant memory.
+ *
+ * <p>Each message can be in the {@link SwiftMessage#toJson()} or in the {@link AbstractMT#toJson()} format, the
+ * format is detected per message by the "type" property.
+ *
+ * <p>The reader can be used as an {@link Iterator} or {@link Iterable}, calling {@link #close()} when done:
+ * <pre>
+ * try (SwiftMessageJsonReader reader = new SwiftMessageJsonReader(stream)) {
+ *     for (SwiftMessage m : reader) {
+ *         ...
+ *     }
+ * }
+ * </pre>
+ *
+ * <p>The static methods use shared Gson instances and are thread safe, while reader instances are not.
+ *
+ * @since 9.3.9
+ */
+public final class SwiftMessageJsonReader implements Iterator<SwiftMessage>, Iterable<SwiftMessage>, Closeable {
+
+    private static final Gson MESSAGES = new GsonBuilder()
+            .registerTypeAdapter(SwiftMessage.class, new SwiftMessageAdapter())
+            .registerTypeAdapter(AbstractMT.class, new AbstractMTAdapter())
+            .registerTypeAdapter(SwiftBlock2.class, new SwiftBlock2Adapter())
+            .create();
+
+    private static final Gson PLAIN = new GsonBuilder().create();
+
+    private final JsonReader reader;
+    private boolean started = false;
+    private boolean array = false;
+    private boolean usedAsIterable = false;
+
+    /**
+     * Constructs a reader to read messages from a character stream.
+     *
+     * @param reader the JSON content
+     */
+    public SwiftMessageJsonReader(final Reader reader) {
+        Objects.requireNonNull(reader, "reader must not be null");
+        this.reader = new JsonReader(reader);
+        // lenient mode accepts several top level values, as in newline delimited JSON
+        this.reader.setLenient(true);
+    }
+
+    /**
+     * Constructs a reader to read messages from a byte stream encoded in UTF-8.
+     *
+     * @param stream the JSON content
+     */
+    public SwiftMessageJsonReader(final InputStream stream) {
+        this(new BufferedReader(new InputStreamReader(Objects.requireNonNull(stream, "stream must not be null"), StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Constructs a reader to read messages from a string.
+     *
+     * @param json the JSON content
+     */
+    public SwiftMessageJsonReader(final String json) {
+        this(new StringReader(Objects.requireNonNull(json, "json must not be null")));
+    }
+
+    /**
+     * @return true if there is another message to read
+     * @throws JsonIOException     if an error occurs reading the stream
+     * @throws JsonSyntaxException if the content is not well-formed JSON
+     */
+    @Override
+    public boolean hasNext() {
+        try {
+            if (!started) {
+                started = true;
+                if (reader.peek() == JsonToken.BEGIN_ARRAY) {
+                    reader.beginArray();
+                    array = true;
+                }
+            }
+            if (array) {
+                return reader.hasNext();
+            }
+            return reader.peek() != JsonToken.END_DOCUMENT;
+        } catch (final EOFException e) {
+            // an empty content has no messages, while a truncated array is invalid
+            if (!array) {
+                return false;
+            }
+            throw new JsonSyntaxException(e);
+        } catch (final MalformedJsonException e) {
+            throw new JsonSyntaxException(e);
+        } catch (final IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    /**
+     * Reads the next message, in either of the supported JSON formats.
+     *
+     * @return the message read
+     * @throws NoSuchElementException if there are no more messages
+     * @throws JsonParseException     if the content cannot be read or is not a valid message JSON
+     */
+    @Override
+    public SwiftMessage next() {
+        final JsonObject o = nextObject();
+        if (isMT(o)) {
+            final AbstractMT mt = MESSAGES.fromJson(o, AbstractMT.class);
+            return mt != null ? mt.getSwiftMessage() : null;
+        }
+        return MESSAGES.fromJson(o, SwiftMessage.class);
+    }
+
+    /**
+     * Reads the next message as a specific MT, in either of the supported JSON formats.
+     *
+     * @return the message read, or null if the message has no specific MT model (for example service messages)
+     * @throws NoSuchElementException if there are no more messages
+     * @throws JsonParseException     if the content cannot be read or is not a valid message JSON
+     */
+    public AbstractMT nextMT() {
+        final JsonObject o = nextObject();
+        if (isMT(o)) {
+            return MESSAGES.fromJson(o, AbstractMT.class);
+        }
+        final SwiftMessage m = MESSAGES.fromJson(o, SwiftMessage.class);
+        return m != null ? m.toMT() : null;
+    }
+
+    /**
+     * @return this object as an Iterator
+     * @throws IllegalStateException if the iteration is attempted more than once
+     */
+    @Override
+    public Iterator<SwiftMessage> iterator() {
+        if (usedAsIterable) {
+            throw new IllegalStateException("This reader has already been used as Iterator and the implementation does not support multiple iterations, create another reader instance instead");
+        }
+        usedAsIterable = true;
+        return this;
+    }
+
+    /**
+     * Closes the reader and the underlying stream.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Deserializes the JSON data into a message object, as described in {@link SwiftMessage#fromJson(String)}.
+     *
+     * @param json JSON data
+     * @return message object
+     */
+    public static SwiftMessage parseSwiftMessage(final String json) {
+        return MESSAGES.fromJson(json, SwiftMessage.class);
+    }
+
+    /**
+     * Deserializes the JSON data into a specific MT object, as described in {@link AbstractMT#fromJson(String)}.
+     *
+     * @param json a JSON representation of an MT message
+     * @return a specific deserialized MT message object, for example MT103
+     */
+    public static AbstractMT parseMT(final String json) {
+        return MESSAGES.fromJson(json, AbstractMT.class);
+    }
+
+    /**
+     * @return the shared Gson instance for the plain reflective deserialization of the model objects
+     */
+    static Gson gson() {
+        return PLAIN;
+    }
+
+    private JsonObject nextObject() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("no more messages to read");
+        }
+        final JsonElement e = JsonParser.parseReader(reader);
+        if (!e.isJsonObject()) {
+            throw new JsonSyntaxException("Expected a message JSON object but found " + e + " at " + reader.getPath());
+        }
+        return e.getAsJsonObject();
+    }
+
+    private static boolean isMT(final JsonObject o) {
+        final JsonElement type = o.get("type");
+        return type != null && type.isJsonPrimitive() && "MT".equals(type.getAsString());
+    }
+
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonWriter;
+import com.prowidesoftware.swift.model.field.Field;
+import com.prowidesoftware.swift.model.mt.AbstractMT;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Streaming JSON serialization for {@link SwiftMessage} and {@link AbstractMT}.
+ *
+ * <p>The JSON is written directly to a {@link Writer} or {@link OutputStream} through a Gson {@link JsonWriter},
+ * without building an intermediate JSON tree nor the whole content as a String. The output is the same produced by
+ * {@link SwiftMessage#toJson()} and {@link AbstractMT#toJson()}, which are implemented with this class, and it can
+ * be written pretty printed or in a compact single line, for example to publish messages as events.
+ *
+ * <p>The Gson instances and their type adapters are created once and shared, all methods are thread safe.
+ *
+ * @since 9.3.9
+ */
+public final class SwiftMessageJsonWriter {
+
+    private static final Gson PRETTY = new GsonBuilder()
+            .registerTypeAdapter(SwiftBlock2.class, new SwiftBlock2Adapter())
+            .setPrettyPrinting()
+            .create();
+
+    private static final Gson COMPACT = new GsonBuilder()
+            .registerTypeAdapter(SwiftBlock2.class, new SwiftBlock2Adapter())
+            .create();
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter
+            .ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'", Locale.ENGLISH)
+            .withZone(ZoneOffset.UTC);
+
+    // Suppress default constructor for noninstantiability
+    private SwiftMessageJsonWriter() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Creates a JSON writer configured as the Gson instances used by the message serialization.
+     *
+     * @param out    where the JSON is written
+     * @param pretty true for pretty printing or false for compact output
+     * @return a new JSON writer
+     */
+    public static JsonWriter newJsonWriter(final Writer out, final boolean pretty) throws IOException {
+        return gson(pretty).newJsonWriter(out);
+    }
+
+    /**
+     * Gets the JSON representation of a message, as described in {@link SwiftMessage#toJson()}.
+     *
+     * @param m      the message to serialize
+     * @param pretty true for pretty printing or false for compact output
+     * @return the message JSON
+     */
+    public static String toJson(final SwiftMessage m, final boolean pretty) {
+        final StringWriter out = new StringWriter();
+        try {
+            write(m, out, pretty);
+        } catch (final IOException e) {
+            // not expected writing to a StringWriter
+            throw new IllegalStateException(e);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Gets the JSON representation of a specific MT, as described in {@link AbstractMT#toJson()}.
+     *
+     * @param mt     the message to serialize
+     * @param pretty true for pretty printing or false for compact output
+     * @return the message JSON
+     */
+    public static String toJson(final AbstractMT mt, final boolean pretty) {
+        final StringWriter out = new StringWriter();
+        try {
+            write(mt, out, pretty);
+        } catch (final IOException e) {
+            // not expected writing to a StringWriter
+            throw new IllegalStateException(e);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Writes the JSON representation of a message to a character stream.
+     * <p>The stream is flushed but not closed.
+     *
+     * @param m      the message to serialize
+     * @param out    where the JSON is written
+     * @param pretty true for pretty printing or false for compact output
+     * @throws IOException if an error occurs writing to the stream
+     */
+    public static void write(final SwiftMessage m, final Writer out, final boolean pretty) throws IOException {
+        final JsonWriter writer = newJsonWriter(out, pretty);
+        write(m, writer);
+        writer.flush();
+    }
+
+    /**
+     * Writes the JSON representation of a message to a byte stream, encoded in UTF-8.
+     * <p>The stream is flushed but not closed.
+     *
+     * @param m      the message to serialize
+     * @param out    where the JSON is written
+     * @param pretty true for pretty printing or false for compact output
+     * @throws IOException if an error occurs writing to the stream
+     */
+    public static void write(final SwiftMessage m, final OutputStream out, final boolean pretty) throws IOException {
+        write(m, new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)), pretty);
+    }
+
+    /**
+     * Writes the JSON representation of a specific MT to a character stream.
+     * <p>The stream is flushed but not closed.
+     *
+     * @param mt     the message to serialize
+     * @param out    where the JSON is written
+     * @param pretty true for pretty printing or false for compact output
+     * @throws IOException if an error occurs writing to the stream
+     */
+    public static void write(final AbstractMT mt, final Writer out, final boolean pretty) throws IOException {
+        final JsonWriter writer = newJsonWriter(out, pretty);
+        write(mt, writer);
+        writer.flush();
+    }
+
+    /**
+     * Writes the JSON representation of a specific MT to a byte stream, encoded in UTF-8.
+     * <p>The stream is flushed but not closed.
+     *
+     * @param mt     the message to serialize
+     * @param out    where the JSON is written
+     * @param pretty true for pretty printing or false for compact output
+     * @throws IOException if an error occurs writing to the stream
+     */
+    public static void write(final AbstractMT mt, final OutputStream out, final boolean pretty) throws IOException {
+        write(mt, new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)), pretty);
+    }
+
+    /**
+     * Writes the compact JSON representation of a message followed by a line feed, to produce newline delimited
+     * JSON (one message per line). Since the compact JSON has no line breaks, the output can be read back with
+     * {@link SwiftMessageJsonReader} or any line oriented tool.
+     * <p>The stream is not flushed nor closed, so several messages can be efficiently written to a buffered writer.
+     *
+     * @param m   the message to serialize
+     * @param out where the JSON is written
+     * @throws IOException if an error occurs writing to the stream
+     */
+    public static void writeLine(final SwiftMessage m, final Writer out) throws IOException {
+        write(m, COMPACT.newJsonWriter(out));
+        out.write('\n');
+    }
+
+    /**
+     * Writes the compact JSON representation of a specific MT followed by a line feed, to produce newline delimited
+     * JSON (one message per line).
+     * <p>The stream is not flushed nor closed, so several messages can be efficiently written to a buffered writer.
+     *
+     * @param mt  the message to serialize
+     * @param out where the JSON is written
+     * @throws IOException if an error occurs writing to the stream
+     * @see #writeLine(SwiftMessage, Writer)
+     */
+    public static void writeLine(final AbstractMT mt, final Writer out) throws IOException {
+        write(mt, COMPACT.newJsonWriter(out));
+        out.write('\n');
+    }
+
+    /**
+     * Writes all messages as newline delimited JSON, consuming the iterator one message at a time.
+     * <p>The stream is flushed but not closed.
+     *
+     * @param messages the messages to serialize
+     * @param out      where the JSON is written
+     * @return the number of messages written
+     * @throws IOException if an error occurs writing to the stream
+     * @see #writeLine(SwiftMessage, Writer)
+     */
+    public static int writeLines(final Iterator<SwiftMessage> messages, final Writer out) throws IOException {
+        int count = 0;
+        while (messages.hasNext()) {
+            writeLine(messages.next(), out);
+            count++;
+        }
+        out.flush();
+        return count;
+    }
+
+    /**
+     * Writes the JSON representation of a message, as described in {@link SwiftMessage#toJson()}.
+     *
+     * @param m      the message to serialize
+     * @param writer a JSON writer, preferably created with {@link #newJsonWriter(Writer, boolean)}
+     * @throws IOException if an error occurs writing the JSON content
+     */
+    public static void write(final SwiftMessage m, final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name("timestamp").value(TIMESTAMP.format(Instant.now()));
+        writer.name("version").value(SwiftMessage.JSON_VERSION);
+        writer.name("data");
+        writer.beginObject();
+        writeBlock(writer, "block1", m.getBlock1());
+        if (m.getBlock2() != null) {
+            writer.name("block2");
+            COMPACT.toJson(m.getBlock2(), SwiftBlock2.class, writer);
+        }
+        writeBlock(writer, "block3", m.getBlock3());
+        writeBlock(writer, "block4", m.getBlock4());
+        writeBlock(writer, "block5", m.getBlock5());
+        writer.endObject();
+        writer.endObject();
+    }
+
+    /**
+     * Writes the JSON representation of a specific MT, as described in {@link AbstractMT#toJson()}.
+     *
+     * <p>The header blocks are written as in the {@link SwiftMessage} JSON, while the user header and text block
+     * tags are written as fields with the components labels, see {@link Field#toJson()}.
+     *
+     * @param mt     the message to serialize
+     * @param writer a JSON writer, preferably created with {@link #newJsonWriter(Writer, boolean)}
+     * @throws IOException if an error occurs writing the JSON content
+     */
+    public static void write(final AbstractMT mt, final JsonWriter writer) throws IOException {
+        final SwiftMessage m = mt.getSwiftMessage();
+        writer.beginObject();
+        writer.name("type").value("MT");
+        writeBlock(writer, "basicHeaderBlock", m.getBlock1());
+        if (m.getBlock2() != null) {
+            writer.name("applicationHeaderBlock");
+            COMPACT.toJson(m.getBlock2(), SwiftBlock2.class, writer);
+        }
+        if (m.getBlock3() != null && !m.getBlock3().getTags().isEmpty()) {
+            writeFields(writer, "userHeaderBlock", m.getBlock3().getTags());
+        }
+        if (m.getBlock4() != null && !m.getBlock4().getTags().isEmpty()) {
+            writeFields(writer, "textBlock", m.getBlock4().getTags());
+        }
+        if (m.getBlock5() != null && !m.getBlock5().getTags().isEmpty()) {
+            // trailer tags are written as in the SwiftMessage JSON
+            writer.name("trailerBlock");
+            writer.beginObject();
+            writer.name("fields");
+            writer.beginArray();
+            for (Tag tag : m.getBlock5().getTags()) {
+                COMPACT.toJson(tag, tag.getClass(), writer);
+            }
+            writer.endArray();
+            writer.endObject();
+        }
+        writer.endObject();
+    }
+
+    private static void writeBlock(final JsonWriter writer, final String name, final SwiftBlock block) throws IOException {
+        if (block != null) {
+            writer.name(name);
+            COMPACT.toJson(block, block.getClass(), writer);
+        }
+    }
+
+    private static void writeFields(final JsonWriter writer, final String name, final List<Tag> tags) throws IOException {
+        writer.name(name);
+        writer.beginObject();
+        writer.name("fields");
+        writer.beginArray();
+        for (Tag tag : tags) {
+            final Field field = tag.asField();
+            if (field != null) {
+                field.writeJson(writer);
+            } else {
+                // unrecognized field names are written with the plain tag content
+                COMPACT.toJson(tag, tag.getClass(), writer);
+            }
+        }
+        writer.endArray();
+        writer.endObject();
+    }
+
+    /**
+     * @return the shared Gson instance for the block 2 adapter and reflective serialization of the blocks
+     */
+    static Gson gson(final boolean pretty) {
+        return pretty ? PRETTY : COMPACT;
+    }
+
+}
@@ -26,6 +26,10 @@ import javax.persistence.*;
  * A revision is a snapshot of message content and is used to track the history of changes in a message.
  * Applications may use to store revisions each time a message is edited.
  *
+ * <p>A revision can hold the complete message content, or a delta against the previous revision of the message
+ * to save storage for messages edited many times, see {@link AbstractSwiftMessage#createDeltaRevision(int)}. The
+ * content of any revision is available with {@link AbstractSwiftMessage#getRevisionMessage(int)}.
+ *
  * <p>XML metadata may be used to override or augment these JPA annotations.
  *
  * @author sebastian
@@ -52,6 +56,12 @@ public class SwiftMessageRevision {
     @Basic(fetch = LAZY)
     private String json;
 
+    /**
+     * @since 9.3.9
+     */
+    @Lob
+    private String delta;
+
     public SwiftMessageRevision() {
     }
 
@@ -80,12 +90,13 @@ public class SwiftMessageRevision {
         SwiftMessageRevision that = (SwiftMessageRevision) o;
         return Objects.equals(creationDate, that.creationDate) &&
                 Objects.equals(creationUser, that.creationUser) &&
-                Objects.equals(message, that.message);
+                Objects.equals(message, that.message) &&
+                Objects.equals(delta, that.delta);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(creationDate, creationUser, message);
+        return Objects.hash(creationDate, creationUser, message, delta);
     }
 
     public Long getId() {
@@ -128,4 +139,31 @@ public class SwiftMessageRevision {
         this.json = json;
     }
 
+    /**
+     * Gets the revision content encoded as a delta against the previous revision of the message.
+     *
+     * @return the encoded delta or null if this revision holds the complete message content
+     * @since 9.3.9
+     */
+    public String getDelta() {
+        return delta;
+    }
+
+    /**
+     * @param delta the revision content encoded as a delta against the previous revision
+     * @since 9.3.9
+     */
+    public void setDelta(String delta) {
+        this.delta = delta;
+    }
+
+    /**
+     * @return true if this revision content is a delta against the previous revision, in which case the message
+     * attribute is null
+     * @since 9.3.9
+     */
+    public boolean isDelta() {
+        return delta != null;
+    }
+
 }
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import java.math.BigDecimal;
+import java.util.Calendar;
+
+import javax.persistence.*;
+
+/**
+ * Read only projection of the messages table with the message metadata only, for list queries such as monitoring
+ * grids and searches where the raw message content, the status trail, notes and revisions are not needed.
+ *
+ * <p>The entity is mapped to the same table as {@link AbstractSwiftMessage}, all its columns are read only. To load
+ * the complete message, find the {@link AbstractSwiftMessage} entity by the summary id. The persistence unit must
+ * include this class to use it.
+ *
+ * <p>XML metadata may be used to override or augment these JPA annotations.
+ *
+ * @since 9.3.9
+ */
+@Entity
+@Table(name = "swift_msg")
+public class SwiftMessageSummary {
+
+    @Id
+    @Column(insertable = false, updatable = false)
+    private Long id;
+
+    @Column(length = 2, name = "type", insertable = false, updatable = false)
+    private String type;
+
+    @Column(length = 40, insertable = false, updatable = false)
+    private String identifier;
+
+    @Column(length = 12, insertable = false, updatable = false)
+    private String sender;
+
+    @Column(length = 12, insertable = false, updatable = false)
+    private String receiver;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 8, insertable = false, updatable = false)
+    private MessageIOType direction;
+
+    @Column(length = 32, name = "checksum", insertable = false, updatable = false)
+    private String checksum;
+
+    @Column(name = "last_modified", insertable = false, updatable = false)
+    private Calendar lastModified;
+
+    @Column(name = "creation_date", insertable = false, updatable = false)
+    private Calendar creationDate;
+
+    @Column(length = 50, insertable = false, updatable = false)
+    private String status;
+
+    @Column(length = 35, insertable = false, updatable = false)
+    private String reference;
+
+    @Column(length = 3, insertable = false, updatable = false)
+    private String currency;
+
+    @Column(insertable = false, updatable = false)
+    private BigDecimal amount;
+
+    @Temporal(TemporalType.DATE)
+    @Column(insertable = false, updatable = false)
+    private Calendar valueDate;
+
+    @Temporal(TemporalType.DATE)
+    @Column(insertable = false, updatable = false)
+    private Calendar tradeDate;
+
+    @Column(length = 100, insertable = false, updatable = false)
+    private String filename;
+
+    @Column(length = 35, insertable = false, updatable = false)
+    private String pde;
+
+    @Column(length = 28, name = "mir", insertable = false, updatable = false)
+    private String mir;
+
+    @Column(length = 16, name = "mur", insertable = false, updatable = false)
+    private String mur;
+
+    @Column(length = 31, name = "uuid", insertable = false, updatable = false)
+    private String uuid;
+
+    /**
+     * Empty constructor provided for the ORM only
+     */
+    protected SwiftMessageSummary() {
+    }
+
+    /**
+     * @return the message id, the same of the {@link AbstractSwiftMessage} entity
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * @return the message entity discriminator, for example "mt"
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * @see AbstractSwiftMessage#getIdentifier()
+     */
+    public String getIdentifier() {
+        return identifier;
+    }
+
+    /**
+     * @see AbstractSwiftMessage#getSender()
+     */
+    public String getSender() {
+        return sender;
+    }
+
+    /**
+     * @see AbstractSwiftMessage#getReceiver()
+     */
+    public String getReceiver() {
+        return receiver;
+    }
+
+    /**
+     * @see AbstractSwiftMessage#getDirection()
+     */
+    public MessageIOType getDirection() {
+        return direction;
+    }
+
+    /**
+     * @see AbstractSwiftMessage#getChecksum()
+     */
+    public String getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * @see AbstractSwiftMessage#getLastModified()
+     */
+    public Calendar getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * @see AbstractSwiftMessage#getCreationDate()
+     */
+    public Calendar getCreationDate() {
+        return creationDate;
+    }
+
+    /**
+     * @see AbstractSwiftMessage#getStatus()
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * @see AbstractSwiftMessage#getReference()
+     */
+    public String getReference() {
+        return reference;
+    }
+
+    /**
+     * @see AbstractSwiftMessage#getCurrency()
+     */
+    public String getCurrency() {
+        return currency;
+    }
+
+    /**
+     * @see AbstractSwiftMessage#getAmount()
+     */
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    /**
+     * @see AbstractSwiftMessage#getValueDate()
+     */
+    public Calendar getValueDate() {
+        return valueDate;
+    }
+
+    /**
+     * @see AbstractSwiftMessage#getTradeDate()
+     */
+    public Calendar getTradeDate() {
+        return tradeDate;
+    }
+
+    /**
+     * @see AbstractSwiftMessage#getFilename()
+     */
+    public String getFilename() {
+        return filename;
+    }
+
+    /**
+     * @return the MT possible duplicate emission flag, null for MX messages
+     * @see MtSwiftMessage#getPde()
+     */
+    public String getPde() {
+        return pde;
+    }
+
+    /**
+     * @return the MT message input reference, null for MX messages
+     * @see MtSwiftMessage#getMir()
+     */
+    public String getMir() {
+        return mir;
+    }
+
+    /**
+     * @return the MT message user reference, null for MX messages
+     * @see MtSwiftMessage#getMur()
+     */
+    public String getMur() {
+        return mur;
+    }
+
+    /**
+     * @return the MT unique identifier, null for MX messages
+     * @see MtSwiftMessage#getUuid()
+     */
+    public String getUuid() {
+        return uuid;
+    }
+
+}
@@ -18,17 +18,14 @@ package com.prowidesoftware.swift.model;
 import com.prowidesoftware.ProwideException;
 import com.prowidesoftware.deprecation.ProwideDeprecated;
 import com.prowidesoftware.deprecation.TargetYear;
+import com.prowidesoftware.swift.internal.SequenceAccessors;
 import com.prowidesoftware.swift.io.writer.SwiftWriter;
 import com.prowidesoftware.swift.model.field.*;
 import com.prowidesoftware.swift.model.mt.AbstractMT;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 
-import java.io.StringWriter;
-import java.lang.reflect.Method;
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.lang.invoke.MethodHandle;
 import java.util.*;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -292,13 +289,32 @@ public class SwiftMessageUtils {
      *
      * @param model the message
      * @return computed hash or null if errors occurred during computation or the message is null
+     * @see #calculateChecksum(SwiftMessage, ChecksumAlgorithm, ChecksumEncoding)
      */
     public static String calculateChecksum(final SwiftMessage model) {
+        return calculateChecksum(model, ChecksumAlgorithm.MD5, ChecksumEncoding.HEX);
+    }
+
+    /**
+     * Proprietary checksum for message integrity verification or duplicates detection, with a specific hash
+     * algorithm and text encoding.
+     * <p>Please notice <strong>this is not the SWIFT trailer CHK field</strong>.
+     * <p>The message is serialized in FIN format straight into the hash computation, with a digest instance reused
+     * per thread, so no intermediate String or byte array is created for the message content.
+     * <p>The checksum columns in the persistence model hold 32 characters, the MD5 hexadecimal checksum used by
+     * default; other combinations are meant for application specific processing such as duplicates detection.
+     *
+     * @param model     the message
+     * @param algorithm the hash algorithm
+     * @param encoding  the hash text encoding
+     * @return computed hash or null if the message is null
+     * @since 9.3.9
+     */
+    public static String calculateChecksum(final SwiftMessage model, final ChecksumAlgorithm algorithm, final ChecksumEncoding encoding) {
         if (model != null) {
-            final StringWriter writer = new StringWriter();
+            final DigestWriter writer = algorithm.writer();
             SwiftWriter.writeMessage(model, writer, true);
-            final String fin = writer.getBuffer().toString();
-            return md5(fin);
+            return encoding.encode(writer.digest());
         } else {
             return null;
         }
@@ -313,48 +329,33 @@ public class SwiftMessageUtils {
      *
      * @param b4 the message text block
      * @return computed hash or null if errors occurred during computation or the block is null
+     * @see #calculateChecksum(SwiftBlock4, ChecksumAlgorithm, ChecksumEncoding)
      * @since 7.9.5
      */
     public static String calculateChecksum(final SwiftBlock4 b4) {
-        if (b4 != null) {
-            final StringWriter writer = new StringWriter();
-            SwiftWriter.writeBlock4(b4, writer);
-            final String fin = writer.getBuffer().toString();
-            return md5(fin);
-        } else {
-            return null;
-        }
+        return calculateChecksum(b4, ChecksumAlgorithm.MD5, ChecksumEncoding.HEX);
     }
 
     /**
-     * Computes an MD5 hash on the parameter text
+     * Proprietary checksum for message text block (block 4) integrity verification or duplicates detection, with
+     * a specific hash algorithm and text encoding.
+     * <p>Please notice <strong>this is not the SWIFT trailer CHK field</strong>.
      *
-     * @param text the text to hash
-     * @return computed hash or null if exceptions are thrown reading bytes or processing the digest
-     * @since 7.9.5
+     * @param b4        the message text block
+     * @param algorithm the hash algorithm
+     * @param encoding  the hash text encoding
+     * @return computed hash or null if the block is null
+     * @see #calculateChecksum(SwiftMessage, ChecksumAlgorithm, ChecksumEncoding)
+     * @since 9.3.9
      */
-    //TODO add base 64 encoding on top when upgraded to Java 8
-    private static String md5(final String text) {
-        try {
-            byte[] bytesOfMessage = text.getBytes(StandardCharsets.UTF_8);
-            MessageDigest md = MessageDigest.getInstance("MD5");
-            byte[] thedigest = md.digest(bytesOfMessage);
-
-            //Converting the bytes to a Hex string
-            StringBuilder buff = new StringBuilder();
-            for (byte b : thedigest) {
-                String conversion = Integer.toString(b & 0xFF, 16);
-                while (conversion.length() < 2) {
-                    conversion = "0" + conversion;
-                }
-                buff.append(conversion);
-            }
-
-            return buff.toString();
-        } catch (NoSuchAlgorithmException e) {
-            log.log(Level.FINEST, e.getMessage(), e);
+    public static String calculateChecksum(final SwiftBlock4 b4, final ChecksumAlgorithm algorithm, final ChecksumEncoding encoding) {
+        if (b4 != null) {
+            final DigestWriter writer = algorithm.writer();
+            SwiftWriter.writeBlock4(b4, writer);
+            return encoding.encode(writer.digest());
+        } else {
+            return null;
         }
-        return null;
     }
 
     /**
@@ -565,13 +566,16 @@ public class SwiftMessageUtils {
     }
 
     public static SwiftTagListBlock createSequenceSingle(final Class<? extends AbstractMT> mt, final String sequenceName, final Tag... tags) {
-        final String cn = mt.getName() + "$Sequence" + sequenceName;
+        final MethodHandle factory = SequenceAccessors.of(mt).factory(sequenceName);
+        if (factory == null) {
+            final String message = "Sequence " + sequenceName + " not found in " + mt.getName();
+            log.warning(message);
+            throw new ProwideException(message);
+        }
         try {
-            final Class<?> subSequenceClass = Class.forName(cn);
-            final Method method = subSequenceClass.getMethod("newInstance", Tag[].class);
-            return (SwiftTagListBlock) method.invoke(null, new Object[]{tags});
-        } catch (Exception e) {
-            String message = "Reflection error: mt=" + mt.getName() + ", sequenceName=" + sequenceName + ", tags=" + Arrays.toString(tags) + " - " + e.getMessage();
+            return (SwiftTagListBlock) factory.invokeExact(tags);
+        } catch (Throwable e) {
+            String message = "Error creating sequence: mt=" + mt.getName() + ", sequenceName=" + sequenceName + ", tags=" + Arrays.toString(tags) + " - " + e.getMessage();
             log.log(Level.WARNING, message, e);
             throw new ProwideException(message);
         }
@@ -594,67 +598,81 @@ public class SwiftMessageUtils {
      */
     /*
      * Do not use API from MTs and Field classes here to avoid cyclic dependency in code generation.
-     * Keep in sync special case for 104 and 107 with MT104 and MT107 getSequenceC logic.
      */
     public static Money money(final SwiftMessage m) {
+        return Money.ofSum(moneyTags(m));
+    }
+
+    /**
+     * Selects the tags containing the message main amount, as interpreted by {@link #money(SwiftMessage)}.
+     * When more than one tag is returned, the main amount is the sum of all of them.
+     *
+     * @param m a message with some amount field
+     * @return the tags with the main amount or an empty list if non is present
+     * @since 9.3.9
+     */
+    /*
+     * Keep in sync special case for 104 and 107 with MT104 and MT107 getSequenceC logic.
+     */
+    static List<Tag> moneyTags(final SwiftMessage m) {
         if (m == null || m.isServiceMessage21()) {
-            return null;
+            return Collections.emptyList();
         }
         final SwiftBlock4 b4 = m.getBlock4();
         if (b4 == null || b4.isEmpty()) {
-            return null;
+            return Collections.emptyList();
         }
         if (m.isType(102, 103, 200, 202, 205, 256, 450, 455, 643, 644, 646, 734, 802, 900, 910)) {
-            return Money.of(b4.getFieldByName("32A"));
+            return first(b4, "32A");
         } else if (m.isType(191, 291, 300, 304, 305, 320, 391, 491, 591, 691, 791, 891, 991, 340, 341, 350, 360, 361, 364, 365, 620, 700, 705, 710, 720, 732, 740, 742, 756)) {
-            return Money.of(b4.getFieldByName("32B"));
+            return first(b4, "32B");
         } else if (m.isType(321, 370, 508, 509, 535, 536, 537, 540, 541, 542, 543, 544, 545, 546, 547, 548, 558, 559, 569, 574, 575, 576, 578, 586)) {
-            return Money.of(b4.getFieldByName("19A"));
+            return first(b4, "19A");
         } else if (m.isType(330, 362)) {
-            return Money.of(b4.getFieldByName("32H"));
+            return first(b4, "32H");
         } else if (m.isType(306, 581, 707, 747)) {
-            return Money.of(b4.getFieldByName("34B"));
+            return first(b4, "34B");
         } else if (m.isType(380, 381, 505, 564, 566, 567)) {
-            return Money.of(b4.getFieldByName("19B"));
+            return first(b4, "19B");
         } else if (m.isType(800)) {
-            return Money.of(b4.getFieldByName("33B"));
+            return first(b4, "33B");
         } else if (m.isType(941)) {
-            return Money.of(b4.getFieldByName("62F"));
+            return first(b4, "62F");
 
         } else if (m.isType(600, 601)) {
-            return Money.ofAny(b4, "34P", "34R");
+            return any(b4, "34P", "34R");
         } else if (m.isType(609)) {
-            return Money.ofAny(b4, "68B", "68C");
+            return any(b4, "68B", "68C");
         } else if (m.isType(111, 112, 516, 649) || m.isType(754)) {
-            return Money.ofAny(b4, "32A", "32B");
+            return any(b4, "32A", "32B");
         } else if (m.isType(190, 290, 390, 490, 590, 690, 790, 890, 990)) {
-            return Money.ofAny(b4, "32C", "32D");
+            return any(b4, "32C", "32D");
         } else if (m.isType(730) || m.isType(768)) {
-            return Money.ofAny(b4, "32B", "32D");
+            return any(b4, "32B", "32D");
         } else if (m.isType(400, 410)) {
-            return Money.ofAny(b4, "32A", "32B", "32K");
+            return any(b4, "32A", "32B", "32K");
         } else if (m.isType(430)) {
-            return Money.ofAny(b4, "33A", "33K", "32A", "32K");
+            return any(b4, "33A", "33K", "32A", "32K");
         } else if (m.isType(750)) {
-            return Money.ofAny(b4, "34B", "32B");
+            return any(b4, "34B", "32B");
         } else if (m.isType(752)) {
-            return Money.ofAny(b4, "33A", "33B", "32B");
+            return any(b4, "33A", "33B", "32B");
         } else if (m.isType(769)) {
-            return Money.ofAny(b4, "32B", "32D", "33B", "34B");
+            return any(b4, "32B", "32D", "33B", "34B");
         } else if (m.isType(940, 950, 970)) {
-            return Money.ofAny(b4, "62F", "62M");
+            return any(b4, "62F", "62M");
         } else if (m.isType(101, 201, 203, 204, 207, 210)) {
-            return Money.ofSum(b4.getFieldsByName("32B"));
+            return b4.getTagsByName("32B", null);
         } else if (m.isType(110, 416, 420, 422, 456)) {
-            return Money.ofSum(b4.getFieldsByName("32a"));
+            return b4.getTagsByName("32a", null);
         } else if (m.isType(509)) {
-            return Money.ofSum(b4.getFieldsByName("19A"));
+            return b4.getTagsByName("19A", null);
         } else if (m.isType(112)) {
-            return Money.ofSum(b4.getFieldsByName("32A"));
+            return b4.getTagsByName("32A", null);
         } else if (m.isType(801)) {
-            return Money.ofSum(b4.getFieldsByName("33B"));
+            return b4.getTagsByName("33B", null);
         } else if (m.isType(824)) {
-            return Money.ofSum(b4.getFieldsByName("68A"));
+            return b4.getTagsByName("68A", null);
 
         } else if (m.isType(104, 107)) {
             // we pick field 32B from sequence C
@@ -665,7 +683,7 @@ public class SwiftMessageUtils {
                 if (startIndexOfC >= 0) {
                     Tag t = b4.getTags().get(startIndexOfC);
                     if (t != null) {
-                        return Money.of(t.asField());
+                        return Collections.singletonList(t);
                     }
                 }
             }
@@ -677,7 +695,7 @@ public class SwiftMessageUtils {
              */
             SwiftTagListBlock seq = b4.getSubBlock("ORDRDET");
             if (seq != null) {
-                return Money.of(seq.getFieldByName("19A"));
+                return first(seq, "19A");
             }
 
         } else if (m.isType(514, 515, 518)) {
@@ -687,7 +705,7 @@ public class SwiftMessageUtils {
              */
             SwiftTagListBlock seq = b4.getSubBlock("CONFDET");
             if (seq != null) {
-                return Money.of(seq.getFieldByName("19A"));
+                return first(seq, "19A");
             }
 
         } else if (m.isType(503, 504, 506)) {
@@ -696,7 +714,7 @@ public class SwiftMessageUtils {
              */
             SwiftTagListBlock seq = b4.getSubBlock("SUMM");
             if (seq != null) {
-                return Money.of(seq.getFieldByName("19B"));
+                return first(seq, "19B");
             }
 
         } else if (m.isType(527)) {
@@ -705,11 +723,26 @@ public class SwiftMessageUtils {
              */
             SwiftTagListBlock seq = b4.getSubBlock("DEALTRAN");
             if (seq != null) {
-                return Money.of(seq.getFieldByName("19A"));
+                return first(seq, "19A");
             }
         }
 
-        return null;
+        return Collections.emptyList();
+    }
+
+    private static List<Tag> first(final SwiftTagListBlock block, final String name) {
+        final Tag tag = block.getTagByName(name);
+        return tag != null ? Collections.singletonList(tag) : Collections.emptyList();
+    }
+
+    private static List<Tag> any(final SwiftTagListBlock block, final String... names) {
+        for (String name : names) {
+            final Tag tag = block.getTagByName(name);
+            if (tag != null) {
+                return Collections.singletonList(tag);
+            }
+        }
+        return Collections.emptyList();
     }
 
     /**
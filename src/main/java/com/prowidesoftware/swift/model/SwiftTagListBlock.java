@@ -15,8 +15,6 @@
  */
 package com.prowidesoftware.swift.model;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.prowidesoftware.swift.model.field.Field;
 import com.prowidesoftware.swift.model.field.Field16R;
 import com.prowidesoftware.swift.model.field.Field16S;
@@ -25,6 +23,7 @@ import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 
+import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.util.*;
 import java.util.logging.Level;
@@ -95,9 +94,31 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
      * @throws IllegalArgumentException if parameter tags is not null and contains elements of class other than Tag
      */
     public void setTags(final List<Tag> tags) {
+        checkNotFrozen();
         this.tags = tags;
     }
 
+    /**
+     * Copies the tags and common attributes from the source into this block. The tags are copied into a new
+     * list with new tag instances, sharing the name, value and unparsed text instances.
+     *
+     * <p>When the freeze parameter is true the copied list and its tags are unmodifiable and this block is
+     * marked as frozen.
+     *
+     * @param source the block to copy from
+     * @param freeze true to mark this block as frozen
+     * @since 9.3.9
+     */
+    void copyTags(final SwiftTagListBlock source, final boolean freeze) {
+        final List<Tag> sourceTags = source.tags == null ? Collections.emptyList() : source.tags;
+        final List<Tag> copy = new ArrayList<>(sourceTags.size());
+        for (final Tag tag : sourceTags) {
+            copy.add(freeze ? Tag.frozenCopy(tag) : Tag.mutableCopy(tag));
+        }
+        this.tags = freeze ? Collections.unmodifiableList(copy) : copy;
+        copyCommonAttributes(source, freeze);
+    }
+
     /**
      * @param tags tags to set
      * @see #setTags(List)
@@ -702,6 +723,17 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
         return Objects.hash(super.hashCode(), tags);
     }
 
+    /**
+     * Replaces the block by a compact form when serialized, see {@link SerializationProxy}.
+     * Subclasses other than the message blocks are serialized with the default mechanism.
+     *
+     * @return the object to write in place of this block
+     * @since 9.3.9
+     */
+    Object writeReplace() throws ObjectStreamException {
+        return SerializationProxy.replace(this);
+    }
+
     /**
      * Get all sub blocks using the starting and ending Tags as block boundaries.<br>
      * The starting and end tags are included in the resulting sub blocks.
@@ -1847,8 +1879,7 @@ public class SwiftTagListBlock extends SwiftBlock implements Serializable, Itera
      * @since 7.9.8
      */
     public String toJson() {
-        final Gson gson = new GsonBuilder().create();
-        return gson.toJson(this);
+        return SwiftMessageJsonWriter.gson(false).toJson(this);
     }
 
     /**
@@ -19,6 +19,7 @@ import com.prowidesoftware.swift.model.field.Field;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 
+import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.util.Objects;
 
@@ -30,6 +31,10 @@ import java.util.Objects;
  * the field name ("Tag") and the field value.
  */
 public class Tag implements Serializable {
+    /**
+     * Fixed to the value implicitly computed for the class up to version 9.3.8, to read tags serialized by previous versions
+     */
+    private static final long serialVersionUID = 4209696238849009130L;
 
     /**
      * Name of the tag, usually a number that may be followed by a letter.
@@ -46,6 +51,14 @@ public class Tag implements Serializable {
      */
     protected UnparsedTextList unparsedTexts = null;
 
+    /**
+     * True when this tag is part of a frozen message snapshot
+     *
+     * @see SwiftMessage#freeze()
+     * @since 9.3.9
+     */
+    private transient boolean frozen = false;
+
     /**
      * Default constructor.
      */
@@ -183,6 +196,7 @@ public class Tag implements Serializable {
      * @throws IllegalArgumentException if parameter name is null
      */
     public void setName(String name) {
+        checkNotFrozen();
 
         // sanity check
         Objects.requireNonNull(name, "parameter 'name' cannot be null");
@@ -208,9 +222,66 @@ public class Tag implements Serializable {
      * @param value the value for the tag, may be null
      */
     public void setValue(String value) {
+        checkNotFrozen();
         this.value = value;
     }
 
+    /**
+     * @return true if this tag is part of a frozen message snapshot and cannot be modified
+     * @see SwiftMessage#freeze()
+     * @since 9.3.9
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * @throws UnsupportedOperationException if this tag is frozen
+     * @since 9.3.9
+     */
+    protected void checkNotFrozen() {
+        if (this.frozen) {
+            throw new UnsupportedOperationException("Cannot modify a frozen tag, use SwiftMessage#thaw() to get a modifiable copy of the message");
+        }
+    }
+
+    /**
+     * Creates an unmodifiable copy of the given tag, sharing the name, value and unparsed text instances.
+     *
+     * @param tag the tag to copy
+     * @return the tag itself if already frozen or a frozen copy
+     * @since 9.3.9
+     */
+    static Tag frozenCopy(final Tag tag) {
+        if (tag == null || tag.frozen) {
+            return tag;
+        }
+        final Tag result = new Tag();
+        result.name = tag.name;
+        result.value = tag.value;
+        result.unparsedTexts = UnparsedTextList.frozenCopy(tag.unparsedTexts);
+        result.frozen = true;
+        return result;
+    }
+
+    /**
+     * Creates a modifiable copy of the given tag, sharing the name and value instances.
+     *
+     * @param tag the tag to copy
+     * @return a new modifiable tag
+     * @since 9.3.9
+     */
+    static Tag mutableCopy(final Tag tag) {
+        if (tag == null) {
+            return null;
+        }
+        final Tag result = new Tag();
+        result.name = tag.name;
+        result.value = tag.value;
+        result.unparsedTexts = UnparsedTextList.mutableCopy(tag.unparsedTexts);
+        return result;
+    }
+
     @Override
     public String toString() {
         return "Tag[" + name + ":" + value + "]";
@@ -220,8 +291,10 @@ public class Tag implements Serializable {
      * verifies that the unparsed text list exists
      */
     protected void unparsedTextVerify() {
-        if (this.unparsedTexts == null)
+        if (this.unparsedTexts == null) {
+            checkNotFrozen();
             this.unparsedTexts = new UnparsedTextList();
+        }
     }
 
     /**
@@ -230,6 +303,9 @@ public class Tag implements Serializable {
      * @return the unparsed text attached to this tag object
      */
     public UnparsedTextList getUnparsedTexts() {
+        if (this.frozen && this.unparsedTexts == null) {
+            return UnparsedTextList.EMPTY;
+        }
 
         // create the list if needed
         unparsedTextVerify();
@@ -242,7 +318,7 @@ public class Tag implements Serializable {
      * @param texts the new list of unparsed texts (may be null)
      */
     public void setUnparsedTexts(UnparsedTextList texts) {
-
+        checkNotFrozen();
         this.unparsedTexts = texts;
     }
 
@@ -269,10 +345,7 @@ public class Tag implements Serializable {
      * @throws IndexOutOfBoundsException if parameter index is out of bounds
      */
     public Boolean unparsedTextIsMessage(Integer index) {
-
-        // create the list if needed
-        unparsedTextVerify();
-        return this.unparsedTexts.isMessage(index);
+        return getUnparsedTexts().isMessage(index);
     }
 
     /**
@@ -284,10 +357,7 @@ public class Tag implements Serializable {
      * @throws IndexOutOfBoundsException if parameter index is out of bounds
      */
     public String unparsedTextGetText(Integer index) {
-
-        // create the list if needed
-        unparsedTextVerify();
-        return this.unparsedTexts.getText(index);
+        return getUnparsedTexts().getText(index);
     }
 
     /**
@@ -298,10 +368,7 @@ public class Tag implements Serializable {
      * @throws IllegalArgumentException if parameter index is null
      */
     public SwiftMessage unparsedTextGetAsMessage(Integer index) {
-
-        // create the list if needed
-        unparsedTextVerify();
-        return this.unparsedTexts.getTextAsMessage(index);
+        return getUnparsedTexts().getTextAsMessage(index);
     }
 
     /**
@@ -311,6 +378,7 @@ public class Tag implements Serializable {
      * @throws IllegalArgumentException if parameter text is null
      */
     public void unparsedTextAddText(String text) {
+        checkNotFrozen();
 
         // create the list if needed
         unparsedTextVerify();
@@ -324,6 +392,7 @@ public class Tag implements Serializable {
      * @throws IllegalArgumentException if parameter message is null
      */
     public void unparsedTextAddText(SwiftMessage message) {
+        checkNotFrozen();
 
         // create the list if needed
         unparsedTextVerify();
@@ -345,6 +414,16 @@ public class Tag implements Serializable {
         return Objects.hash(name, value, unparsedTexts);
     }
 
+    /**
+     * Replaces the tag by a compact form when serialized, see {@link SerializationProxy}.
+     *
+     * @return the object to write in place of this tag
+     * @since 9.3.9
+     */
+    Object writeReplace() throws ObjectStreamException {
+        return SerializationProxy.replace(this);
+    }
+
     /**
      * Similar to {@link #equals(Object)} but ignoring carriage returns characters in tag values.
      * Meaning CRLF in any of the tags will match both CRLF in the other tag and just LF in the other tag
@@ -467,6 +546,7 @@ public class Tag implements Serializable {
      * @param value the tagvalue
      */
     public void setNameValue(String name, String value) {
+        checkNotFrozen();
         setName(name);
         setValue(value);
     }
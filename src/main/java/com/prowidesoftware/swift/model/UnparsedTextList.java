@@ -19,6 +19,7 @@ import com.prowidesoftware.swift.io.ConversionService;
 import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
+import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.util.*;
 
@@ -75,6 +76,13 @@ public class UnparsedTextList implements Serializable {
     private static final long serialVersionUID = 7302986014143689797L;
     private static final String WRITER_MESSAGE = "parameter 'index' cannot be null";
 
+    /**
+     * Shared empty and unmodifiable instance, returned by the frozen message elements with no unparsed texts.
+     *
+     * @since 9.3.9
+     */
+    static final UnparsedTextList EMPTY = frozenCopy(new UnparsedTextList());
+
     /**
      * list of unparsed texts
      *
@@ -82,6 +90,14 @@ public class UnparsedTextList implements Serializable {
      */
     private List<String> texts = new ArrayList<>();
 
+    /**
+     * True when this list is part of a frozen message snapshot
+     *
+     * @see SwiftMessage#freeze()
+     * @since 9.3.9
+     */
+    private transient boolean frozen = false;
+
     /**
      * Default Constructor
      */
@@ -101,6 +117,46 @@ public class UnparsedTextList implements Serializable {
         this.texts = new ArrayList<>(texts);
     }
 
+    /**
+     * Creates an unmodifiable copy of the given list, sharing the text instances.
+     *
+     * @param source the list to copy
+     * @return a frozen copy or null if the source is null
+     * @since 9.3.9
+     */
+    static UnparsedTextList frozenCopy(final UnparsedTextList source) {
+        if (source == null) {
+            return null;
+        }
+        if (source.frozen) {
+            return source;
+        }
+        final UnparsedTextList result = new UnparsedTextList();
+        result.texts = source.texts.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(source.texts));
+        result.frozen = true;
+        return result;
+    }
+
+    /**
+     * Creates a modifiable copy of the given list, sharing the text instances.
+     *
+     * @param source the list to copy
+     * @return a new modifiable list or null if the source is null
+     * @since 9.3.9
+     */
+    static UnparsedTextList mutableCopy(final UnparsedTextList source) {
+        return source == null ? null : new UnparsedTextList(source.texts);
+    }
+
+    /**
+     * @return true if this list is part of a frozen message snapshot and cannot be modified
+     * @see SwiftMessage#freeze()
+     * @since 9.3.9
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
     /**
      * decides if it is likely that an unparsed text is a SWIFT FIN message.<br>
      * It is considered that a text it is likely to be message if it contains
@@ -161,6 +217,9 @@ public class UnparsedTextList implements Serializable {
      * @since 5.0
      */
     protected void setTexts(final List<String> texts) {
+        if (this.frozen) {
+            throw new UnsupportedOperationException("Cannot modify the unparsed texts of a frozen message");
+        }
         // setup the new list
         this.texts = texts;
     }
@@ -305,4 +364,14 @@ public class UnparsedTextList implements Serializable {
     public int hashCode() {
         return Objects.hash(texts);
     }
+
+    /**
+     * Replaces the list by a compact form when serialized, see {@link SerializationProxy}.
+     *
+     * @return the object to write in place of this list
+     * @since 9.3.9
+     */
+    Object writeReplace() throws ObjectStreamException {
+        return SerializationProxy.replace(this);
+    }
 }
@@ -15,15 +15,14 @@
  */
 package com.prowidesoftware.swift.model.field;
 
-import com.prowidesoftware.swift.utils.ResolverUtils;
 import com.prowidesoftware.swift.utils.SwiftFormatUtils;
 import org.apache.commons.lang3.Validate;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 /**
  * Helper API to detect amount component in fields.
@@ -50,14 +49,19 @@ public class AmountResolver {
         // sanity check
         Objects.requireNonNull(f);
 
-        // find all the non-null AMOUNT components
-        List<String> values = ResolverUtils.findNonNullWantedType(f.typesPattern(), 'I', f.getComponents());
-
-        // prepare the result and convert all that match
-        return values.stream()
-                .map(SwiftFormatUtils::getBigDecimal)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        // convert all the non-null AMOUNT components
+        final int[] positions = ComponentTypes.of(f).positions('I');
+        final List<BigDecimal> result = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            final String value = f.getComponent(position);
+            if (value != null) {
+                final BigDecimal amount = SwiftFormatUtils.getBigDecimal(value);
+                if (amount != null) {
+                    result.add(amount);
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -78,7 +82,8 @@ public class AmountResolver {
         Objects.requireNonNull(f);
 
         // find the first AMOUNT component
-        String value = ResolverUtils.findFirstWantedType(f.typesPattern(), 'I', f.getComponents());
+        final int[] positions = ComponentTypes.of(f).positions('I');
+        final String value = positions.length > 0 ? f.getComponent(positions[0]) : null;
 
         // if non-null => try to convert it
         if (value != null) {
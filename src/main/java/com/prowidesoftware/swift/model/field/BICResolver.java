@@ -1,12 +1,11 @@
 package com.prowidesoftware.swift.model.field;
 
 import com.prowidesoftware.swift.model.BIC;
-import com.prowidesoftware.swift.utils.ResolverUtils;
 import com.prowidesoftware.swift.utils.SwiftFormatUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 public class BICResolver {
 
@@ -23,7 +22,12 @@ public class BICResolver {
         // sanity check
         Objects.requireNonNull(f);
 
-        return ResolverUtils.findWantedType(f.typesPattern(), 'B', f.getComponents());
+        final int[] positions = ComponentTypes.of(f).positions('B');
+        final List<String> result = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            result.add(f.getComponent(position));
+        }
+        return result;
     }
 
     /**
@@ -39,13 +43,14 @@ public class BICResolver {
         // sanity check
         Objects.requireNonNull(f);
 
-        // find all the non-null AMOUNT components
-        List<String> values = ResolverUtils.findWantedType(f.typesPattern(), 'B', f.getComponents());
-
-        // prepare the result and convert all that match
-        return values.stream()
-                .map(v -> v != null ? SwiftFormatUtils.getBIC(v) : null)
-                .collect(Collectors.toList());
+        // convert all the BIC components
+        final int[] positions = ComponentTypes.of(f).positions('B');
+        final List<BIC> result = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            final String value = f.getComponent(position);
+            result.add(value != null ? SwiftFormatUtils.getBIC(value) : null);
+        }
+        return result;
     }
 
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model.field;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Precomputed positions of the component types in a field types pattern.
+ *
+ * <p>The types pattern is constant per field class, so the positions of each component type are computed once per
+ * pattern and the resolvers index the field components directly, instead of scanning the pattern on every call.
+ * For example for the 32A pattern "EJI" the currency is at position 2 and the amount at position 3.
+ *
+ * @see Field#typesPattern()
+ * @since 9.3.9
+ */
+final class ComponentTypes {
+
+    /**
+     * Component types used as dates by the {@link DateResolver}
+     */
+    static final String DATE_TYPES = "DEFYAUPJ";
+
+    private static final int[] NONE = new int[0];
+
+    private static final Map<String, ComponentTypes> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * Last types used per field class, the pattern is a constant so it is checked by identity and the lookup by
+     * pattern is only needed once per class
+     */
+    private static final ClassValue<ComponentTypes[]> BY_CLASS = new ClassValue<ComponentTypes[]>() {
+        @Override
+        protected ComponentTypes[] computeValue(final Class<?> type) {
+            return new ComponentTypes[1];
+        }
+    };
+
+    private final String pattern;
+    private final int[][] positions = new int[128][];
+    private final int[] dates;
+
+    private ComponentTypes(final String pattern) {
+        this.pattern = pattern;
+        final int[] counts = new int[128];
+        for (int i = 0; i < pattern.length(); i++) {
+            final char type = pattern.charAt(i);
+            if (type < 128) {
+                counts[type]++;
+            }
+        }
+        for (int type = 0; type < 128; type++) {
+            this.positions[type] = counts[type] > 0 ? new int[counts[type]] : NONE;
+            counts[type] = 0;
+        }
+        final List<Integer> dates = new ArrayList<>();
+        for (int i = 0; i < pattern.length(); i++) {
+            final char type = pattern.charAt(i);
+            if (type < 128) {
+                // positions are 1 based as the component numbers
+                this.positions[type][counts[type]++] = i + 1;
+            }
+            if (DATE_TYPES.indexOf(type) >= 0) {
+                dates.add(i + 1);
+            }
+        }
+        this.dates = dates.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Gets the component types of a field
+     *
+     * @param f a not null field
+     * @return the types positions for the field types pattern
+     */
+    static ComponentTypes of(final Field f) {
+        final String pattern = f.typesPattern();
+        final ComponentTypes[] holder = BY_CLASS.get(f.getClass());
+        ComponentTypes types = holder[0];
+        if (types == null || types.pattern != pattern) {
+            types = of(pattern);
+            holder[0] = types;
+        }
+        return types;
+    }
+
+    /**
+     * Gets the component types of a types pattern, the result is cached per pattern
+     *
+     * @param pattern a types pattern, null is handled as an empty pattern
+     * @return the types positions for the pattern
+     */
+    static ComponentTypes of(final String pattern) {
+        return CACHE.computeIfAbsent(pattern != null ? pattern : "", ComponentTypes::new);
+    }
+
+    /**
+     * Gets the component numbers with the given type.
+     * <p>The returned array is shared and must not be modified.
+     *
+     * @param type a component type such as 'C' for currency or 'I' for amount
+     * @return the 1 based component numbers in the pattern order, an empty array if the type is not present
+     */
+    int[] positions(final char type) {
+        return type < 128 ? this.positions[type] : NONE;
+    }
+
+    /**
+     * Gets the component numbers of any of the date types {@link #DATE_TYPES}.
+     * <p>The returned array is shared and must not be modified.
+     *
+     * @return the 1 based component numbers in the pattern order, an empty array if the pattern contains no dates
+     */
+    int[] dates() {
+        return this.dates;
+    }
+
+    /**
+     * @param number a 1 based component number
+     * @return the type of the component
+     */
+    char type(final int number) {
+        return this.pattern.charAt(number - 1);
+    }
+
+}
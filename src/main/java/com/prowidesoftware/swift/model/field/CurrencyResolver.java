@@ -22,10 +22,10 @@ import com.prowidesoftware.swift.utils.ResolverUtils;
 import com.prowidesoftware.swift.utils.SwiftFormatUtils;
 import org.apache.commons.lang3.Validate;
 
+import java.util.ArrayList;
 import java.util.Currency;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 public class CurrencyResolver {
 
@@ -42,7 +42,12 @@ public class CurrencyResolver {
         // sanity check
         Objects.requireNonNull(f);
 
-        return ResolverUtils.findWantedType(f.typesPattern(), 'C', f.getComponents());
+        final int[] positions = ComponentTypes.of(f).positions('C');
+        final List<String> result = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            result.add(f.getComponent(position));
+        }
+        return result;
     }
 
     /**
@@ -68,13 +73,13 @@ public class CurrencyResolver {
         // sanity check
         Objects.requireNonNull(f);
 
-        // find all the non-null AMOUNT components
-        List<String> values = ResolverUtils.findWantedType(f.typesPattern(), 'C', f.getComponents());
-
-        // prepare the result and convert all that match
-        return values.stream()
-                .map(SwiftFormatUtils::getCurrency)
-                .collect(Collectors.toList());
+        // convert all the CURRENCY components
+        final int[] positions = ComponentTypes.of(f).positions('C');
+        final List<Currency> result = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            result.add(SwiftFormatUtils.getCurrency(f.getComponent(position)));
+        }
+        return result;
     }
 
     public static Currency resolveCurrency(CurrencyContainer o) {
@@ -98,8 +103,7 @@ public class CurrencyResolver {
 
             // find the first currency component
             Field f = (Field) cc;
-            List<Integer> positions = ResolverUtils.findWantedTypesPosition(f.typesPattern(), 'C');
-            for (Integer position : positions) {
+            for (int position : ComponentTypes.of(f).positions('C')) {
                 f.setComponent(position, cur);
             }
         }
@@ -1,13 +1,11 @@
 package com.prowidesoftware.swift.model.field;
 
-import com.prowidesoftware.swift.utils.ResolverUtils;
 import com.prowidesoftware.swift.utils.SwiftFormatUtils;
-import org.apache.commons.lang3.tuple.Pair;
 
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 public class DateResolver {
 
@@ -30,13 +28,14 @@ public class DateResolver {
         // sanity check
         Objects.requireNonNull(f);
 
-        // find all the non-null AMOUNT components
-        List<Pair<Character, String>> values = ResolverUtils.findWantedType(f.typesPattern(), "DEFYAUPJ", f.getComponents());
-
-        // prepare the result and convert all that match
-        return values.stream()
-                .map(pair -> _convert(pair.getKey(), pair.getValue()))
-                .collect(Collectors.toList());
+        // convert all the DATE components
+        final ComponentTypes types = ComponentTypes.of(f);
+        final int[] positions = types.dates();
+        final List<Calendar> result = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            result.add(_convert(types.type(position), f.getComponent(position)));
+        }
+        return result;
     }
 
     /**
@@ -56,8 +55,9 @@ public class DateResolver {
         Objects.requireNonNull(f);
 
         // find the first DATE component
-        Pair<Character, String> value = ResolverUtils.findFirstWantedType(f.typesPattern(), "DEFYAUPJ", f.getComponents());
-        return value != null ? _convert(value.getKey(), value.getValue()) : null;
+        final ComponentTypes types = ComponentTypes.of(f);
+        final int[] positions = types.dates();
+        return positions.length > 0 ? _convert(types.type(positions[0]), f.getComponent(positions[0])) : null;
     }
 
     private static Calendar _convert(Character type, String value) {
@@ -19,6 +19,9 @@ import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonWriter;
 import com.prowidesoftware.JsonSerializable;
 import com.prowidesoftware.deprecation.ProwideDeprecated;
 import com.prowidesoftware.deprecation.TargetYear;
@@ -30,12 +33,16 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.time.DateFormatUtils;
 
+import java.io.IOException;
+import java.io.ObjectStreamException;
+import java.io.StringWriter;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
 
@@ -49,11 +56,24 @@ import java.util.stream.Collectors;
 public abstract class Field implements PatternContainer, JsonSerializable {
     private static final transient java.util.logging.Logger log = java.util.logging.Logger.getLogger(Field.class.getName());
 
+    private static final Gson NARRATIVE_GSON = new Gson();
+    private static final TypeAdapter<List<StructuredNarrative>> NARRATIVE_STRUCTURED_ADAPTER = NARRATIVE_GSON.getAdapter(new TypeToken<List<StructuredNarrative>>() {
+    });
+    private static final TypeAdapter<List<String>> NARRATIVE_FRAGMENTS_ADAPTER = NARRATIVE_GSON.getAdapter(new TypeToken<List<String>>() {
+    });
+
+    /**
+     * The fromJson methods of the field subclasses, by field name, to avoid the reflective lookup per field
+     */
+    private static final Map<String, Method> FROM_JSON = new ConcurrentHashMap<>();
+
     /**
-     * Zero based list of field components in String format.<br>
+     * Zero based array of field components in String format.<br>
      * For example: for field content ":FOO//EUR1234 will be components[0]=FOO, components[1]=EUR and components[1]=1234
+     * <p>Since 9.3.9 the components are kept in a fixed size array instead of a list, to reduce the memory footprint
+     * of each field instance. The array size is set by {@link #init(int)}.
      */
-    protected List<String> components;
+    protected String[] components;
 
     /**
      * Creates a field with the list of components initialized to the given number of components.
@@ -76,9 +96,9 @@ public abstract class Field implements PatternContainer, JsonSerializable {
         /*
          * trim empty components to null
          */
-        for (int i = 0; i < this.components.size(); i++) {
-            if (StringUtils.isEmpty(this.components.get(i))) {
-                this.components.set(i, null);
+        for (int i = 0; i < this.components.length; i++) {
+            if (StringUtils.isEmpty(this.components[i])) {
+                this.components[i] = null;
             }
         }
     }
@@ -91,7 +111,18 @@ public abstract class Field implements PatternContainer, JsonSerializable {
      * @since 7.7
      */
     protected Field(final Field source) {
-        this.components = new ArrayList<>(source.getComponents());
+        this.components = source.components.clone();
+    }
+
+    /**
+     * Replaces the field by a compact form when serialized, that also writes the field components, see
+     * {@link FieldSerializationProxy}.
+     *
+     * @return the object to write in place of this field
+     * @since 9.3.9
+     */
+    Object writeReplace() throws ObjectStreamException {
+        return new FieldSerializationProxy(this);
     }
 
     /**
@@ -251,12 +282,43 @@ public abstract class Field implements PatternContainer, JsonSerializable {
         return _getLabel(fieldName, mt, sequence, l, "components");
     }
 
+    /**
+     * Resolves the labels for several fields of the same message type and sequence in one call.
+     *
+     * @param fieldNames the field names to retrieve the labels, see {@link #getLabel(String, String, String, Locale)}
+     * @param mt         optional indication of message type or null.
+     * @param sequence   optional indication of sequence or null if does not apply for the specific MT and fields.
+     * @param locale     the locale for which a resource bundle is desired, null for the default locale
+     * @return a map with the labels, keyed by field name in the iteration order of the field names parameter
+     * @since 9.3.9
+     */
+    static public Map<String, String> getLabels(final Collection<String> fieldNames, final String mt, final String sequence, final Locale locale) {
+        final Locale l = locale != null ? locale : Locale.getDefault();
+        final Map<String, String> result = new LinkedHashMap<>();
+        for (String fieldName : fieldNames) {
+            if (!result.containsKey(fieldName)) {
+                result.put(fieldName, _getLabel(fieldName, mt, sequence, l, "name"));
+            }
+        }
+        return result;
+    }
+
     static private String _getLabel(final String fieldName, final String mt, final String sequence, final Locale locale, final String prop) {
-        final String bundle = "pw_swift_labels";
+        String label = FieldLabels.get(fieldName, mt, sequence, locale, prop);
+        if (label == null) {
+            label = _resolveLabel(fieldName, mt, sequence, locale, prop);
+            if (label != null) {
+                FieldLabels.put(fieldName, mt, sequence, locale, prop, label);
+            }
+        }
+        return label;
+    }
+
+    static private String _resolveLabel(final String fieldName, final String mt, final String sequence, final Locale locale, final String prop) {
         String key = null;
         String result = null;
         //try {
-        final ResourceBundle labels = ResourceBundle.getBundle(bundle, locale);
+        final ResourceBundle labels = FieldLabels.bundle(locale);
         if (labels != null) {
             if (sequence != null && mt != null) {
                 /*
@@ -385,8 +447,12 @@ public abstract class Field implements PatternContainer, JsonSerializable {
         if (nameElement != null) {
             String name = nameElement.getAsString();
             try {
-                final Class<?> c = Class.forName("com.prowidesoftware.swift.model.field.Field" + name);
-                Method method = c.getMethod("fromJson", String.class);
+                Method method = FROM_JSON.get(name);
+                if (method == null) {
+                    final Class<?> c = Class.forName("com.prowidesoftware.swift.model.field.Field" + name);
+                    method = c.getMethod("fromJson", String.class);
+                    FROM_JSON.put(name, method);
+                }
                 return (Field) method.invoke(null, json);
             } catch (final ClassNotFoundException e) {
                 log.warning("Field class for Field" + name + " not found. This is normally caused by an unrecognized field in the message or a malformed message block structure.");
@@ -399,16 +465,13 @@ public abstract class Field implements PatternContainer, JsonSerializable {
     }
 
     /**
-     * Initialize the list of components to the indicated size and sets all values to null
+     * Initialize the array of components to the indicated size and sets all values to null
      *
      * @param components the number of components to initialize
      * @since 7.8
      */
     protected void init(final int components) {
-        this.components = new ArrayList<>(components);
-        for (int i = 0; i < components; i++) {
-            this.components.add(null);
-        }
+        this.components = new String[components];
     }
 
     /**
@@ -428,23 +491,32 @@ public abstract class Field implements PatternContainer, JsonSerializable {
      */
     @Override
     public String toString() {
-        return org.apache.commons.lang3.builder.ToStringBuilder.reflectionToString(this);
+        return new org.apache.commons.lang3.builder.ToStringBuilder(this).append("components", getComponents()).toString();
     }
 
     /**
-     * Implementation of equals using EqualsBuilder from commons-lang
+     * Two fields are equal when they are of the same class (hence have the same name) and have equal components.
+     * <p>Since 9.3.9 this is implemented over the components list instead of reflection.
      */
     @Override
     public boolean equals(final Object obj) {
-        return org.apache.commons.lang3.builder.EqualsBuilder.reflectionEquals(this, obj);
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        return Arrays.equals(components, ((Field) obj).components);
     }
 
     /**
-     * Implementation of hashCode using HashCodeBuilder from commons-lang
+     * Hash code computed from the field name and components.
+     * <p>The field is mutable (components can be set and the components view is writable) so the hash is not cached here,
+     * however it is cheap to compute since each component String caches its own hash.
      */
     @Override
     public int hashCode() {
-        return org.apache.commons.lang3.builder.HashCodeBuilder.reflectionHashCode(this);
+        return 31 * Objects.hashCode(getName()) + Arrays.hashCode(components);
     }
 
     /**
@@ -492,17 +564,38 @@ public abstract class Field implements PatternContainer, JsonSerializable {
     }
 
     /**
-     * @return comopnents list
+     * Gets the field components as a list.
+     * <p>Since 9.3.9 the returned list is a fixed size view backed by the internal components array, the components
+     * are not copied and changes in the list elements write through to the field. Adding or removing elements
+     * is not supported.
+     *
+     * @return components list view or null if the components are not initialized
      */
     public List<String> getComponents() {
-        return components;
+        return components != null ? Arrays.asList(components) : null;
     }
 
     /**
+     * Sets the field components.
+     * <p>Since 9.3.9 the parameter list content is copied into the internal components array, further changes
+     * in the parameter list are not reflected in the field.
+     *
      * @param components list to set
      */
     public void setComponents(final List<String> components) {
-        this.components = components;
+        this.components = components != null ? components.toArray(new String[0]) : null;
+    }
+
+    /**
+     * Gets the number of components allocated in this field instance.
+     * <p>This is usually the same as {@link #componentsSize()}, it is provided as a direct accessor to the
+     * internal components storage, without creating a list view.
+     *
+     * @return the amount of component slots in this instance or 0 if the components are not initialized
+     * @since 9.3.9
+     */
+    public int getComponentsCount() {
+        return components != null ? components.length : 0;
     }
 
     /**
@@ -517,13 +610,10 @@ public abstract class Field implements PatternContainer, JsonSerializable {
         //internal position index is zero based
         final int position = number - 1;
 
-        if (this.components == null) {
-            this.components = new ArrayList<>();
-        }
-        if (position >= this.components.size()) {
+        if (this.components == null || position >= this.components.length) {
             log.warning("component number " + number + " is out of bound for field " + getName());
         } else {
-            this.components.set(position, value);
+            this.components[position] = value;
         }
     }
 
@@ -537,8 +627,8 @@ public abstract class Field implements PatternContainer, JsonSerializable {
         //internal position index is zero based
         final int position = number - 1;
 
-        if (this.components != null && position >= 0 && position < this.components.size()) {
-            return this.components.get(position);
+        if (this.components != null && position >= 0 && position < this.components.length) {
+            return this.components[position];
         }
         return null;
     }
@@ -561,7 +651,7 @@ public abstract class Field implements PatternContainer, JsonSerializable {
      */
     public String getValueDisplay(Locale locale) {
         final StringBuilder result = new StringBuilder();
-        for (int i = 1; i <= components.size(); i++) {
+        for (int i = 1; i <= components.length; i++) {
             final String s = getValueDisplay(i, locale);
             if (s != null) {
                 if (result.length() > 0) {
@@ -610,7 +700,7 @@ public abstract class Field implements PatternContainer, JsonSerializable {
                 return new BIC(s);
 
             } else if (c.equals(Currency.class)) {
-                return Currency.getInstance(s);
+                return SwiftFormatUtils.getCurrency(s);
 
             } else if (c.equals(Character.class)) {
                 return SwiftFormatUtils.getSign(s);
@@ -650,17 +740,18 @@ public abstract class Field implements PatternContainer, JsonSerializable {
      * @return s
      */
     public String joinComponents(final int start, final boolean skipLast) {
-        // FIXME para que se crea el list intermedio toAdd? no le veo razon de ser, se podria iterar en el segundo loop directo sobre this.components
-        final List<String> toAdd = new ArrayList<>();
-        for (int i = start; i < this.componentsSize(); i++) {
-            if (StringUtils.isNotEmpty(this.components.get(i))) {
-                toAdd.add(this.components.get(i));
-            }
+        int end = this.componentsSize();
+        if (skipLast) {
+            // the last component is the last not empty one
+            do {
+                end--;
+            } while (end >= start && StringUtils.isEmpty(this.components[end]));
         }
-        final int end = skipLast ? toAdd.size() - 1 : toAdd.size();
         final StringBuilder result = new StringBuilder();
-        for (int i = 0; i < end; i++) {
-            result.append(toAdd.get(i));
+        for (int i = start; i < end; i++) {
+            if (StringUtils.isNotEmpty(this.components[i])) {
+                result.append(this.components[i]);
+            }
         }
         return result.toString();
     }
@@ -1146,32 +1237,75 @@ public abstract class Field implements PatternContainer, JsonSerializable {
      */
     @Override
     public String toJson() {
-        String stdFormat = toJsonFormat();
-        if (this instanceof StructuredNarrativeField) {
-            return stdFormat.substring(0, stdFormat.length() - 1) + "," + toNarrativeFormat().substring(1);
+        final StringWriter out = new StringWriter();
+        try {
+            final JsonWriter writer = new JsonWriter(out);
+            writer.setSerializeNulls(false);
+            writeJson(writer);
+        } catch (final IOException e) {
+            // not expected writing to a StringWriter
+            throw new IllegalStateException(e);
         }
-        return stdFormat;
+        return out.toString();
     }
 
-    String toJsonFormat() {
-        JsonObject field = new JsonObject();
-        field.addProperty("name", this.getName());
-        for (int i = 1; i <= this.getComponents().size(); i++) {
-            if (this.getComponent(i) != null) {
-                String label = this.getComponentLabelCamelCase(i);
-                if (label == null) {
-                    label = "value";
+    /**
+     * Writes the json representation of this field, as described in {@link #toJson()}, to a streaming json writer.
+     * <p>The narrative structure of {@link StructuredNarrativeField} fields is written after the components.
+     *
+     * @param writer a json writer
+     * @throws IOException if an error occurs writing the json content
+     * @since 9.3.9
+     */
+    public void writeJson(final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name("name").value(this.getName());
+        final int count = getComponentsCount();
+        if (count > 0) {
+            final Map<Integer, String> labels = getComponentMap();
+            final String[] names = new String[count];
+            for (int i = 0; i < count; i++) {
+                final String label = labels != null ? labels.get(i + 1) : null;
+                names[i] = label != null ? label : "value";
+            }
+            for (int i = 0; i < count; i++) {
+                if (this.components[i] != null && !isWritten(names, i)) {
+                    // components sharing a label are written once, with the last value
+                    String value = this.components[i];
+                    for (int j = i + 1; j < count; j++) {
+                        if (this.components[j] != null && names[j].equals(names[i])) {
+                            value = this.components[j];
+                        }
+                    }
+                    writer.name(names[i]).value(value);
                 }
-                field.addProperty(label, this.getComponent(i));
             }
         }
-        return field.toString();
+        if (this instanceof StructuredNarrativeField) {
+            final Narrative narrative = ((StructuredNarrativeField) this).narrative();
+            writer.name("structured");
+            NARRATIVE_STRUCTURED_ADAPTER.write(writer, narrative.getStructured());
+            writer.name("unstructuredFragments");
+            NARRATIVE_FRAGMENTS_ADAPTER.write(writer, narrative.getUnstructuredFragments());
+        }
+        writer.endObject();
+    }
+
+    /**
+     * @return true if a previous not null component has the same label
+     */
+    private boolean isWritten(final String[] names, final int index) {
+        for (int i = 0; i < index; i++) {
+            if (this.components[i] != null && names[i].equals(names[index])) {
+                return true;
+            }
+        }
+        return false;
     }
 
     String toNarrativeFormat() {
         Narrative narrative = ((StructuredNarrativeField) this).narrative();
-        Gson gson = new Gson();
-        return gson.toJson(narrative);
+        return NARRATIVE_GSON.toJson(narrative);
     }
 
 }
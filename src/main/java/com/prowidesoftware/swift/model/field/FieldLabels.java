@@ -0,0 +1,109 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model.field;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of the field labels resolved from the pw_swift_labels resource bundles.
+ *
+ * <p>The bundles are loaded once per locale and the resolved labels are kept by locale, field name, message type,
+ * sequence and property, so repeated calls to {@link Field#getLabel(String, String, String, Locale)} do not probe
+ * the bundle keys again. The labels cache is bounded, when it is full it is cleared and filled again on demand.
+ *
+ * @since 9.3.9
+ */
+final class FieldLabels {
+
+    static final String BUNDLE = "pw_swift_labels";
+
+    /**
+     * Maximum number of labels kept in the cache
+     */
+    private static final int MAX_SIZE = 20_000;
+
+    private static final Map<Locale, ResourceBundle> BUNDLES = new ConcurrentHashMap<>();
+
+    private static final Map<Key, String> LABELS = new ConcurrentHashMap<>();
+
+    // Suppress default constructor for noninstantiability
+    private FieldLabels() {
+        throw new AssertionError();
+    }
+
+    /**
+     * @param locale a not null locale
+     * @return the labels bundle for the locale, loaded on first use
+     */
+    static ResourceBundle bundle(final Locale locale) {
+        return BUNDLES.computeIfAbsent(Objects.requireNonNull(locale), l -> ResourceBundle.getBundle(BUNDLE, l));
+    }
+
+    /**
+     * @return the cached label or null if the label has not been resolved yet
+     */
+    static String get(final String fieldName, final String mt, final String sequence, final Locale locale, final String prop) {
+        return LABELS.get(new Key(fieldName, mt, sequence, locale, prop));
+    }
+
+    static void put(final String fieldName, final String mt, final String sequence, final Locale locale, final String prop, final String label) {
+        if (LABELS.size() >= MAX_SIZE) {
+            LABELS.clear();
+        }
+        LABELS.put(new Key(fieldName, mt, sequence, locale, prop), label);
+    }
+
+    private static final class Key {
+        private final String fieldName;
+        private final String mt;
+        private final String sequence;
+        private final Locale locale;
+        private final String prop;
+        private final int hash;
+
+        Key(final String fieldName, final String mt, final String sequence, final Locale locale, final String prop) {
+            this.fieldName = fieldName;
+            this.mt = mt;
+            this.sequence = sequence;
+            this.locale = locale;
+            this.prop = prop;
+            this.hash = Objects.hash(fieldName, mt, sequence, locale, prop);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return hash == key.hash &&
+                    Objects.equals(fieldName, key.fieldName) &&
+                    Objects.equals(mt, key.mt) &&
+                    Objects.equals(sequence, key.sequence) &&
+                    Objects.equals(locale, key.locale) &&
+                    Objects.equals(prop, key.prop);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model.field;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Compact Java serialization form for the {@link Field} subclasses.
+ *
+ * <p>The field is written as a format version marker, the field class name and its components. Since the base
+ * {@link Field} class is not serializable, the default serialization could not restore the field components,
+ * this form writes them explicitly.
+ *
+ * @since 9.3.9
+ */
+final class FieldSerializationProxy implements Externalizable {
+    private static final long serialVersionUID = 1L;
+
+    private static final int VERSION = 1;
+
+    private Field field;
+
+    /**
+     * Constructor for deserialization
+     */
+    public FieldSerializationProxy() {
+    }
+
+    FieldSerializationProxy(final Field field) {
+        this.field = field;
+    }
+
+    @Override
+    public void writeExternal(final ObjectOutput out) throws IOException {
+        out.writeByte(VERSION);
+        out.writeUTF(field.getClass().getName());
+        out.writeShort(field.components.length);
+        for (final String c : field.components) {
+            if (c == null) {
+                out.writeInt(-1);
+            } else {
+                final byte[] bytes = c.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        }
+    }
+
+    @Override
+    public void readExternal(final ObjectInput in) throws IOException {
+        final int version = in.readByte();
+        if (version != VERSION) {
+            throw new InvalidObjectException("Unsupported serialized field version " + version + ", expected " + VERSION);
+        }
+        final String className = in.readUTF();
+        try {
+            final Class<?> c = Class.forName(className, false, Field.class.getClassLoader());
+            if (!Field.class.isAssignableFrom(c)) {
+                throw new InvalidObjectException(className + " is not a field class");
+            }
+            this.field = (Field) c.getConstructor().newInstance();
+        } catch (final ReflectiveOperationException e) {
+            final InvalidObjectException ex = new InvalidObjectException("Cannot create field instance for " + className);
+            ex.initCause(e);
+            throw ex;
+        }
+        final String[] components = new String[in.readUnsignedShort()];
+        for (int i = 0; i < components.length; i++) {
+            final int length = in.readInt();
+            if (length >= 0) {
+                final byte[] bytes = new byte[length];
+                in.readFully(bytes);
+                components[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+        }
+        this.field.components = components;
+    }
+
+    /**
+     * @return the deserialized field in place of this proxy
+     */
+    private Object readResolve() {
+        return field;
+    }
+
+}
@@ -15,9 +15,8 @@
  */
 package com.prowidesoftware.swift.model.mt;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.prowidesoftware.JsonSerializable;
+import com.prowidesoftware.swift.internal.SequenceAccessors;
 import com.prowidesoftware.swift.io.ConversionService;
 import com.prowidesoftware.swift.io.IConversionService;
 import com.prowidesoftware.swift.io.parser.SwiftParser;
@@ -28,7 +27,7 @@ import com.prowidesoftware.swift.utils.Lib;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.*;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
@@ -46,7 +45,6 @@ import java.util.logging.Logger;
  */
 public abstract class AbstractMT extends AbstractMessage implements JsonSerializable {
     private static final transient Logger log = Logger.getLogger(AbstractMT.class.getName());
-    private static final String GETSEQUENCE = "getSequence";
     /**
      * The internal swift message.
      */
@@ -251,11 +249,7 @@ public abstract class AbstractMT extends AbstractMessage implements JsonSerializ
      * @since 7.10.3
      */
     public static AbstractMT fromJson(String json) {
-        final Gson gson = new GsonBuilder()
-                .registerTypeAdapter(AbstractMT.class, new AbstractMTAdapter())
-                .registerTypeAdapter(SwiftBlock2.class, new SwiftBlock2Adapter())
-                .create();
-        return gson.fromJson(json, AbstractMT.class);
+        return SwiftMessageJsonReader.parseMT(json);
     }
 
     /**
@@ -570,9 +564,7 @@ public abstract class AbstractMT extends AbstractMessage implements JsonSerializ
      */
     @SuppressWarnings("unchecked")
     public List<SwiftTagListBlock> getSequenceList(final String name) {
-        final String methodName = GETSEQUENCE + name + "List";
-        Object o = invokeHere(methodName, this, null);
-        return (List<SwiftTagListBlock>) o;
+        return (List<SwiftTagListBlock>) invokeHere(accessors().sequenceList(name), name, null);
     }
 
     /**
@@ -588,8 +580,7 @@ public abstract class AbstractMT extends AbstractMessage implements JsonSerializ
      */
     @SuppressWarnings("unchecked")
     public /* cant make static, but should be */ List<SwiftTagListBlock> getSequenceList(final String name, final SwiftTagListBlock block) {
-        final String methodName = GETSEQUENCE + name + "List";
-        return (List<SwiftTagListBlock>) invokeHere(methodName, this, block);
+        return (List<SwiftTagListBlock>) invokeHere(block == null ? accessors().sequenceList(name) : accessors().sequenceListFromBlock(name), name, block);
     }
 
     /**
@@ -601,12 +592,7 @@ public abstract class AbstractMT extends AbstractMessage implements JsonSerializ
      * @since 7.8
      */
     public boolean containsSequenceList(final String name) {
-        try {
-            getClass().getMethod(GETSEQUENCE + name + "List");
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return accessors().sequenceList(name) != null;
     }
 
     /**
@@ -618,31 +604,38 @@ public abstract class AbstractMT extends AbstractMessage implements JsonSerializ
      * @since 7.8
      */
     public boolean containsSequence(final String name) {
-        try {
-            return getClass().getMethod(GETSEQUENCE + name) != null;
-        } catch (Exception e) {
-            return false;
-        }
+        return accessors().sequence(name) != null;
     }
 
     /**
-     * @param methodName a method to invoke
-     * @return result from reflection call
+     * @return the cached sequence accessors for this MT class
+     * @since 9.3.9
+     */
+    private SequenceAccessors accessors() {
+        return SequenceAccessors.of(getClass());
+    }
+
+    /**
+     * Invokes a sequence accessor resolved from this MT class.
+     *
+     * @param handle   the accessor to invoke, null if the sequence does not exist in this MT
+     * @param name     the sequence name, for logging purposes
+     * @param argument the parent block for the accessors receiving a block or null for the message accessors
+     * @return result from the accessor call or null if the accessor does not exist or fails
      * @since 7.6
      */
-    private Object invokeHere(final String methodName, final Object where, final SwiftTagListBlock argument) {
+    private Object invokeHere(final MethodHandle handle, final String name, final SwiftTagListBlock argument) {
+        if (handle == null) {
+            log.fine("Sequence " + name + " does not exist in " + getClass());
+            return null;
+        }
         try {
-            final Method method = argument == null ?
-                    getClass().getMethod(methodName)
-                    : getClass().getMethod(methodName, SwiftTagListBlock.class);
             if (argument == null) {
-                return method.invoke(where);
+                return (Object) handle.invokeExact(this);
             }
-            return method.invoke(where, argument);
-        } catch (final NoSuchMethodException e) {
-            log.log(Level.FINE, "Method " + methodName + " does not exist in " + getClass(), e);
-        } catch (Exception e) {
-            log.log(Level.WARNING, "An error occured while invoking " + methodName + " in " + where, e);
+            return (Object) handle.invokeExact(this, argument);
+        } catch (final Throwable e) {
+            log.log(Level.WARNING, "An error occured while getting sequence " + name + " in " + this, e);
         }
         return null;
     }
@@ -662,9 +655,7 @@ public abstract class AbstractMT extends AbstractMessage implements JsonSerializ
      * @since 7.6
      */
     public SwiftTagListBlock getSequence(final String name) {
-        final String methodName = GETSEQUENCE + name;
-        Object o = invokeHere(methodName, this, null);
-        return (SwiftTagListBlock) o;
+        return (SwiftTagListBlock) invokeHere(accessors().sequence(name), name, null);
     }
 
     /**
@@ -676,9 +667,7 @@ public abstract class AbstractMT extends AbstractMessage implements JsonSerializ
      * @since 7.8.1
      */
     public /* cant make static, but should be */ SwiftTagListBlock getSequence(final String name, final SwiftTagListBlock block) {
-        final String methodName = GETSEQUENCE + name;
-        Object o = invokeHere(methodName, this, block);
-        return (SwiftTagListBlock) o;
+        return (SwiftTagListBlock) invokeHere(block == null ? accessors().sequence(name) : accessors().sequenceFromBlock(name), name, block);
     }
 
     @Override
@@ -906,11 +895,7 @@ public abstract class AbstractMT extends AbstractMessage implements JsonSerializ
      */
     @Override
     public String toJson() {
-        final Gson gson = new GsonBuilder()
-                .registerTypeAdapter(AbstractMT.class, new AbstractMTAdapter())
-                .setPrettyPrinting()
-                .create();
-        return gson.toJson(this, AbstractMT.class);
+        return SwiftMessageJsonWriter.toJson(this, true);
     }
 
     /**
@@ -15,6 +15,7 @@
  */
 package com.prowidesoftware.swift.utils;
 
+import com.prowidesoftware.swift.model.CurrencyIndex;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 
@@ -28,25 +29,32 @@ import java.util.logging.Logger;
  * change or add new values. This can be particularly helpful when the application is not running on
  * the latest Java version and a currency change or addition has not yet been updated in the used JRE.
  *
+ * <p>Besides the sets, the codes are kept in bitsets with a bit per possible uppercase code (26x26 for countries and
+ * 26x26x26 for currencies), so codes can be checked directly in a portion of a text without creating substrings.
+ * The bitsets are kept in sync when the sets returned by {@link #getCountries()} and {@link #getCurrencies()} are
+ * modified, or when they are replaced by the setters.
+ *
  * @author sebastian
  * @since 7.9.2
  */
 public final class IsoUtils {
     private static final transient Logger log = Logger.getLogger(IsoUtils.class.getName());
     private static final IsoUtils INSTANCE = new IsoUtils();
-    private Set<String> currencies;
-    private Set<String> countries;
+    private static final int COUNTRY_INDEX_SIZE = 26 * 26;
+    private CodeSet currencies;
+    private CodeSet countries;
 
     private IsoUtils() {
-        currencies = new HashSet<>();
+        Set<String> currencies = new HashSet<>();
         for (Currency currency : Currency.getAvailableCurrencies()) {
             String val = currency.getCurrencyCode();
             currencies.add(val);
         }
         // Jul 2016: Belarus changed currency from 974 (BYR) to 933 (BYN)
         currencies.add("BYN");
+        this.currencies = newCurrencySet(currencies);
 
-        countries = new HashSet<>(Arrays.asList(Locale.getISOCountries()));
+        this.countries = newCountrySet(new HashSet<>(Arrays.asList(Locale.getISOCountries())));
 
         log.fine("IsoUtils initialized with " + currencies.size() + " currency codes and " + countries.size() + " country codes");
     }
@@ -59,16 +67,30 @@ public final class IsoUtils {
         return currencies;
     }
 
+    /**
+     * Replaces the currency codes.
+     * <p>The set is used as is, further changes must be done through {@link #getCurrencies()} or
+     * {@link #addCurrency(String)} to be visible in the validation methods.
+     *
+     * @param currencies the valid currency codes
+     */
     public void setCurrencies(Set<String> currencies) {
-        this.currencies = currencies;
+        this.currencies = newCurrencySet(currencies);
     }
 
     public Set<String> getCountries() {
         return countries;
     }
 
+    /**
+     * Replaces the country codes.
+     * <p>The set is used as is, further changes must be done through {@link #getCountries()} or
+     * {@link #addCountry(String)} to be visible in the validation methods.
+     *
+     * @param countries the valid country codes
+     */
     public void setCountries(Set<String> countries) {
-        this.countries = countries;
+        this.countries = newCountrySet(countries);
     }
 
     /**
@@ -79,11 +101,44 @@ public final class IsoUtils {
      */
     public boolean isValidISOCurrency(String currencyCode) {
         if (StringUtils.length(currencyCode) == 3) {
-            return currencies.contains(currencyCode);
+            return currencies.contains(currencyCode, 0);
         }
         return false;
     }
 
+    /**
+     * Checks if the three characters at the given position of a text are a valid ISO currency code.
+     *
+     * @param text   a text containing a currency code, for example a tag value such as 121212USD1234,
+     * @param offset the position of the currency code in the text
+     * @return true if there is a valid currency code at the offset, false otherwise
+     * @see #isValidISOCurrency(String)
+     * @since 9.3.9
+     */
+    public boolean isValidISOCurrency(final CharSequence text, final int offset) {
+        if (text == null || offset < 0 || offset + 3 > text.length()) {
+            return false;
+        }
+        return currencies.contains(text, offset);
+    }
+
+    /**
+     * Gets the Java {@link Currency} for the three characters at the given position of a text.
+     * <p>The currencies are looked up with {@link CurrencyIndex#currency(int)}, so this method does not depend on
+     * the codes added or removed in this class.
+     *
+     * @param text   a text containing a currency code
+     * @param offset the position of the currency code in the text
+     * @return the currency or null if there is no supported ISO 4217 currency code at the offset
+     * @since 9.3.9
+     */
+    public static Currency getCurrency(final CharSequence text, final int offset) {
+        if (text == null || offset < 0 || offset + 3 > text.length()) {
+            return null;
+        }
+        return CurrencyIndex.currency(CurrencyIndex.of(text, offset));
+    }
+
     /**
      * Checks if the country code is a valid ISO country using Java {@link Locale#getISOCountries()}
      *
@@ -92,13 +147,58 @@ public final class IsoUtils {
      */
     public boolean isValidISOCountry(String countryCode) {
         if (StringUtils.length(countryCode) == 2) {
-            return countries.contains(countryCode) || isUserAssignedCountryCode(countryCode);
+            return isValidISOCountry(countryCode, 0);
         }
         return false;
     }
 
-    private boolean isUserAssignedCountryCode(String code) {
-        return code.charAt(0) == 'X' && Character.isUpperCase(code.charAt(1));
+    /**
+     * Checks if the two characters at the given position of a text are a valid ISO country code.
+     *
+     * @param text   a text containing a country code, for example a BIC or an IBAN
+     * @param offset the position of the country code in the text
+     * @return true if there is a valid country code at the offset, false otherwise
+     * @see #isValidISOCountry(String)
+     * @since 9.3.9
+     */
+    public boolean isValidISOCountry(final CharSequence text, final int offset) {
+        if (text == null || offset < 0 || offset + 2 > text.length()) {
+            return false;
+        }
+        return countries.contains(text, offset) || isUserAssignedCountryCode(text, offset);
+    }
+
+    private boolean isUserAssignedCountryCode(CharSequence code, int offset) {
+        return code.charAt(offset) == 'X' && Character.isUpperCase(code.charAt(offset + 1));
+    }
+
+    private static CodeSet newCurrencySet(final Set<String> codes) {
+        return new CodeSet(codes, 3, CurrencyIndex.SIZE, CurrencyIndex::of);
+    }
+
+    private static CodeSet newCountrySet(final Set<String> codes) {
+        return new CodeSet(codes, 2, COUNTRY_INDEX_SIZE, IsoUtils::countryIndex);
+    }
+
+    /**
+     * Computes the bit position of a two uppercase letters country code
+     *
+     * @return the index of the code or -1 if the code contains other characters than uppercase letters
+     */
+    private static int countryIndex(final CharSequence text, final int offset) {
+        final char c1 = text.charAt(offset);
+        final char c2 = text.charAt(offset + 1);
+        if (c1 < 'A' || c1 > 'Z' || c2 < 'A' || c2 > 'Z') {
+            return -1;
+        }
+        return (c1 - 'A') * 26 + (c2 - 'A');
+    }
+
+    /**
+     * Position of a fixed length code in a text, as a bit index
+     */
+    private interface CodeIndex {
+        int of(CharSequence text, int offset);
     }
 
     /**
@@ -125,4 +225,106 @@ public final class IsoUtils {
         currencies.add(currencyCode);
     }
 
+    /**
+     * Set of codes backed by a bitset for the uppercase letters codes, modifications are applied to both the given
+     * set and the bitset.
+     */
+    private static final class CodeSet extends AbstractSet<String> {
+        private final Set<String> codes;
+        private final int length;
+        private final CodeIndex index;
+        private final long[] bits;
+
+        CodeSet(final Set<String> codes, final int length, final int size, final CodeIndex index) {
+            this.codes = codes != null ? codes : new HashSet<>();
+            this.length = length;
+            this.index = index;
+            this.bits = new long[(size + 63) / 64];
+            for (String code : this.codes) {
+                set(code, true);
+            }
+        }
+
+        /**
+         * Checks the code of the set length at the given position of the text
+         */
+        boolean contains(final CharSequence text, final int offset) {
+            final int i = index.of(text, offset);
+            if (i >= 0) {
+                return (bits[i >>> 6] & (1L << i)) != 0;
+            }
+            // codes with other characters are only kept in the set
+            return codes.contains(text.subSequence(offset, offset + length).toString());
+        }
+
+        private void set(final Object code, final boolean value) {
+            if (code instanceof String && ((String) code).length() == length) {
+                final int i = index.of((String) code, 0);
+                if (i >= 0) {
+                    if (value) {
+                        bits[i >>> 6] |= 1L << i;
+                    } else {
+                        bits[i >>> 6] &= ~(1L << i);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            return codes.contains(o);
+        }
+
+        @Override
+        public boolean add(final String code) {
+            set(code, true);
+            return codes.add(code);
+        }
+
+        @Override
+        public boolean remove(final Object o) {
+            final boolean removed = codes.remove(o);
+            if (removed) {
+                set(o, false);
+            }
+            return removed;
+        }
+
+        @Override
+        public void clear() {
+            codes.clear();
+            Arrays.fill(bits, 0L);
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            final Iterator<String> it = codes.iterator();
+            return new Iterator<String>() {
+                private String current;
+
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public String next() {
+                    current = it.next();
+                    return current;
+                }
+
+                @Override
+                public void remove() {
+                    it.remove();
+                    set(current, false);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return codes.size();
+        }
+    }
+
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.utils;
+
+/**
+ * A 128-bit hash of a message content, normalized by the options of a {@link SwiftMessageComparator}.
+ *
+ * <p>Messages considered equal by the comparator have the same fingerprint, while different fingerprints mean the
+ * messages are different for the comparator, except for the unlikely event of a hash collision.
+ *
+ * @see SwiftMessageComparator#fingerprint(com.prowidesoftware.swift.model.SwiftMessage)
+ * @since 9.3.9
+ */
+public final class MessageFingerprint {
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final long h1;
+    private final long h2;
+
+    MessageFingerprint(final long h1, final long h2) {
+        this.h1 = h1;
+        this.h2 = h2;
+    }
+
+    /**
+     * @return the first 64 bits of the fingerprint
+     */
+    public long asLong() {
+        return h1;
+    }
+
+    /**
+     * @return the last 64 bits of the fingerprint
+     */
+    public long asLong2() {
+        return h2;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final MessageFingerprint that = (MessageFingerprint) o;
+        return h1 == that.h1 && h2 == that.h2;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (h1 ^ (h1 >>> 32));
+    }
+
+    /**
+     * @return the fingerprint as a 32 characters lowercase hexadecimal string
+     */
+    @Override
+    public String toString() {
+        final char[] result = new char[32];
+        for (int i = 0; i < 16; i++) {
+            final int b = (int) ((i < 8 ? h1 >>> (i << 3) : h2 >>> ((i - 8) << 3)) & 0xFF);
+            result[i << 1] = HEX_DIGITS[b >> 4];
+            result[(i << 1) + 1] = HEX_DIGITS[b & 0xF];
+        }
+        return new String(result);
+    }
+}
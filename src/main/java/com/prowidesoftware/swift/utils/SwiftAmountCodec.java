@@ -0,0 +1,292 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Parser and formatter for SWIFT amounts, the <code>15d</code> format with digits and a comma as decimal separator.
+ *
+ * <p>Amounts are parsed straight into an unscaled long value and a scale (the number of decimals), falling back
+ * to a BigDecimal only when the amount does not fit in a long. Amounts are formatted back with at most 10 decimals,
+ * the trailing zero decimals removed and the mandatory comma, for example 1234.50 is formatted as 1234,5 and
+ * 1234 as 1234,
+ *
+ * <p>This class does not use DecimalFormat, thus it is thread safe and does not depend on the default locale.
+ *
+ * @see SwiftFormatUtils#getBigDecimal(String)
+ * @see SwiftFormatUtils#getBigDecimal(BigDecimal)
+ * @since 9.3.9
+ */
+public final class SwiftAmountCodec {
+
+    /**
+     * Value returned by {@link #parseUnscaled(CharSequence)} when the amount cannot be parsed into a long
+     */
+    public static final long INVALID = Long.MIN_VALUE;
+
+    /**
+     * Maximum number of decimals written by the format methods
+     */
+    public static final int MAX_DECIMALS = 10;
+
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    // Suppress default constructor for noninstantiability
+    private SwiftAmountCodec() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Parses the amount digits, ignoring the decimal separator, into a long.
+     * <p>For example 1234,56 is parsed as 123456, and the scale returned by {@link #scale(CharSequence)} is 2.
+     *
+     * @param amount an amount with an optional leading minus sign, digits and an optional comma
+     * @return the unscaled value or {@link #INVALID} if the amount is null, malformed or does not fit in a long
+     */
+    public static long parseUnscaled(final CharSequence amount) {
+        if (amount == null) {
+            return INVALID;
+        }
+        return parseUnscaled(amount, 0, amount.length());
+    }
+
+    /**
+     * Same as {@link #parseUnscaled(CharSequence)} for the amount contained in a range of the given text.
+     *
+     * @param text  a not null text containing an amount
+     * @param start the amount start index, inclusive
+     * @param end   the amount end index, exclusive
+     * @return the unscaled value or {@link #INVALID} if the amount is malformed or does not fit in a long
+     */
+    public static long parseUnscaled(final CharSequence text, final int start, final int end) {
+        final boolean negative = end > start && text.charAt(start) == '-';
+        long result = 0;
+        boolean comma = false;
+        boolean digits = false;
+        for (int i = negative ? start + 1 : start; i < end; i++) {
+            final char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                final int digit = c - '0';
+                if (result > (Long.MAX_VALUE - digit) / 10) {
+                    return INVALID;
+                }
+                result = result * 10 + digit;
+                digits = true;
+            } else if (c == ',' && !comma) {
+                comma = true;
+            } else {
+                return INVALID;
+            }
+        }
+        if (!digits) {
+            return INVALID;
+        }
+        return negative ? -result : result;
+    }
+
+    /**
+     * Gets the scale of an amount, that is the number of digits after the decimal comma.
+     *
+     * @param amount an amount with an optional leading minus sign, digits and an optional comma
+     * @return the number of decimals, zero if the amount has no comma or -1 if the amount is null or malformed
+     */
+    public static int scale(final CharSequence amount) {
+        if (amount == null) {
+            return -1;
+        }
+        return scale(amount, 0, amount.length());
+    }
+
+    /**
+     * Same as {@link #scale(CharSequence)} for the amount contained in a range of the given text.
+     *
+     * @param text  a not null text containing an amount
+     * @param start the amount start index, inclusive
+     * @param end   the amount end index, exclusive
+     * @return the number of decimals, zero if the amount has no comma or -1 if the amount is malformed
+     */
+    public static int scale(final CharSequence text, final int start, final int end) {
+        int scale = -1;
+        boolean digits = false;
+        for (int i = end > start && text.charAt(start) == '-' ? start + 1 : start; i < end; i++) {
+            final char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits = true;
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (c == ',' && scale < 0) {
+                scale = 0;
+            } else {
+                return -1;
+            }
+        }
+        if (!digits) {
+            return -1;
+        }
+        return Math.max(scale, 0);
+    }
+
+    /**
+     * Changes the scale of an unscaled value without rounding.
+     * <p>For example 12345 with scale 2 is rescaled to 1234500 with scale 4, and to 1234,5 (12345 with scale 1) only
+     * when the dropped decimal is zero.
+     *
+     * @param unscaled the amount digits
+     * @param scale    the number of decimals in the unscaled value
+     * @param newScale the number of decimals of the result
+     * @return the unscaled value for the new scale or {@link #INVALID} if the value is invalid, has non zero digits
+     * in the dropped decimals or the result does not fit in a long
+     */
+    public static long rescale(final long unscaled, final int scale, final int newScale) {
+        if (unscaled == INVALID || scale == newScale) {
+            return unscaled;
+        }
+        if (scale < newScale) {
+            if (newScale - scale >= POWERS_OF_TEN.length) {
+                return unscaled == 0 ? 0 : INVALID;
+            }
+            final long factor = POWERS_OF_TEN[newScale - scale];
+            return Math.abs(unscaled) > Long.MAX_VALUE / factor ? INVALID : unscaled * factor;
+        }
+        if (scale - newScale >= POWERS_OF_TEN.length) {
+            return unscaled == 0 ? 0 : INVALID;
+        }
+        final long divisor = POWERS_OF_TEN[scale - newScale];
+        return unscaled % divisor == 0 ? unscaled / divisor : INVALID;
+    }
+
+    /**
+     * Parses an amount into a BigDecimal.
+     * <p>The scale of the result is the number of digits after the comma, for example 1234,50 is parsed as 1234.50
+     * and both 1234 and 1234, are parsed as 1234.
+     *
+     * @param amount an amount with an optional leading minus sign, digits and an optional comma
+     * @return the parsed amount or null if the amount is null or malformed
+     */
+    public static BigDecimal parse(final CharSequence amount) {
+        final int scale = scale(amount);
+        if (scale < 0) {
+            return null;
+        }
+        final long unscaled = parseUnscaled(amount);
+        if (unscaled != INVALID) {
+            return BigDecimal.valueOf(unscaled, scale);
+        }
+        // does not fit in a long
+        return new BigDecimal(amount.toString().replace(',', '.'));
+    }
+
+    /**
+     * Formats an amount given as an unscaled value and scale.
+     *
+     * @param unscaled the amount digits
+     * @param scale    the number of decimals in the unscaled value
+     * @return the formatted amount, for example 123450 with scale 2 is formatted as 1234,5
+     * @see #format(BigDecimal)
+     */
+    public static String format(final long unscaled, final int scale) {
+        if (scale < 0 || scale >= POWERS_OF_TEN.length || unscaled == Long.MIN_VALUE) {
+            return format(BigDecimal.valueOf(unscaled, scale));
+        }
+        long value = unscaled;
+        int decimals = scale;
+        if (decimals > MAX_DECIMALS) {
+            value = divideHalfEven(value, POWERS_OF_TEN[decimals - MAX_DECIMALS]);
+            decimals = MAX_DECIMALS;
+            if (value == 0 && unscaled < 0) {
+                // negative amounts rounded to zero keep the sign, as the DecimalFormat does
+                return "-0,";
+            }
+        }
+        while (decimals > 0 && value % 10 == 0) {
+            value /= 10;
+            decimals--;
+        }
+        return write(value, decimals);
+    }
+
+    /**
+     * Formats an amount with at most 10 decimals (rounded half even), removing the trailing zero decimals and with
+     * the mandatory decimal comma.
+     * <ul>
+     *   <li>Example: 1234.00 -&gt; 1234,</li>
+     *   <li>Example: 1234 -&gt; 1234,</li>
+     *   <li>Example: 1234.56 -&gt; 1234,56</li>
+     * </ul>
+     *
+     * @param amount the amount to format
+     * @return the formatted amount or null if the amount is null
+     */
+    public static String format(final BigDecimal amount) {
+        if (amount == null) {
+            return null;
+        }
+        BigDecimal value = amount;
+        if (value.scale() > MAX_DECIMALS) {
+            value = value.setScale(MAX_DECIMALS, RoundingMode.HALF_EVEN);
+            if (value.signum() == 0 && amount.signum() < 0) {
+                return "-0,";
+            }
+        } else if (value.scale() < 0) {
+            value = value.setScale(0);
+        }
+        if (value.precision() < POWERS_OF_TEN.length) {
+            return format(value.scaleByPowerOfTen(value.scale()).longValue(), value.scale());
+        }
+        final String plain = value.stripTrailingZeros().toPlainString();
+        return plain.indexOf('.') < 0 ? plain + ',' : plain.replace('.', ',');
+    }
+
+    private static long divideHalfEven(final long value, final long divisor) {
+        long quotient = value / divisor;
+        final long remainder = Math.abs(value % divisor);
+        final long half = divisor / 2;
+        if (remainder > half || (remainder == half && (quotient & 1) != 0)) {
+            quotient += value < 0 ? -1 : 1;
+        }
+        return quotient;
+    }
+
+    private static String write(final long value, final int decimals) {
+        final char[] buffer = new char[22];
+        int pos = buffer.length;
+        long remaining = Math.abs(value);
+        for (int i = 0; i < decimals; i++) {
+            buffer[--pos] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        buffer[--pos] = ',';
+        do {
+            buffer[--pos] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining > 0);
+        if (value < 0) {
+            buffer[--pos] = '-';
+        }
+        return new String(buffer, pos, buffer.length - pos);
+    }
+
+}
@@ -29,11 +29,9 @@ import java.math.BigDecimal;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.time.Year;
+import java.time.*;
 import java.util.Calendar;
 import java.util.Currency;
-import java.util.Date;
 import java.util.GregorianCalendar;
 
 /**
@@ -75,11 +73,7 @@ public class SwiftFormatUtils {
      * @return parsed date or null if the argument did not matched the expected date format
      */
     public static Calendar getDate2(final String strDate) {
-        if (strDate != null && strDate.length() == 6) {
-            return getCalendar(strDate, "yyMMdd");
-        } else {
-            return null;
-        }
+        return toCalendar(getLocalDate2(strDate));
     }
 
     /**
@@ -143,11 +137,8 @@ public class SwiftFormatUtils {
      * @return parsed date or null if the argument did not matched the expected date format
      */
     public static Calendar getDate3(final String strDate) {
-        if (strDate != null && strDate.length() == 4) {
-            return getCalendar(strDate, "yyMM");
-        } else {
-            return null;
-        }
+        final YearMonth yearMonth = getYearMonth(strDate);
+        return yearMonth != null ? toCalendar(yearMonth.atDay(1)) : null;
     }
 
     /**
@@ -168,11 +159,7 @@ public class SwiftFormatUtils {
      * @return parsed date or null if the argument did not matched the expected date format
      */
     public static Calendar getDate4(final String strDate) {
-        if (strDate != null && strDate.length() == 8) {
-            return getCalendar(strDate, "yyyyMMdd");
-        } else {
-            return null;
-        }
+        return toCalendar(getLocalDate4(strDate));
     }
 
     /**
@@ -193,11 +180,8 @@ public class SwiftFormatUtils {
      * @return parsed date or null if the argument did not matched the expected date format
      */
     public static Calendar getYear(final String strDate) {
-        if (strDate != null && strDate.length() == 4) {
-            return getCalendar(strDate, "yyyy");
-        } else {
-            return null;
-        }
+        final Year year = getLocalYear(strDate);
+        return year != null ? toCalendar(year.atDay(1)) : null;
     }
 
     /**
@@ -246,8 +230,9 @@ public class SwiftFormatUtils {
      * @return Number of the parsed amount or null if the number could not be parsed
      */
     public static Number getNumber(final String amount) {
-        Number number = null;
-        if (amount != null) {
+        Number number = SwiftAmountCodec.parse(amount);
+        if (number == null && amount != null) {
+            // non canonical amounts are parsed leniently as before
             try {
                 final DecimalFormatSymbols symbols = new DecimalFormatSymbols();
                 symbols.setDecimalSeparator(',');
@@ -273,7 +258,11 @@ public class SwiftFormatUtils {
      * @return Number of the parsed amount or null if the number is null
      */
     public static String getNumber(final Number number) {
-        if (number != null) {
+        if (number instanceof BigDecimal) {
+            return SwiftAmountCodec.format((BigDecimal) number);
+        } else if (number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            return SwiftAmountCodec.format(number.longValue(), 0);
+        } else if (number != null) {
             final DecimalFormatSymbols symbols = new DecimalFormatSymbols();
             symbols.setDecimalSeparator(',');
             final DecimalFormat df = new DecimalFormat("0.##########", symbols);
@@ -292,8 +281,9 @@ public class SwiftFormatUtils {
      * @return Number of the parsed amount or null if the number could not be parsed
      */
     public static BigDecimal getBigDecimal(final String amount) {
-        BigDecimal bigDecimal = null;
-        if (amount != null) {
+        BigDecimal bigDecimal = SwiftAmountCodec.parse(amount);
+        if (bigDecimal == null && amount != null) {
+            // non canonical amounts are parsed leniently as before
             try {
                 final DecimalFormatSymbols symbols = new DecimalFormatSymbols();
                 symbols.setDecimalSeparator(',');
@@ -319,16 +309,7 @@ public class SwiftFormatUtils {
      * @return Number of the parsed amount or null if the number is null
      */
     public static String getBigDecimal(final BigDecimal bigDecimal) {
-        if (bigDecimal != null) {
-            final DecimalFormatSymbols symbols = new DecimalFormatSymbols();
-            symbols.setDecimalSeparator(',');
-            final DecimalFormat df = new DecimalFormat("0.##########", symbols);
-            df.setParseBigDecimal(true);
-            df.setDecimalSeparatorAlwaysShown(true);
-            final String formatted = df.format(bigDecimal);
-            return StringUtils.replaceChars(formatted, '.', ',');
-        }
-        return null;
+        return SwiftAmountCodec.format(bigDecimal);
     }
 
     /**
@@ -339,27 +320,7 @@ public class SwiftFormatUtils {
      * @return a Calendar set with the given hour and minutes
      */
     public static Calendar getHhmm(final String hhmm) {
-        if (hhmm != null && hhmm.length() == 4) {
-            return getCalendar(hhmm, "HHmm");
-        } else {
-            return null;
-        }
-    }
-
-    private static Calendar getCalendar(final String value, final String format) {
-        if (value != null) {
-            try {
-                final SimpleDateFormat sdf = new SimpleDateFormat(format);
-                sdf.setLenient(false);
-                final Date d = sdf.parse(value);
-                final Calendar cal = new GregorianCalendar();
-                cal.setTime(d);
-                return cal;
-            } catch (final ParseException e) {
-                log.log(java.util.logging.Level.WARNING, "Could not parse '" + value + "' with pattern '" + format + "'");
-            }
-        }
-        return null;
+        return toCalendar(getLocalHhmm(hhmm));
     }
 
     /**
@@ -380,11 +341,7 @@ public class SwiftFormatUtils {
      * @return a Calendar set with the given hour, minutes and seconds
      */
     public static Calendar getTime2(final String hhmmss) {
-        if (hhmmss != null && hhmmss.length() == 6) {
-            return getCalendar(hhmmss, "HHmmss");
-        } else {
-            return null;
-        }
+        return toCalendar(getLocalTime2(hhmmss));
     }
 
     /**
@@ -406,14 +363,7 @@ public class SwiftFormatUtils {
      * @return a Calendar set with the given hour, or and hour and minutes
      */
     public static Calendar getTime3(final String hhmmss) {
-        if (hhmmss != null) {
-            if (hhmmss.length() == 2) {
-                return getCalendar(hhmmss, "HH");
-            } else if (hhmmss.length() == 4) {
-                return getCalendar(hhmmss, "HHmm");
-            }
-        }
-        return null;
+        return toCalendar(getLocalTime3(hhmmss));
     }
 
     /**
@@ -466,7 +416,8 @@ public class SwiftFormatUtils {
      */
     public static Currency getCurrency(final String code) {
         if (code != null) {
-            return Currency.getInstance(code);
+            final Currency currency = code.length() == 3 ? IsoUtils.getCurrency(code, 0) : null;
+            return currency != null ? currency : Currency.getInstance(code);
         } else {
             return null;
         }
@@ -547,11 +498,7 @@ public class SwiftFormatUtils {
      * @since 7.4
      */
     public static Calendar getDateTime(final String strDate) {
-        if (strDate != null && strDate.length() == 12) {
-            return getCalendar(strDate, "yyyyMMddHHmm");
-        } else {
-            return null;
-        }
+        return toCalendar(getLocalDateTime(strDate));
     }
 
     /**
@@ -573,11 +520,7 @@ public class SwiftFormatUtils {
      * @since 7.4
      */
     public static Calendar getDateTimeShortYear(final String strDate) {
-        if (strDate != null && strDate.length() == 10) {
-            return getCalendar(strDate, "yyMMddHHmm");
-        } else {
-            return null;
-        }
+        return toCalendar(getLocalDateTimeShortYear(strDate));
     }
 
     /**
@@ -600,10 +543,14 @@ public class SwiftFormatUtils {
      */
     public static Calendar getDayTime(final String strDate) {
         if (strDate != null && strDate.length() == 6) {
-            return getCalendar(strDate, "ddHHmm");
-        } else {
-            return null;
+            // the day is validated against January 1970, as the legacy SimpleDateFormat based implementation did
+            final LocalDate date = date(1970, 1, digits(strDate, 0, 2), strDate, "ddHHmm");
+            final LocalTime time = time(digits(strDate, 2, 2), digits(strDate, 4, 2), 0, strDate, "ddHHmm");
+            if (date != null && time != null) {
+                return toCalendar(LocalDateTime.of(date, time));
+            }
         }
+        return null;
     }
 
     /**
@@ -629,8 +576,7 @@ public class SwiftFormatUtils {
      */
     public static Calendar getMonthDay(final String strDate) {
         if (strDate != null && strDate.length() == 4) {
-            String year = String.valueOf(Calendar.getInstance().get(Calendar.YEAR));
-            return getCalendar(year + strDate, "yyyyMMdd");
+            return toCalendar(date(Year.now().getValue(), digits(strDate, 0, 2), digits(strDate, 2, 2), strDate, "MMdd"));
         } else {
             return null;
         }
@@ -656,11 +602,7 @@ public class SwiftFormatUtils {
      * @since 7.4
      */
     public static Calendar getHour(final String strDate) {
-        if (strDate != null && strDate.length() == 2) {
-            return getCalendar(strDate, "HH");
-        } else {
-            return null;
-        }
+        return toCalendar(getLocalHour(strDate));
     }
 
     /**
@@ -786,4 +728,314 @@ public class SwiftFormatUtils {
     public static String getLTAddress(final LogicalTerminalAddress address) {
         return address.getSenderLogicalTerminalAddress();
     }
+    /**
+     * Parses a DATE2 string (accept dates in format YYMMDD) into a LocalDate.
+     *
+     * <p>The two digits year is resolved in the same way as with {@link java.text.SimpleDateFormat}, within the
+     * 80 years before and 20 years after the current date.
+     *
+     * @param strDate string to parse
+     * @return parsed date or null if the argument did not matched the expected date format
+     * @since 9.3.9
+     */
+    public static LocalDate getLocalDate2(final String strDate) {
+        if (strDate != null && strDate.length() == 6) {
+            final int month = digits(strDate, 2, 2);
+            final int day = digits(strDate, 4, 2);
+            return date(fullYear(digits(strDate, 0, 2), month, day), month, day, strDate, "yyMMdd");
+        }
+        return null;
+    }
+
+    /**
+     * Parses a DATE3 string (accept dates in format YYMM) into a YearMonth.
+     *
+     * @param strDate string to parse
+     * @return parsed year and month or null if the argument did not matched the expected date format
+     * @see #getLocalDate2(String)
+     * @since 9.3.9
+     */
+    public static YearMonth getYearMonth(final String strDate) {
+        if (strDate != null && strDate.length() == 4) {
+            final int month = digits(strDate, 2, 2);
+            final LocalDate date = date(fullYear(digits(strDate, 0, 2), month, 1), month, 1, strDate, "yyMM");
+            return date != null ? YearMonth.of(date.getYear(), month) : null;
+        }
+        return null;
+    }
+
+    /**
+     * Parses a DATE4 string (accept dates in format YYYYMMDD) into a LocalDate.
+     *
+     * @param strDate string to parse
+     * @return parsed date or null if the argument did not matched the expected date format
+     * @since 9.3.9
+     */
+    public static LocalDate getLocalDate4(final String strDate) {
+        if (strDate != null && strDate.length() == 8) {
+            return date(digits(strDate, 0, 4), digits(strDate, 4, 2), digits(strDate, 6, 2), strDate, "yyyyMMdd");
+        }
+        return null;
+    }
+
+    /**
+     * Parses a YEAR string (accept dates in format YYYY) into a Year.
+     *
+     * @param strDate string to parse
+     * @return parsed year or null if the argument did not matched the expected date format
+     * @since 9.3.9
+     */
+    public static Year getLocalYear(final String strDate) {
+        if (strDate != null && strDate.length() == 4) {
+            final LocalDate date = date(digits(strDate, 0, 4), 1, 1, strDate, "yyyy");
+            return date != null ? Year.of(date.getYear()) : null;
+        }
+        return null;
+    }
+
+    /**
+     * Parses a MONTHDAY string (accepts dates in MMDD format) into a MonthDay.
+     *
+     * <p>Notice that as opposed to {@link #getMonthDay(String)} the result is not bound to the current year,
+     * thus 0229 is always a valid value.
+     *
+     * @param strDate string to parse
+     * @return parsed month and day or null if the argument did not matched the expected date format
+     * @since 9.3.9
+     */
+    public static MonthDay getLocalMonthDay(final String strDate) {
+        if (strDate != null && strDate.length() == 4) {
+            // validated against a leap year to accept February 29
+            final LocalDate date = date(2000, digits(strDate, 0, 2), digits(strDate, 2, 2), strDate, "MMdd");
+            return date != null ? MonthDay.from(date) : null;
+        }
+        return null;
+    }
+
+    /**
+     * Parses a TIME2 string (accepts time in HHMMSS format) into a LocalTime.
+     *
+     * @param hhmmss hour, minutes and seconds
+     * @return parsed time or null if the argument did not matched the expected time format
+     * @since 9.3.9
+     */
+    public static LocalTime getLocalTime2(final String hhmmss) {
+        if (hhmmss != null && hhmmss.length() == 6) {
+            return time(digits(hhmmss, 0, 2), digits(hhmmss, 2, 2), digits(hhmmss, 4, 2), hhmmss, "HHmmss");
+        }
+        return null;
+    }
+
+    /**
+     * Parses a TIME3 string (accepts time in HH[MM] format) into a LocalTime.
+     *
+     * @param hhmm hour, or hour and minutes
+     * @return parsed time or null if the argument did not matched the expected time format
+     * @since 9.3.9
+     */
+    public static LocalTime getLocalTime3(final String hhmm) {
+        if (hhmm != null) {
+            if (hhmm.length() == 2) {
+                return getLocalHour(hhmm);
+            } else if (hhmm.length() == 4) {
+                return getLocalHhmm(hhmm);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parses a time string in HHMM format into a LocalTime.
+     *
+     * @param hhmm hour and minutes
+     * @return parsed time or null if the argument did not matched the expected time format
+     * @since 9.3.9
+     */
+    public static LocalTime getLocalHhmm(final String hhmm) {
+        if (hhmm != null && hhmm.length() == 4) {
+            return time(digits(hhmm, 0, 2), digits(hhmm, 2, 2), 0, hhmm, "HHmm");
+        }
+        return null;
+    }
+
+    /**
+     * Parses an HOUR string (accepts time in HH format) into a LocalTime.
+     *
+     * @param hh hour
+     * @return parsed time or null if the argument did not matched the expected time format
+     * @since 9.3.9
+     */
+    public static LocalTime getLocalHour(final String hh) {
+        if (hh != null && hh.length() == 2) {
+            return time(digits(hh, 0, 2), 0, 0, hh, "HH");
+        }
+        return null;
+    }
+
+    /**
+     * Parses a DATETIME string (accepts dates with time in YYYYMMDDHHMM format) into a LocalDateTime.
+     *
+     * @param strDate string to parse
+     * @return parsed date and time or null if the argument did not matched the expected format
+     * @since 9.3.9
+     */
+    public static LocalDateTime getLocalDateTime(final String strDate) {
+        if (strDate != null && strDate.length() == 12) {
+            final LocalDate date = date(digits(strDate, 0, 4), digits(strDate, 4, 2), digits(strDate, 6, 2), strDate, "yyyyMMddHHmm");
+            final LocalTime time = date != null ? time(digits(strDate, 8, 2), digits(strDate, 10, 2), 0, strDate, "yyyyMMddHHmm") : null;
+            return time != null ? LocalDateTime.of(date, time) : null;
+        }
+        return null;
+    }
+
+    /**
+     * Parses a DATETIME with short year string (accepts dates with time in YYMMDDHHMM format) into a LocalDateTime.
+     *
+     * @param strDate string to parse
+     * @return parsed date and time or null if the argument did not matched the expected format
+     * @see #getLocalDate2(String)
+     * @since 9.3.9
+     */
+    public static LocalDateTime getLocalDateTimeShortYear(final String strDate) {
+        if (strDate != null && strDate.length() == 10) {
+            final int month = digits(strDate, 2, 2);
+            final int day = digits(strDate, 4, 2);
+            final LocalDate date = date(fullYear(digits(strDate, 0, 2), month, day), month, day, strDate, "yyMMddHHmm");
+            final LocalTime time = date != null ? time(digits(strDate, 6, 2), digits(strDate, 8, 2), 0, strDate, "yyMMddHHmm") : null;
+            return time != null ? LocalDateTime.of(date, time) : null;
+        }
+        return null;
+    }
+
+    /**
+     * Creates a ZoneOffset from a sign and an offset in HH[MM] format, as found in several fields with UTC indicators.
+     *
+     * @param sign   the offset sign, N (or minus) for negative offsets, any other value for positive offsets
+     * @param offset the offset hour, or hour and minutes, in HH[MM] format
+     * @return the offset or null if the offset cannot be parsed or is out of the supported range (+/-18:00)
+     * @since 9.3.9
+     */
+    public static ZoneOffset getZoneOffset(final Character sign, final String offset) {
+        final LocalTime time = getLocalTime3(offset);
+        if (time == null || time.getHour() > 18 || (time.getHour() == 18 && time.getMinute() > 0)) {
+            return null;
+        }
+        final int seconds = time.getHour() * 3600 + time.getMinute() * 60;
+        final boolean negative = sign != null && (sign == 'N' || sign == '-');
+        return ZoneOffset.ofTotalSeconds(negative ? -seconds : seconds);
+    }
+
+    /**
+     * Creates an OffsetDateTime from a date and time and a sign and offset in HH[MM] format.
+     *
+     * @param dateTime the local date and time
+     * @param sign     the offset sign, N (or minus) for negative offsets, any other value for positive offsets
+     * @param offset   the offset hour, or hour and minutes, in HH[MM] format
+     * @return the date and time at the offset or null if any argument is null or the offset cannot be parsed
+     * @see #getZoneOffset(Character, String)
+     * @since 9.3.9
+     */
+    public static OffsetDateTime getOffsetDateTime(final LocalDateTime dateTime, final Character sign, final String offset) {
+        final ZoneOffset zoneOffset = getZoneOffset(sign, offset);
+        return dateTime != null && zoneOffset != null ? OffsetDateTime.of(dateTime, zoneOffset) : null;
+    }
+
+    /**
+     * Reads a fixed length unsigned integer
+     *
+     * @return the value or -1 if any of the characters is not a digit
+     */
+    private static int digits(final String value, final int offset, final int length) {
+        int result = 0;
+        for (int i = offset; i < offset + length; i++) {
+            final int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    /**
+     * Validates the date fields, returning null and logging a warning if the date is invalid
+     */
+    private static LocalDate date(final int year, final int month, final int day, final String value, final String format) {
+        if (year > 0 && month >= 1 && month <= 12 && day >= 1 && day <= Month.of(month).length(Year.isLeap(year))) {
+            return LocalDate.of(year, month, day);
+        }
+        log.log(java.util.logging.Level.WARNING, "Could not parse '" + value + "' with pattern '" + format + "'");
+        return null;
+    }
+
+    /**
+     * Validates the time fields, returning null and logging a warning if the time is invalid
+     */
+    private static LocalTime time(final int hour, final int minute, final int second, final String value, final String format) {
+        if (hour >= 0 && hour <= 23 && minute >= 0 && minute <= 59 && second >= 0 && second <= 59) {
+            return LocalTime.of(hour, minute, second);
+        }
+        log.log(java.util.logging.Level.WARNING, "Could not parse '" + value + "' with pattern '" + format + "'");
+        return null;
+    }
+
+    /**
+     * Resolves a two digits year to the century within 80 years before and 20 years after the current date,
+     * as done by the SimpleDateFormat for the "yy" pattern.
+     *
+     * @return the four digits year or -1 if the parameter is invalid
+     */
+    private static int fullYear(final int yy, final int month, final int day) {
+        if (yy < 0) {
+            return -1;
+        }
+        final LocalDate start = CenturyStart.get();
+        final int year = start.getYear() - start.getYear() % 100 + yy;
+        if (year < start.getYear()
+                || (year == start.getYear() && (month < start.getMonthValue() || (month == start.getMonthValue() && day < start.getDayOfMonth())))) {
+            return year + 100;
+        }
+        return year;
+    }
+
+    private static Calendar toCalendar(final LocalDate date) {
+        return date != null ? new GregorianCalendar(date.getYear(), date.getMonthValue() - 1, date.getDayOfMonth()) : null;
+    }
+
+    /**
+     * Creates a calendar with the time at the default 1/1/70 date
+     */
+    private static Calendar toCalendar(final LocalTime time) {
+        return time != null ? new GregorianCalendar(1970, Calendar.JANUARY, 1, time.getHour(), time.getMinute(), time.getSecond()) : null;
+    }
+
+    private static Calendar toCalendar(final LocalDateTime dateTime) {
+        return dateTime != null ? new GregorianCalendar(dateTime.getYear(), dateTime.getMonthValue() - 1, dateTime.getDayOfMonth(),
+                dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond()) : null;
+    }
+
+    /**
+     * Holder for the start of the two digits year window, computed once per day in the default time zone
+     */
+    private static final class CenturyStart {
+        private static volatile CenturyStart current;
+        private final LocalDate today;
+        private final LocalDate start;
+
+        private CenturyStart(final LocalDate today) {
+            this.today = today;
+            this.start = today.minusYears(80);
+        }
+
+        static LocalDate get() {
+            CenturyStart c = current;
+            final LocalDate today = LocalDate.now();
+            if (c == null || !c.today.equals(today)) {
+                c = new CenturyStart(today);
+                current = c;
+            }
+            return c.start;
+        }
+    }
+
 }
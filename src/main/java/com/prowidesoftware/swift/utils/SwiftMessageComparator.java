@@ -22,6 +22,7 @@ import org.apache.commons.lang3.StringUtils;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.StringReader;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -43,6 +44,9 @@ import java.util.Objects;
  *
  * <p>NOTE: when both blocks being compared are null they are considered equals, even when they're actually empty.
  *
+ * <p>To find matches among many candidates, the {@link #fingerprint(SwiftMessage)} of the messages can be computed
+ * once and used as a hash key, see {@link SwiftMessageIndex}.
+ *
  * @since 7.8.8
  */
 public class SwiftMessageComparator implements Comparator<SwiftMessage> {
@@ -87,6 +91,8 @@ public class SwiftMessageComparator implements Comparator<SwiftMessage> {
      */
     private List<String> tagnamesToIgnore = new ArrayList<>();
 
+    private static final ThreadLocal<Hasher> HASHERS = ThreadLocal.withInitial(Hasher::new);
+
     /**
      * @return true if block is null or empty
      */
@@ -299,21 +305,156 @@ public class SwiftMessageComparator implements Comparator<SwiftMessage> {
     private boolean compareLTAddress(String logicalTerminalLeft, String logicalTerminalRight) {
         LogicalTerminalAddress leftLTAddress = new LogicalTerminalAddress(logicalTerminalLeft);
         LogicalTerminalAddress rightLTAddress = new LogicalTerminalAddress(logicalTerminalRight);
-        String left = String.valueOf(leftLTAddress.getLTIdentifier());
-        String right = String.valueOf(rightLTAddress.getLTIdentifier());
-        boolean sameLTIdentifier = this.ignoreLT || StringUtils.equals(left, right);
-        boolean sameBic11 = compareBic(leftLTAddress, rightLTAddress);
+        boolean sameLTIdentifier = this.ignoreLT || StringUtils.equals(ltIdentifier(leftLTAddress), ltIdentifier(rightLTAddress));
+        boolean sameBic11 = StringUtils.equals(bic11(leftLTAddress), bic11(rightLTAddress));
         return sameLTIdentifier && sameBic11;
     }
 
-    private boolean compareBic(BIC left, BIC right) {
-        if (this.ignoreLocationFlag) {
-            return StringUtils.equals(left.asTestBic().getBic11(), right.asTestBic().getBic11());
+    private static String ltIdentifier(LogicalTerminalAddress address) {
+        return String.valueOf(address.getLTIdentifier());
+    }
+
+    private String bic11(BIC bic) {
+        return this.ignoreLocationFlag ? bic.asTestBic().getBic11() : bic.getBic11();
+    }
+
+    /**
+     * Computes a hash of the message content normalized by this comparator options, so messages considered equal
+     * by {@link #compare(SwiftMessage, SwiftMessage)} have the same fingerprint. The fingerprint can be computed
+     * once per message and used as a key to find equal messages among many candidates, verifying the matches with
+     * the full comparison.
+     *
+     * <p>The fingerprint depends on the options at the time it is computed, so fingerprints must not be compared
+     * after changing the options. Subclasses overriding the compare methods should override this method
+     * accordingly.
+     *
+     * <p>Notice for the tag names to ignore, the fingerprint assumes the ignored tags are at the same positions in
+     * both messages, as it is usually the case for messages with the same structure. While the comparison ignores a
+     * pair of tags at the same position if any of them is ignored, the fingerprint only ignores the value of the
+     * ignored tags.
+     *
+     * @param m the message
+     * @return the message fingerprint
+     * @since 9.3.9
+     */
+    public MessageFingerprint fingerprint(final SwiftMessage m) {
+        Objects.requireNonNull(m);
+        final Hasher h = HASHERS.get();
+        h.reset();
+        fingerprintB1(m.getBlock1(), h);
+        fingerprintB2(m.getBlock2(), h);
+        if (!this.ignoreBlock3) {
+            fingerprintTagListBlock(m.getBlock3(), h);
+        }
+        fingerprintTagListBlock(m.getBlock4(), h);
+        if (!this.ignoreTrailer) {
+            fingerprintTagListBlock(m.getBlock5(), h);
+        }
+        return h.fingerprint();
+    }
+
+    private void fingerprintB1(final SwiftBlock1 b1, final Hasher h) {
+        if (b1 == null) {
+            h.putInt(Hasher.NULL);
+            return;
+        }
+        h.putInt(1);
+        h.putString(b1.getApplicationId());
+        h.putString(b1.getServiceId());
+        if (!this.ignoreHeaderSession) {
+            h.putString(b1.getSessionNumber());
+            h.putString(b1.getSequenceNumber());
+        }
+        fingerprintLTAddress(b1.getLogicalTerminal(), h);
+    }
+
+    private void fingerprintB2(final SwiftBlock2 b2, final Hasher h) {
+        if (b2 == null) {
+            h.putInt(Hasher.NULL);
+        } else if (b2.isInput()) {
+            final SwiftBlock2Input input = (SwiftBlock2Input) b2;
+            h.putInt('I');
+            h.putString(input.getMessageType());
+            fingerprintLTAddress(input.getReceiverAddress(), h);
+            if (!ignoreBlock2OptionalFields) {
+                h.putString(input.getDeliveryMonitoring());
+                h.putString(input.getObsolescencePeriod());
+            }
+            if (!ignorePriority) {
+                h.putString(input.getMessagePriority());
+            }
         } else {
-            return StringUtils.equals(left.getBic11(), right.getBic11());
+            final SwiftBlock2Output output = (SwiftBlock2Output) b2;
+            h.putInt('O');
+            h.putString(output.getMessageType());
+            h.putString(output.getSenderInputTime());
+            h.putString(output.getMIRDate());
+            fingerprintLTAddress(output.getMIRLogicalTerminal(), h);
+            h.putString(output.getMIRSessionNumber());
+            h.putString(output.getMIRSequenceNumber());
+            h.putString(output.getReceiverOutputDate());
+            h.putString(output.getReceiverOutputTime());
+            if (!ignorePriority) {
+                h.putString(output.getMessagePriority());
+            }
+        }
+    }
+
+    private void fingerprintLTAddress(final String logicalTerminal, final Hasher h) {
+        final LogicalTerminalAddress address = new LogicalTerminalAddress(logicalTerminal);
+        if (!this.ignoreLT) {
+            h.putString(ltIdentifier(address));
+        }
+        h.putString(bic11(address));
+    }
+
+    private void fingerprintTagListBlock(final SwiftTagListBlock b, final Hasher h) {
+        if (isBlank(b)) {
+            h.putInt(0);
+            return;
+        }
+        h.putInt(b.size());
+        for (final Tag t : b.getTags()) {
+            if (tagNameIgnored(t.getName(), t.getName())) {
+                h.putInt(Hasher.IGNORED);
+            } else {
+                h.putString(t.getName());
+                fingerprintValue(t.getValue(), h);
+            }
         }
     }
 
+    /**
+     * Hashes the value with the same normalization of {@link #valuesAreEqual(String, String)}
+     */
+    private void fingerprintValue(final String value, final Hasher h) {
+        if (value == null || !this.ignoreEolsInMultiline) {
+            h.putString(value);
+            return;
+        }
+        // lines as returned by BufferedReader.readLine
+        final int length = value.length();
+        int start = 0;
+        int i = 0;
+        while (i < length) {
+            final char c = value.charAt(i);
+            if (c == '\n' || c == '\r') {
+                h.putString(value, start, i);
+                i++;
+                if (c == '\r' && i < length && value.charAt(i) == '\n') {
+                    i++;
+                }
+                start = i;
+            } else {
+                i++;
+            }
+        }
+        if (start < length) {
+            h.putString(value, start, length);
+        }
+        h.putInt(Hasher.END);
+    }
+
     /**
      * @return boolean value of ignoreEolsInMultiline property
      * @see #setIgnoreEolsInMultiline(boolean)
@@ -480,4 +621,74 @@ public class SwiftMessageComparator implements Comparator<SwiftMessage> {
     public void setIgnorePriority(boolean ignorePriority) {
         this.ignorePriority = ignorePriority;
     }
+
+    /**
+     * Streaming 128-bit hash of the normalized content, reused per thread
+     */
+    private static final class Hasher {
+        static final int NULL = -1;
+        static final int IGNORED = -2;
+        static final int END = -3;
+
+        private final MessageDigest digest = ChecksumAlgorithm.MURMUR3_128.newDigest();
+        private final byte[] buffer = new byte[512];
+        private int count;
+
+        void reset() {
+            count = 0;
+            digest.reset();
+        }
+
+        void putInt(final int value) {
+            ensure(4);
+            buffer[count++] = (byte) value;
+            buffer[count++] = (byte) (value >>> 8);
+            buffer[count++] = (byte) (value >>> 16);
+            buffer[count++] = (byte) (value >>> 24);
+        }
+
+        /**
+         * Writes the string length followed by its chars, or a null marker
+         */
+        void putString(final String value) {
+            if (value == null) {
+                putInt(NULL);
+            } else {
+                putString(value, 0, value.length());
+            }
+        }
+
+        void putString(final String value, final int start, final int end) {
+            putInt(end - start);
+            for (int i = start; i < end; i++) {
+                ensure(2);
+                final char c = value.charAt(i);
+                buffer[count++] = (byte) c;
+                buffer[count++] = (byte) (c >>> 8);
+            }
+        }
+
+        MessageFingerprint fingerprint() {
+            digest.update(buffer, 0, count);
+            count = 0;
+            final byte[] hash = digest.digest();
+            return new MessageFingerprint(toLong(hash, 0), toLong(hash, 8));
+        }
+
+        private void ensure(final int bytes) {
+            if (count + bytes > buffer.length) {
+                digest.update(buffer, 0, count);
+                count = 0;
+            }
+        }
+
+        private static long toLong(final byte[] b, final int offset) {
+            long result = 0;
+            for (int i = offset + 7; i >= offset; i--) {
+                result = (result << 8) | (b[i] & 0xFFL);
+            }
+            return result;
+        }
+    }
+
 }
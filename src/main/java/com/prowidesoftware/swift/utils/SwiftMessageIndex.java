@@ -0,0 +1,162 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.utils;
+
+import com.prowidesoftware.swift.model.SwiftMessage;
+
+import java.util.*;
+
+/**
+ * Index of candidate messages to find the ones equal to a given message, as determined by a
+ * {@link SwiftMessageComparator}, for example to reconcile incoming messages against the sent ones.
+ *
+ * <p>Candidates are indexed by their {@link SwiftMessageComparator#fingerprint(SwiftMessage)}, so the lookup of a
+ * message only runs the full comparison on the candidates with the same fingerprint, instead of comparing the
+ * message against all candidates.
+ * <pre>
+ * SwiftMessageComparator comparator = new SwiftMessageComparator();
+ * comparator.setIgnoreTrailer(true);
+ * SwiftMessageIndex index = new SwiftMessageIndex(comparator);
+ * index.addAll(candidates);
+ * List&lt;SwiftMessage&gt; matches = index.find(incoming);
+ * </pre>
+ *
+ * <p>The comparator options must not be changed while the index is in use. This class is not thread safe.
+ *
+ * @since 9.3.9
+ */
+public class SwiftMessageIndex {
+
+    private final SwiftMessageComparator comparator;
+    private final Map<MessageFingerprint, List<SwiftMessage>> candidates = new HashMap<>();
+    private int size;
+
+    /**
+     * Creates an index with the default comparator options, where messages must be an exact match.
+     */
+    public SwiftMessageIndex() {
+        this(new SwiftMessageComparator());
+    }
+
+    /**
+     * Creates an index using the given comparator.
+     *
+     * @param comparator the comparator determining the equal messages
+     */
+    public SwiftMessageIndex(final SwiftMessageComparator comparator) {
+        this.comparator = Objects.requireNonNull(comparator, "comparator must not be null");
+    }
+
+    /**
+     * Adds a candidate message.
+     *
+     * @param m the message to index
+     */
+    public void add(final SwiftMessage m) {
+        candidates.computeIfAbsent(comparator.fingerprint(m), k -> new ArrayList<>(1)).add(m);
+        size++;
+    }
+
+    /**
+     * Adds all the candidate messages.
+     *
+     * @param messages the messages to index
+     */
+    public void addAll(final Collection<SwiftMessage> messages) {
+        for (SwiftMessage m : messages) {
+            add(m);
+        }
+    }
+
+    /**
+     * Removes a candidate message, the same instance added to the index.
+     *
+     * @param m the message to remove
+     * @return true if the message was found and removed
+     */
+    public boolean remove(final SwiftMessage m) {
+        final MessageFingerprint fingerprint = comparator.fingerprint(m);
+        final List<SwiftMessage> list = candidates.get(fingerprint);
+        if (list != null) {
+            for (Iterator<SwiftMessage> it = list.iterator(); it.hasNext(); ) {
+                if (it.next() == m) {
+                    it.remove();
+                    size--;
+                    if (list.isEmpty()) {
+                        candidates.remove(fingerprint);
+                    }
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the candidates equal to the given message.
+     *
+     * @param m the message to look up
+     * @return the candidates for which the comparator returns zero, in the order they were added, or an empty list
+     */
+    public List<SwiftMessage> find(final SwiftMessage m) {
+        final List<SwiftMessage> list = candidates.get(comparator.fingerprint(m));
+        if (list == null) {
+            return Collections.emptyList();
+        }
+        final List<SwiftMessage> result = new ArrayList<>(list.size());
+        for (SwiftMessage candidate : list) {
+            // verify the fingerprint match, relevant for hash collisions and ignored tags at different positions
+            if (comparator.compare(m, candidate) == 0) {
+                result.add(candidate);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the first candidate equal to the given message.
+     *
+     * @param m the message to look up
+     * @return the first candidate added for which the comparator returns zero, if any
+     */
+    public Optional<SwiftMessage> findFirst(final SwiftMessage m) {
+        final List<SwiftMessage> list = candidates.get(comparator.fingerprint(m));
+        if (list != null) {
+            for (SwiftMessage candidate : list) {
+                if (comparator.compare(m, candidate) == 0) {
+                    return Optional.of(candidate);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return the number of candidate messages in the index
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all the candidate messages
+     */
+    public void clear() {
+        candidates.clear();
+        size = 0;
+    }
+
+}
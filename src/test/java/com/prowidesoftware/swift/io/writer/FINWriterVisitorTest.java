@@ -17,6 +17,8 @@ package com.prowidesoftware.swift.io.writer;
 
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.prowidesoftware.swift.Constants;
 import com.prowidesoftware.swift.model.SwiftBlock1;
@@ -160,4 +162,12 @@ public class FINWriterVisitorTest {
         assertEquals("{5:{MAC:valmac}{CHK:valchk}}", getResult("testBug1601122_1"));
     }
 
+    @Test
+    public void testIsBlock4AsText() throws Exception {
+        assertTrue(FINWriterVisitor.isBlock4AsText(SwiftMessage.parse("{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBUSBBXXXXN}{4:\n:20:REF\n-}")));
+        assertFalse(FINWriterVisitor.isBlock4AsText(SwiftMessage.parse("{1:F01AAAABBCCXXXX0000000000}{2:I001BBBBUSBBXXXXN}{4:\n:20:REF\n-}")));
+        assertFalse(FINWriterVisitor.isBlock4AsText(SwiftMessage.parse("{1:F21AAAABBCCXXXX0000000000}{4:{177:2103151200}{451:0}}")));
+        assertTrue(FINWriterVisitor.isBlock4AsText(new SwiftMessage()));
+    }
+
 }
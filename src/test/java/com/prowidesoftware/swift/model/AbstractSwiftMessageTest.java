@@ -63,4 +63,44 @@ public class AbstractSwiftMessageTest {
         assertEquals("1", mt.getCategory());
     }
 
+    @Test
+    public void deltaRevisions() {
+        final String fin = "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBUSBBXXXXN}{4:\n" +
+                ":20:REFERENCE\n" +
+                ":23B:CRED\n" +
+                ":32A:130204USD1234567,89\n" +
+                ":50K:/12345678901234567890\nFOOBANKXXXXX\n" +
+                ":59:/12345678901234567890\nJOE DOE\n" +
+                ":71A:OUR\n" +
+                "-}";
+        MtSwiftMessage msg = new MtSwiftMessage(fin);
+        String[] contents = new String[12];
+        for (int i = 0; i < contents.length; i++) {
+            msg.updateFromFIN(fin.replace("1234567,89", i + ","));
+            contents[i] = msg.message();
+            msg.createDeltaRevision(5);
+        }
+        assertEquals(12, msg.getRevisions().size());
+        for (int i = 0; i < contents.length; i++) {
+            // complete snapshots every 5 revisions
+            assertEquals(i % 5 != 0, msg.getRevisions().get(i).isDelta(), "revision " + i);
+            assertEquals(contents[i], msg.getRevisionMessage(i), "revision " + i);
+        }
+        assertNotNull(msg.getRevisions().get(0).getMessage());
+        assertNull(msg.getRevisions().get(1).getMessage());
+        assertTrue(msg.getRevisions().get(1).getDelta().length() < contents[1].length() / 4);
+
+        // copies keep the deltas
+        MtSwiftMessage copy = new MtSwiftMessage();
+        msg.copyTo(copy);
+        assertEquals(contents[11], copy.getRevisionMessage(11));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> msg.getRevisionMessage(12));
+        assertThrows(IllegalArgumentException.class, () -> msg.createDeltaRevision(0));
+
+        // full revisions are still supported
+        msg.createRevision();
+        assertEquals(msg.message(), msg.getRevisionMessage(12));
+    }
+
 }
@@ -164,4 +164,39 @@ public class BICTest {
         assertEquals("BACOARB00BE", new BIC("BACOARB10BE").asTestBic().getBic11());
     }
 
+    /**
+     * The static validation must match the BIC instance validation, including the found content
+     */
+    @Test
+    public void testValidateCharSequence() {
+        final String[] codes = {null, "", "I", "ABCDAR", "ABCDARBA", "ABCDARBAXXX", "ABCDARBAXXXX", "ABCDARBAXXXXX",
+                "ABCDARBAXX", "ABCDARBAxxx", "AbCDARBA", "ABC1ARBA", "ABCDZZBA", "ABCDARB_", "ABCDAR23", "ABCD AR BA",
+                "ABCDARBA XX", " BCDARBA", "ABCDAR  ", "ÀBCDARBA", "ABCDAR٣٣", "XXXXXXXXXXXX"};
+        for (String code : codes) {
+            final BicValidationStatus status = BIC.validate(code);
+            final BicValidationResult result = new BIC(code).validate();
+            assertEquals(result, status.getResult(), code);
+            assertEquals(result.message(), status.message(), code);
+            // twice to go through the cache
+            assertEquals(status, BIC.validate(code), code);
+            assertEquals(status, BIC.validate(code == null ? null : new StringBuilder(code)), code);
+        }
+    }
+
+    @Test
+    public void testValidationStatus() {
+        assertSame(BicValidationStatus.OK, BIC.validate("ABCDARBAXXX"));
+        assertTrue(BIC.validate("ABCDARBA").isValid());
+
+        BicValidationStatus status = BIC.validate("ABCDZZBA");
+        assertFalse(status.isValid());
+        assertEquals(BicValidationResult.INVALID_COUNTRY, status.getResult());
+        assertEquals("ZZ", status.getFound());
+        assertEquals("Invalid country code ZZ", status.message());
+
+        // the immutable status is not affected by other validations
+        BIC.validate("ABCDQQBA");
+        assertEquals("Invalid country code ZZ", status.message());
+    }
+
 }
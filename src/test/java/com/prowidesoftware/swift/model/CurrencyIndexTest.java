@@ -0,0 +1,50 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Currency;
+
+/**
+ * Test cases for the currency code index
+ *
+ * @since 9.3.9
+ */
+public class CurrencyIndexTest {
+
+    @Test
+    public void testCurrencyIndex() {
+        assertEquals(0, CurrencyIndex.of("AAA"));
+        assertEquals(CurrencyIndex.SIZE - 1, CurrencyIndex.of("ZZZ"));
+        assertEquals("USD", CurrencyIndex.code(CurrencyIndex.of("USD")));
+        assertEquals(CurrencyIndex.of("EUR"), CurrencyIndex.of("121212EUR1,", 6));
+        assertEquals(-1, CurrencyIndex.of("usd"));
+        assertEquals(-1, CurrencyIndex.of("US"));
+        assertEquals(-1, CurrencyIndex.of(null));
+        assertEquals(2, CurrencyIndex.fractionDigits(CurrencyIndex.of("USD")));
+        assertEquals(0, CurrencyIndex.fractionDigits(CurrencyIndex.of("JPY")));
+        assertEquals(3, CurrencyIndex.fractionDigits(CurrencyIndex.of("KWD")));
+        assertEquals(-1, CurrencyIndex.fractionDigits(CurrencyIndex.of("XAU")));
+        assertEquals(-1, CurrencyIndex.fractionDigits(-1));
+        assertSame(Currency.getInstance("USD"), CurrencyIndex.currency(CurrencyIndex.of("USD")));
+        assertNull(CurrencyIndex.currency(CurrencyIndex.of("AAA")));
+        assertNull(CurrencyIndex.currency(-1));
+    }
+
+}
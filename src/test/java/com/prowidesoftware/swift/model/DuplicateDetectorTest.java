@@ -0,0 +1,188 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.prowidesoftware.swift.model.field.*;
+import com.prowidesoftware.swift.model.mt.mt1xx.MT103;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class DuplicateDetectorTest {
+
+    @Test
+    public void testFullChecksum() {
+        final DuplicateDetector detector = new DuplicateDetector(DuplicateKey.FULL_CHECKSUM);
+        assertEquals(DuplicateVerdict.NO_KEY, detector.check(null));
+        assertEquals(DuplicateVerdict.UNIQUE, detector.check(mt103("REF1", "100,").getSwiftMessage()));
+        assertEquals(DuplicateVerdict.DUPLICATE, detector.check(mt103("REF1", "100,").getSwiftMessage()));
+        assertEquals(DuplicateVerdict.UNIQUE, detector.check(mt103("REF2", "100,").getSwiftMessage()));
+
+        // the trailer is not part of the identity
+        final SwiftMessage flagged = mt103("REF1", "100,").getSwiftMessage();
+        flagged.setPDE();
+        assertEquals(DuplicateVerdict.DUPLICATE, detector.check(flagged));
+
+        // the header is part of the identity
+        final MT103 other = mt103("REF1", "100,");
+        other.getSwiftMessage().getBlock1().setSequenceNumber("000123");
+        assertEquals(DuplicateVerdict.UNIQUE, detector.check(other.getSwiftMessage()));
+    }
+
+    @Test
+    public void testBodyChecksum() {
+        final DuplicateDetector detector = new DuplicateDetector(DuplicateKey.BODY_CHECKSUM);
+        assertEquals(DuplicateVerdict.NO_KEY, detector.check(new SwiftMessage(true)));
+        assertEquals(DuplicateVerdict.UNIQUE, detector.check(mt103("REF1", "100,").getSwiftMessage()));
+        final MT103 other = mt103("REF1", "100,");
+        other.getSwiftMessage().getBlock1().setSequenceNumber("000123");
+        assertEquals(DuplicateVerdict.DUPLICATE, detector.check(other.getSwiftMessage()));
+        assertEquals(DuplicateVerdict.UNIQUE, detector.check(mt103("REF1", "100,01").getSwiftMessage()));
+    }
+
+    @Test
+    public void testMurUetr() {
+        final DuplicateDetector detector = new DuplicateDetector(DuplicateKey.MUR_UETR);
+        assertEquals(DuplicateVerdict.NO_KEY, detector.check(mt103("REF1", "100,").getSwiftMessage()));
+
+        final MT103 uetr1 = mt103("REF1", "100,");
+        uetr1.getSwiftMessage().setUETR("eb6305c9-1f7f-49de-aed0-16487c27b42d");
+        assertEquals(DuplicateVerdict.UNIQUE, detector.check(uetr1.getSwiftMessage()));
+        final MT103 uetr2 = mt103("REF2", "200,");
+        uetr2.getSwiftMessage().setUETR("eb6305c9-1f7f-49de-aed0-16487c27b42d");
+        assertEquals(DuplicateVerdict.DUPLICATE, detector.check(uetr2.getSwiftMessage()));
+
+        final MT103 mur1 = mt103("REF1", "100,");
+        mur1.getSwiftMessage().getBlock3().builder().setField108(new Field108("MUR1"));
+        assertEquals(DuplicateVerdict.UNIQUE, detector.check(mur1.getSwiftMessage()));
+        final MT103 mur2 = mt103("REF1", "100,");
+        mur2.getSwiftMessage().getBlock3().builder().setField108(new Field108("MUR2"));
+        assertEquals(DuplicateVerdict.UNIQUE, detector.check(mur2.getSwiftMessage()));
+        assertEquals(DuplicateVerdict.DUPLICATE, detector.check(mur1.getSwiftMessage()));
+    }
+
+    @Test
+    public void testReferenceSenderAmount() {
+        final DuplicateDetector detector = new DuplicateDetector(DuplicateKey.REFERENCE_SENDER_AMOUNT);
+        assertEquals(DuplicateVerdict.NO_KEY, detector.check(new MT103().getSwiftMessage()));
+        assertEquals(DuplicateVerdict.UNIQUE, detector.check(mt103("REF1", "100,").getSwiftMessage()));
+        // same amount with different format
+        assertEquals(DuplicateVerdict.DUPLICATE, detector.check(mt103("REF1", "100,00").getSwiftMessage()));
+        assertEquals(DuplicateVerdict.UNIQUE, detector.check(mt103("REF1", "100,01").getSwiftMessage()));
+
+        final MT103 otherSender = new MT103("CCCCUSXXXXX", "BBBBUSXXXXX");
+        otherSender.append(Field20.tag("REF1"));
+        otherSender.append(Field32A.tag("210101USD100,"));
+        assertEquals(DuplicateVerdict.UNIQUE, detector.check(otherSender.getSwiftMessage()));
+    }
+
+    @Test
+    public void testCheckAndSetPDE() {
+        final DuplicateDetector detector = new DuplicateDetector(DuplicateKey.BODY_CHECKSUM);
+        final SwiftMessage m1 = mt103("REF1", "100,").getSwiftMessage();
+        assertEquals(DuplicateVerdict.UNIQUE, detector.checkAndSetPDE(m1));
+        assertNull(m1.getPDE());
+        final SwiftMessage m2 = mt103("REF1", "100,").getSwiftMessage();
+        assertEquals(DuplicateVerdict.DUPLICATE, detector.checkAndSetPDE(m2));
+        assertNotNull(m2.getPDE());
+    }
+
+    @Test
+    public void testCheckAndSetPDEFrozen() {
+        final DuplicateDetector detector = new DuplicateDetector(DuplicateKey.BODY_CHECKSUM);
+        final SwiftMessage frozen = mt103("REF1", "100,").getSwiftMessage().freeze();
+        assertThrows(UnsupportedOperationException.class, () -> detector.checkAndSetPDE(frozen));
+        // the rejected message is not recorded
+        assertEquals(DuplicateVerdict.UNIQUE, detector.check(mt103("REF1", "100,").getSwiftMessage()));
+    }
+
+    @Test
+    public void testWindow() {
+        // the LRU keeps few keys, older keys are detected by the Bloom filter
+        final DuplicateDetector detector = new DuplicateDetector(DuplicateKey.REFERENCE_SENDER_AMOUNT, 10, 10_000, 0.001);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(DuplicateVerdict.UNIQUE, detector.check(mt103("REF" + i, "100,").getSwiftMessage()), "REF" + i);
+        }
+        assertEquals(DuplicateVerdict.DUPLICATE, detector.check(mt103("REF999", "100,").getSwiftMessage()));
+        final DuplicateVerdict verdict = detector.check(mt103("REF0", "100,").getSwiftMessage());
+        assertEquals(DuplicateVerdict.POSSIBLE_DUPLICATE, verdict);
+        assertTrue(verdict.isPossibleDuplicate());
+        // now back in the LRU
+        assertEquals(DuplicateVerdict.DUPLICATE, detector.check(mt103("REF0", "100,").getSwiftMessage()));
+
+        detector.clear();
+        assertEquals(DuplicateVerdict.UNIQUE, detector.check(mt103("REF0", "100,").getSwiftMessage()));
+    }
+
+    @Test
+    public void testConcurrentChecks() throws Exception {
+        final DuplicateDetector detector = new DuplicateDetector(DuplicateKey.REFERENCE_SENDER_AMOUNT);
+        final List<SwiftMessage> messages = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            messages.add(mt103("REF" + i, "100,").getSwiftMessage());
+        }
+        final AtomicInteger unique = new AtomicInteger();
+        final AtomicInteger duplicates = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                results.add(executor.submit(() -> {
+                    for (SwiftMessage m : messages) {
+                        final DuplicateVerdict verdict = detector.check(m);
+                        if (verdict == DuplicateVerdict.UNIQUE) {
+                            unique.incrementAndGet();
+                        } else if (verdict == DuplicateVerdict.DUPLICATE) {
+                            duplicates.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(200, unique.get());
+        assertEquals(600, duplicates.get());
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(NullPointerException.class, () -> new DuplicateDetector(null));
+        assertThrows(IllegalArgumentException.class, () -> new DuplicateDetector(DuplicateKey.MUR_UETR, 0, 100, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new DuplicateDetector(DuplicateKey.MUR_UETR, 100, 0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new DuplicateDetector(DuplicateKey.MUR_UETR, 100, 100, 1));
+    }
+
+    private static MT103 mt103(final String reference, final String amount) {
+        final MT103 mt = new MT103("AAAAUSXXXXX", "BBBBUSXXXXX");
+        mt.append(Field20.tag(reference));
+        mt.append(Field23B.tag("CRED"));
+        mt.append(Field32A.tag("210101USD" + amount));
+        mt.append(Field71A.tag("OUR"));
+        // remove the UETR generated in the constructor
+        mt.getSwiftMessage().getBlock3().removeTag("121");
+        return mt;
+    }
+
+}
@@ -20,6 +20,11 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
 public class IBANTest {
 
     @Test
@@ -264,6 +269,69 @@ public class IBANTest {
         assertIbanOk("GB26BOFS80200643721002");
     }
 
+    @Test
+    public void testValidateBatch() {
+        List<IbanValidationStatus> results = IBAN.validate(Arrays.asList("GB26BOFS80200643721002", "AT32010000000173363", null, "DK5000400T40116243", "  ES64 0049 6170 68 2810279951"));
+        assertEquals(Arrays.asList(IbanValidationResult.OK, IbanValidationResult.BBAN_INVALID_LENGTH, IbanValidationResult.IBAN_IS_NULL, IbanValidationResult.BBAN_INVALID_DIGITS, IbanValidationResult.OK),
+                results.stream().map(IbanValidationStatus::getResult).collect(Collectors.toList()));
+        assertTrue(results.get(0).isValid());
+        assertTrue(IBAN.validate(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void testValidateBatchKeepsDetails() {
+        List<IbanValidationStatus> results = IBAN.validate(Arrays.asList("DK5000400T40116243", "DK5000400040116A43"));
+        assertEquals(IbanValidationResult.BBAN_INVALID_DIGITS, results.get(0).getResult());
+        assertEquals(IbanValidationResult.BBAN_INVALID_DIGITS, results.get(1).getResult());
+        assertEquals("The ACCOUNT_NUMBER 0T40116243 must contain only digits", results.get(0).message());
+        assertEquals("The ACCOUNT_NUMBER 0040116A43 must contain only digits", results.get(1).message());
+        assertNotEquals(results.get(0), results.get(1));
+        assertThrows(UnsupportedOperationException.class, () -> results.get(0).vars().put("found", "X"));
+    }
+
+    @Test
+    public void testValidationMessageFound() {
+        IbanValidationStatus result = IBAN.validate("DK5000400T40116243");
+        assertEquals(IbanValidationResult.BBAN_INVALID_DIGITS, result.getResult());
+        assertEquals("The ACCOUNT_NUMBER 0T40116243 must contain only digits", result.message());
+        result = IBAN.validate("AT32010000000173363");
+        assertEquals("Expected a 16 characters length for the custom account number (BBAN) and found 15 in 010000000173363", result.message());
+        assertEquals(IbanValidationResult.BBAN_INVALID_DIGITS, new IBAN("DK5000400T40116243").validate());
+    }
+
+    @Test
+    public void testBbanStructureForCountry() {
+        final BbanStructureValidations validations = BbanStructureValidations.getInstance();
+        assertEquals("ES", validations.forCountry("ES").getCountry_coode());
+        assertTrue(validations.contains("GB"));
+        assertFalse(validations.contains("ZZ"));
+        assertFalse(validations.contains("es"));
+        assertNull(validations.forCountry(null));
+        assertNull(validations.forCountry("ESP"));
+        assertEquals(validations.supportedCountries().size(), validations.supportedCountries().stream().filter(validations::contains).count());
+    }
+
+    @Test
+    public void testCheckDigits() {
+        assertEquals(29, IBAN.calculateCheckDigits("GB00NWBK60161331926819"));
+        assertEquals(29, IBAN.calculateCheckDigits("GB29NWBK60161331926819"));
+        assertEquals(29, IBAN.calculateCheckDigits("GB99NWBK60161331926819"));
+        assertEquals(16, IBAN.calculateCheckDigits("GR0001101250000000012300695"));
+
+        StringBuilder sb = new StringBuilder("DE00370400440532013000");
+        IBAN.setCheckDigits(sb);
+        assertEquals("DE89370400440532013000", sb.toString());
+        assertIbanOk(sb.toString());
+
+        assertThrows(IllegalArgumentException.class, () -> IBAN.calculateCheckDigits("GB00"));
+        assertThrows(IllegalArgumentException.class, () -> IBAN.calculateCheckDigits(null));
+
+        IbanValidationStatus result = IBAN.validate("GB28NWBK60161331926819");
+        assertEquals(IbanValidationResult.IVALID_CHECK_DIGITS, result.getResult());
+        assertEquals("29", result.vars().get("expectedCheckDigit"));
+        assertEquals("28", result.vars().get("found"));
+    }
+
     private void assertIbanOk(String string) {
         IBAN iban = new IBAN(string);
         IbanValidationResult result = iban.validate();
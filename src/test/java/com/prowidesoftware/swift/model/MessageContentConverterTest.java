@@ -0,0 +1,95 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class MessageContentConverterTest {
+
+    private static final String FIN = "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBUSBBXXXXN}{4:\n" +
+            ":20:REFERENCE\n" +
+            ":23B:CRED\n" +
+            ":32A:130204USD1234567,89\n" +
+            ":50K:/12345678901234567890\nFOOBANKXXXXX\n" +
+            ":59:/12345678901234567890\nJOE DOE\n" +
+            ":70:/ROC/ABC \u00e9\u20ac\n" +
+            ":71A:OUR\n" +
+            "-}";
+
+    private final MessageContentConverter converter = new MessageContentConverter();
+
+    @AfterEach
+    public void reset() {
+        MessageContentConverter.setCompressionThreshold(-1);
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        assertEquals(-1, MessageContentConverter.getCompressionThreshold());
+        assertEquals(FIN, converter.convertToDatabaseColumn(FIN));
+        assertEquals(FIN, converter.convertToEntityAttribute(FIN));
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+
+    @Test
+    public void testCompression() {
+        MessageContentConverter.setCompressionThreshold(100);
+        final String column = converter.convertToDatabaseColumn(FIN);
+        assertTrue(column.startsWith(MessageContentConverter.DEFLATE_PREFIX));
+        assertEquals(FIN, converter.convertToEntityAttribute(column));
+
+        // larger contents with repeated structures get smaller
+        final StringBuilder large = new StringBuilder("{1:F01AAAABBCCXXXX0000000000}{2:I940BBBBUSBBXXXXN}{4:\n:20:REFERENCE\n");
+        for (int i = 0; i < 100; i++) {
+            large.append(":61:2101010101D").append(1000 + i).append(",00NTRFREF").append(i).append("//BANKREF\n");
+            large.append(":86:PAYMENT FOR INVOICE ").append(i).append("\n");
+        }
+        large.append("-}");
+        final String largeColumn = converter.convertToDatabaseColumn(large.toString());
+        assertTrue(largeColumn.length() < large.length() / 3, largeColumn.length() + " of " + large.length());
+        assertEquals(large.toString(), converter.convertToEntityAttribute(largeColumn));
+
+        // small contents are not compressed
+        assertEquals("{1:F01AAAABBCCXXXX0000000000}", converter.convertToDatabaseColumn("{1:F01AAAABBCCXXXX0000000000}"));
+
+        // compressed contents are read when compression is disabled, and plain contents when enabled
+        MessageContentConverter.setCompressionThreshold(-1);
+        assertEquals(FIN, converter.convertToEntityAttribute(column));
+        MessageContentConverter.setCompressionThreshold(0);
+        assertEquals(FIN, converter.convertToEntityAttribute(FIN));
+        assertEquals("", converter.convertToEntityAttribute(converter.convertToDatabaseColumn("")));
+    }
+
+    @Test
+    public void testContentWithFormatFlag() {
+        final String content = MessageContentConverter.DEFLATE_PREFIX + "not compressed";
+        final String column = converter.convertToDatabaseColumn(content);
+        assertNotEquals(content, column);
+        assertEquals(content, converter.convertToEntityAttribute(column));
+    }
+
+    @Test
+    public void testCorrupted() {
+        final String column = MessageContentConverter.compress(FIN);
+        assertThrows(IllegalArgumentException.class, () -> converter.convertToEntityAttribute(column.substring(0, column.length() - 8)));
+        assertThrows(IllegalArgumentException.class, () -> converter.convertToEntityAttribute(MessageContentConverter.DEFLATE_PREFIX + "****"));
+    }
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.prowidesoftware.swift.io.RJEReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Test cases for the primitive money aggregation
+ *
+ * @since 9.3.9
+ */
+public class MoneyAggregatorTest {
+
+    private static String fin(final String type, final String... tags) {
+        final StringBuilder sb = new StringBuilder("{1:F01AAAAUSAAAXXX0000000000}{2:I" + type + "BBBBUSBBXXXXN}{4:\n");
+        for (String tag : tags) {
+            sb.append(tag).append("\n");
+        }
+        return sb.append("-}").toString();
+    }
+
+    private static SwiftMessage message(final String type, final String... tags) throws IOException {
+        return SwiftMessage.parse(fin(type, tags));
+    }
+
+    @Test
+    public void testMinorUnits() {
+        assertEquals(1234, new Money("USD", new BigDecimal("12.34")).toMinorUnits());
+        assertEquals(1230, new Money("USD", new BigDecimal("12.3")).toMinorUnits());
+        assertEquals(1234, new Money("JPY", new BigDecimal("1234")).toMinorUnits());
+        assertEquals(-5, new Money("XAU", new BigDecimal("-5.00")).toMinorUnits());
+        assertThrows(ArithmeticException.class, () -> new Money("USD", new BigDecimal("0.001")).toMinorUnits());
+        assertEquals(new BigDecimal("12.34"), Money.ofMinorUnits("USD", 1234).getAmount());
+        assertEquals(new BigDecimal("1234"), Money.ofMinorUnits("JPY", 1234).getAmount());
+    }
+
+    @Test
+    public void testAggregate() throws IOException {
+        MoneyAggregator aggregator = new MoneyAggregator();
+        aggregator.accept(message("103", ":20:REF", ":32A:121212USD1234,5"));
+        aggregator.accept(message("202", ":20:REF", ":32A:121212USD0,5"));
+        aggregator.accept(message("103", ":20:REF", ":32A:121212JPY1000,"));
+        aggregator.accept(message("910", ":20:REF", ":32A:121212KWD1,001"));
+        aggregator.accept(message("800", ":20:REF", ":33B:EUR10,"));
+        aggregator.accept(message("941", ":20:REF", ":62F:D121212EUR2,5"));
+        aggregator.accept(message("940", ":20:REF", ":62F:C121212EUR1,25"));
+        aggregator.accept(message("103", ":20:REF"));
+        aggregator.accept(null);
+
+        assertEquals(1235, aggregator.getTotal("USD").getAmount().intValue());
+        assertEquals(123500, aggregator.getTotalMinorUnits("USD"));
+        assertEquals(2, aggregator.getCount("USD"));
+        assertEquals(1000, aggregator.getTotalMinorUnits("JPY"));
+        assertEquals(1001, aggregator.getTotalMinorUnits("KWD"));
+        assertEquals(new BigDecimal("8.75"), aggregator.getTotal("EUR").getAmount());
+        assertEquals(0, aggregator.getTotalMinorUnits("GBP"));
+        assertNull(aggregator.getTotal("GBP"));
+        assertEquals(0, aggregator.getCount("GBP"));
+        assertEquals(7, aggregator.getCount());
+        assertEquals(2, aggregator.getSkippedCount());
+        assertEquals("[EUR, JPY, KWD, USD]", aggregator.getCurrencies().toString());
+    }
+
+    @Test
+    public void testAggregateSum() throws IOException {
+        MoneyAggregator aggregator = new MoneyAggregator();
+        aggregator.accept(message("101", ":20:REF", ":21:A", ":32B:USD1,", ":21:B", ":32B:USD2,5"));
+        assertEquals(new BigDecimal("3.50"), aggregator.getTotal("USD").getAmount());
+        assertEquals(1, aggregator.getCount("USD"));
+
+        // mixed currencies have no main amount
+        aggregator.accept(message("101", ":20:REF", ":21:A", ":32B:USD1,", ":21:B", ":32B:EUR2,5"));
+        assertEquals(1, aggregator.getSkippedCount());
+        assertEquals(1, aggregator.getCount());
+    }
+
+    @Test
+    public void testAggregateExact() throws IOException {
+        MoneyAggregator aggregator = new MoneyAggregator();
+        // more decimals than the currency minor units
+        aggregator.accept(message("103", ":20:REF", ":32A:121212USD0,001"));
+        aggregator.accept(message("103", ":20:REF", ":32A:121212USD1,"));
+        assertEquals(new BigDecimal("1.001"), aggregator.getTotal("USD").getAmount());
+        assertThrows(ArithmeticException.class, () -> aggregator.getTotalMinorUnits("USD"));
+
+        // long overflow
+        aggregator.add(CurrencyIndex.of("JPY"), Long.MAX_VALUE);
+        aggregator.add(CurrencyIndex.of("JPY"), 1);
+        assertEquals(BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.ONE), aggregator.getTotal("JPY").getAmount());
+
+        assertThrows(IllegalArgumentException.class, () -> aggregator.add(-1, 1));
+    }
+
+    /**
+     * The aggregated totals must match the money extracted with the Field API for all supported amount fields
+     */
+    @Test
+    public void testMatchesMoney() throws IOException {
+        final List<SwiftMessage> messages = new ArrayList<>();
+        messages.add(message("103", ":32A:121212USD1234,56"));
+        messages.add(message("320", ":32B:EUR99,"));
+        messages.add(message("540", ":19A::SETT//NUSD10,5"));
+        messages.add(message("540", ":19A::SETT//NOK10,5"));
+        messages.add(message("564", ":19B::ENTL//EUR3,"));
+        messages.add(message("330", ":32H:NEUR7,"));
+        messages.add(message("330", ":32H:NOK7,"));
+        messages.add(message("306", ":34B:CHF2,"));
+        messages.add(message("600", ":34R:121212XAU1,5"));
+        messages.add(message("190", ":32D:121212EUR4,"));
+        messages.add(message("430", ":33K:D001ZZEUR50,"));
+        messages.add(message("950", ":62M:D121212EUR1,"));
+        messages.add(message("950", ":62M:121212EUR3,"));
+        messages.add(message("103", ":32A:121212USD"));
+        messages.add(message("103", ":32A:12121USD1,"));
+        messages.add(message("103", ":32A:121212usd1,"));
+        messages.add(message("103", ":32A:121212USD1.5"));
+
+        MoneyAggregator aggregator = new MoneyAggregator();
+        MoneyAggregator expected = new MoneyAggregator();
+        for (SwiftMessage m : messages) {
+            aggregator.accept(m);
+            expected.add(SwiftMessageUtils.money(m));
+        }
+        for (String currency : expected.getCurrencies()) {
+            assertEquals(0, expected.getTotal(currency).getAmount().compareTo(aggregator.getTotal(currency).getAmount()), currency);
+            assertEquals(expected.getCount(currency), aggregator.getCount(currency), currency);
+        }
+        assertEquals(expected.getCurrencies(), aggregator.getCurrencies());
+        assertEquals(expected.getSkippedCount(), aggregator.getSkippedCount());
+    }
+
+    @Test
+    public void testAggregateParallel() {
+        final String rje = IntStream.range(0, 1000)
+                .mapToObj(i -> fin("103", ":20:REF" + i, ":32A:121212" + (i % 2 == 0 ? "USD" : "EUR") + i + ",01"))
+                .collect(Collectors.joining("$"));
+
+        MoneyAggregator aggregator = MoneyAggregator.aggregate(new RJEReader(rje));
+        assertEquals(500, aggregator.getCount("USD"));
+        assertEquals(500, aggregator.getCount("EUR"));
+        // sum of even numbers below 1000 plus 500 cents
+        assertEquals(new BigDecimal("249505.00"), aggregator.getTotal("USD").getAmount());
+        assertEquals(new BigDecimal("250005.00"), aggregator.getTotal("EUR").getAmount());
+        assertEquals(0, aggregator.getSkippedCount());
+    }
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import com.prowidesoftware.swift.model.mt.DefaultMtMetadataStrategy;
+import com.prowidesoftware.swift.model.mt.AbstractMT;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Calendar;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MtMetadataExtractorTest {
+
+    private static final String MT103 = "{1:F01AAAAUSXXAXXX0000000000}{2:O1031200010103BBBBUSXXAXXX00000000000101031200N}{3:{108:MUR103}{121:e7a5e1e5-4e3f-4b2c-9a51-7a2c1b8e5d10}}{4:\n" +
+            ":20:REF103\n" +
+            ":23B:CRED\n" +
+            ":32A:210315USD1234,56\n" +
+            ":50K:/123\n" +
+            "ORDERING\n" +
+            ":59:/456\n" +
+            "BENEFICIARY\n" +
+            ":71A:OUR\n" +
+            "-}{5:{CHK:123456789ABC}}";
+
+    private static final String MT300 = "{1:F01AAAAUSXXAXXX0000000000}{2:I300BBBBUSXXXXXXN}{4:\n" +
+            ":15A:\n" +
+            ":20:REF300\n" +
+            ":22A:NEWT\n" +
+            ":94A:BILA\n" +
+            ":22C:AAAA1234BBBB\n" +
+            ":82A:AAAAUSXX\n" +
+            ":87A:BBBBUSXX\n" +
+            ":15B:\n" +
+            ":30T:20210310\n" +
+            ":30V:20210312\n" +
+            ":36:1,2\n" +
+            ":32B:EUR1000,\n" +
+            ":57A:AAAAUSXX\n" +
+            ":33B:USD1200,\n" +
+            ":57A:BBBBUSXX\n" +
+            "-}";
+
+    private static final String MT540 = "{1:F01AAAAUSXXAXXX0000000000}{2:I540BBBBUSXXXXXXN}{4:\n" +
+            ":16R:GENL\n" +
+            ":20C::SEME//REF540\n" +
+            ":23G:NEWM\n" +
+            ":16S:GENL\n" +
+            ":16R:TRADDET\n" +
+            ":98A::TRAD//20210301\n" +
+            ":98A::SETT//20210303\n" +
+            ":35B:ISIN US0000000001\n" +
+            ":16S:TRADDET\n" +
+            ":16R:FIAC\n" +
+            ":36B::SETT//UNIT/100,\n" +
+            ":97A::SAFE//123\n" +
+            ":16S:FIAC\n" +
+            "-}";
+
+    private static final String MT199 = "{1:F01AAAAUSXXAXXX0000000000}{2:I199BBBBUSXXXXXXN}{3:{108:MUR199}}{4:\n" +
+            ":21:RELATED\n" +
+            ":79:FREE TEXT\n" +
+            "-}";
+
+    private static final String MT999_EMPTY = "{1:F01AAAAUSXXAXXX0000000000}{2:I999BBBBUSXXXXXXN}{3:{108:MUR999}}{4:\n-}";
+
+    private static final String NO_BLOCK4 = "{1:F01AAAAUSXXAXXX0000000000}{2:I103BBBBUSXXXXXXN}{3:{108:MURNOB4}}";
+
+    private static final String UNKNOWN_TYPE = "{1:F01AAAAUSXXAXXX0000000000}{2:I001BBBBUSXXXXXXN}{4:\n" +
+            ":20:REF001\n" +
+            "-}";
+
+    private static final String ACK = "{1:F21AAAAUSXXAXXX0000000000}{4:{177:2103151200}{451:0}{108:MURACK}}" + MT199;
+
+    @Test
+    public void testSameResultsAsSeparateExtraction() throws IOException {
+        for (String fin : new String[]{MT103, MT300, MT540, MT199, MT999_EMPTY, NO_BLOCK4, UNKNOWN_TYPE, ACK}) {
+            SwiftMessage model = SwiftMessage.parse(fin);
+            MtMetadataExtractor extractor = new MtMetadataExtractor(model);
+            assertEquals(SwiftMessageUtils.calculateChecksum(model), extractor.getChecksum(), fin);
+            assertEquals(SwiftMessageUtils.calculateChecksum(model.getBlock4()), extractor.getChecksumBody(), fin);
+
+            assertFalse(extractor.extract(model, null));
+            MtSwiftMessage actual = new MtSwiftMessage();
+            extractor.applyTo(actual);
+
+            MtSwiftMessage expected = new MtSwiftMessage();
+            AbstractMT mt = model.toMT();
+            if (mt != null) {
+                DefaultMtMetadataStrategy strategy = new DefaultMtMetadataStrategy();
+                strategy.reference(mt).ifPresent(expected::setReference);
+                strategy.amount(mt).ifPresent(m -> {
+                    expected.setCurrency(m.getCurrency());
+                    expected.setAmount(m.getAmount());
+                });
+                strategy.valueDate(mt).ifPresent(expected::setValueDate);
+                strategy.tradeDate(mt).ifPresent(expected::setTradeDate);
+            }
+            assertEquals(expected.getReference(), actual.getReference(), fin);
+            assertEquals(expected.getCurrency(), actual.getCurrency(), fin);
+            assertEquals(expected.getAmount(), actual.getAmount(), fin);
+            assertEquals(expected.getValueDate(), actual.getValueDate(), fin);
+            assertEquals(expected.getTradeDate(), actual.getTradeDate(), fin);
+        }
+    }
+
+    @Test
+    public void testExtractedValues() throws IOException {
+        MtSwiftMessage msg = new MtSwiftMessage();
+        extract(MT540, null).applyTo(msg);
+        assertEquals("REF540", msg.getReference());
+        assertEquals(2021, msg.getTradeDate().get(Calendar.YEAR));
+        assertEquals(3, msg.getValueDate().get(Calendar.DAY_OF_MONTH));
+
+        msg = new MtSwiftMessage();
+        extract(MT300, null).applyTo(msg);
+        assertEquals("REF300", msg.getReference());
+        assertEquals(10, msg.getTradeDate().get(Calendar.DAY_OF_MONTH));
+        assertEquals("EUR", msg.getCurrency());
+
+        msg = new MtSwiftMessage();
+        extract(MT199, null).applyTo(msg);
+        assertEquals("MUR199", msg.getReference());
+
+        msg = new MtSwiftMessage();
+        extract(UNKNOWN_TYPE, null).applyTo(msg);
+        assertNull(msg.getReference());
+    }
+
+    @Test
+    public void testReuseWhenOnlyHeaderOrTrailerChanged() throws IOException {
+        MtMetadataExtractor previous = extract(MT103, null);
+
+        // trailer and unrelated block 3 fields changes keep the metadata
+        String trailer = MT103.replace("{5:{CHK:123456789ABC}}", "{5:{CHK:ABCDEF123456}{PDE:}}");
+        SwiftMessage model = SwiftMessage.parse(trailer);
+        MtMetadataExtractor current = new MtMetadataExtractor(model);
+        assertTrue(current.extract(model, previous));
+        assertEquals(previous.getChecksumBody(), current.getChecksumBody());
+        assertNotEquals(previous.getChecksum(), current.getChecksum());
+
+        String header = MT103.replace("{121:e7a5e1e5-4e3f-4b2c-9a51-7a2c1b8e5d10}", "{121:00000000-4e3f-4b2c-9a51-7a2c1b8e5d10}");
+        assertTrue(reused(header, previous));
+
+        // text block, MUR or message type changes extract the metadata again
+        String body = MT103.replace(":20:REF103", ":20:REF104");
+        assertFalse(reused(body, previous));
+
+        String mur = MT103.replace("{108:MUR103}", "{108:MUR104}");
+        assertFalse(reused(mur, previous));
+
+        String type = MT103.replace("{2:O103", "{2:O202");
+        assertFalse(reused(type, previous));
+    }
+
+    private static boolean reused(String fin, MtMetadataExtractor previous) throws IOException {
+        SwiftMessage model = SwiftMessage.parse(fin);
+        return new MtMetadataExtractor(model).extract(model, previous);
+    }
+
+    private static MtMetadataExtractor extract(String fin, MtMetadataExtractor previous) throws IOException {
+        SwiftMessage model = SwiftMessage.parse(fin);
+        MtMetadataExtractor extractor = new MtMetadataExtractor(model);
+        extractor.extract(model, previous);
+        return extractor;
+    }
+
+}
@@ -108,6 +108,40 @@ public class MtSwiftMessageTest {
         assertNull(mt.getTradeDate());
     }
 
+    @Test
+    public void testUpdateFromFinTrailerOnly() throws Exception {
+        String fin = "{1:F01AGBLLT2XAXXX1012000002}{2:I103TESTARZZXXXXN}{3:{108:MYMUR123458}}{4:\n" +
+                ":20:TEST\n" +
+                ":23B:CRED\n" +
+                ":32A:210315USD1234,56\n" +
+                ":50K:ORDERING\n" +
+                ":59:BENEFICIARY\n" +
+                ":71A:OUR\n" +
+                "-}";
+        MtSwiftMessage mt = MtSwiftMessage.parse(fin);
+        assertEquals("TEST", mt.getReference());
+        assertEquals("USD", mt.getCurrency());
+        assertEquals(new BigDecimal("1234.56"), mt.getAmount());
+        final Calendar valueDate = mt.getValueDate();
+
+        // the metadata is kept and the checksums updated when only the trailer changes
+        mt.setReference("OTHER");
+        String pde = fin + "{5:{PDE:1348120811BANKUS33AXXX1234123456}}";
+        mt.updateFromFIN(pde);
+        assertEquals("TEST", mt.getReference());
+        assertEquals("USD", mt.getCurrency());
+        assertEquals(new BigDecimal("1234.56"), mt.getAmount());
+        assertEquals(valueDate, mt.getValueDate());
+        assertEquals("1348120811BANKUS33AXXX1234123456", mt.getPde());
+        SwiftMessage model = SwiftMessage.parse(pde);
+        assertEquals(SwiftMessageUtils.calculateChecksum(model), mt.getChecksum());
+        assertEquals(SwiftMessageUtils.calculateChecksum(model.getBlock4()), mt.getChecksumBody());
+
+        // a text block change extracts the metadata again
+        mt.updateFromFIN(pde.replace(":20:TEST", ":20:TEST2"));
+        assertEquals("TEST2", mt.getReference());
+    }
+
     @Test
     void testParseInvalidPayload() {
         MtSwiftMessage msg = MtSwiftMessage.parse("foo bar");
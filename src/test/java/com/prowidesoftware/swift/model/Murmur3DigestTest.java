@@ -0,0 +1,62 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+public class Murmur3DigestTest {
+
+    @Test
+    public void testKnownValues() {
+        assertEquals("00000000000000000000000000000000", hash(""));
+        assertEquals("67f8103e694299624753ebba820bdb92", hash("hell"));
+        assertEquals("6c1b07bc7bbc4be347939ac4a93c437a", hash("The quick brown fox jumps over the lazy dog"));
+    }
+
+    @Test
+    public void testIncrementalUpdates() {
+        final byte[] bytes = "The quick brown fox jumps over the lazy dog, again and again".getBytes(StandardCharsets.UTF_8);
+        final byte[] expected = new Murmur3Digest().digest(bytes);
+        // any split of the input, including single byte updates, gives the same hash
+        for (int split = 0; split <= bytes.length; split++) {
+            final MessageDigest digest = new Murmur3Digest();
+            digest.update(bytes, 0, split);
+            for (int i = split; i < bytes.length; i++) {
+                digest.update(bytes[i]);
+            }
+            assertArrayEquals(expected, digest.digest(), "split at " + split);
+        }
+    }
+
+    @Test
+    public void testReset() {
+        final MessageDigest digest = new Murmur3Digest();
+        digest.update("some content".getBytes(StandardCharsets.UTF_8));
+        digest.reset();
+        assertArrayEquals(new Murmur3Digest().digest(), digest.digest());
+        assertEquals(16, digest.getDigestLength());
+    }
+
+    private static String hash(final String text) {
+        return ChecksumEncoding.HEX.encode(new Murmur3Digest().digest(text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+}
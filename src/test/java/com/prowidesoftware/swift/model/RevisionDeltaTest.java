@@ -0,0 +1,90 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+public class RevisionDeltaTest {
+
+    private static final String FIN = "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBUSBBXXXXN}{4:\n" +
+            ":20:REFERENCE\n" +
+            ":23B:CRED\n" +
+            ":32A:130204USD1234567,89\n" +
+            ":50K:/12345678901234567890\nFOOBANKXXXXX\n" +
+            ":59:/12345678901234567890\nJOE DOE\n" +
+            ":71A:OUR\n" +
+            "-}{5:{CHK:123456789ABC}}";
+
+    @Test
+    public void testTokens() {
+        assertEquals(Arrays.asList(
+                "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBUSBBXXXXN}{4:\n",
+                ":20:REFERENCE\n",
+                ":23B:CRED\n",
+                ":32A:130204USD1234567,89\n",
+                ":50K:/12345678901234567890\nFOOBANKXXXXX\n",
+                ":59:/12345678901234567890\nJOE DOE\n",
+                ":71A:OUR\n",
+                "-}{5:{CHK:123456789ABC}}"), RevisionDelta.tokens(FIN));
+        assertEquals(Arrays.asList("<a>\n", "  <b/>\n", "</a>"), RevisionDelta.tokens("<a>\n  <b/>\n</a>"));
+        assertTrue(RevisionDelta.tokens(null).isEmpty());
+        assertTrue(RevisionDelta.tokens("").isEmpty());
+    }
+
+    @Test
+    public void testTagChanges() {
+        // modified field
+        String target = FIN.replace(":32A:130204USD1234567,89", ":32A:130204USD1,");
+        String delta = RevisionDelta.diff(FIN, target);
+        assertEquals("C3;D1;I17;:32A:130204USD1,\nC4;", delta);
+        assertEquals(target, RevisionDelta.apply(FIN, delta));
+
+        // added and removed fields
+        target = FIN.replace(":23B:CRED\n", "").replace(":71A:OUR\n", ":70:/ROC/ABC\n:71A:OUR\n");
+        delta = RevisionDelta.diff(FIN, target);
+        assertEquals(target, RevisionDelta.apply(FIN, delta));
+        assertTrue(delta.length() < 40, delta);
+
+        // no changes
+        assertEquals("C8;", RevisionDelta.diff(FIN, FIN));
+        assertEquals(FIN, RevisionDelta.apply(FIN, "C8;"));
+    }
+
+    @Test
+    public void testEdgeCases() {
+        assertEquals("", RevisionDelta.diff(null, ""));
+        assertEquals("", RevisionDelta.apply(null, ""));
+        assertEquals(FIN, RevisionDelta.apply(null, RevisionDelta.diff(null, FIN)));
+        assertEquals("", RevisionDelta.apply(FIN, RevisionDelta.diff(FIN, null)));
+        final String xml = "<a>\n  <b>1</b>\n  <c>2</c>\n</a>";
+        final String xml2 = "<a>\n  <b>1</b>\n  <c>3</c>\n  <d>;I5;</d>\n</a>";
+        assertEquals(xml2, RevisionDelta.apply(xml, RevisionDelta.diff(xml, xml2)));
+    }
+
+    @Test
+    public void testMalformed() {
+        assertThrows(IllegalArgumentException.class, () -> RevisionDelta.apply(FIN, "C9;"));
+        assertThrows(IllegalArgumentException.class, () -> RevisionDelta.apply(FIN, "C7;"));
+        assertThrows(IllegalArgumentException.class, () -> RevisionDelta.apply(FIN, "X8;"));
+        assertThrows(IllegalArgumentException.class, () -> RevisionDelta.apply(FIN, "C8"));
+        assertThrows(IllegalArgumentException.class, () -> RevisionDelta.apply(FIN, "C8;I10;abc"));
+    }
+
+}
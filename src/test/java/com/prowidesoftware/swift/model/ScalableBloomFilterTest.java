@@ -0,0 +1,82 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+public class ScalableBloomFilterTest {
+
+    @Test
+    public void testNoFalseNegatives() {
+        final ScalableBloomFilter filter = new ScalableBloomFilter(100_000, 0.01);
+        final SplittableRandom random = new SplittableRandom(1);
+        final long[] h1 = new long[50_000];
+        final long[] h2 = new long[50_000];
+        int positives = 0;
+        for (int i = 0; i < h1.length; i++) {
+            h1[i] = random.nextLong();
+            h2[i] = random.nextLong();
+            if (filter.put(h1[i], h2[i])) {
+                positives++;
+            }
+        }
+        assertTrue(positives < 500, "false positives: " + positives);
+        assertTrue(filter.slices() > 1);
+        for (int i = 0; i < h1.length; i++) {
+            assertTrue(filter.mightContain(h1[i], h2[i]));
+            assertTrue(filter.put(h1[i], h2[i]));
+        }
+        assertEquals(50_000 - positives, filter.size());
+    }
+
+    @Test
+    public void testFalsePositiveProbability() {
+        final ScalableBloomFilter filter = new ScalableBloomFilter(100_000, 0.01);
+        final SplittableRandom random = new SplittableRandom(2);
+        for (int i = 0; i < 100_000; i++) {
+            filter.put(random.nextLong(), random.nextLong());
+        }
+        int positives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(random.nextLong(), random.nextLong())) {
+                positives++;
+            }
+        }
+        assertTrue(positives < 1_000, "false positives: " + positives);
+    }
+
+    @Test
+    public void testWindow() {
+        final ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+        final SplittableRandom random = new SplittableRandom(3);
+        for (int i = 0; i < 100_000; i++) {
+            filter.put(random.nextLong(), random.nextLong());
+        }
+        // old slices are discarded, memory is bounded
+        assertTrue(filter.size() >= 1_000);
+        assertTrue(filter.size() <= 1_500, "size: " + filter.size());
+        assertTrue(filter.slices() <= 6, "slices: " + filter.slices());
+
+        filter.clear();
+        assertEquals(0, filter.size());
+        assertEquals(1, filter.slices());
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.prowidesoftware.swift.model.field.Field32A;
+import com.prowidesoftware.swift.model.field.Field50F;
+import com.prowidesoftware.swift.model.field.Field59;
+import com.prowidesoftware.swift.model.mt.mt6xx.MT620;
+import com.prowidesoftware.swift.utils.Lib;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Test cases for the compact Java serialization of the model objects
+ *
+ * @since 9.3.9
+ */
+public class SerializationProxyTest {
+
+    private static final String FIN = "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBUSBBXXXXN}{3:{108:MUR}}{4:\n" +
+            ":20:REF\n" +
+            ":32A:130204USD1234567,89\n" +
+            ":59:JOE DOE\n" +
+            "-}{5:{CHK:123456789ABC}}{S:{SAC:}}";
+
+    private static byte[] serialize(final Object o) throws IOException {
+        final ByteArrayOutputStream b = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(b)) {
+            out.writeObject(o);
+        }
+        return b.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T roundTrip(final T o) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialize(o)))) {
+            return (T) in.readObject();
+        }
+    }
+
+    @Test
+    public void testMessage() throws IOException, ClassNotFoundException {
+        final SwiftMessage m = SwiftMessage.parse(FIN);
+        m.getBlock4().getTags().get(0).setUnparsedTexts(new UnparsedTextList(Arrays.asList("text")));
+        final SwiftMessage copy = roundTrip(m);
+        assertEquals(m, copy);
+        assertEquals(m.message(), copy.message());
+        // much smaller than the default serialization with class descriptors per nested object
+        assertTrue(serialize(m).length < 500);
+    }
+
+    @Test
+    public void testModelObjects() throws IOException, ClassNotFoundException {
+        final SwiftMessage m = SwiftMessage.parse(FIN);
+        assertEquals(m.getBlock3(), roundTrip(m.getBlock3()));
+        assertEquals(m.getBlock4(), roundTrip(m.getBlock4()));
+        assertEquals(m.getBlock5(), roundTrip(m.getBlock5()));
+        assertEquals(m.getUserBlocks().get(0), roundTrip(m.getUserBlocks().get(0)));
+        assertEquals(m.getBlock4().getTags().get(1), roundTrip(m.getBlock4().getTags().get(1)));
+        final SwiftTagListBlock sequence = m.getBlock4().getSubBlock("20", "59");
+        assertEquals(SwiftTagListBlock.class, roundTrip(sequence).getClass());
+        assertEquals(sequence, roundTrip(sequence));
+        final UnparsedTextList texts = new UnparsedTextList(Arrays.asList("a", "b"));
+        assertEquals(texts, roundTrip(texts));
+        // subclasses use the default serialization
+        final MT620.SequenceA seqA = MT620.SequenceA.newInstance();
+        assertEquals(MT620.SequenceA.class, roundTrip(seqA).getClass());
+    }
+
+    @Test
+    public void testField() throws IOException, ClassNotFoundException {
+        final Field32A f = new Field32A("130204USD1234567,89");
+        final Field32A copy = roundTrip(f);
+        assertEquals(f.getValue(), copy.getValue());
+        assertEquals(f.getComponents(), copy.getComponents());
+
+        final Field50F f50 = new Field50F("/12345\n1/JOE DOE\n2/STREET");
+        assertEquals(f50.getValue(), roundTrip(f50).getValue());
+
+        final Field59 empty = new Field59();
+        assertEquals(empty.getComponents(), roundTrip(empty).getComponents());
+    }
+
+    /**
+     * Content serialized with the default mechanism by previous versions can still be read
+     */
+    @Test
+    public void testBackwardCompatible() throws IOException, ClassNotFoundException {
+        final byte[] data = Base64.getMimeDecoder().decode(Lib.readResource("SwiftMessage-9.3.8.ser.txt"));
+        final SwiftMessage m;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(data))) {
+            m = (SwiftMessage) in.readObject();
+        }
+        final SwiftMessage expected = SwiftMessage.parse(FIN);
+        expected.getBlock4().getTags().get(0).setUnparsedTexts(new UnparsedTextList(Arrays.asList("text")));
+        assertEquals(expected, m);
+    }
+
+}
@@ -19,6 +19,8 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 
 public class SwiftCharsetUtilsTest {
     private static transient final java.util.logging.Logger log = java.util.logging.Logger.getLogger(SwiftCharsetUtilsTest.class.getName());
@@ -330,4 +332,86 @@ public class SwiftCharsetUtilsTest {
         log.info("y" + SwiftCharsetUtils.getAsString(SwiftCharset.y));
         log.info("z" + SwiftCharsetUtils.getAsString(SwiftCharset.z));
     }
+
+    @Test
+    public void testCharsetTables() {
+        for (SwiftCharset charset : SwiftCharset.values()) {
+            final String chars = new String(charsetChars(charset));
+            for (char c = 0; c < 256; c++) {
+                assertEquals(chars.indexOf(c) >= 0, SwiftCharsetUtils.is(c, charset), charset + " " + (int) c);
+            }
+            assertFalse(SwiftCharsetUtils.is('\u00E1', charset));
+            assertFalse(SwiftCharsetUtils.is('\u20AC', charset));
+        }
+    }
+
+    private static char[] charsetChars(SwiftCharset charset) {
+        switch (charset) {
+            case n:
+                return SwiftCharsetUtils.get_n();
+            case a:
+                return SwiftCharsetUtils.get_a();
+            case A:
+                return SwiftCharsetUtils.get_A();
+            case x:
+                return SwiftCharsetUtils.get_x();
+            case y:
+                return SwiftCharsetUtils.get_y();
+            case z:
+                return SwiftCharsetUtils.get_z();
+            case c:
+                return SwiftCharsetUtils.get_c();
+            default:
+                return SwiftCharsetUtils.get_B();
+        }
+    }
+
+    @Test
+    public void testRange() {
+        assertEquals(SwiftCharsetUtils.OK, SwiftCharsetUtils.is("ab12CD", 2, 4, SwiftCharset.n));
+        assertEquals(1, SwiftCharsetUtils.is("ab12CD", 1, 4, SwiftCharset.n));
+        assertEquals(4, SwiftCharsetUtils.is(new StringBuilder("ab12CD"), 2, 6, SwiftCharset.n));
+        assertEquals(SwiftCharsetUtils.OK, SwiftCharsetUtils.is("ab12CD".toCharArray(), 0, 6, SwiftCharset.B));
+        assertEquals(3, SwiftCharsetUtils.is("ab1%CD".toCharArray(), 0, 6, SwiftCharset.B));
+    }
+
+    @Test
+    public void testValidateMessage() throws Exception {
+        final String fin = "{1:F01AAAAUSAAAXXX0000000000}{2:I103BBBBUSBBXXXXN}{4:\n" +
+                ":20:REF@1\n" +
+                ":23B:CRED\n" +
+                ":32A:221115USD1234,\n" +
+                ":59:/12345\n" +
+                "JOHN_DOE\n" +
+                "SOME%STREET$\n" +
+                ":71A:SHA\n" +
+                "-}{5:{CHK:ABCDEF123456}}";
+
+        List<SwiftCharsetViolation> violations = SwiftCharsetUtils.validate(fin, SwiftCharset.x);
+        assertEquals(2, violations.size());
+        assertEquals(0, violations.get(0).getTagIndex());
+        assertEquals("20", violations.get(0).getTagName());
+        assertArrayEquals(new int[]{3}, violations.get(0).getPositions());
+        assertEquals(3, violations.get(1).getTagIndex());
+        assertEquals("59", violations.get(1).getTagName());
+        assertArrayEquals(new char[]{'_', '%', '$'}, violations.get(1).getCharacters());
+
+        List<SwiftCharsetViolation> parsed = SwiftCharsetUtils.validate(SwiftMessage.parse(fin), SwiftCharset.x);
+        assertEquals(violations.size(), parsed.size());
+        for (int i = 0; i < parsed.size(); i++) {
+            assertEquals(violations.get(i).getTagIndex(), parsed.get(i).getTagIndex());
+            assertEquals(violations.get(i).getTagName(), parsed.get(i).getTagName());
+            assertEquals(new String(violations.get(i).getCharacters()), new String(parsed.get(i).getCharacters()));
+        }
+
+        // z charset accepts _ and % but not $
+        violations = SwiftCharsetUtils.validate(fin, SwiftCharset.z);
+        assertEquals(1, violations.size());
+        assertArrayEquals(new char[]{'$'}, violations.get(0).getCharacters());
+
+        assertTrue(SwiftCharsetUtils.validate("{1:F01AAAAUSAAAXXX0000000000}{2:I103BBBBUSBBXXXXN}{4:\r\n:20:REF\r\n-}", SwiftCharset.x).isEmpty());
+        assertTrue(SwiftCharsetUtils.validate("{1:F21AAAAUSAAAXXX0000000000}{4:{177:2211151200}{451:0}}", SwiftCharset.x).isEmpty());
+        assertTrue(SwiftCharsetUtils.validate((String) null, SwiftCharset.x).isEmpty());
+        assertTrue(SwiftCharsetUtils.validate((SwiftMessage) null, SwiftCharset.x).isEmpty());
+    }
 }
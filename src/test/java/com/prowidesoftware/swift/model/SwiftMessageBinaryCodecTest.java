@@ -0,0 +1,138 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Test cases for the binary message serialization
+ *
+ * @since 9.3.9
+ */
+public class SwiftMessageBinaryCodecTest {
+
+    private static final String FIN_INPUT = "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBUSBBXXXXN}{3:{108:MUR}{121:8f2c3b2f-0c8d-4b49-b6ff-d2c1f0c0f9b1}}{4:\n" +
+            ":20:REF<&>ñ\n" +
+            ":32A:130204USD1234567,89\n" +
+            ":50K:/12345678901234567890\nFOOBANKXXXXX\n" +
+            ":59:JOE DOE\n" +
+            ":71A:OUR\n" +
+            ":ZZZ:UNKNOWN\n" +
+            "-}{5:{CHK:123456789ABC}{PDE:}}";
+
+    private static final String FIN_OUTPUT = "{1:F01AAAABBCCXXXX0000000000}{2:O9401157080229BBBBUSBBAXXX00000000000802291157N}{4:\n" +
+            ":20:STATEMENT\n" +
+            ":25:1234567890\n" +
+            ":28C:1/1\n" +
+            ":60F:C080229USD1000,\n" +
+            ":62F:C080229USD1000,\n" +
+            "-}{S:{SAC:}{COP:P}}";
+
+    private static final String ACK = "{1:F21FOOLBE22AXXX0000000000}{4:{177:1406051200}{451:0}}" +
+            "{1:F01FOOLBE22AXXX0000000000}{2:I999BBBBUSBBXXXXN}{4:\n:20:REFERENCE\n:79:TEXT\n-}";
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        for (String fin : Arrays.asList(FIN_INPUT, FIN_OUTPUT, ACK)) {
+            final SwiftMessage m = SwiftMessage.parse(fin);
+            final SwiftMessage decoded = SwiftMessageBinaryCodec.decode(SwiftMessageBinaryCodec.encode(m));
+            assertEquals(m, decoded);
+            assertEquals(m.message(), decoded.message());
+        }
+    }
+
+    @Test
+    public void testUnparsedTextsAndNulls() {
+        final SwiftMessage m = new SwiftMessage(false);
+        m.setBlock1(new SwiftBlock1());
+        final SwiftBlock4 b4 = new SwiftBlock4();
+        final Tag tag = new Tag("20", (String) null);
+        tag.setUnparsedTexts(new UnparsedTextList(Arrays.asList("foo", "bär")));
+        b4.append(tag);
+        b4.append(new Tag("1A", "VALUE"));
+        b4.setUnparsedTexts(new UnparsedTextList(Arrays.asList("block text")));
+        m.setBlock4(b4);
+        m.setUserBlocks(Arrays.asList(new SwiftBlockUser("S", Arrays.asList(new Tag("SAC", "")))));
+        m.getUserBlocks().get(0).setSortKey(3);
+
+        final SwiftMessage decoded = SwiftMessageBinaryCodec.decode(SwiftMessageBinaryCodec.encode(m));
+        assertEquals(m, decoded);
+        assertNull(decoded.getBlock2());
+        assertNull(decoded.getBlock4().getTags().get(0).getValue());
+        assertEquals("bär", decoded.getBlock4().getTags().get(0).getUnparsedTexts().getText(1));
+        assertEquals(3, decoded.getUserBlocks().get(0).getSortKey());
+        assertNull(decoded.unparsedTextsOrNull());
+    }
+
+    @Test
+    public void testStreams() throws IOException {
+        final SwiftMessage m1 = SwiftMessage.parse(FIN_INPUT);
+        final SwiftMessage m2 = SwiftMessage.parse(FIN_OUTPUT);
+
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(2048);
+        SwiftMessageBinaryCodec.encode(m1, buffer);
+        SwiftMessageBinaryCodec.encode(m2, buffer);
+        buffer.flip();
+        assertEquals(m1, SwiftMessageBinaryCodec.decode(buffer));
+        assertEquals(m2, SwiftMessageBinaryCodec.decode(buffer));
+        assertFalse(buffer.hasRemaining());
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        SwiftMessageBinaryCodec.encode(m1, (DataOutput) out);
+        SwiftMessageBinaryCodec.encode(m2, (DataOutput) out);
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals(m1, SwiftMessageBinaryCodec.decode((DataInput) in));
+        assertEquals(m2, SwiftMessageBinaryCodec.decode((DataInput) in));
+        assertThrows(EOFException.class, () -> SwiftMessageBinaryCodec.decode((DataInput) in));
+    }
+
+    @Test
+    public void testSize() throws IOException {
+        final SwiftMessage m = SwiftMessage.parse(FIN_INPUT);
+        final int size = SwiftMessageBinaryCodec.encode(m).length;
+        assertTrue(size < m.message().getBytes(StandardCharsets.UTF_8).length, "binary size " + size);
+        assertTrue(size < SwiftMessageJsonWriter.toJson(m, false).getBytes(StandardCharsets.UTF_8).length, "binary size " + size);
+    }
+
+    @Test
+    public void testInvalid() throws IOException {
+        final byte[] data = SwiftMessageBinaryCodec.encode(SwiftMessage.parse(FIN_INPUT));
+        assertThrows(IllegalArgumentException.class, () -> SwiftMessageBinaryCodec.decode(Arrays.copyOf(data, data.length - 5)));
+        data[0] = 99;
+        assertThrows(IllegalArgumentException.class, () -> SwiftMessageBinaryCodec.decode(data));
+    }
+
+    @Test
+    public void testCorruptedLengths() {
+        // user blocks count and block 1 application id length beyond the content
+        final byte[] userBlocks = {SwiftMessageBinaryCodec.VERSION, 64, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+        final byte[] text = {SwiftMessageBinaryCodec.VERSION, 1, 0, 0, 0, 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 'F'};
+        for (byte[] data : Arrays.asList(userBlocks, text)) {
+            assertThrows(IllegalArgumentException.class, () -> SwiftMessageBinaryCodec.decode(data));
+            // the length of a data input is not known, reading stops at its end
+            assertThrows(EOFException.class, () -> SwiftMessageBinaryCodec.decode((DataInput) new DataInputStream(new ByteArrayInputStream(data))));
+        }
+    }
+
+}
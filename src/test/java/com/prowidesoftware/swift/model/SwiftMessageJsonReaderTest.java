@@ -0,0 +1,119 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.google.gson.JsonParseException;
+import com.prowidesoftware.swift.model.mt.AbstractMT;
+import com.prowidesoftware.swift.model.mt.mt1xx.MT103;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Test cases for the streaming JSON deserialization and newline delimited JSON
+ *
+ * @since 9.3.9
+ */
+public class SwiftMessageJsonReaderTest {
+
+    private static final String FIN1 = "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBUSBBXXXXN}{3:{108:MUR}}{4:\n" +
+            ":20:REF<&>ñ\n" +
+            ":32A:130204USD1234567,89\n" +
+            ":50K:/12345678901234567890\nFOOBANKXXXXX\n" +
+            ":59:JOE DOE\n" +
+            ":71A:OUR\n" +
+            "-}{5:{CHK:123456789ABC}{PDE:}}";
+
+    private static final String FIN2 = "{1:F01AAAABBCCXXXX0000000000}{2:O9401157080229BBBBUSBBAXXX00000000000802291157N}{4:\n" +
+            ":20:STATEMENT\n" +
+            ":25:1234567890\n" +
+            ":28C:1/1\n" +
+            ":60F:C080229USD1000,\n" +
+            ":62F:C080229USD1000,\n" +
+            "-}";
+
+    @Test
+    public void testNdjsonRoundTrip() throws IOException {
+        final List<SwiftMessage> messages = Arrays.asList(SwiftMessage.parse(FIN1), SwiftMessage.parse(FIN2));
+        final StringWriter out = new StringWriter();
+        assertEquals(2, SwiftMessageJsonWriter.writeLines(messages.iterator(), out));
+        final String ndjson = out.toString();
+        assertEquals(2, ndjson.split("\n").length);
+
+        final List<String> read = new ArrayList<>();
+        try (SwiftMessageJsonReader reader = new SwiftMessageJsonReader(ndjson)) {
+            for (SwiftMessage m : reader) {
+                read.add(m.message());
+            }
+        }
+        assertEquals(Arrays.asList(messages.get(0).message(), messages.get(1).message()), read);
+    }
+
+    @Test
+    public void testMixedFormats() throws IOException {
+        final StringWriter out = new StringWriter();
+        SwiftMessageJsonWriter.writeLine(SwiftMessage.parse(FIN1).toMT(), out);
+        out.write("\n");
+        SwiftMessageJsonWriter.writeLine(SwiftMessage.parse(FIN2), out);
+
+        final SwiftMessageJsonReader reader = new SwiftMessageJsonReader(new ByteArrayInputStream(out.toString().getBytes(StandardCharsets.UTF_8)));
+        assertTrue(reader.hasNext());
+        final AbstractMT mt = reader.nextMT();
+        assertTrue(mt instanceof MT103);
+        assertEquals("REF<&>ñ", ((MT103) mt).getField20().getValue());
+        assertEquals(SwiftMessage.parse(FIN2).message(), reader.next().message());
+        assertFalse(reader.hasNext());
+        assertThrows(NoSuchElementException.class, reader::next);
+    }
+
+    @Test
+    public void testArray() throws IOException {
+        final String json = "[" + SwiftMessage.parse(FIN1).toJson() + ",\n" + SwiftMessage.parse(FIN2).toMT().toJson() + "]";
+        final SwiftMessageJsonReader reader = new SwiftMessageJsonReader(json);
+        assertEquals(SwiftMessage.parse(FIN1).message(), reader.next().message());
+        assertEquals("940", reader.next().getType());
+        assertFalse(reader.hasNext());
+        assertThrows(IllegalStateException.class, () -> {
+            reader.iterator();
+            reader.iterator();
+        });
+    }
+
+    @Test
+    public void testEmptyAndInvalid() {
+        assertFalse(new SwiftMessageJsonReader("").hasNext());
+        assertFalse(new SwiftMessageJsonReader("[]").hasNext());
+        assertThrows(JsonParseException.class, () -> new SwiftMessageJsonReader("[1]").next());
+        assertThrows(JsonParseException.class, () -> new SwiftMessageJsonReader("{\"data\":").next());
+    }
+
+    @Test
+    public void testFromJson() throws IOException {
+        final SwiftMessage m = SwiftMessage.parse(FIN1);
+        assertEquals(m.message(), SwiftMessage.fromJson(m.toJson()).message());
+        assertEquals(m.message(), AbstractMT.fromJson(m.toMT().toJson()).message());
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.prowidesoftware.swift.model.field.Field70;
+import com.prowidesoftware.swift.model.mt.AbstractMT;
+import com.prowidesoftware.swift.model.mt.AbstractMTAdapter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test cases for the streaming JSON serialization
+ *
+ * @since 9.3.9
+ */
+public class SwiftMessageJsonWriterTest {
+
+    private static final String FIN = "{1:F01AAAABBCCXXXX0000000000}{2:I103BBBBUSBBXXXXN}{3:{108:MUR}}{4:\n" +
+            ":20:REF<&>ñ\n" +
+            ":32A:130204USD1234567,89\n" +
+            ":50K:/12345678901234567890\nFOOBANKXXXXX\n" +
+            ":59:JOE DOE\n" +
+            ":70:/ROC/ABC\n" +
+            ":71A:OUR\n" +
+            "-}{5:{CHK:123456789ABC}{PDE:}}";
+
+    private static JsonObject parse(final String json) {
+        final JsonObject o = JsonParser.parseString(json).getAsJsonObject();
+        o.remove("timestamp");
+        return o;
+    }
+
+    /**
+     * The streaming output must be the same as the Gson tree based serialization with the adapters
+     */
+    @Test
+    public void testSameAsAdapters() throws IOException {
+        final SwiftMessage m = SwiftMessage.parse(FIN);
+        final Gson gson = new GsonBuilder()
+                .registerTypeAdapter(SwiftMessage.class, new SwiftMessageAdapter())
+                .registerTypeAdapter(SwiftBlock2.class, new SwiftBlock2Adapter())
+                .setPrettyPrinting()
+                .create();
+        assertEquals(parse(gson.toJson(m)), parse(m.toJson()));
+
+        final AbstractMT mt = m.toMT();
+        final Gson mtGson = new GsonBuilder()
+                .registerTypeAdapter(AbstractMT.class, new AbstractMTAdapter())
+                .setPrettyPrinting()
+                .create();
+        assertEquals(mtGson.toJson(mt, AbstractMT.class), mt.toJson());
+    }
+
+    @Test
+    public void testCompact() throws IOException {
+        final SwiftMessage m = SwiftMessage.parse(FIN);
+        final String compact = SwiftMessageJsonWriter.toJson(m, false);
+        assertFalse(compact.contains("\n"));
+        assertEquals(parse(m.toJson()), parse(compact));
+
+        final String mtCompact = SwiftMessageJsonWriter.toJson(m.toMT(), false);
+        assertFalse(mtCompact.contains("\n"));
+        assertEquals(JsonParser.parseString(m.toMT().toJson()), JsonParser.parseString(mtCompact));
+    }
+
+    @Test
+    public void testOutputStream() throws IOException {
+        final SwiftMessage m = SwiftMessage.parse(FIN);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SwiftMessageJsonWriter.write(m, out, false);
+        final JsonObject o = parse(new String(out.toByteArray(), StandardCharsets.UTF_8));
+        assertEquals("REF<&>ñ", o.getAsJsonObject("data").getAsJsonObject("block4")
+                .getAsJsonArray("tags").get(0).getAsJsonObject().get("value").getAsString());
+
+        out.reset();
+        SwiftMessageJsonWriter.write(m.toMT(), out, true);
+        assertEquals(m.toMT().toJson(), new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testEmpty() {
+        final JsonObject o = parse(new SwiftMessage().toJson());
+        assertEquals(SwiftMessage.JSON_VERSION, o.get("version").getAsInt());
+        assertEquals(0, o.getAsJsonObject("data").size());
+    }
+
+    @Test
+    public void testNarrativeField() {
+        final String json = new Field70("/ROC/ABC").toJson();
+        assertEquals("{\"name\":\"70\",\"narrative\":\"/ROC/ABC\",\"structured\":[{\"narrativeFragments\":[\"ABC\"]," +
+                "\"narrativeSupplementFragments\":[],\"codeword\":\"ROC\"}],\"unstructuredFragments\":[]}", json);
+    }
+
+}
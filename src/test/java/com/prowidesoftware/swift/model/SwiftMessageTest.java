@@ -460,4 +460,78 @@ public class SwiftMessageTest {
         assertFalse(new MT198().getSwiftMessage().isGpi());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testFreeze() throws IOException {
+        final String fin = "{1:F01BANKBEBBAXXX2222123456}{2:I103BANKDEFFXXXXU3003}{3:{108:MUR123}}{4:\n" +
+                ":20:REFERENCE\n" +
+                ":23B:CRED\n" +
+                ":32A:060926EUR1234,56\n" +
+                ":50K:/12345678\n" +
+                "FOO\n" +
+                ":59:/12345678\n" +
+                "BAR\n" +
+                ":71A:OUR\n" +
+                "-}{5:{CHK:F9351591947F}}{S:{SAC:}{COP:P}}";
+        final SwiftMessage m = SwiftMessage.parse(fin);
+        final SwiftMessage frozen = m.freeze();
+
+        assertNotSame(m, frozen);
+        assertTrue(frozen.isFrozen());
+        assertFalse(m.isFrozen());
+        assertSame(frozen, frozen.freeze());
+        assertEquals(m, frozen);
+        assertEquals(m.message(), frozen.message());
+
+        // structure is copied but values are shared
+        assertNotSame(m.getBlock4().getTag(0), frozen.getBlock4().getTag(0));
+        assertSame(m.getBlock4().getTag(0).getValue(), frozen.getBlock4().getTag(0).getValue());
+
+        // reading lazy initialized attributes does not modify the snapshot
+        assertEquals(0, frozen.getUnparsedTexts().size());
+        assertEquals(0, frozen.getBlock4().getTag(0).getUnparsedTexts().size());
+
+        assertThrows(UnsupportedOperationException.class, () -> frozen.setBlock3(null));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.setUETR("foo"));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.unparsedTextAddText("foo"));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.getUserBlocks().clear());
+        assertThrows(UnsupportedOperationException.class, () -> frozen.getBlock1().setSessionNumber("1234"));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.getBlock2().setMessageType("202"));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.getBlock4().append(new Tag("72", "foo")));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.getBlock4().removeTag("20"));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.getBlock4().getTags().clear());
+        assertThrows(UnsupportedOperationException.class, () -> frozen.getBlock4().getTag(0).setValue("foo"));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.getBlock4().getTag(0).getUnparsedTexts().addText("foo"));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.getUserBlock("S").setSortKey(1));
+
+        // changes in the original message are not reflected in the snapshot
+        m.getBlock4().getTagByName("20").setValue("CHANGED");
+        m.getBlock4().append(new Tag("72", "foo"));
+        assertEquals("REFERENCE", frozen.getBlock4().getTagValue("20"));
+        assertNull(frozen.getBlock4().getTagByName("72"));
+    }
+
+    @Test
+    public void testThaw() throws IOException {
+        final SwiftMessage m = SwiftMessage.parse("{1:F01BANKBEBBAXXX2222123456}{2:O1031200970103BANKBEBBAXXX22221234569701031201N}{4:\n:20:REFERENCE\n-}");
+        m.getBlock4().getTag(0).unparsedTextAddText("foo");
+        final SwiftMessage frozen = m.freeze();
+        final SwiftMessage thawed = frozen.thaw();
+
+        assertFalse(thawed.isFrozen());
+        assertEquals(frozen, thawed);
+        assertTrue(thawed.getBlock2() instanceof SwiftBlock2Output);
+        assertEquals(m.getBlock2().getValue(), thawed.getBlock2().getValue());
+
+        thawed.getBlock4().getTag(0).setValue("CHANGED");
+        thawed.getBlock4().getTag(0).unparsedTextAddText("bar");
+        thawed.getBlock4().append(new Tag("72", "foo"));
+        thawed.setUETR("foo");
+
+        assertEquals("REFERENCE", frozen.getBlock4().getTagValue("20"));
+        assertEquals(1, frozen.getBlock4().getTag(0).getUnparsedTextsSize());
+        assertEquals(1, frozen.getBlock4().size());
+        assertNull(frozen.getBlock3());
+        assertEquals(2, thawed.getBlock4().getTag(0).getUnparsedTextsSize());
+    }
+
+}
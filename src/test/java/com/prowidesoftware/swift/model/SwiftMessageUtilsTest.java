@@ -17,6 +17,7 @@ package com.prowidesoftware.swift.model;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.prowidesoftware.swift.io.writer.SwiftWriter;
 import com.prowidesoftware.swift.model.field.*;
 import com.prowidesoftware.swift.model.mt.mt1xx.MT103;
 import com.prowidesoftware.swift.model.mt.mt5xx.MT502;
@@ -27,12 +28,20 @@ import com.prowidesoftware.swift.utils.Lib;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Calendar;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class SwiftMessageUtilsTest {
 
@@ -322,4 +331,99 @@ public class SwiftMessageUtilsTest {
         assertEquals("REF3", SwiftMessageUtils.reference(mt3.getSwiftMessage()));
     }
 
+    @Test
+    public void testCalculateChecksum() throws Exception {
+        assertNull(SwiftMessageUtils.calculateChecksum((SwiftMessage) null));
+        assertNull(SwiftMessageUtils.calculateChecksum((SwiftBlock4) null));
+
+        final SwiftMessage m = checksumSample();
+        final String fin = fin(m);
+
+        // the default checksum is the MD5 hexadecimal of the FIN content
+        final String md5 = SwiftMessageUtils.calculateChecksum(m);
+        assertEquals(hex(MessageDigest.getInstance("MD5").digest(fin.getBytes(StandardCharsets.UTF_8))), md5);
+        assertEquals(32, md5.length());
+        assertEquals(md5, SwiftMessageUtils.calculateChecksum(m, ChecksumAlgorithm.MD5, ChecksumEncoding.HEX));
+
+        final StringWriter writer = new StringWriter();
+        SwiftWriter.writeBlock4(m.getBlock4(), writer);
+        final byte[] body = MessageDigest.getInstance("MD5").digest(writer.toString().getBytes(StandardCharsets.UTF_8));
+        assertEquals(hex(body), SwiftMessageUtils.calculateChecksum(m.getBlock4()));
+        assertNotEquals(md5, SwiftMessageUtils.calculateChecksum(m.getBlock4()));
+
+        // the reused digest gives the same result on repeated computations
+        assertEquals(md5, SwiftMessageUtils.calculateChecksum(m));
+    }
+
+    @Test
+    public void testCalculateChecksumAlgorithms() throws Exception {
+        final SwiftMessage m = checksumSample();
+        final byte[] bytes = fin(m).getBytes(StandardCharsets.UTF_8);
+
+        final byte[] sha = MessageDigest.getInstance("SHA-256").digest(bytes);
+        assertEquals(hex(sha), SwiftMessageUtils.calculateChecksum(m, ChecksumAlgorithm.SHA_256, ChecksumEncoding.HEX));
+        assertEquals(Base64.getEncoder().withoutPadding().encodeToString(sha), SwiftMessageUtils.calculateChecksum(m, ChecksumAlgorithm.SHA_256, ChecksumEncoding.BASE64));
+
+        assertEquals(22, SwiftMessageUtils.calculateChecksum(m, ChecksumAlgorithm.MD5, ChecksumEncoding.BASE64).length());
+
+        final String murmur = SwiftMessageUtils.calculateChecksum(m, ChecksumAlgorithm.MURMUR3_128, ChecksumEncoding.HEX);
+        assertEquals(hex(ChecksumAlgorithm.MURMUR3_128.newDigest().digest(bytes)), murmur);
+        assertEquals(32, murmur.length());
+
+        // a change in the content changes the hash
+        m.getBlock4().getTagByName("20").setValue("REFERENCE2");
+        assertNotEquals(murmur, SwiftMessageUtils.calculateChecksum(m, ChecksumAlgorithm.MURMUR3_128, ChecksumEncoding.HEX));
+    }
+
+    @Test
+    public void testCalculateChecksumNonAscii() throws Exception {
+        final SwiftMessage m = checksumSample();
+        // two and three bytes characters, a surrogate pair, and an unpaired surrogate
+        m.getBlock4().append(new Tag("79", "caf\u00e9 \u20ac \ud83d\ude00 \ud800x"));
+        final byte[] bytes = fin(m).getBytes(StandardCharsets.UTF_8);
+        assertEquals(hex(MessageDigest.getInstance("MD5").digest(bytes)), SwiftMessageUtils.calculateChecksum(m));
+    }
+
+    @Test
+    public void testCalculateChecksumThreads() throws Exception {
+        final SwiftMessage m = checksumSample();
+        final String expected = SwiftMessageUtils.calculateChecksum(m, ChecksumAlgorithm.SHA_256, ChecksumEncoding.HEX);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                results.add(executor.submit(() -> SwiftMessageUtils.calculateChecksum(m, ChecksumAlgorithm.SHA_256, ChecksumEncoding.HEX)));
+            }
+            for (Future<String> result : results) {
+                assertEquals(expected, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static SwiftMessage checksumSample() {
+        final MT103 mt = new MT103("AAAAUSXXXXX", "BBBBUSXXXXX");
+        mt.append(Field20.tag("REFERENCE"));
+        mt.append(Field23B.tag("CRED"));
+        mt.append(Field32A.tag("210101USD1234,56"));
+        mt.append(Field59.tag("/12345\nJOHN DOE"));
+        mt.append(Field71A.tag("OUR"));
+        return mt.getSwiftMessage();
+    }
+
+    private static String fin(final SwiftMessage m) {
+        final StringWriter writer = new StringWriter();
+        SwiftWriter.writeMessage(m, writer, true);
+        return writer.toString();
+    }
+
+    private static String hex(final byte[] hash) {
+        final StringBuilder result = new StringBuilder();
+        for (byte b : hash) {
+            result.append(String.format("%02x", b));
+        }
+        return result.toString();
+    }
+
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model.field;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.prowidesoftware.swift.utils.ResolverUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Test for the precomputed component types positions
+ *
+ * @since 9.3.9
+ */
+public class ComponentTypesTest {
+
+    @Test
+    public void testPositions() {
+        final ComponentTypes types = ComponentTypes.of(new Field32A());
+        assertArrayEquals(new int[]{2}, types.positions('C'));
+        assertArrayEquals(new int[]{3}, types.positions('I'));
+        assertArrayEquals(new int[]{1}, types.dates());
+        assertEquals('E', types.type(1));
+        assertEquals(0, types.positions('B').length);
+        assertSame(types, ComponentTypes.of(new Field32A()));
+        assertEquals(0, ComponentTypes.of((String) null).dates().length);
+    }
+
+    /**
+     * The tables must match the pattern scan of ResolverUtils for all the types
+     */
+    @Test
+    public void testMatchesResolverUtils() {
+        for (String pattern : Arrays.asList("EJI", "SSEE", "SSDD", "SCCSI", "KSNJ", "IYCDAUPJF")) {
+            final ComponentTypes types = ComponentTypes.of(pattern);
+            for (char type : "ABCDEFIJKNSUY".toCharArray()) {
+                assertEquals(ResolverUtils.findWantedTypesPosition(pattern, type),
+                        Arrays.stream(types.positions(type)).boxed().collect(Collectors.toList()), pattern + " " + type);
+            }
+            assertEquals(ResolverUtils.findWantedTypesPosition(pattern, ComponentTypes.DATE_TYPES),
+                    Arrays.stream(types.dates()).boxed().collect(Collectors.toList()), pattern);
+        }
+    }
+
+}
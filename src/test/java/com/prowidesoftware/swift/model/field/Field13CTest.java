@@ -0,0 +1,47 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model.field;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+public class Field13CTest extends AbstractFieldTest {
+
+    @Override
+    @Test
+    public void testSerialization() {
+        testSerializationImpl("13C",
+                "/SNDTIME/1249+0100"
+        );
+    }
+
+    @Test
+    public void testZoneOffset() {
+        Field13C f = new Field13C("/SNDTIME/1249-0230");
+        assertEquals(java.time.ZoneOffset.ofHoursMinutes(-2, -30), f.getOffsetAsZoneOffset());
+        assertEquals(java.time.OffsetTime.of(12, 49, 0, 0, java.time.ZoneOffset.ofHoursMinutes(-2, -30)), f.getTimeIndicationAsOffsetTime());
+
+        f = new Field13C("/SNDTIME/1249+0100");
+        assertEquals(java.time.ZoneOffset.ofHours(1), f.getOffsetAsZoneOffset());
+
+        f = new Field13C("/SNDTIME/1249");
+        assertNull(f.getOffsetAsZoneOffset());
+        assertNull(f.getTimeIndicationAsOffsetTime());
+    }
+
+}
@@ -143,4 +143,20 @@ public class Field13DTest extends AbstractFieldTest {
         assertEquals("ddddx", f.getComponent4());
     }
 
+    @Test
+    public void testZoneOffset() {
+        Field13D f = new Field13D("1212121015-0230");
+        assertEquals(java.time.ZoneOffset.ofHoursMinutes(-2, -30), f.getOffsetAsZoneOffset());
+        assertEquals(java.time.OffsetTime.of(10, 15, 0, 0, java.time.ZoneOffset.ofHoursMinutes(-2, -30)), f.getTimeAsOffsetTime());
+        assertEquals(java.time.OffsetDateTime.of(2012, 12, 12, 10, 15, 0, 0, java.time.ZoneOffset.ofHoursMinutes(-2, -30)), f.getDateTimeAsOffsetDateTime());
+
+        f = new Field13D("1212121015+0100");
+        assertEquals(java.time.ZoneOffset.ofHours(1), f.getOffsetAsZoneOffset());
+
+        f = new Field13D("1212121015");
+        assertNull(f.getOffsetAsZoneOffset());
+        assertNull(f.getTimeAsOffsetTime());
+        assertNull(f.getDateTimeAsOffsetDateTime());
+    }
+
 }
\ No newline at end of file
@@ -42,6 +42,7 @@ public class Field32ATest extends AbstractFieldTest {
         assertEquals(3, f.getComponent1AsCalendar().get(Calendar.DATE));
         assertEquals("USD", f.getComponent2());
         assertEquals(new BigDecimal("123"), f.getComponent3AsBigDecimal());
+        assertEquals(java.time.LocalDate.of(2001, 2, 3), f.getDateAsLocalDate());
         //081001USD30625,00
     }
 
@@ -16,6 +16,7 @@
 package com.prowidesoftware.swift.model.field;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.apache.commons.lang3.StringUtils;
@@ -189,4 +190,24 @@ public class Field98ETest extends AbstractFieldTest {
         assertEquals("2020", f.getComponent6());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testOffsetDateTime() {
+        Field98E f = new Field98E(":abc//20121212101530,5/N0230");
+        assertEquals(java.time.LocalDate.of(2012, 12, 12), f.getDateAsLocalDate());
+        assertEquals(java.time.LocalTime.of(10, 15, 30), f.getTimeAsLocalTime());
+        assertEquals(java.time.OffsetDateTime.of(2012, 12, 12, 10, 15, 30, 500_000_000, java.time.ZoneOffset.ofHoursMinutes(-2, -30)), f.getDateTimeAsOffsetDateTime());
+
+        f = new Field98E(":abc//20121212101530/02");
+        assertEquals(java.time.OffsetDateTime.of(2012, 12, 12, 10, 15, 30, 0, java.time.ZoneOffset.ofHours(2)), f.getDateTimeAsOffsetDateTime());
+
+        assertNull(new Field98E(":abc//20121212101530").getDateTimeAsOffsetDateTime());
+    }
+
+    @Test
+    public void testZoneOffset() {
+        assertEquals(java.time.ZoneOffset.ofHoursMinutes(-2, -30), new Field98E(":abc//20121212101530,5/N0230").getOffsetAsZoneOffset());
+        assertEquals(java.time.ZoneOffset.ofHours(2), new Field98E(":abc//20121212101530/02").getOffsetAsZoneOffset());
+        assertNull(new Field98E(":abc//20121212101530").getOffsetAsZoneOffset());
+    }
+
+}
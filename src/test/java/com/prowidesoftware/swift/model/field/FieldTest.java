@@ -22,7 +22,13 @@ import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Test for base class Field.
@@ -159,6 +165,28 @@ public class FieldTest {
         assertEquals("Currency", Field.getLabel("11A", "500", "B1", new Locale("en")));
     }
 
+    @Test
+    public void testLabelCached() {
+        final Locale en = new Locale("en");
+        assertEquals("Currency", Field.getLabel("11A", "500", "B1", en));
+        // second call served from the labels cache
+        assertEquals("Currency", Field.getLabel("11A", "500", "B1", en));
+        assertEquals("field999.name", Field.getLabel("999", null, null, en));
+        assertEquals("field999.name", Field.getLabel("999", null, null, en));
+        assertThrows(NullPointerException.class, () -> Field.getLabel("20", null, null, null));
+    }
+
+    @Test
+    public void testLabels() {
+        final Locale en = new Locale("en");
+        final Map<String, String> labels = Field.getLabels(Arrays.asList("20", "32A", "50K", "20"), "103", null, en);
+        assertEquals(Arrays.asList("20", "32A", "50K"), new ArrayList<>(labels.keySet()));
+        for (Map.Entry<String, String> e : labels.entrySet()) {
+            assertEquals(Field.getLabel(e.getKey(), "103", null, en), e.getValue());
+        }
+        assertEquals(Field.getLabel("20", null, null), Field.getLabels(Arrays.asList("20"), null, null, null).get("20"));
+    }
+
     @Test
     //TODO add API for partyfields structure like field 83J
     public void testGetValueByCodewordWorkaround() {
@@ -314,4 +342,64 @@ public class FieldTest {
         assertEquals("", t.getValue());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testEqualsAndHashCode() {
+        Field32A f1 = new Field32A("210518USD1234,56");
+        Field32A f2 = new Field32A("210518USD1234,56");
+        assertEquals(f1, f2);
+        assertEquals(f1.hashCode(), f2.hashCode());
+
+        f2.setAmount("1,");
+        assertNotEquals(f1, f2);
+
+        // same components in a different field are not equal
+        Field32B b = new Field32B("USD1234,56");
+        Field33B b2 = new Field33B("USD1234,56");
+        assertNotEquals(b, b2);
+        assertNotEquals(b, null);
+        assertEquals(b, b);
+
+        Set<Field> set = new HashSet<>();
+        set.add(f1);
+        set.add(new Field32A("210518USD1234,56"));
+        set.add(b);
+        set.add(b2);
+        assertEquals(3, set.size());
+    }
+
+    @Test
+    public void testToString() {
+        Field32A f = new Field32A("210518USD1234,56");
+        assertTrue(f.toString().startsWith(Field32A.class.getName() + "@"));
+        assertTrue(f.toString().endsWith("[components=[210518, USD, 1234,56]]"));
+    }
+
+    @Test
+    public void testComponentsStorage() {
+        Field32A f = new Field32A("210518USD1234,56");
+        assertEquals(3, f.getComponentsCount());
+        assertEquals(Arrays.asList("210518", "USD", "1234,56"), f.getComponents());
+
+        // the list is a view on the field components
+        f.getComponents().set(1, "EUR");
+        assertEquals("EUR", f.getCurrency());
+        assertThrows(UnsupportedOperationException.class, () -> f.getComponents().add("foo"));
+
+        // setComponents copies the parameter list
+        List<String> list = new ArrayList<>(Arrays.asList("220101", "ARS", "1,"));
+        f.setComponents(list);
+        list.set(1, "USD");
+        assertEquals("ARS", f.getCurrency());
+
+        Field32A cp = Field32A.newInstance(f);
+        assertEquals(f, cp);
+        cp.setCurrency("BRL");
+        assertEquals("ARS", f.getCurrency());
+
+        f.setComponents(null);
+        assertNull(f.getComponents());
+        assertEquals(0, f.getComponentsCount());
+        assertNull(f.getComponent(1));
+    }
+
+}
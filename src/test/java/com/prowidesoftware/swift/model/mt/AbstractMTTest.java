@@ -70,6 +70,32 @@ public class AbstractMTTest {
         assertEquals("bar2", Bs.get(1).getTag(2).getValue());
     }
 
+    @Test
+    public void testContainsSequence() {
+        AbstractMT o = new MT102();
+        assertTrue(o.containsSequence("A"));
+        assertTrue(o.containsSequenceList("B"));
+        assertFalse(o.containsSequence("Z"));
+        assertFalse(o.containsSequenceList("Z"));
+        assertNull(o.getSequence("Z"));
+        assertNull(o.getSequenceList("Z"));
+
+        AbstractMT mt547 = new MT547();
+        assertTrue(mt547.containsSequence("GENL"));
+        assertTrue(mt547.containsSequenceList("A1"));
+    }
+
+    @Test
+    public void testGetSequenceFromBlock() {
+        SwiftTagListBlock block = MT102.SequenceA.newInstance(Field32A.tag("foo"))
+                .append(MT102.SequenceB.newInstance(Field32A.tag("bar")))
+                .append(MT102.SequenceB.newInstance(Field32A.tag("bar1")));
+        AbstractMT o = new MT102();
+        assertEquals(2, o.getSequenceList("B", block).size());
+        assertNotNull(o.getSequence("A", block));
+        assertNull(o.getSequence("Z", block));
+    }
+
     @Test
     public void test_conversin_to_xml() {
         String fin = "{1:F01FMACUS33AXXX1625159979}{2:O5471302141113CHASUSU9AXXX05821058501411131302N}{3:{108:001823CQ1833911}}{4:\n" +
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.model.mt;
+
+import com.prowidesoftware.swift.model.SwiftBlock3;
+import com.prowidesoftware.swift.model.SwiftMessage;
+import com.prowidesoftware.swift.model.Tag;
+import com.prowidesoftware.swift.model.mt.mt0xx.MT008;
+import com.prowidesoftware.swift.model.mt.mt1xx.MT103;
+import com.prowidesoftware.swift.model.mt.mt1xx.MT103_REMIT;
+import com.prowidesoftware.swift.model.mt.mt1xx.MT103_STP;
+import com.prowidesoftware.swift.model.mt.mt2xx.MT202COV;
+import com.prowidesoftware.swift.model.mt.mt2xx.MT205COV;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MTRegistryTest {
+
+    @Test
+    public void testGet() {
+        assertTrue(MTRegistry.contains(103, null));
+        assertTrue(MTRegistry.contains(103, MTVariant.STP));
+        assertTrue(MTRegistry.contains(103, MTVariant.REMIT));
+        assertTrue(MTRegistry.contains(202, MTVariant.COV));
+        assertTrue(MTRegistry.contains(8, null));
+        assertFalse(MTRegistry.contains(103, MTVariant.COV));
+        assertFalse(MTRegistry.contains(106, null));
+        assertFalse(MTRegistry.contains(-1, null));
+
+        assertTrue(MTRegistry.create(8, null, new SwiftMessage(true)) instanceof MT008);
+        assertTrue(MTRegistry.create(103, null, new SwiftMessage(true)) instanceof MT103);
+        assertTrue(MTRegistry.create(103, MTVariant.STP, new SwiftMessage(true)) instanceof MT103_STP);
+        assertTrue(MTRegistry.create(205, MTVariant.COV, new SwiftMessage(true)) instanceof MT205COV);
+        assertNull(MTRegistry.create(106, null, new SwiftMessage(true)));
+    }
+
+    @Test
+    public void testToMtVariants() {
+        SwiftMessage m = new MT103().getSwiftMessage();
+        assertTrue(m.toMT() instanceof MT103);
+
+        m.setBlock3(new SwiftBlock3());
+        m.getBlock3().append(new Tag("119", "STP"));
+        assertTrue(m.toMT() instanceof MT103_STP);
+
+        m.getBlock3().getTagByName("119").setValue("REMIT");
+        assertTrue(m.toMT() instanceof MT103_REMIT);
+
+        // unexpected variant for the message type falls back to the plain MT
+        m.getBlock3().getTagByName("119").setValue("COV");
+        assertTrue(m.toMT() instanceof MT103);
+
+        SwiftMessage cov = AbstractMT.create(202).getSwiftMessage();
+        cov.setBlock3(new SwiftBlock3());
+        cov.getBlock3().append(new Tag("119", "COV"));
+        assertTrue(cov.toMT() instanceof MT202COV);
+    }
+
+}
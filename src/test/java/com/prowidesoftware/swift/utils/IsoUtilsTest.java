@@ -15,12 +15,15 @@
  */
 package com.prowidesoftware.swift.utils;
 
-import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Currency;
+import java.util.HashSet;
+import java.util.Set;
+
 /**
  * test cases for {@link IsoUtils}
  */
@@ -152,4 +155,53 @@ public class IsoUtilsTest {
         IsoUtils.getInstance().getCurrencies().remove("DSZ");
     }
 
+    @Test
+    public void testCodesInText() {
+        final IsoUtils iso = IsoUtils.getInstance();
+        assertTrue(iso.isValidISOCurrency("121212USD1234,", 6));
+        assertFalse(iso.isValidISOCurrency("121212USD1234,", 5));
+        assertFalse(iso.isValidISOCurrency("121212US", 6));
+        assertFalse(iso.isValidISOCurrency("USD", -1));
+        assertFalse(iso.isValidISOCurrency(null, 0));
+        assertTrue(iso.isValidISOCountry(new StringBuilder("DEUTDEFF"), 4));
+        assertTrue(iso.isValidISOCountry("DEUTXKFF", 4));
+        assertFalse(iso.isValidISOCountry("DEUTZZFF", 4));
+        assertFalse(iso.isValidISOCountry("DEUTdeFF", 4));
+        assertFalse(iso.isValidISOCountry("DE", 1));
+    }
+
+    @Test
+    public void testCodesSync() {
+        final IsoUtils iso = IsoUtils.getInstance();
+        assertFalse(iso.isValidISOCountry("AAZZ", 2));
+        iso.getCountries().add("ZZ");
+        assertTrue(iso.isValidISOCountry("AAZZ", 2));
+        iso.getCountries().removeIf("ZZ"::equals);
+        assertFalse(iso.isValidISOCountry("AAZZ", 2));
+
+        final Set<String> currencies = iso.getCurrencies();
+        try {
+            final Set<String> custom = new HashSet<>();
+            custom.add("ABC");
+            custom.add("a1");
+            iso.setCurrencies(custom);
+            assertTrue(iso.isValidISOCurrency("ABC"));
+            assertFalse(iso.isValidISOCurrency("USD"));
+            iso.getCurrencies().clear();
+            assertFalse(iso.isValidISOCurrency("ABC"));
+        } finally {
+            iso.setCurrencies(currencies);
+        }
+        assertTrue(iso.isValidISOCurrency("USD"));
+    }
+
+    @Test
+    public void testGetCurrency() {
+        assertSame(Currency.getInstance("EUR"), IsoUtils.getCurrency("33BEUR1,", 3));
+        assertSame(Currency.getInstance("USD"), SwiftFormatUtils.getCurrency("USD"));
+        assertNull(IsoUtils.getCurrency("33BEU", 3));
+        assertNull(IsoUtils.getCurrency("XYZ", 0));
+        assertThrows(IllegalArgumentException.class, () -> SwiftFormatUtils.getCurrency("XYZ"));
+    }
+
 }
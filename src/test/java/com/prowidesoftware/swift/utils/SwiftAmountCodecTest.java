@@ -0,0 +1,113 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Random;
+
+public class SwiftAmountCodecTest {
+
+    @Test
+    public void testParseUnscaled() {
+        assertEquals(123456, SwiftAmountCodec.parseUnscaled("1234,56"));
+        assertEquals(2, SwiftAmountCodec.scale("1234,56"));
+        assertEquals(1234, SwiftAmountCodec.parseUnscaled("1234,"));
+        assertEquals(0, SwiftAmountCodec.scale("1234,"));
+        assertEquals(5, SwiftAmountCodec.parseUnscaled(",5"));
+        assertEquals(-125, SwiftAmountCodec.parseUnscaled("-12,5"));
+        assertEquals(Long.MAX_VALUE, SwiftAmountCodec.parseUnscaled("9223372036854775807"));
+
+        assertEquals(SwiftAmountCodec.INVALID, SwiftAmountCodec.parseUnscaled("9223372036854775808"));
+        assertEquals(SwiftAmountCodec.INVALID, SwiftAmountCodec.parseUnscaled("1,2,3"));
+        assertEquals(SwiftAmountCodec.INVALID, SwiftAmountCodec.parseUnscaled("1.5"));
+        assertEquals(SwiftAmountCodec.INVALID, SwiftAmountCodec.parseUnscaled(","));
+        assertEquals(SwiftAmountCodec.INVALID, SwiftAmountCodec.parseUnscaled(""));
+        assertEquals(SwiftAmountCodec.INVALID, SwiftAmountCodec.parseUnscaled(null));
+        assertEquals(-1, SwiftAmountCodec.scale("1,2,3"));
+        assertEquals(-1, SwiftAmountCodec.scale(null));
+    }
+
+    @Test
+    public void testRescale() {
+        assertEquals(1234500, SwiftAmountCodec.rescale(12345, 2, 4));
+        assertEquals(1234, SwiftAmountCodec.rescale(123400, 4, 2));
+        assertEquals(SwiftAmountCodec.INVALID, SwiftAmountCodec.rescale(123456, 4, 2));
+        assertEquals(-12, SwiftAmountCodec.rescale(-1200, 2, 0));
+        assertEquals(0, SwiftAmountCodec.rescale(0, 25, 2));
+        assertEquals(SwiftAmountCodec.INVALID, SwiftAmountCodec.rescale(1, 25, 2));
+        assertEquals(SwiftAmountCodec.INVALID, SwiftAmountCodec.rescale(Long.MAX_VALUE / 10, 0, 2));
+        assertEquals(SwiftAmountCodec.INVALID, SwiftAmountCodec.rescale(SwiftAmountCodec.INVALID, 0, 2));
+    }
+
+    @Test
+    public void testParse() {
+        assertEquals(new BigDecimal("1234.56"), SwiftAmountCodec.parse("1234,56"));
+        assertEquals(new BigDecimal("1234.50"), SwiftAmountCodec.parse("1234,50"));
+        assertEquals(new BigDecimal("1234"), SwiftAmountCodec.parse("1234,"));
+        assertEquals(new BigDecimal("12.3400"), SwiftAmountCodec.parse("00012,3400"));
+        assertEquals(new BigDecimal("1234567890123456789012.123456789"), SwiftAmountCodec.parse("1234567890123456789012,123456789"));
+        assertNull(SwiftAmountCodec.parse("123abc"));
+        assertNull(SwiftAmountCodec.parse(null));
+    }
+
+    @Test
+    public void testFormat() {
+        assertEquals("1234,", SwiftAmountCodec.format(new BigDecimal("1234.00")));
+        assertEquals("1234,", SwiftAmountCodec.format(new BigDecimal("1234")));
+        assertEquals("1234,56", SwiftAmountCodec.format(new BigDecimal("1234.56")));
+        assertEquals("1000,", SwiftAmountCodec.format(new BigDecimal("1E+3")));
+        assertEquals("-5,5", SwiftAmountCodec.format(new BigDecimal("-5.5")));
+        assertEquals("1,2345678901", SwiftAmountCodec.format(new BigDecimal("1.23456789012345")));
+        assertEquals("0,0000000002", SwiftAmountCodec.format(new BigDecimal("0.00000000015")));
+        assertEquals("12345678901234567890,5", SwiftAmountCodec.format(new BigDecimal("12345678901234567890.5")));
+        assertNull(SwiftAmountCodec.format(null));
+
+        assertEquals("1234,5", SwiftAmountCodec.format(123450, 2));
+        assertEquals("0,05", SwiftAmountCodec.format(5, 2));
+        assertEquals("-0,05", SwiftAmountCodec.format(-5, 2));
+        assertEquals("12300,", SwiftAmountCodec.format(123, -2));
+        assertEquals("-9223372036854775808,", SwiftAmountCodec.format(Long.MIN_VALUE, 0));
+    }
+
+    /**
+     * The codec must produce the same results as the DecimalFormat based implementation it replaces
+     */
+    @Test
+    public void testCompatibilityWithDecimalFormat() throws Exception {
+        final DecimalFormatSymbols symbols = new DecimalFormatSymbols();
+        symbols.setDecimalSeparator(',');
+        final DecimalFormat parser = new DecimalFormat("00.##", symbols);
+        parser.setParseBigDecimal(true);
+        final DecimalFormat formatter = new DecimalFormat("0.##########", symbols);
+        formatter.setDecimalSeparatorAlwaysShown(true);
+
+        final Random random = new Random(0);
+        for (int i = 0; i < 10000; i++) {
+            final BigDecimal value = BigDecimal.valueOf(random.nextLong() >> random.nextInt(64), random.nextInt(20) - 2);
+            assertEquals(formatter.format(value), SwiftAmountCodec.format(value), value.toString());
+
+            final String amount = formatter.format(value);
+            assertEquals(parser.parse(amount), SwiftAmountCodec.parse(amount), amount);
+        }
+    }
+
+}
@@ -20,8 +20,11 @@ import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
-import java.time.Year;
+import java.text.SimpleDateFormat;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
 import java.util.Calendar;
+import java.util.TimeZone;
 
 /**
  * Test for SwiftFormatUtils.
@@ -174,4 +177,102 @@ public class SwiftFormatUtilsTest {
         assertEquals(8, SwiftFormatUtils.decimalsInAmount(new BigDecimal("1.00012300")));
     }
 
+    @Test
+    public void testLocalDates() {
+        assertEquals(LocalDate.of(2007, 1, 31), SwiftFormatUtils.getLocalDate2("070131"));
+        assertNull(SwiftFormatUtils.getLocalDate2("070229"));
+        assertNull(SwiftFormatUtils.getLocalDate2("07013"));
+        assertNull(SwiftFormatUtils.getLocalDate2("07A131"));
+        assertNull(SwiftFormatUtils.getLocalDate2(null));
+
+        assertEquals(LocalDate.of(2020, 2, 29), SwiftFormatUtils.getLocalDate4("20200229"));
+        assertNull(SwiftFormatUtils.getLocalDate4("20210229"));
+        assertNull(SwiftFormatUtils.getLocalDate4("20211301"));
+        assertNull(SwiftFormatUtils.getLocalDate4("20211200"));
+
+        assertEquals(YearMonth.of(2021, 12), SwiftFormatUtils.getYearMonth("2112"));
+        assertNull(SwiftFormatUtils.getYearMonth("2113"));
+        assertEquals(Year.of(2021), SwiftFormatUtils.getLocalYear("2021"));
+        assertEquals(MonthDay.of(2, 29), SwiftFormatUtils.getLocalMonthDay("0229"));
+        assertNull(SwiftFormatUtils.getLocalMonthDay("0230"));
+
+        assertEquals(LocalDateTime.of(2021, 12, 31, 23, 59), SwiftFormatUtils.getLocalDateTime("202112312359"));
+        assertNull(SwiftFormatUtils.getLocalDateTime("202112312360"));
+        assertEquals(LocalDateTime.of(2021, 12, 31, 23, 59), SwiftFormatUtils.getLocalDateTimeShortYear("2112312359"));
+    }
+
+    @Test
+    public void testLocalTimes() {
+        assertEquals(LocalTime.of(23, 59, 58), SwiftFormatUtils.getLocalTime2("235958"));
+        assertNull(SwiftFormatUtils.getLocalTime2("235960"));
+        assertNull(SwiftFormatUtils.getLocalTime2("240000"));
+        assertEquals(LocalTime.of(12, 0), SwiftFormatUtils.getLocalTime3("12"));
+        assertEquals(LocalTime.of(12, 30), SwiftFormatUtils.getLocalTime3("1230"));
+        assertNull(SwiftFormatUtils.getLocalTime3("123"));
+        assertEquals(LocalTime.of(12, 30), SwiftFormatUtils.getLocalHhmm("1230"));
+        assertEquals(LocalTime.of(7, 0), SwiftFormatUtils.getLocalHour("07"));
+        assertNull(SwiftFormatUtils.getLocalHour("24"));
+    }
+
+    @Test
+    public void testOffsetDateTime() {
+        assertEquals(ZoneOffset.ofHoursMinutes(-3, -30), SwiftFormatUtils.getZoneOffset('N', "0330"));
+        assertEquals(ZoneOffset.ofHours(2), SwiftFormatUtils.getZoneOffset(null, "02"));
+        assertNull(SwiftFormatUtils.getZoneOffset(null, "1900"));
+        assertNull(SwiftFormatUtils.getZoneOffset(null, null));
+
+        final LocalDateTime dateTime = LocalDateTime.of(2021, 12, 31, 23, 59);
+        assertEquals(OffsetDateTime.of(dateTime, ZoneOffset.ofHours(-3)), SwiftFormatUtils.getOffsetDateTime(dateTime, 'N', "0300"));
+        assertNull(SwiftFormatUtils.getOffsetDateTime(null, 'N', "0300"));
+    }
+
+    @Test
+    public void testCalendarsMatchSimpleDateFormat() throws Exception {
+        final String[][] cases = {
+                {"070131", "yyMMdd"}, {"991231", "yyMMdd"}, {"450101", "yyMMdd"},
+                {"20200229", "yyyyMMdd"}, {"2112", "yyMM"}, {"2021", "yyyy"},
+                {"235958", "HHmmss"}, {"1230", "HHmm"}, {"07", "HH"},
+                {"202112312359", "yyyyMMddHHmm"}, {"7012312359", "yyMMddHHmm"}, {"311230", "ddHHmm"}
+        };
+        for (final String[] c : cases) {
+            final SimpleDateFormat sdf = new SimpleDateFormat(c[1]);
+            sdf.setLenient(false);
+            final Calendar expected = Calendar.getInstance();
+            expected.setTime(sdf.parse(c[0]));
+            final Calendar actual;
+            switch (c[1]) {
+                case "yyMMdd": actual = SwiftFormatUtils.getDate2(c[0]); break;
+                case "yyyyMMdd": actual = SwiftFormatUtils.getDate4(c[0]); break;
+                case "yyMM": actual = SwiftFormatUtils.getDate3(c[0]); break;
+                case "yyyy": actual = SwiftFormatUtils.getYear(c[0]); break;
+                case "HHmmss": actual = SwiftFormatUtils.getTime2(c[0]); break;
+                case "HHmm": actual = SwiftFormatUtils.getHhmm(c[0]); break;
+                case "HH": actual = SwiftFormatUtils.getHour(c[0]); break;
+                case "yyyyMMddHHmm": actual = SwiftFormatUtils.getDateTime(c[0]); break;
+                case "yyMMddHHmm": actual = SwiftFormatUtils.getDateTimeShortYear(c[0]); break;
+                default: actual = SwiftFormatUtils.getDayTime(c[0]);
+            }
+            assertEquals(expected.getTimeInMillis(), actual.getTimeInMillis(), c[0] + " " + c[1]);
+        }
+    }
+
+    @Test
+    public void testTwoDigitsYearWindowInDefaultTimeZone() throws Exception {
+        final TimeZone defaultZone = TimeZone.getDefault();
+        try {
+            for (final String zone : new String[]{"Pacific/Kiritimati", "Pacific/Pago_Pago", "UTC"}) {
+                TimeZone.setDefault(TimeZone.getTimeZone(zone));
+                final LocalDate start = LocalDate.now().minusYears(80);
+                for (final LocalDate date : new LocalDate[]{start.minusDays(1), start.plusDays(1)}) {
+                    final String yymmdd = date.format(DateTimeFormatter.ofPattern("yyMMdd"));
+                    final Calendar expected = Calendar.getInstance();
+                    expected.setTime(new SimpleDateFormat("yyMMdd").parse(yymmdd));
+                    assertEquals(expected.get(Calendar.YEAR), SwiftFormatUtils.getLocalDate2(yymmdd).getYear(), zone + " " + yymmdd);
+                }
+            }
+        } finally {
+            TimeZone.setDefault(defaultZone);
+        }
+    }
+
 }
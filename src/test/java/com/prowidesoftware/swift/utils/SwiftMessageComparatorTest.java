@@ -15,7 +15,9 @@
  */
 package com.prowidesoftware.swift.utils;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.prowidesoftware.swift.model.SwiftBlock1;
@@ -294,4 +296,73 @@ public class SwiftMessageComparatorTest {
         comp.setIgnoreBlock3(true);
         assertTrue(comp.compare(msg2, msg3) == 0);
     }
+    @Test
+    public void testFingerprint() throws IOException {
+        final String fin = "{1:F01FOOBARXAXXXX1234123456}{2:I103BBBBUSBBXXXXN}{3:{108:MUR}}{4:\n" +
+                ":20:REFERENCE\n" +
+                ":32A:130204USD1234567,89\n" +
+                ":70:LINE1\nLINE2\n" +
+                "-}{5:{CHK:123456789ABC}}";
+        final SwiftMessage left = SwiftMessage.parse(fin);
+        SwiftMessageComparator comp = new SwiftMessageComparator();
+        assertEquals(comp.fingerprint(left), comp.fingerprint(SwiftMessage.parse(fin)));
+        assertEquals(32, comp.fingerprint(left).toString().length());
+
+        // header session
+        SwiftMessage right = SwiftMessage.parse(fin.replace("1234123456", "4444666666"));
+        assertFingerprint(comp, left, right, false);
+        comp.setIgnoreHeaderSession(true);
+        assertFingerprint(comp, left, right, true);
+
+        // logical terminal and location flag
+        right = SwiftMessage.parse(fin.replace("FOOBARXAXXXX", "FOOBARX0BXXX"));
+        assertFingerprint(comp, left, right, false);
+        comp.setIgnoreLT(true);
+        assertFingerprint(comp, left, right, false);
+        comp.setIgnoreLocationFlag(true);
+        assertFingerprint(comp, left, right, true);
+
+        // priority
+        right = SwiftMessage.parse(fin.replace("XXXXN}", "XXXXU}"));
+        assertFingerprint(comp, left, right, false);
+        comp.setIgnorePriority(true);
+        assertFingerprint(comp, left, right, true);
+
+        // block 3
+        right = SwiftMessage.parse(fin.replace("{3:{108:MUR}}", ""));
+        assertFingerprint(comp, left, right, false);
+        comp.setIgnoreBlock3(true);
+        assertFingerprint(comp, left, right, true);
+
+        // trailer
+        right = SwiftMessage.parse(fin.replace("{5:{CHK:123456789ABC}}", ""));
+        assertFingerprint(comp, left, right, false);
+        comp.setIgnoreTrailer(true);
+        assertFingerprint(comp, left, right, true);
+
+        // end of lines
+        right = SwiftMessage.parse(fin);
+        right.getBlock4().getTagByName("70").setValue("LINE1\r\nLINE2\r\n");
+        assertFingerprint(comp, left, right, false);
+        comp.setIgnoreEolsInMultiline(true);
+        assertFingerprint(comp, left, right, true);
+        right.getBlock4().getTagByName("70").setValue("LINE1\r\nLINE2\r\n\r\n");
+        assertFingerprint(comp, left, right, false);
+
+        // ignored tags
+        right = SwiftMessage.parse(fin.replace("REFERENCE", "OTHER"));
+        assertFingerprint(comp, left, right, false);
+        comp.addTagnameToIgnore("20");
+        assertFingerprint(comp, left, right, true);
+    }
+
+    private static void assertFingerprint(SwiftMessageComparator comp, SwiftMessage left, SwiftMessage right, boolean equal) {
+        assertEquals(equal, comp.compare(left, right) == 0);
+        if (equal) {
+            assertEquals(comp.fingerprint(left), comp.fingerprint(right));
+        } else {
+            assertNotEquals(comp.fingerprint(left), comp.fingerprint(right));
+        }
+    }
+
 }
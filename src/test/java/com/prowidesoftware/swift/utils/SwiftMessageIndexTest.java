@@ -0,0 +1,86 @@
+/*
+ * Copyright 2006-2021 Prowide
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.prowidesoftware.swift.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.prowidesoftware.swift.model.SwiftMessage;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SwiftMessageIndexTest {
+
+    @Test
+    public void testFind() throws IOException {
+        final SwiftMessageComparator comparator = new SwiftMessageComparator();
+        comparator.setIgnoreTrailer(true);
+        comparator.setIgnoreHeaderSession(true);
+        final SwiftMessageIndex index = new SwiftMessageIndex(comparator);
+
+        final List<SwiftMessage> candidates = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            candidates.add(message(i, "1234123456", ""));
+        }
+        index.addAll(candidates);
+        final SwiftMessage duplicate = message(500, "0001000001", "");
+        index.add(duplicate);
+        assertEquals(1001, index.size());
+
+        // matched ignoring the session and trailer
+        final SwiftMessage incoming = message(500, "9999999999", "{5:{PDE:}}");
+        final List<SwiftMessage> matches = index.find(incoming);
+        assertEquals(2, matches.size());
+        assertSame(candidates.get(500), matches.get(0));
+        assertSame(duplicate, matches.get(1));
+        assertSame(candidates.get(500), index.findFirst(incoming).orElse(null));
+
+        assertTrue(index.find(message(1000, "1234123456", "")).isEmpty());
+        assertFalse(index.findFirst(message(1000, "1234123456", "")).isPresent());
+
+        assertTrue(index.remove(candidates.get(500)));
+        assertFalse(index.remove(candidates.get(500)));
+        assertEquals(1, index.find(incoming).size());
+        assertTrue(index.remove(duplicate));
+        assertTrue(index.find(incoming).isEmpty());
+        assertEquals(999, index.size());
+
+        index.clear();
+        assertEquals(0, index.size());
+        assertTrue(index.find(message(1, "1234123456", "")).isEmpty());
+    }
+
+    @Test
+    public void testVerifiesMatches() throws IOException {
+        // the ignored tag is at different positions, the fingerprint matches but the comparison does not
+        final SwiftMessageComparator comparator = new SwiftMessageComparator();
+        comparator.addTagnameToIgnore("21");
+        final SwiftMessageIndex index = new SwiftMessageIndex(comparator);
+        index.add(SwiftMessage.parse("{1:F01AAAABBCCXXXX0000000000}{2:I202BBBBUSBBXXXXN}{4:\n:20:A\n:21:B\n-}"));
+        assertEquals(1, index.find(SwiftMessage.parse("{1:F01AAAABBCCXXXX0000000000}{2:I202BBBBUSBBXXXXN}{4:\n:20:A\n:21:C\n-}")).size());
+        assertTrue(index.find(SwiftMessage.parse("{1:F01AAAABBCCXXXX0000000000}{2:I202BBBBUSBBXXXXN}{4:\n:20:B\n:21:A\n-}")).isEmpty());
+    }
+
+    private static SwiftMessage message(final int reference, final String session, final String trailer) throws IOException {
+        return SwiftMessage.parse("{1:F01AAAABBCCXXXX" + session + "}{2:I103BBBBUSBBXXXXN}{4:\n" +
+                ":20:REFERENCE" + reference + "\n" +
+                ":32A:130204USD1234567,89\n" +
+                "-}" + trailer);
+    }
+
+}